@@ -4,9 +4,12 @@ import com.hanainplan.hana.account.entity.Transaction;
 import com.hanainplan.hana.account.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -15,6 +18,8 @@ import java.util.List;
 @Slf4j
 public class TransactionController {
 
+    private static final int MAX_INCREMENTAL_LIMIT = 5000;
+
     private final TransactionRepository transactionRepository;
 
     @GetMapping("/account/{accountNumber}")
@@ -34,4 +39,26 @@ public class TransactionController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    @GetMapping("/account/{accountNumber}/since")
+    public ResponseEntity<List<Transaction>> getTransactionsByAccountSince(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "1000") int limit) {
+        log.info("하나은행 증분 거래내역 조회 - 계좌번호: {}, 기준 시각: {}, 최대 건수: {}", accountNumber, since, limit);
+
+        try {
+            int pageSize = Math.min(Math.max(limit, 1), MAX_INCREMENTAL_LIMIT);
+            List<Transaction> transactions = transactionRepository
+                    .findByAccountNumberSince(accountNumber, since, PageRequest.of(0, pageSize));
+
+            log.info("하나은행 증분 거래내역 조회 완료 - 계좌번호: {}, 거래 수: {}", accountNumber, transactions.size());
+
+            return ResponseEntity.ok(transactions);
+
+        } catch (Exception e) {
+            log.error("하나은행 증분 거래내역 조회 실패 - 계좌번호: {}, 오류: {}", accountNumber, e.getMessage());
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
\ No newline at end of file
@@ -90,6 +90,33 @@ public class FundNavController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> bulkUpdateFundNav(@Valid @RequestBody List<FundNavUpdateRequest> requests) {
+        log.info("펀드 기준가 일괄 업데이트 요청: {} 건", requests.size());
+
+        try {
+            int writtenCount = fundNavService.bulkUpsertNavs(requests);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "일괄 업데이트 완료");
+            response.put("totalCount", requests.size());
+            response.put("successCount", writtenCount);
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("펀드 기준가 일괄 업데이트 실패", e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "기준가 일괄 업데이트 실패: " + e.getMessage());
+            errorResponse.put("totalCount", requests.size());
+
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
     @GetMapping("/{childFundCd}/latest")
     public ResponseEntity<FundNav> getLatestNav(@PathVariable String childFundCd) {
         return fundNavService.getLatestNav(childFundCd)
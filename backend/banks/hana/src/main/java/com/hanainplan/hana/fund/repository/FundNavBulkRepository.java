@@ -0,0 +1,40 @@
+package com.hanainplan.hana.fund.repository;
+
+import com.hanainplan.hana.fund.dto.FundNavUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FundNavBulkRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO fund_nav (child_fund_cd, nav_date, nav, published_at) " +
+            "VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE nav = VALUES(nav), published_at = VALUES(published_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int upsertAll(List<FundNavUpdateRequest> navs, int chunkSize) {
+        if (navs.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp publishedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, navs, Math.max(1, chunkSize), (ps, nav) -> {
+            ps.setString(1, nav.getChildFundCd());
+            ps.setDate(2, Date.valueOf(nav.getNavDate()));
+            ps.setBigDecimal(3, nav.getNav());
+            ps.setTimestamp(4, publishedAt);
+        });
+
+        return navs.size();
+    }
+}
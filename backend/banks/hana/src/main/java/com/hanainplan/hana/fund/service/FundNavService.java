@@ -1,15 +1,19 @@
 package com.hanainplan.hana.fund.service;
 
+import com.hanainplan.hana.fund.dto.FundNavUpdateRequest;
 import com.hanainplan.hana.fund.entity.FundNav;
+import com.hanainplan.hana.fund.repository.FundNavBulkRepository;
 import com.hanainplan.hana.fund.repository.FundNavRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -18,6 +22,10 @@ import java.util.Optional;
 public class FundNavService {
 
     private final FundNavRepository fundNavRepository;
+    private final FundNavBulkRepository fundNavBulkRepository;
+
+    @Value("${fund.nav.bulk-batch-size:500}")
+    private int bulkBatchSize;
 
     @Transactional
     public FundNav saveOrUpdateNav(String childFundCd, LocalDate navDate, BigDecimal nav) {
@@ -45,6 +53,16 @@ public class FundNavService {
         return fundNavRepository.save(fundNav);
     }
 
+    @Transactional
+    public int bulkUpsertNavs(List<FundNavUpdateRequest> requests) {
+        log.info("기준가 일괄 저장/업데이트 요청: {}건", requests.size());
+
+        int written = fundNavBulkRepository.upsertAll(requests, bulkBatchSize);
+
+        log.info("기준가 일괄 저장/업데이트 완료: {}건 (배치 크기: {})", written, bulkBatchSize);
+        return written;
+    }
+
     public Optional<FundNav> getLatestNav(String childFundCd) {
         return fundNavRepository.findLatestByChildFundCd(childFundCd);
     }
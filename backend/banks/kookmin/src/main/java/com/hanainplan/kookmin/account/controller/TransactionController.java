@@ -0,0 +1,41 @@
+package com.hanainplan.kookmin.account.controller;
+
+import com.hanainplan.kookmin.account.dto.TransactionResponseDto;
+import com.hanainplan.kookmin.account.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/kookmin/transactions")
+@CrossOrigin(origins = "*")
+public class TransactionController {
+
+    private static final int MAX_INCREMENTAL_LIMIT = 5000;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @GetMapping("/account/{accountNumber}/since")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<TransactionResponseDto>> getTransactionsByAccountSince(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "1000") int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_INCREMENTAL_LIMIT);
+
+        List<TransactionResponseDto> transactions = transactionRepository
+                .findByAccountNumberSince(accountNumber, since, PageRequest.of(0, pageSize))
+                .stream()
+                .map(TransactionResponseDto::from)
+                .toList();
+
+        return ResponseEntity.ok(transactions);
+    }
+}
@@ -0,0 +1,77 @@
+package com.hanainplan.shinhan.account.dto;
+
+import com.hanainplan.shinhan.account.entity.Transaction;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Setter
+public class TransactionResponseDto {
+
+    // 은행 거래 분류(한글) -> 플랫폼 TransactionCategory 코드
+    private static final Map<String, String> CATEGORY_CODES = Map.ofEntries(
+            Map.entry("급여", "SALARY"),
+            Map.entry("연금", "PENSION"),
+            Map.entry("저축", "SAVINGS"),
+            Map.entry("투자", "INVESTMENT"),
+            Map.entry("대출", "LOAN"),
+            Map.entry("보험", "INSURANCE"),
+            Map.entry("공과금", "UTILITY"),
+            Map.entry("쇼핑", "SHOPPING"),
+            Map.entry("식비", "FOOD"),
+            Map.entry("교통비", "TRANSPORT"),
+            Map.entry("의료비", "MEDICAL"),
+            Map.entry("교육비", "EDUCATION"),
+            Map.entry("오락비", "ENTERTAINMENT"),
+            Map.entry("이자", "INTEREST"),
+            Map.entry("세금", "TAX"),
+            Map.entry("기타", "OTHER")
+    );
+
+    private String transactionNumber;
+    private String transactionType;
+    private String transactionDirection;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private LocalDateTime transactionDatetime;
+    private LocalDateTime processedDate;
+    private String transactionStatus;
+    private String transactionCategory;
+    private String description;
+
+    public TransactionResponseDto() {}
+
+    public TransactionResponseDto(Transaction transaction) {
+        boolean withdrawal = "출금".equals(transaction.getTransactionType());
+
+        this.transactionNumber = transaction.getTransactionId();
+        this.transactionType = withdrawal ? "WITHDRAWAL" : "DEPOSIT";
+        this.transactionDirection = withdrawal ? "DEBIT" : "CREDIT";
+        this.amount = transaction.getAmount();
+        this.balanceAfter = transaction.getBalanceAfter();
+        this.transactionDatetime = transaction.getTransactionDatetime();
+        this.processedDate = transaction.getCreatedAt();
+        this.transactionStatus = "COMPLETED";
+        this.transactionCategory = toCategoryCode(transaction.getTransactionCategory());
+        this.description = transaction.getBranchName();
+    }
+
+    public static TransactionResponseDto from(Transaction transaction) {
+        return new TransactionResponseDto(transaction);
+    }
+
+    private static String toCategoryCode(String category) {
+        if (category == null || category.isBlank()) {
+            return "OTHER";
+        }
+        String trimmed = category.trim();
+        if (CATEGORY_CODES.containsValue(trimmed)) {
+            return trimmed;
+        }
+        return CATEGORY_CODES.getOrDefault(trimmed, "OTHER");
+    }
+}
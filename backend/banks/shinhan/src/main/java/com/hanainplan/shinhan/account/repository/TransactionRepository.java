@@ -1,6 +1,7 @@
 package com.hanainplan.shinhan.account.repository;
 
 import com.hanainplan.shinhan.account.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,15 @@ public interface TransactionRepository extends JpaRepository<Transaction, String
 
     List<Transaction> findByAccountAccountNumberOrderByTransactionDatetimeDesc(String accountNumber);
 
+    @Query("SELECT t FROM Transaction t WHERE t.account.accountNumber = :accountNumber " +
+           "AND t.transactionDatetime >= :since " +
+           "ORDER BY t.transactionDatetime ASC")
+    List<Transaction> findByAccountNumberSince(
+        @Param("accountNumber") String accountNumber,
+        @Param("since") LocalDateTime since,
+        Pageable pageable
+    );
+
     @Query("SELECT t FROM Transaction t WHERE t.account.customerCi = :ci ORDER BY t.transactionDatetime DESC")
     List<Transaction> findByCustomerCiOrderByTransactionDatetimeDesc(@Param("ci") String ci);
 
@@ -40,6 +40,51 @@ def extract_current_price(html: str):
     return None
 
 
+NAV_URL_TEMPLATE = "https://investments.miraeasset.com/magi/fund/view.do?fundGb=2&fundCd={fund_cd}&childFundCd={child_fund_cd}&childFundGb=2"
+
+
+def fetch_price(session, url: str):
+    """
+    주어진 URL의 펀드 페이지를 조회해서 기준가를 추출
+    """
+    response = session.get(url, timeout=10)
+    response.raise_for_status()
+
+    return extract_current_price(response.text)
+
+
+def run_worker():
+    """
+    상주 워커 모드 (--worker)
+
+    Java 크롤러 풀에서 프로세스를 한 번만 띄우고 stdin/stdout으로 요청을 주고받는다.
+    요청: "<childFundCd>\t<url>" 한 줄
+    응답: "<childFundCd>\tOK\t<기준가>" 또는 "<childFundCd>\tERR\t<메시지>" 한 줄
+    """
+    session = requests.Session()
+
+    for line in iter(sys.stdin.readline, ""):
+        line = line.strip()
+        if not line:
+            continue
+
+        parts = line.split("\t")
+        if len(parts) != 2:
+            print(f"{parts[0]}\tERR\t잘못된 요청 형식", flush=True)
+            continue
+
+        child_fund_cd, url = parts
+        try:
+            price = fetch_price(session, url)
+            if price is not None:
+                print(f"{child_fund_cd}\tOK\t{price}", flush=True)
+            else:
+                print(f"{child_fund_cd}\tERR\t기준가를 찾을 수 없습니다.", flush=True)
+        except Exception as e:
+            message = " ".join(str(e).split())
+            print(f"{child_fund_cd}\tERR\t{message}", flush=True)
+
+
 def crawl_fund_price(fund_cd: str, child_fund_cd: str) -> Decimal:
     """
     특정 펀드의 기준가를 크롤링
@@ -51,15 +96,17 @@ def crawl_fund_price(fund_cd: str, child_fund_cd: str) -> Decimal:
     Returns:
         Decimal: 기준가
     """
-    url = f"https://investments.miraeasset.com/magi/fund/view.do?fundGb=2&fundCd={fund_cd}&childFundCd={child_fund_cd}&childFundGb=2"
-    
-    response = requests.get(url, timeout=10)
-    response.raise_for_status()
-    
-    return extract_current_price(response.text)
+    url = NAV_URL_TEMPLATE.format(fund_cd=fund_cd, child_fund_cd=child_fund_cd)
+
+    return fetch_price(requests, url)
 
 
 if __name__ == "__main__":
+    # 상주 워커 모드로 실행하는 경우
+    if len(sys.argv) == 2 and sys.argv[1] == "--worker":
+        run_worker()
+        sys.exit(0)
+
     # CLI 인자로 실행하는 경우
     if len(sys.argv) == 3:
         fund_cd = sys.argv[1]
@@ -0,0 +1,26 @@
+-- fund_nav (child_fund_cd, nav_date) 유니크 키 추가 스크립트 (기존 DB에 1회 수동 적용)
+-- 문제: 유니크 키가 없던 테이블에는 같은 자펀드/기준일 기준가가 중복 저장되어 있을 수 있고,
+--       이 경우 ddl-auto가 제약을 만들지 못해 기준가 upsert(ON DUPLICATE KEY UPDATE)가 동작하지 않는다.
+--       애플리케이션은 기동 시 키가 없으면 실패한다.
+
+-- 1. 백업 (적용 전 반드시 실행)
+CREATE TABLE fund_nav_backup_before_unique_key AS SELECT * FROM fund_nav;
+
+-- 2. 삭제될 중복 행 확인
+SELECT older.nav_id, older.child_fund_cd, older.nav_date, older.nav
+FROM fund_nav older
+JOIN fund_nav newer ON older.child_fund_cd = newer.child_fund_cd
+    AND older.nav_date = newer.nav_date
+    AND older.nav_id < newer.nav_id;
+
+-- 3. 같은 (자펀드, 기준일) 중 가장 최근에 들어온 행만 남기고 삭제
+DELETE older FROM fund_nav older
+JOIN fund_nav newer ON older.child_fund_cd = newer.child_fund_cd
+    AND older.nav_date = newer.nav_date
+    AND older.nav_id < newer.nav_id;
+
+-- 4. 유니크 키 추가 (이름은 FundNav 엔티티의 @UniqueConstraint와 같아야 한다)
+ALTER TABLE fund_nav ADD CONSTRAINT uk_fund_nav_child_date UNIQUE (child_fund_cd, nav_date);
+
+-- 확인 후 백업 테이블 삭제
+-- DROP TABLE fund_nav_backup_before_unique_key;
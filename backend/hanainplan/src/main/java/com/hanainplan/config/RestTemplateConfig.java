@@ -1,20 +1,25 @@
 package com.hanainplan.config;
 
+import com.hanainplan.config.http.BulkheadClientHttpRequestInterceptor;
+import com.hanainplan.config.http.HttpTransport;
+import com.hanainplan.config.http.RoutingClientHttpRequestFactory;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * HttpTransport의 연결 풀을 사용하고, 대상 호스트별 호출 제한 시간과 동시 호출 상한을 적용한다
+     */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, HttpTransport httpTransport) {
+        RoutingClientHttpRequestFactory requestFactory = new RoutingClientHttpRequestFactory(httpTransport);
         return builder
-                .setConnectTimeout(Duration.ofSeconds(5))
-                .setReadTimeout(Duration.ofSeconds(10))
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(new BulkheadClientHttpRequestInterceptor(httpTransport))
                 .build();
     }
-}
\ No newline at end of file
+}
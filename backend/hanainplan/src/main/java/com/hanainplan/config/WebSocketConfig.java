@@ -1,5 +1,7 @@
 package com.hanainplan.config;
 
+import com.hanainplan.domain.webrtc.signaling.SignalingChannelMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -12,16 +14,84 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String BROKER_MODE_RELAY = "relay";
+
+    private final SignalingChannelMetrics channelMetrics;
+
+    @Value("${websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${websocket.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${websocket.broker.relay.virtual-host:/}")
+    private String relayVirtualHost;
+
+    @Value("${websocket.channel.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.channel.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.channel.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.channel.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.channel.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.channel.outbound.queue-capacity:2000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.transport.send-buffer-size-kb:512}")
+    private int sendBufferSizeKb;
+
+    @Value("${websocket.transport.send-time-limit-ms:15000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${websocket.transport.message-size-kb:128}")
+    private int messageSizeKb;
+
+    public WebSocketConfig(SignalingChannelMetrics channelMetrics) {
+        this.channelMetrics = channelMetrics;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.setApplicationDestinationPrefixes("/app");
 
-        config.enableSimpleBroker("/queue", "/topic");
+        if (BROKER_MODE_RELAY.equalsIgnoreCase(brokerMode)) {
+            // 외부 브로커를 통해 노드 간 메시지를 전달 - 다른 노드에 연결된 사용자에게도 /user 목적지가 전달된다
+            config.enableStompBrokerRelay("/queue", "/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setVirtualHost(relayVirtualHost)
+                    .setUserDestinationBroadcast("/topic/unresolved-user")
+                    .setUserRegistryBroadcast("/topic/user-registry");
+        } else {
+            config.enableSimpleBroker("/queue", "/topic");
+        }
 
         config.setUserDestinationPrefix("/user");
     }
@@ -53,6 +123,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 }
                 return message;
             }
-        });
+        }, channelMetrics.inboundInterceptor());
+
+        // 채널 스레드 풀과 대기열 상한 - 상한을 넘으면 메시지를 거절해 10시 집중 시간대의 무한 적체를 막는다
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(channelMetrics.outboundInterceptor());
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 느린 클라이언트는 버퍼 상한이나 전송 시간 상한을 넘으면 세션을 끊는다
+        registration.setSendBufferSizeLimit(sendBufferSizeKb * 1024)
+                .setSendTimeLimit(sendTimeLimitMillis)
+                .setMessageSizeLimit(messageSizeKb * 1024);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.hanainplan.config.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * RestTemplate 호출에 대상 호스트의 동시 호출 상한을 적용한다.
+ * 슬롯은 응답을 닫을 때(RestTemplate이 본문을 다 읽은 뒤) 반납한다.
+ */
+public class BulkheadClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final HttpTransport transport;
+
+    public BulkheadClientHttpRequestInterceptor(HttpTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        HttpRoute.Call call = transport.acquire(transport.route(request.getURI()));
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            if (response.getStatusCode().is5xxServerError()) {
+                call.failed(false);
+            }
+            return new ReleasingResponse(response, call);
+        } catch (IOException | RuntimeException e) {
+            call.failed(e instanceof HttpTimeoutException);
+            call.release();
+            throw e;
+        }
+    }
+
+    private static final class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final HttpRoute.Call call;
+
+        private ReleasingResponse(ClientHttpResponse delegate, HttpRoute.Call call) {
+            this.delegate = delegate;
+            this.call = call;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                call.release();
+            }
+        }
+    }
+}
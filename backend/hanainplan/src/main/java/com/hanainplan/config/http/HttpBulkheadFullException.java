@@ -0,0 +1,11 @@
+package com.hanainplan.config.http;
+
+/**
+ * 대상 호스트의 동시 호출 상한에 도달해 호출을 보내지 않았을 때 발생
+ */
+public class HttpBulkheadFullException extends RuntimeException {
+
+    public HttpBulkheadFullException(String route, int maxConcurrentCalls) {
+        super("외부 호출 동시 실행 한도 초과 - 대상: " + route + ", 한도: " + maxConcurrentCalls);
+    }
+}
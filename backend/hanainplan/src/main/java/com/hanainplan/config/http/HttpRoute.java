@@ -0,0 +1,113 @@
+package com.hanainplan.config.http;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 호스트 하나에 대한 호출 경로.
+ * 호출 제한 시간과 동시 호출 상한(벌크헤드)을 가지며, 호출 수/실패/타임아웃/거절과 사용 중 연결 수를 집계한다.
+ * HTTP/1.1은 요청마다 연결 하나를 점유하므로 사용 중 호출 수가 곧 풀에서 빌려 간 연결 수다.
+ */
+public final class HttpRoute {
+
+    private final String name;
+    private final String target;
+    private final Duration readTimeout;
+    private final int maxConcurrentCalls;
+    private final Semaphore permits;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+
+    HttpRoute(String name, String target, Duration readTimeout, int maxConcurrentCalls) {
+        this.name = name;
+        this.target = target;
+        this.readTimeout = readTimeout;
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.permits = new Semaphore(this.maxConcurrentCalls, true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * 동시 호출 슬롯을 얻는다. wait 안에 빈 슬롯이 없으면 HttpBulkheadFullException을 던진다.
+     * 반환된 Call은 응답 본문을 다 읽거나 닫은 뒤 정확히 한 번 release 해야 한다.
+     */
+    Call acquire(Duration wait) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            throw new HttpBulkheadFullException(name, maxConcurrentCalls);
+        }
+
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+        calls.increment();
+        return new Call(System.nanoTime());
+    }
+
+    HttpRouteStats toStats() {
+        long totalCalls = calls.sum();
+        return HttpRouteStats.builder()
+                .route(name)
+                .target(target)
+                .readTimeoutMillis(readTimeout.toMillis())
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .inFlight(inFlight.get())
+                .peakInFlight(peakInFlight.get())
+                .availablePermits(permits.availablePermits())
+                .totalCalls(totalCalls)
+                .failedCalls(failures.sum())
+                .timedOutCalls(timeouts.sum())
+                .rejectedCalls(rejected.sum())
+                .averageLatencyMillis(totalCalls > 0 ? latencyNanos.sum() / 1_000_000.0 / totalCalls : 0.0)
+                .build();
+    }
+
+    final class Call {
+        private final long startedNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Call(long startedNanos) {
+            this.startedNanos = startedNanos;
+        }
+
+        void failed(boolean timedOut) {
+            failures.increment();
+            if (timedOut) {
+                timeouts.increment();
+            }
+        }
+
+        void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            latencyNanos.add(System.nanoTime() - startedNanos);
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+}
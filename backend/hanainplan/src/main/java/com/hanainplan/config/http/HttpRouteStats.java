@@ -0,0 +1,28 @@
+package com.hanainplan.config.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HttpRouteStats {
+    private String route;
+    private String target;
+    private long readTimeoutMillis;
+
+    private int maxConcurrentCalls;
+    private int inFlight;
+    private int peakInFlight;
+    private int availablePermits;
+
+    private long totalCalls;
+    private long failedCalls;
+    private long timedOutCalls;
+    private long rejectedCalls;
+
+    private double averageLatencyMillis;
+}
@@ -0,0 +1,161 @@
+package com.hanainplan.config.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출 공통 전송 계층 (RestTemplate과 은행 Feign 클라이언트가 함께 사용).
+ * 하나의 HttpClient가 호스트별로 keep-alive 연결을 풀링해 재사용하고,
+ * 은행/FastAPI 호스트마다 호출 제한 시간과 동시 호출 상한을 따로 두어 느린 한 곳이 다른 곳의 호출 스레드를 잡아먹지 않게 한다.
+ * 경로 대상 URL은 클라이언트가 쓰는 설정(bank.*.base-url, fastapi.base-url)을 그대로 읽고, 등록되지 않은 호스트는 default 경로를 공유한다.
+ */
+@Component
+@Slf4j
+public class HttpTransport {
+
+    private final HttpClient httpClient;
+    private final long connectTimeoutMs;
+    private volatile HttpClient nonRedirectingHttpClient;
+    private final Duration bulkheadWait;
+    private final Map<String, HttpRoute> routesByAuthority = new LinkedHashMap<>();
+    private final HttpRoute defaultRoute;
+
+    public HttpTransport(@Value("${http.transport.connect-timeout-ms:5000}") long connectTimeoutMs,
+                         @Value("${http.transport.bulkhead-wait-ms:100}") long bulkheadWaitMs,
+                         @Value("${http.transport.default.read-timeout-ms:10000}") long defaultReadTimeoutMs,
+                         @Value("${http.transport.default.max-concurrent-calls:64}") int defaultMaxConcurrentCalls,
+                         @Value("${bank.hana.base-url:http://localhost:8081}") String hanaUrl,
+                         @Value("${http.transport.hana.read-timeout-ms:10000}") long hanaReadTimeoutMs,
+                         @Value("${http.transport.hana.max-concurrent-calls:32}") int hanaMaxConcurrentCalls,
+                         @Value("${bank.kookmin.base-url:http://localhost:8082}") String kookminUrl,
+                         @Value("${http.transport.kookmin.read-timeout-ms:10000}") long kookminReadTimeoutMs,
+                         @Value("${http.transport.kookmin.max-concurrent-calls:16}") int kookminMaxConcurrentCalls,
+                         @Value("${bank.shinhan.base-url:http://localhost:8083}") String shinhanUrl,
+                         @Value("${http.transport.shinhan.read-timeout-ms:10000}") long shinhanReadTimeoutMs,
+                         @Value("${http.transport.shinhan.max-concurrent-calls:16}") int shinhanMaxConcurrentCalls,
+                         @Value("${fastapi.base-url:http://localhost:8090}") String fastApiUrl,
+                         @Value("${http.transport.fastapi.read-timeout-ms:10000}") long fastApiReadTimeoutMs,
+                         @Value("${http.transport.fastapi.max-concurrent-calls:16}") int fastApiMaxConcurrentCalls) {
+        // 은행 시뮬레이터는 평문 HTTP이므로 HTTP/2 업그레이드 시도 없이 HTTP/1.1 keep-alive 연결을 재사용
+        this.connectTimeoutMs = connectTimeoutMs;
+        this.httpClient = newHttpClient(connectTimeoutMs, HttpClient.Redirect.NORMAL);
+        this.bulkheadWait = Duration.ofMillis(Math.max(0, bulkheadWaitMs));
+        this.defaultRoute = new HttpRoute("default", "*", Duration.ofMillis(Math.max(1, defaultReadTimeoutMs)),
+                defaultMaxConcurrentCalls);
+
+        register("hana", hanaUrl, hanaReadTimeoutMs, hanaMaxConcurrentCalls);
+        register("kookmin", kookminUrl, kookminReadTimeoutMs, kookminMaxConcurrentCalls);
+        register("shinhan", shinhanUrl, shinhanReadTimeoutMs, shinhanMaxConcurrentCalls);
+        register("fastapi", fastApiUrl, fastApiReadTimeoutMs, fastApiMaxConcurrentCalls);
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * 리다이렉트를 따르지 않는 호출은 처음 요청될 때 만든 별도 HttpClient(별도 연결 풀)를 사용한다.
+     */
+    public HttpClient getHttpClient(boolean followRedirects) {
+        if (followRedirects) {
+            return httpClient;
+        }
+
+        HttpClient client = nonRedirectingHttpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = nonRedirectingHttpClient;
+                if (client == null) {
+                    client = newHttpClient(connectTimeoutMs, HttpClient.Redirect.NEVER);
+                    nonRedirectingHttpClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    public HttpRoute route(URI uri) {
+        HttpRoute route = routesByAuthority.get(authority(uri));
+        return route != null ? route : defaultRoute;
+    }
+
+    public List<HttpRoute> getRoutes() {
+        List<HttpRoute> routes = new ArrayList<>(routesByAuthority.values());
+        routes.add(defaultRoute);
+        return routes;
+    }
+
+    public List<HttpRouteStats> getStats() {
+        return getRoutes().stream().map(HttpRoute::toStats).toList();
+    }
+
+    HttpRoute.Call acquire(HttpRoute route) {
+        return route.acquire(bulkheadWait);
+    }
+
+    /**
+     * 등록된 경로가 없는 Feign 클라이언트는 default 경로의 제한 시간/동시 호출 상한을 공유하게 되므로 기동 시 경고한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyFeignClientRoutes(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        for (String beanName : context.getBeanNamesForAnnotation(FeignClient.class)) {
+            FeignClient feignClient = context.findAnnotationOnBean(beanName, FeignClient.class);
+            if (feignClient == null || feignClient.url().isBlank()) {
+                continue;
+            }
+
+            String url = context.getEnvironment().resolvePlaceholders(feignClient.url());
+            try {
+                URI uri = URI.create(url.contains("://") ? url : "http://" + url);
+                if (!routesByAuthority.containsKey(authority(uri))) {
+                    log.warn("Feign 클라이언트 {}의 대상 {}에 등록된 HTTP 경로가 없어 default 경로를 사용함", feignClient.name(), url);
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Feign 클라이언트 {}의 URL {}을 해석할 수 없어 HTTP 경로를 확인하지 못함", feignClient.name(), url);
+            }
+        }
+    }
+
+    private void register(String name, String url, long readTimeoutMs, int maxConcurrentCalls) {
+        String authority = authority(URI.create(url));
+        if (routesByAuthority.containsKey(authority)) {
+            log.warn("HTTP 경로 {}의 대상 {}가 {} 경로와 같아 등록하지 않음", name, authority, routesByAuthority.get(authority).getName());
+            return;
+        }
+
+        routesByAuthority.put(authority, new HttpRoute(name, authority, Duration.ofMillis(Math.max(1, readTimeoutMs)),
+                maxConcurrentCalls));
+        log.info("HTTP 경로 등록 - {}: {}, 제한 시간 {}ms, 동시 호출 상한 {}", name, authority, readTimeoutMs, maxConcurrentCalls);
+    }
+
+    private static HttpClient newHttpClient(long connectTimeoutMs, HttpClient.Redirect redirect) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(Math.max(1, connectTimeoutMs)))
+                .followRedirects(redirect)
+                .build();
+    }
+
+    private static String authority(URI uri) {
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase() : "";
+        int port = uri.getPort();
+        if (port < 0) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        return host + ":" + port;
+    }
+}
@@ -0,0 +1,131 @@
+package com.hanainplan.config.http;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * HttpTransport 위에서 동작하는 Feign 클라이언트.
+ * 연결 풀과 대상 호스트별 호출 제한 시간/동시 호출 상한을 RestTemplate과 공유하며,
+ * 응답 본문은 스트림으로 넘기고 본문을 닫을 때 동시 호출 슬롯을 반납한다.
+ * Request.Options는 응답 제한 시간(경로 제한 시간과 둘 중 짧은 값)과 리다이렉트 여부만 반영하고,
+ * 연결 제한 시간은 공유 HttpClient 설정(http.transport.connect-timeout-ms)을 따른다.
+ */
+public class PooledFeignClient implements Client {
+
+    // HttpClient가 직접 관리하는 헤더는 설정할 수 없다
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpTransport transport;
+
+    public PooledFeignClient(HttpTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        URI uri = URI.create(request.url());
+        HttpRoute route = transport.route(uri);
+        HttpRoute.Call call = transport.acquire(route);
+
+        try {
+            HttpResponse<InputStream> httpResponse = transport.getHttpClient(options.isFollowRedirects())
+                    .send(toHttpRequest(request, uri, readTimeout(route, options)), HttpResponse.BodyHandlers.ofInputStream());
+            if (httpResponse.statusCode() >= 500) {
+                call.failed(false);
+            }
+            return toResponse(request, httpResponse, call);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            call.failed(false);
+            call.release();
+            throw new InterruptedIOException("외부 호출이 중단되었습니다 - " + request.url());
+        } catch (IOException | RuntimeException e) {
+            call.failed(e instanceof HttpTimeoutException);
+            call.release();
+            throw e;
+        }
+    }
+
+    private static Duration readTimeout(HttpRoute route, Request.Options options) {
+        long optionMillis = options.readTimeoutUnit().toMillis(options.readTimeout());
+        if (optionMillis <= 0) {
+            return route.getReadTimeout();
+        }
+        Duration optionTimeout = Duration.ofMillis(optionMillis);
+        return optionTimeout.compareTo(route.getReadTimeout()) < 0 ? optionTimeout : route.getReadTimeout();
+    }
+
+    private static HttpRequest toHttpRequest(Request request, URI uri, Duration readTimeout) {
+        byte[] body = request.body();
+        HttpRequest.BodyPublisher publisher = body != null && body.length > 0
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .method(request.httpMethod().name(), publisher);
+
+        request.headers().forEach((name, values) -> {
+            if (RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+                return;
+            }
+            values.forEach(value -> builder.header(name, value));
+        });
+        return builder.build();
+    }
+
+    private static Response toResponse(Request request, HttpResponse<InputStream> httpResponse, HttpRoute.Call call) {
+        Map<String, Collection<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        httpResponse.headers().map().forEach((name, values) -> headers.put(name, List.copyOf(values)));
+
+        Integer length = httpResponse.headers().firstValueAsLong("Content-Length")
+                .stream()
+                .filter(value -> value <= Integer.MAX_VALUE)
+                .mapToObj(value -> (int) value)
+                .findFirst()
+                .orElse(null);
+
+        return Response.builder()
+                .status(httpResponse.statusCode())
+                .reason("")
+                .headers(headers)
+                .request(request)
+                .body(new ReleasingInputStream(httpResponse.body(), call), length)
+                .build();
+    }
+
+    private static final class ReleasingInputStream extends FilterInputStream {
+
+        private final HttpRoute.Call call;
+
+        private ReleasingInputStream(InputStream delegate, HttpRoute.Call call) {
+            super(delegate);
+            this.call = call;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                call.release();
+            }
+        }
+    }
+}
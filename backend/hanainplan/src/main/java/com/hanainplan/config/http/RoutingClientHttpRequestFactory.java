@@ -0,0 +1,35 @@
+package com.hanainplan.config.http;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 대상 호스트의 경로 설정(호출 제한 시간)을 적용하는 RestTemplate 요청 팩토리.
+ * 모든 경로가 HttpTransport의 HttpClient 하나를 공유하므로 연결 풀도 하나다.
+ */
+public class RoutingClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final HttpTransport transport;
+    private final Map<HttpRoute, JdkClientHttpRequestFactory> factories = new IdentityHashMap<>();
+
+    public RoutingClientHttpRequestFactory(HttpTransport transport) {
+        this.transport = transport;
+        for (HttpRoute route : transport.getRoutes()) {
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(transport.getHttpClient());
+            factory.setReadTimeout(route.getReadTimeout());
+            factories.put(route, factory);
+        }
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return factories.get(transport.route(uri)).createRequest(uri, httpMethod);
+    }
+}
@@ -0,0 +1,28 @@
+package com.hanainplan.domain.banking.adapter;
+
+import com.hanainplan.domain.banking.client.BankTransactionDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BankAdapter {
+
+    String getBankCode();
+
+    String getBankName();
+
+    int getMaxConcurrency();
+
+    List<BankTransactionDto> getTransactionsSince(String accountNumber, LocalDateTime since, int limit);
+
+    /**
+     * 은행 내부 거래 ID를 플랫폼 거래번호로 변환한다.
+     * 은행마다 거래 ID 체계가 달라 겹칠 수 있으므로 기본은 은행 코드를 앞에 붙인다.
+     */
+    default String toTransactionNumber(String bankTransactionNumber) {
+        if (bankTransactionNumber == null) {
+            return null;
+        }
+        return getBankCode() + "-" + bankTransactionNumber;
+    }
+}
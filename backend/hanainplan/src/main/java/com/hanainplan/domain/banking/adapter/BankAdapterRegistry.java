@@ -0,0 +1,77 @@
+package com.hanainplan.domain.banking.adapter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+@Slf4j
+public class BankAdapterRegistry {
+
+    private final Map<String, BankAdapter> adaptersByBankCode = new HashMap<>();
+    private final Map<String, Semaphore> permitsByBankCode = new HashMap<>();
+    private final long permitTimeoutMillis;
+
+    public BankAdapterRegistry(List<BankAdapter> adapters,
+                               @Value("${bank.sync-permit-timeout-ms:30000}") long permitTimeoutMillis) {
+        this.permitTimeoutMillis = permitTimeoutMillis;
+        for (BankAdapter adapter : adapters) {
+            adaptersByBankCode.put(adapter.getBankCode(), adapter);
+            permitsByBankCode.put(adapter.getBankCode(), new Semaphore(adapter.getMaxConcurrency(), true));
+            log.info("은행 어댑터 등록: {} ({}) - 최대 동시 호출 수: {}",
+                    adapter.getBankName(), adapter.getBankCode(), adapter.getMaxConcurrency());
+        }
+    }
+
+    public Optional<BankAdapter> findByBankCode(String bankCode) {
+        return Optional.ofNullable(adaptersByBankCode.get(bankCode));
+    }
+
+    public Optional<BankAdapter> findByAccountNumber(String accountNumber) {
+        return findByBankCode(resolveBankCode(accountNumber));
+    }
+
+    /**
+     * 은행별 동시 호출 허가를 받은 뒤 호출한다. 허가를 기다리는 동안 DB 커넥션을 잡고 있지 않도록
+     * 트랜잭션은 call 안에서 열어야 한다. 대기 시간을 넘기면 IllegalStateException.
+     */
+    public <T> T execute(BankAdapter adapter, Function<BankAdapter, T> call) throws InterruptedException {
+        Semaphore permits = permitsByBankCode.get(adapter.getBankCode());
+        if (!permits.tryAcquire(permitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("은행 동시 호출 허가 대기 시간 초과: " + adapter.getBankName()
+                    + " (" + permitTimeoutMillis + "ms)");
+        }
+        try {
+            return call.apply(adapter);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public String resolveBankCode(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() < 3) {
+            return null;
+        }
+
+        String cleanAccountNumber = accountNumber.replace("-", "");
+        String prefix = cleanAccountNumber.substring(0, 3);
+
+        if (prefix.equals("081") || (prefix.compareTo("110") >= 0 && prefix.compareTo("119") <= 0)) {
+            return "081";
+        } else if (prefix.equals("004") || (prefix.compareTo("123") >= 0 && prefix.compareTo("129") <= 0)) {
+            return "004";
+        } else if (prefix.equals("088") || (prefix.compareTo("456") >= 0 && prefix.compareTo("459") <= 0)) {
+            return "088";
+        }
+
+        return prefix;
+    }
+}
@@ -0,0 +1,50 @@
+package com.hanainplan.domain.banking.adapter;
+
+import com.hanainplan.domain.banking.client.BankTransactionDto;
+import com.hanainplan.domain.banking.client.HanaBankClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Component
+public class HanaBankAdapter implements BankAdapter {
+
+    private final HanaBankClient hanaBankClient;
+    private final int maxConcurrency;
+
+    public HanaBankAdapter(HanaBankClient hanaBankClient,
+                           @Value("${bank.hana.sync-max-concurrency:4}") int maxConcurrency) {
+        this.hanaBankClient = hanaBankClient;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @Override
+    public String getBankCode() {
+        return "081";
+    }
+
+    @Override
+    public String getBankName() {
+        return "하나은행";
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    // 하나은행 거래번호는 플랫폼이 발급한 번호를 그대로 쓰므로 기존 동기화 데이터와 맞추기 위해 변환하지 않는다
+    @Override
+    public String toTransactionNumber(String bankTransactionNumber) {
+        return bankTransactionNumber;
+    }
+
+    @Override
+    public List<BankTransactionDto> getTransactionsSince(String accountNumber, LocalDateTime since, int limit) {
+        return hanaBankClient.getTransactionsByAccountSince(
+                accountNumber, since.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), limit);
+    }
+}
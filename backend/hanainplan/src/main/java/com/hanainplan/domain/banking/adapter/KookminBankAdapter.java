@@ -0,0 +1,44 @@
+package com.hanainplan.domain.banking.adapter;
+
+import com.hanainplan.domain.banking.client.BankTransactionDto;
+import com.hanainplan.domain.banking.client.KookminBankClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Component
+public class KookminBankAdapter implements BankAdapter {
+
+    private final KookminBankClient kookminBankClient;
+    private final int maxConcurrency;
+
+    public KookminBankAdapter(KookminBankClient kookminBankClient,
+                              @Value("${bank.kookmin.sync-max-concurrency:4}") int maxConcurrency) {
+        this.kookminBankClient = kookminBankClient;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @Override
+    public String getBankCode() {
+        return "004";
+    }
+
+    @Override
+    public String getBankName() {
+        return "국민은행";
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public List<BankTransactionDto> getTransactionsSince(String accountNumber, LocalDateTime since, int limit) {
+        return kookminBankClient.getTransactionsByAccountSince(
+                accountNumber, since.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), limit);
+    }
+}
@@ -0,0 +1,44 @@
+package com.hanainplan.domain.banking.adapter;
+
+import com.hanainplan.domain.banking.client.BankTransactionDto;
+import com.hanainplan.domain.banking.client.ShinhanBankClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Component
+public class ShinhanBankAdapter implements BankAdapter {
+
+    private final ShinhanBankClient shinhanBankClient;
+    private final int maxConcurrency;
+
+    public ShinhanBankAdapter(ShinhanBankClient shinhanBankClient,
+                              @Value("${bank.shinhan.sync-max-concurrency:4}") int maxConcurrency) {
+        this.shinhanBankClient = shinhanBankClient;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @Override
+    public String getBankCode() {
+        return "088";
+    }
+
+    @Override
+    public String getBankName() {
+        return "신한은행";
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public List<BankTransactionDto> getTransactionsSince(String accountNumber, LocalDateTime since, int limit) {
+        return shinhanBankClient.getTransactionsByAccountSince(
+                accountNumber, since.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), limit);
+    }
+}
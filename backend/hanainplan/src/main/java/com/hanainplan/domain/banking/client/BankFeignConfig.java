@@ -0,0 +1,28 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanainplan.config.http.HttpTransport;
+import com.hanainplan.config.http.PooledFeignClient;
+import feign.Client;
+import feign.codec.Decoder;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 은행 Feign 클라이언트 공통 설정 (@FeignClient configuration으로만 등록, 컴포넌트 스캔 대상 아님)
+ */
+public class BankFeignConfig {
+
+    @Bean
+    public Decoder bankResponseDecoder(ObjectMapper objectMapper) {
+        return new ResponseEntityDecoder(new StreamingJacksonDecoder(objectMapper));
+    }
+
+    /**
+     * RestTemplate과 같은 연결 풀, 은행별 호출 제한 시간/동시 호출 상한을 사용
+     */
+    @Bean
+    public Client bankFeignClient(HttpTransport httpTransport) {
+        return new PooledFeignClient(httpTransport);
+    }
+}
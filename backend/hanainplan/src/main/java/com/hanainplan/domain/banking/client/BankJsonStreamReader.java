@@ -0,0 +1,87 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.FeignException;
+import feign.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 은행 API의 대용량 JSON 배열 응답을 원소 단위로 읽는다.
+ * Feign 메서드가 Response를 반환하면 본문이 스트림으로 남아 있으므로, 배열 전체를 List로 만들지 않고
+ * 원소 하나씩 바인딩해 처리하고 버린다. 응답은 호출자가 닫는다 (try-with-resources).
+ */
+@Component
+@Slf4j
+public class BankJsonStreamReader {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public BankJsonStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 배열의 각 원소를 elementType으로 바인딩해 action에 넘기고 처리한 원소 수를 반환한다.
+     * 바인딩할 수 없는 원소(날짜/숫자 형식 오류 등)는 로그를 남기고 건너뛴다. JSON 자체가 깨진 경우와 2xx가 아닌 경우는 예외를 던진다.
+     */
+    public <T> int forEach(Response response, Class<T> elementType, Consumer<? super T> action) throws IOException {
+        if (response.status() < 200 || response.status() >= 300) {
+            throw FeignException.errorStatus(methodKey(response), response);
+        }
+        if (response.body() == null) {
+            return 0;
+        }
+
+        ObjectReader reader = readers.computeIfAbsent(elementType, objectMapper::readerFor);
+        int count = 0;
+        int skipped = 0;
+
+        try (InputStream body = response.body().asInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return 0;
+            }
+            // 배열 시작 토큰을 소비해 두면 MappingIterator가 다음 토큰부터 원소(또는 END_ARRAY)를 읽는다
+            parser.clearCurrentToken();
+
+            try (MappingIterator<T> iterator = reader.readValues(parser)) {
+                while (iterator.hasNextValue()) {
+                    T element;
+                    try {
+                        element = iterator.nextValue();
+                    } catch (JsonMappingException e) {
+                        // MappingIterator가 다음 hasNextValue에서 실패한 원소의 끝까지 건너뛴 뒤 이어서 읽는다
+                        log.warn("은행 응답 원소 바인딩 실패, 건너뜀 - {} [{}]: {}",
+                                elementType.getSimpleName(), count + skipped, e.getOriginalMessage());
+                        skipped++;
+                        continue;
+                    }
+                    action.accept(element);
+                    count++;
+                }
+            }
+        }
+
+        if (skipped > 0) {
+            log.warn("은행 응답 {} 중 {}건을 바인딩하지 못해 건너뜀 - {}", elementType.getSimpleName(), skipped, methodKey(response));
+        }
+        return count;
+    }
+
+    private static String methodKey(Response response) {
+        return response.request() != null ? response.request().httpMethod() + " " + response.request().url() : "stream";
+    }
+}
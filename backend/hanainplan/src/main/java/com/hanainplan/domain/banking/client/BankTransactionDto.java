@@ -0,0 +1,24 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BankTransactionDto {
+    private String transactionNumber;
+    private String transactionType;
+    private String transactionDirection;
+    private BigDecimal amount;
+    private BigDecimal balanceAfter;
+    private LocalDateTime transactionDatetime;
+    private LocalDateTime processedDate;
+    private String transactionStatus;
+    private String transactionCategory;
+    private String description;
+    private String memo;
+    private String referenceNumber;
+}
@@ -1,13 +1,13 @@
 package com.hanainplan.domain.banking.client;
 
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
-@FeignClient(name = "hana-bank", url = "${bank.hana.base-url:http://localhost:8081}")
+@FeignClient(name = "hana-bank", url = "${bank.hana.base-url:http://localhost:8081}", configuration = BankFeignConfig.class)
 public interface HanaBankClient {
 
     @PostMapping("/api/v1/irp/open")
@@ -22,6 +22,13 @@ public interface HanaBankClient {
     @GetMapping("/api/v1/transactions/account/{accountNumber}")
     List<BankTransactionDto> getTransactionsByAccount(@PathVariable("accountNumber") String accountNumber);
 
+    @GetMapping("/api/v1/transactions/account/{accountNumber}/since")
+    List<BankTransactionDto> getTransactionsByAccountSince(
+        @PathVariable("accountNumber") String accountNumber,
+        @RequestParam("since") String since,
+        @RequestParam("limit") int limit
+    );
+
     @GetMapping("/api/hana/interest-rates/all")
     List<Map<String, Object>> getAllInterestRates();
 
@@ -51,8 +58,11 @@ public interface HanaBankClient {
         @RequestParam(required = false) Boolean isIrpEligible
     );
 
+    /**
+     * 판매중 펀드 클래스 전체 (대용량 배열 - BankJsonStreamReader로 HanaFundClassDto 단위로 읽는다)
+     */
     @GetMapping("/api/hana/fund-classes")
-    List<Map<String, Object>> getAllOnSaleFundClasses();
+    Response streamOnSaleFundClasses();
 
     @GetMapping("/api/hana/fund-classes/{childFundCd}")
     Map<String, Object> getFundClass(@PathVariable("childFundCd") String childFundCd);
@@ -73,7 +83,7 @@ public interface HanaBankClient {
     Map<String, Object> purchaseFund(@RequestBody Map<String, Object> request);
 
     @GetMapping("/api/hana/fund-subscription/customer/{customerCi}")
-    List<Map<String, Object>> getCustomerSubscriptions(@PathVariable("customerCi") String customerCi);
+    List<HanaFundSubscriptionDto> getCustomerSubscriptions(@PathVariable("customerCi") String customerCi);
 
     @GetMapping("/api/hana/fund-subscription/customer/{customerCi}/active")
     List<Map<String, Object>> getActiveSubscriptions(@PathVariable("customerCi") String customerCi);
@@ -84,6 +94,12 @@ public interface HanaBankClient {
     @GetMapping("/api/hana/fund-transactions/customer/{customerCi}")
     List<Map<String, Object>> getCustomerTransactions(@PathVariable("customerCi") String customerCi);
 
+    /**
+     * 고객 펀드 거래내역 (대용량 배열 - BankJsonStreamReader로 HanaFundTransactionDto 단위로 읽는다)
+     */
+    @GetMapping("/api/hana/fund-transactions/customer/{customerCi}")
+    Response streamCustomerTransactions(@PathVariable("customerCi") String customerCi);
+
     @GetMapping("/api/hana/fund-transactions/subscription/{subscriptionId}")
     List<Map<String, Object>> getSubscriptionTransactions(@PathVariable("subscriptionId") Long subscriptionId);
 
@@ -100,60 +116,8 @@ public interface HanaBankClient {
     Map<String, Object> deleteIrpAccount(@RequestBody Map<String, Object> request);
 
     @GetMapping("/api/hana/customer-accounts/ci/{ci}")
-    Map<String, Object> getCustomerAccountsByCi(@PathVariable("ci") String ci);
+    HanaCustomerAccountsDto getCustomerAccountsByCi(@PathVariable("ci") String ci);
 
     @GetMapping("/api/v1/transactions/account/{accountNumber}")
     List<BankTransactionDto> getTransactionsByAccountNumber(@PathVariable("accountNumber") String accountNumber);
-
-    @com.fasterxml.jackson.annotation.JsonIgnoreProperties(ignoreUnknown = true)
-    class BankTransactionDto {
-        private String transactionNumber;
-        private String transactionType;
-        private String transactionDirection;
-        private BigDecimal amount;
-        private BigDecimal balanceAfter;
-        private java.time.LocalDateTime transactionDatetime;
-        private java.time.LocalDateTime processedDate;
-        private String transactionStatus;
-        private String transactionCategory;
-        private String description;
-        private String memo;
-        private String referenceNumber;
-
-        public String getTransactionNumber() { return transactionNumber; }
-        public void setTransactionNumber(String transactionNumber) { this.transactionNumber = transactionNumber; }
-
-        public String getTransactionType() { return transactionType; }
-        public void setTransactionType(String transactionType) { this.transactionType = transactionType; }
-
-        public String getTransactionDirection() { return transactionDirection; }
-        public void setTransactionDirection(String transactionDirection) { this.transactionDirection = transactionDirection; }
-
-        public BigDecimal getAmount() { return amount; }
-        public void setAmount(BigDecimal amount) { this.amount = amount; }
-
-        public BigDecimal getBalanceAfter() { return balanceAfter; }
-        public void setBalanceAfter(BigDecimal balanceAfter) { this.balanceAfter = balanceAfter; }
-
-        public java.time.LocalDateTime getTransactionDatetime() { return transactionDatetime; }
-        public void setTransactionDatetime(java.time.LocalDateTime transactionDatetime) { this.transactionDatetime = transactionDatetime; }
-
-        public java.time.LocalDateTime getProcessedDate() { return processedDate; }
-        public void setProcessedDate(java.time.LocalDateTime processedDate) { this.processedDate = processedDate; }
-
-        public String getTransactionStatus() { return transactionStatus; }
-        public void setTransactionStatus(String transactionStatus) { this.transactionStatus = transactionStatus; }
-
-        public String getTransactionCategory() { return transactionCategory; }
-        public void setTransactionCategory(String transactionCategory) { this.transactionCategory = transactionCategory; }
-
-        public String getDescription() { return description; }
-        public void setDescription(String description) { this.description = description; }
-
-        public String getMemo() { return memo; }
-        public void setMemo(String memo) { this.memo = memo; }
-
-        public String getReferenceNumber() { return referenceNumber; }
-        public void setReferenceNumber(String referenceNumber) { this.referenceNumber = referenceNumber; }
-    }
 }
\ No newline at end of file
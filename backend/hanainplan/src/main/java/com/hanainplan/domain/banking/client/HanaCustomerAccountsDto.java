@@ -0,0 +1,21 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HanaCustomerAccountsDto {
+    private Boolean exists;
+    private List<Account> accounts;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Account {
+        private String accountNumber;
+        private BigDecimal balance;
+    }
+}
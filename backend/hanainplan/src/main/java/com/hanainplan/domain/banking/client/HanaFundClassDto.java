@@ -0,0 +1,64 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HanaFundClassDto {
+    private String childFundCd;
+    private String classCode;
+    private String loadType;
+    private String taxCategory;
+    private String saleStatus;
+    private String sourceUrl;
+    private BigDecimal latestNav;
+    private LocalDate latestNavDate;
+    private FundMaster fundMaster;
+    private Rules rules;
+    private Fees fees;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class FundMaster {
+        private String fundCd;
+        private String fundName;
+        private Integer fundGb;
+        private String assetType;
+        private String riskGrade;
+        private String currency;
+        private Boolean isActive;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Rules {
+        private LocalTime cutoffTime;
+        private LocalTime navPublishTime;
+        private Integer buySettleDays;
+        private Integer redeemSettleDays;
+        private String unitType;
+        private BigDecimal minInitialAmount;
+        private BigDecimal minAdditional;
+        private BigDecimal incrementAmount;
+        private Boolean allowSip;
+        private Boolean allowSwitch;
+        private BigDecimal redemptionFeeRate;
+        private Integer redemptionFeeDays;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Fees {
+        private Integer mgmtFeeBps;
+        private Integer salesFeeBps;
+        private Integer trusteeFeeBps;
+        private Integer adminFeeBps;
+        private BigDecimal frontLoadPct;
+        private Integer totalFeeBps;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HanaFundSubscriptionDto {
+    private Long subscriptionId;
+    private String fundCode;
+    private String childFundCd;
+    private String fundName;
+    private String classCode;
+    private String fundType;
+    private String riskLevel;
+    private LocalDate purchaseDate;
+    private BigDecimal purchaseNav;
+    private BigDecimal purchaseAmount;
+    private BigDecimal purchaseFee;
+    private BigDecimal purchaseUnits;
+    private BigDecimal currentUnits;
+    private BigDecimal currentNav;
+    private BigDecimal currentValue;
+    private BigDecimal totalReturn;
+    private BigDecimal returnRate;
+    private BigDecimal accumulatedFees;
+    private String irpAccountNumber;
+    private String status;
+}
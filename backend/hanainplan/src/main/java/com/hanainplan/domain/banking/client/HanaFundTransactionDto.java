@@ -0,0 +1,24 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class HanaFundTransactionDto {
+    private Long transactionId;
+    private Long subscriptionId;
+    private String childFundCd;
+    private String transactionType;
+    private LocalDate transactionDate;
+    private LocalDate settlementDate;
+    private BigDecimal nav;
+    private BigDecimal units;
+    private BigDecimal amount;
+    private BigDecimal fee;
+    private String irpAccountNumber;
+    private String note;
+}
@@ -3,9 +3,10 @@ package com.hanainplan.domain.banking.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
-@FeignClient(name = "shinhan-bank", url = "${bank.shinhan.base-url:http://localhost:8083}")
+@FeignClient(name = "shinhan-bank", url = "${bank.shinhan.base-url:http://localhost:8083}", configuration = BankFeignConfig.class)
 public interface ShinhanBankClient {
 
     @PostMapping("/api/shinhan/product/financial/subscribe")
@@ -27,4 +28,10 @@ public interface ShinhanBankClient {
 
     @PostMapping("/api/shinhan/accounts/deposit")
     Map<String, Object> createDepositTransaction(@RequestBody Map<String, Object> request);
+
+    @GetMapping("/api/shinhan/transactions/account/{accountNumber}/since")
+    List<BankTransactionDto> getTransactionsByAccountSince(
+            @PathVariable("accountNumber") String accountNumber,
+            @RequestParam("since") String since,
+            @RequestParam("limit") int limit);
 }
\ No newline at end of file
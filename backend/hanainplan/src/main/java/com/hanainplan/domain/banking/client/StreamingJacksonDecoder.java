@@ -0,0 +1,60 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.Response;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 은행 API 응답 디코더.
+ * 응답 본문을 문자열/메시지 컨버터 버퍼로 옮기지 않고 InputStream에서 바로 반환 타입으로 바인딩하며,
+ * 반환 타입별 ObjectReader를 재사용한다.
+ */
+public class StreamingJacksonDecoder implements Decoder {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public StreamingJacksonDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (response.status() == 204 || response.body() == null) {
+            return Util.emptyValueOf(type);
+        }
+        if (type == String.class) {
+            return Util.toString(response.body().asReader(Util.UTF_8));
+        }
+
+        try (InputStream body = response.body().asInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken first = parser.nextToken();
+            if (first == null) {
+                return Util.emptyValueOf(type);
+            }
+            return readerFor(type).readValue(parser);
+        } catch (RuntimeException e) {
+            throw new DecodeException(response.status(), e.getMessage(), response.request(), e);
+        }
+    }
+
+    private ObjectReader readerFor(Type type) {
+        return readers.computeIfAbsent(type, key -> {
+            JavaType javaType = objectMapper.getTypeFactory().constructType(key);
+            return objectMapper.readerFor(javaType);
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.hanainplan.domain.banking.controller;
 
 import com.hanainplan.domain.banking.dto.AccountDto;
+import com.hanainplan.domain.banking.dto.AccountSyncRunStats;
 import com.hanainplan.domain.banking.dto.CreateAccountRequest;
 import com.hanainplan.domain.banking.dto.IrpAccountOpenRequestDto;
 import com.hanainplan.domain.banking.dto.IrpAccountOpenResponseDto;
@@ -107,6 +108,16 @@ public class AccountController {
         }
     }
 
+    @GetMapping("/sync/status")
+    @Operation(summary = "전체 계좌 동기화 진행 현황", description = "가장 최근 전체 계좌 동기화 실행의 진행률과 처리량을 조회합니다")
+    public ResponseEntity<AccountSyncRunStats> getAccountSyncStatus() {
+        AccountSyncRunStats stats = accountSyncService.getSyncStatus();
+        if (stats == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(stats);
+    }
+
     @GetMapping("/{accountId}")
     @Operation(summary = "계좌 상세 조회", description = "계좌 ID로 계좌 상세 정보를 조회합니다")
     public ResponseEntity<AccountDto> getAccount(
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -68,6 +69,17 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/transfer/batch")
+    @Operation(summary = "일괄 이체 처리", description = "여러 건의 계좌 간 이체를 하나의 트랜잭션으로 처리합니다. 한 건이라도 실패하면 전체가 취소됩니다.")
+    public ResponseEntity<TransferBatchResponseDto> transferBatch(
+            @Parameter(description = "이체 요청 목록") @RequestBody List<@Valid TransferRequestDto> requests) {
+
+        log.info("일괄 이체 처리 API 호출 - {}건", requests.size());
+
+        TransferBatchResponseDto response = transactionService.transferBatch(requests);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/internal-transfer")
     @Operation(summary = "계좌 간 송금 (통합)", description = "일반 계좌 ↔ IRP 계좌 간 송금을 처리합니다. 은행 서버 연동 포함.")
     public ResponseEntity<TransactionResponseDto> internalTransfer(
@@ -0,0 +1,31 @@
+package com.hanainplan.domain.banking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSyncRunStats {
+    private String runId;
+    private boolean running;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private int processedChunks;
+    private int failedChunks;
+
+    private int processedCustomers;
+    private int syncedCustomers;
+    private int failedCustomers;
+    private int syncedAccounts;
+
+    private long elapsedMillis;
+    private double customersPerSecond;
+}
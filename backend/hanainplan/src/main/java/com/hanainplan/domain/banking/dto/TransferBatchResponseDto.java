@@ -0,0 +1,48 @@
+package com.hanainplan.domain.banking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransferBatchResponseDto {
+
+    private boolean success;
+    private String message;
+    private int transferCount;
+    private BigDecimal totalAmount;
+    private List<TransactionResponseDto> results;
+    private LocalDateTime processedDate;
+    private String failureReason;
+
+    public static TransferBatchResponseDto success(String message, BigDecimal totalAmount,
+                                                   List<TransactionResponseDto> results) {
+        return TransferBatchResponseDto.builder()
+                .success(true)
+                .message(message)
+                .transferCount(results.size())
+                .totalAmount(totalAmount)
+                .results(results)
+                .processedDate(LocalDateTime.now())
+                .build();
+    }
+
+    public static TransferBatchResponseDto failure(String message, String failureReason) {
+        return TransferBatchResponseDto.builder()
+                .success(false)
+                .message(message)
+                .transferCount(0)
+                .results(List.of())
+                .processedDate(LocalDateTime.now())
+                .failureReason(failureReason)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.hanainplan.domain.banking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 자동이체 회차별 실행 기록. (자동이체 ID, 예정일) 조합의 멱등 키로 같은 회차가 두 번 실행되지 않도록 한다.
+ */
+@Entity
+@Table(name = "tb_banking_auto_transfer_execution",
+        uniqueConstraints = @UniqueConstraint(name = "uk_auto_transfer_execution_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_auto_transfer_execution_schedule", columnList = "auto_transfer_id, scheduled_date"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoTransferExecution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "execution_id")
+    private Long executionId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 40)
+    private String idempotencyKey;
+
+    @Column(name = "auto_transfer_id", nullable = false)
+    private Long autoTransferId;
+
+    @Column(name = "scheduled_date", nullable = false)
+    private LocalDate scheduledDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "execution_status", nullable = false, length = 20)
+    private ExecutionStatus executionStatus;
+
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "transaction_number", length = 36)
+    private String transactionNumber;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum ExecutionStatus {
+        CLAIMED("실행 중"),
+        SUCCEEDED("성공"),
+        FAILED("실패");
+
+        private final String description;
+
+        ExecutionStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    public static String idempotencyKey(Long autoTransferId, LocalDate scheduledDate) {
+        return "AT-" + autoTransferId + "-" + scheduledDate.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
@@ -0,0 +1,51 @@
+package com.hanainplan.domain.banking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 고객별 연도별 IRP 납입 누계. 납입 시 조건부 UPDATE로 한도 안에서만 증가시키고,
+ * 정합성 작업이 거래내역으로부터 주기적으로 다시 계산한다.
+ */
+@Entity
+@Table(name = "tb_irp_contribution_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_irp_ledger_customer_year", columnNames = {"customer_ci", "contribution_year"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IrpContributionLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id")
+    private Long ledgerId;
+
+    @Column(name = "customer_ci", nullable = false, length = 100)
+    private String customerCi;
+
+    @Column(name = "contribution_year", nullable = false)
+    private Integer contributionYear;
+
+    @Column(name = "total_contributed", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalContributed;
+
+    // 마지막으로 한도를 선점한 시각 - 정합성 작업은 이 시각이 최근인 행을 줄이지 않는다
+    @Column(name = "last_reserved_at")
+    private LocalDateTime lastReservedAt;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
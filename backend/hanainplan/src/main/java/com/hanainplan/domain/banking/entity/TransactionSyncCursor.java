@@ -0,0 +1,41 @@
+package com.hanainplan.domain.banking.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tb_transaction_sync_cursor")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSyncCursor {
+
+    @Id
+    @Column(name = "account_number", length = 20)
+    private String accountNumber;
+
+    @Column(name = "last_transaction_datetime")
+    private LocalDateTime lastTransactionDatetime;
+
+    @Column(name = "last_transaction_number", length = 50)
+    private String lastTransactionNumber;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    public void advance(LocalDateTime transactionDatetime, String transactionNumber) {
+        if (transactionDatetime == null) {
+            return;
+        }
+        if (lastTransactionDatetime == null || !transactionDatetime.isBefore(lastTransactionDatetime)) {
+            this.lastTransactionDatetime = transactionDatetime;
+            this.lastTransactionNumber = transactionNumber;
+        }
+    }
+}
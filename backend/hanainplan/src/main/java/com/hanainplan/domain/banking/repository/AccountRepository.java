@@ -1,11 +1,16 @@
 package com.hanainplan.domain.banking.repository;
 
 import com.hanainplan.domain.banking.entity.BankingAccount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +23,11 @@ public interface AccountRepository extends JpaRepository<BankingAccount, Long> {
 
     Optional<BankingAccount> findByAccountNumber(String accountNumber);
 
+    List<BankingAccount> findByAccountNumberIn(Collection<String> accountNumbers);
+
+    @Query("SELECT DISTINCT a.customerCi FROM BankingAccount a WHERE a.customerCi > :afterCi ORDER BY a.customerCi")
+    List<String> findCustomerCisAfter(@Param("afterCi") String afterCi, Pageable pageable);
+
     Optional<BankingAccount> findByUserIdAndAccountNumber(Long userId, String accountNumber);
 
     List<BankingAccount> findByUserIdAndAccountTypeOrderByCreatedAtDesc(Long userId, Integer accountType);
@@ -32,8 +42,23 @@ public interface AccountRepository extends JpaRepository<BankingAccount, Long> {
     long countByUserIdAndAccountType(Long userId, Integer accountType);
 
     @Query("SELECT a FROM BankingAccount a WHERE a.userId = :userId AND a.balance >= :minBalance ORDER BY a.balance DESC")
-    List<BankingAccount> findAccountsWithMinBalance(@Param("userId") Long userId, @Param("minBalance") java.math.BigDecimal minBalance);
+    List<BankingAccount> findAccountsWithMinBalance(@Param("userId") Long userId, @Param("minBalance") BigDecimal minBalance);
 
     @Query("SELECT a.accountType, SUM(a.balance) FROM BankingAccount a WHERE a.userId = :userId AND a.accountStatus = 'ACTIVE' GROUP BY a.accountType")
     List<Object[]> getBalanceSumByAccountType(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 잔액이 충분할 때만 차감 (조건부 UPDATE - 0 반환 시 잔액 부족 또는 비활성 계좌)
+    // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 실행 후 컨텍스트를 비워 이전 잔액이 다시 읽히지 않게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BankingAccount a SET a.balance = a.balance - :amount, a.updatedAt = :now " +
+           "WHERE a.accountId = :accountId AND a.accountStatus = 'ACTIVE' AND a.balance >= :amount")
+    int debitIfSufficient(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE BankingAccount a SET a.balance = a.balance + :amount, a.updatedAt = :now " +
+           "WHERE a.accountId = :accountId AND a.accountStatus = 'ACTIVE'")
+    int credit(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount, @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.accountId, a.balance FROM BankingAccount a WHERE a.accountId IN :accountIds")
+    List<Object[]> findBalancesByAccountIds(@Param("accountIds") Collection<Long> accountIds);
+}
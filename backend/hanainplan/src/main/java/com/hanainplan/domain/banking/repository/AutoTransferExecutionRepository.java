@@ -0,0 +1,62 @@
+package com.hanainplan.domain.banking.repository;
+
+import com.hanainplan.domain.banking.entity.AutoTransferExecution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AutoTransferExecutionRepository extends JpaRepository<AutoTransferExecution, Long> {
+
+    /**
+     * 실행 대상 자동이체를 잠그며 가져온다. 다른 워커가 잠근 행은 건너뛰어(SKIP LOCKED) 워커끼리 겹치지 않는다.
+     * 이미 완료된 회차와, 임대 시간 안에 다른 워커가 처리 중인 회차는 제외한다.
+     */
+    @Query(value = "SELECT at.auto_transfer_id FROM tb_banking_auto_transfer at " +
+                   "WHERE at.transfer_status = 'ACTIVE' " +
+                   "AND at.next_transfer_date = :scheduledDate " +
+                   "AND (at.max_transfer_count IS NULL OR at.transfer_count < at.max_transfer_count) " +
+                   "AND at.failure_count < at.max_failure_count " +
+                   "AND NOT EXISTS (SELECT 1 FROM tb_banking_auto_transfer_execution e " +
+                   "    WHERE e.auto_transfer_id = at.auto_transfer_id AND e.scheduled_date = :scheduledDate " +
+                   "    AND (e.execution_status <> 'CLAIMED' OR e.claimed_at >= :leaseCutoff)) " +
+                   "ORDER BY at.auto_transfer_id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockClaimableAutoTransferIds(@Param("scheduledDate") LocalDate scheduledDate,
+                                            @Param("leaseCutoff") LocalDateTime leaseCutoff,
+                                            @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO tb_banking_auto_transfer_execution " +
+                   "(idempotency_key, auto_transfer_id, scheduled_date, execution_status, attempt_count, claimed_by, claimed_at, created_at) " +
+                   "VALUES (:idempotencyKey, :autoTransferId, :scheduledDate, 'CLAIMED', 1, :claimedBy, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE execution_status = 'CLAIMED', attempt_count = attempt_count + 1, " +
+                   "claimed_by = VALUES(claimed_by), claimed_at = VALUES(claimed_at)",
+           nativeQuery = true)
+    int upsertClaim(@Param("idempotencyKey") String idempotencyKey,
+                    @Param("autoTransferId") Long autoTransferId,
+                    @Param("scheduledDate") LocalDate scheduledDate,
+                    @Param("claimedBy") String claimedBy,
+                    @Param("now") LocalDateTime now);
+
+    // 선점한 워커만 결과를 기록할 수 있다 (임대가 만료되어 다른 워커가 가져간 경우 0 반환)
+    @Modifying
+    @Query("UPDATE AutoTransferExecution e SET e.executionStatus = :status, e.transactionNumber = :transactionNumber, " +
+           "e.failureReason = :failureReason, e.completedAt = :now " +
+           "WHERE e.idempotencyKey = :idempotencyKey AND e.claimedBy = :claimedBy " +
+           "AND e.executionStatus = com.hanainplan.domain.banking.entity.AutoTransferExecution.ExecutionStatus.CLAIMED")
+    int complete(@Param("idempotencyKey") String idempotencyKey,
+                 @Param("claimedBy") String claimedBy,
+                 @Param("status") AutoTransferExecution.ExecutionStatus status,
+                 @Param("transactionNumber") String transactionNumber,
+                 @Param("failureReason") String failureReason,
+                 @Param("now") LocalDateTime now);
+}
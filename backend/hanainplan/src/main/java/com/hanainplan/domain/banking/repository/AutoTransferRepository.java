@@ -2,11 +2,13 @@ package com.hanainplan.domain.banking.repository;
 
 import com.hanainplan.domain.banking.entity.AutoTransfer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +53,14 @@ public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long
            "AND at.endDate IS NOT NULL AND at.endDate < :today")
     List<AutoTransfer> findExpiredAutoTransfers(@Param("today") LocalDate today);
 
+    @Modifying
+    @Query("UPDATE AutoTransfer at SET at.transferStatus = :completed, at.updatedAt = :now " +
+           "WHERE at.transferStatus = :active AND at.endDate IS NOT NULL AND at.endDate < :today")
+    int completeExpiredAutoTransfers(@Param("today") LocalDate today,
+                                     @Param("now") LocalDateTime now,
+                                     @Param("active") AutoTransfer.TransferStatus active,
+                                     @Param("completed") AutoTransfer.TransferStatus completed);
+
     @Query("SELECT at FROM AutoTransfer at WHERE at.transferStatus = 'ACTIVE' " +
            "AND at.failureCount >= at.maxFailureCount")
     List<AutoTransfer> findMaxFailureReachedAutoTransfers();
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,4 +27,8 @@ public interface DepositPortfolioRepository extends JpaRepository<DepositPortfol
     List<DepositPortfolio> findByIrpAccountNumberOrderBySubscriptionDateDesc(String irpAccountNumber);
 
     List<DepositPortfolio> findByIrpAccountNumberAndStatus(String irpAccountNumber, String status);
-}
\ No newline at end of file
+
+    @Query("SELECT dp.userId, SUM(dp.principalAmount) FROM DepositPortfolio dp " +
+           "WHERE dp.userId IN :userIds AND dp.status = 'ACTIVE' GROUP BY dp.userId")
+    List<Object[]> sumActivePrincipalByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -1,12 +1,14 @@
 package com.hanainplan.domain.banking.repository;
 
 import com.hanainplan.domain.banking.entity.IrpAccount;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,4 +55,29 @@ public interface IrpAccountRepository extends JpaRepository<IrpAccount, Long> {
     boolean existsByCustomerId(@Param("customerId") Long customerId);
 
     Optional<IrpAccount> findByCustomerIdAndAccountStatus(Long customerId, String accountStatus);
-}
\ No newline at end of file
+
+    @Query("SELECT DISTINCT ia.customerId FROM IrpAccount ia WHERE ia.accountStatus = 'ACTIVE' " +
+           "AND ia.customerId > :afterCustomerId ORDER BY ia.customerId")
+    List<Long> findActiveCustomerIdsAfter(@Param("afterCustomerId") Long afterCustomerId, Pageable pageable);
+
+    @Query("SELECT ia.customerId, SUM(ia.currentBalance) FROM IrpAccount ia " +
+           "WHERE ia.accountStatus = 'ACTIVE' AND ia.customerId IN :customerIds GROUP BY ia.customerId")
+    List<Object[]> sumActiveBalanceByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * 고객의 IRP 포트폴리오 합계를 한 번에 집계한다.
+     * [계좌번호, 현금 잔액, 활성 예금 원금 합계, 만기 지난 활성 예금 수, 활성 펀드 평가액 합계] 한 행을 반환하며,
+     * 활성 IRP 계좌가 없으면 계좌번호/현금/펀드는 NULL 또는 0이고 예금 합계만 채워진다.
+     */
+    @Query(value = "SELECT a.account_number, COALESCE(a.current_balance, 0), " +
+           "(SELECT COALESCE(SUM(d.principal_amount), 0) FROM deposit_portfolio d " +
+           " WHERE d.user_id = :customerId AND d.status = 'ACTIVE'), " +
+           "(SELECT COUNT(*) FROM deposit_portfolio d " +
+           " WHERE d.user_id = :customerId AND d.status = 'ACTIVE' AND d.maturity_date < CURRENT_DATE), " +
+           "(SELECT COALESCE(SUM(f.current_value), 0) FROM fund_portfolio f " +
+           " WHERE f.irp_account_number = a.account_number AND f.status IN ('ACTIVE', 'PARTIAL_SOLD')) " +
+           "FROM (SELECT 1) seed " +
+           "LEFT JOIN tb_irp_account a ON a.customer_id = :customerId AND a.account_status = 'ACTIVE' " +
+           "LIMIT 1", nativeQuery = true)
+    List<Object[]> aggregatePortfolioTotals(@Param("customerId") Long customerId);
+}
@@ -0,0 +1,82 @@
+package com.hanainplan.domain.banking.repository;
+
+import com.hanainplan.domain.banking.entity.IrpContributionLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IrpContributionLedgerRepository extends JpaRepository<IrpContributionLedger, Long> {
+
+    Optional<IrpContributionLedger> findByCustomerCiAndContributionYear(String customerCi, Integer contributionYear);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tb_irp_contribution_ledger " +
+                   "(customer_ci, contribution_year, total_contributed, created_at, updated_at) " +
+                   "VALUES (:customerCi, :year, :total, :now, :now)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("customerCi") String customerCi,
+                       @Param("year") int year,
+                       @Param("total") BigDecimal total,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 누계 + 요청 금액이 한도 이하일 때만 증가시킨다. 같은 행을 갱신하는 다른 납입은 행 잠금으로 직렬화되므로
+     * 동시에 들어온 납입이 함께 한도를 넘길 수 없다. 한도 초과면 0을 반환한다.
+     */
+    @Modifying
+    @Query("UPDATE IrpContributionLedger l SET l.totalContributed = l.totalContributed + :amount, " +
+           "l.lastReservedAt = :now, l.updatedAt = :now " +
+           "WHERE l.customerCi = :customerCi AND l.contributionYear = :year " +
+           "AND l.totalContributed + :amount <= :limit")
+    int reserve(@Param("customerCi") String customerCi,
+                @Param("year") int year,
+                @Param("amount") BigDecimal amount,
+                @Param("limit") BigDecimal limit,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE IrpContributionLedger l SET " +
+           "l.totalContributed = CASE WHEN l.totalContributed > :amount THEN l.totalContributed - :amount ELSE 0 END, " +
+           "l.updatedAt = :now " +
+           "WHERE l.customerCi = :customerCi AND l.contributionYear = :year")
+    int release(@Param("customerCi") String customerCi,
+                @Param("year") int year,
+                @Param("amount") BigDecimal amount,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * 거래내역 합계로 누계를 다시 쓴다. 최근(graceCutoff 이후) 선점된 행은 아직 동기화되지 않은 납입이 있을 수 있어 늘리기만 한다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO tb_irp_contribution_ledger " +
+                   "(customer_ci, contribution_year, total_contributed, reconciled_at, created_at, updated_at) " +
+                   "VALUES (:customerCi, :year, :total, :now, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_contributed = IF(last_reserved_at IS NULL OR last_reserved_at < :graceCutoff, " +
+                   "    VALUES(total_contributed), GREATEST(total_contributed, VALUES(total_contributed))), " +
+                   "reconciled_at = VALUES(reconciled_at), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int reconcile(@Param("customerCi") String customerCi,
+                  @Param("year") int year,
+                  @Param("total") BigDecimal total,
+                  @Param("graceCutoff") LocalDateTime graceCutoff,
+                  @Param("now") LocalDateTime now);
+
+    // 이번 정합성 작업에서 거래내역이 없던 행은 0으로 되돌린다 (최근 선점된 행 제외)
+    @Modifying
+    @Query("UPDATE IrpContributionLedger l SET l.totalContributed = 0, l.reconciledAt = :now, l.updatedAt = :now " +
+           "WHERE l.contributionYear = :year " +
+           "AND (l.reconciledAt IS NULL OR l.reconciledAt < :runStartedAt) " +
+           "AND (l.lastReservedAt IS NULL OR l.lastReservedAt < :graceCutoff)")
+    int resetUnreconciled(@Param("year") int year,
+                          @Param("runStartedAt") LocalDateTime runStartedAt,
+                          @Param("graceCutoff") LocalDateTime graceCutoff,
+                          @Param("now") LocalDateTime now);
+}
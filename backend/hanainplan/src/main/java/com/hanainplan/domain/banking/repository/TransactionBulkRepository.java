@@ -0,0 +1,92 @@
+package com.hanainplan.domain.banking.repository;
+
+import com.hanainplan.domain.banking.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TransactionBulkRepository {
+
+    private static final String COLUMNS_AND_VALUES =
+            "tb_banking_transaction (" +
+            "transaction_number, from_account_id, to_account_id, from_account_number, to_account_number, " +
+            "transaction_type, transaction_category, amount, balance_after, transaction_direction, " +
+            "description, transaction_status, transaction_date, processed_date, reference_number, memo, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SQL = "INSERT INTO " + COLUMNS_AND_VALUES;
+
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO " + COLUMNS_AND_VALUES;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 거래를 일괄 저장하고 실제로 저장된 행 수를 반환한다. 거래번호 중복 등 오류가 나면 예외를 던진다.
+     */
+    public int insertAll(List<Transaction> transactions, int chunkSize) {
+        return insert(INSERT_SQL, transactions, chunkSize);
+    }
+
+    /**
+     * 이미 있는 거래번호는 건너뛰고 저장한다 (은행 거래내역 동기화처럼 같은 거래가 다시 들어올 수 있는 경우).
+     */
+    public int insertAllIgnoringDuplicates(List<Transaction> transactions, int chunkSize) {
+        return insert(INSERT_IGNORE_SQL, transactions, chunkSize);
+    }
+
+    private int insert(String sql, List<Transaction> transactions, int chunkSize) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[][] results = jdbcTemplate.batchUpdate(sql, transactions, Math.max(1, chunkSize), (ps, tx) -> {
+            ps.setString(1, tx.getTransactionNumber());
+            setLong(ps, 2, tx.getFromAccountId());
+            setLong(ps, 3, tx.getToAccountId());
+            ps.setString(4, tx.getFromAccountNumber());
+            ps.setString(5, tx.getToAccountNumber());
+            ps.setString(6, tx.getTransactionType().name());
+            ps.setString(7, tx.getTransactionCategory().name());
+            ps.setBigDecimal(8, tx.getAmount());
+            ps.setBigDecimal(9, tx.getBalanceAfter());
+            ps.setString(10, tx.getTransactionDirection().name());
+            ps.setString(11, tx.getDescription());
+            ps.setString(12, tx.getTransactionStatus().name());
+            ps.setTimestamp(13, Timestamp.valueOf(tx.getTransactionDate()));
+            ps.setTimestamp(14, tx.getProcessedDate() != null ? Timestamp.valueOf(tx.getProcessedDate()) : null);
+            ps.setString(15, tx.getReferenceNumber());
+            ps.setString(16, tx.getMemo());
+            ps.setTimestamp(17, now);
+        });
+
+        int inserted = 0;
+        for (int[] chunk : results) {
+            for (int count : chunk) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
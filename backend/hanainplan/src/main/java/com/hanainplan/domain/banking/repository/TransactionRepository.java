@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,9 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
     Optional<Transaction> findByTransactionNumber(String transactionNumber);
 
+    @Query("SELECT t.transactionNumber FROM Transaction t WHERE t.transactionNumber IN :transactionNumbers")
+    List<String> findExistingTransactionNumbers(@Param("transactionNumbers") Collection<String> transactionNumbers);
+
     List<Transaction> findByFromAccountIdAndTransactionTypeOrToAccountIdAndTransactionTypeOrderByTransactionDateDesc(
         Long fromAccountId, Transaction.TransactionType transactionType1,
         Long toAccountId, Transaction.TransactionType transactionType2);
@@ -133,4 +137,17 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Param("customerCi") String customerCi,
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    // 정합성 작업용 - sumIrpDepositsByCustomerCiAndYear와 같은 기준의 고객별 합계
+    @Query("SELECT a.customerCi, SUM(t.amount) FROM Transaction t " +
+           "JOIN BankingAccount a ON (t.toAccountId = a.accountId) " +
+           "WHERE a.accountType = 6 " +
+           "AND t.transactionType = 'DEPOSIT' " +
+           "AND t.transactionDate >= :startDate " +
+           "AND t.transactionDate < :endDate " +
+           "AND t.transactionStatus = 'COMPLETED' " +
+           "GROUP BY a.customerCi")
+    List<Object[]> sumIrpDepositsGroupedByCustomerCi(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate);
+}
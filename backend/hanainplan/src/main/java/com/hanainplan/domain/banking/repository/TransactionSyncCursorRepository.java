@@ -0,0 +1,9 @@
+package com.hanainplan.domain.banking.repository;
+
+import com.hanainplan.domain.banking.entity.TransactionSyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransactionSyncCursorRepository extends JpaRepository<TransactionSyncCursor, String> {
+}
@@ -1,5 +1,6 @@
 package com.hanainplan.domain.banking.scheduler;
 
+import com.hanainplan.domain.banking.dto.AccountSyncRunStats;
 import com.hanainplan.domain.banking.service.AccountSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +21,8 @@ public class AccountSyncScheduler {
         log.info("====================================================");
 
         try {
-            int syncedCount = accountSyncService.syncAllUserAccounts();
-            log.info("계좌 동기화 완료 - {}명의 사용자 계좌 동기화됨", syncedCount);
+            AccountSyncRunStats stats = accountSyncService.syncAllUserAccounts();
+            log.info("계좌 동기화 완료 - {}명의 사용자 계좌 동기화됨", stats.getSyncedCustomers());
         } catch (Exception e) {
             log.error("계좌 동기화 스케줄러 실행 중 오류 발생", e);
         }
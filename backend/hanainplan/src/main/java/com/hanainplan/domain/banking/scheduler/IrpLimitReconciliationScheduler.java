@@ -0,0 +1,98 @@
+package com.hanainplan.domain.banking.scheduler;
+
+import com.hanainplan.domain.banking.repository.IrpContributionLedgerRepository;
+import com.hanainplan.domain.banking.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * IRP 납입 원장 정합성 작업.
+ * 거래내역에서 고객별 연간 입금 합계를 한 번의 집계 쿼리로 구해 원장을 다시 쓴다. 청크마다 별도 트랜잭션으로 반영해 잠금 시간을 제한한다.
+ * 은행 거래내역 동기화가 늦을 수 있으므로 유예 시간 안에 선점된 원장은 줄이지 않는다.
+ */
+@Component
+@Slf4j
+public class IrpLimitReconciliationScheduler {
+
+    private final TransactionRepository transactionRepository;
+    private final IrpContributionLedgerRepository ledgerRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final Duration reservationGrace;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public IrpLimitReconciliationScheduler(TransactionRepository transactionRepository,
+                                           IrpContributionLedgerRepository ledgerRepository,
+                                           TransactionTemplate transactionTemplate,
+                                           @Value("${irp.limit.reconcile.chunk-size:500}") int chunkSize,
+                                           @Value("${irp.limit.reconcile.reservation-grace-hours:24}") long reservationGraceHours) {
+        this.transactionRepository = transactionRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.reservationGrace = Duration.ofHours(Math.max(0, reservationGraceHours));
+    }
+
+    @Scheduled(cron = "${irp.limit.reconcile.cron:0 0 4 * * *}")
+    public void reconcileCurrentYear() {
+        LocalDate today = LocalDate.now();
+        reconcile(today.getYear());
+
+        // 연초에는 전년도 말 거래가 늦게 동기화될 수 있어 전년도도 함께 맞춘다
+        if (today.getDayOfYear() <= 7) {
+            reconcile(today.getYear() - 1);
+        }
+    }
+
+    /**
+     * year의 원장을 거래내역 기준으로 다시 계산하고 반영한 고객 수를 반환한다. 이미 실행 중이면 -1을 반환한다.
+     */
+    public int reconcile(int year) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("IRP 원장 정합성 작업이 이미 진행 중입니다 - 연도: {}", year);
+            return -1;
+        }
+
+        LocalDateTime runStartedAt = LocalDateTime.now();
+        LocalDateTime graceCutoff = runStartedAt.minus(reservationGrace);
+
+        try {
+            List<Object[]> totals = transactionRepository.sumIrpDepositsGroupedByCustomerCi(
+                    LocalDateTime.of(year, 1, 1, 0, 0, 0), LocalDateTime.of(year + 1, 1, 1, 0, 0, 0));
+
+            for (int from = 0; from < totals.size(); from += chunkSize) {
+                List<Object[]> chunk = totals.subList(from, Math.min(from + chunkSize, totals.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    for (Object[] row : chunk) {
+                        ledgerRepository.reconcile((String) row[0], year, (BigDecimal) row[1], graceCutoff, now);
+                    }
+                });
+            }
+
+            Integer reset = transactionTemplate.execute(status ->
+                    ledgerRepository.resetUnreconciled(year, runStartedAt, graceCutoff, LocalDateTime.now()));
+
+            log.info("IRP 원장 정합성 작업 완료 - 연도: {}, 고객 {}명 반영, 거래내역 없는 원장 {}건 초기화, 소요 시간: {}ms",
+                    year, totals.size(), reset, Duration.between(runStartedAt, LocalDateTime.now()).toMillis());
+            return totals.size();
+        } catch (Exception e) {
+            log.error("IRP 원장 정합성 작업 실패 - 연도: {}", year, e);
+            return 0;
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -1,67 +1,140 @@
 package com.hanainplan.domain.banking.service;
 
 import com.hanainplan.domain.banking.client.HanaBankClient;
+import com.hanainplan.domain.banking.client.HanaCustomerAccountsDto;
+import com.hanainplan.domain.banking.dto.AccountSyncRunStats;
 import com.hanainplan.domain.banking.entity.BankingAccount;
 import com.hanainplan.domain.banking.repository.AccountRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AccountSyncService {
 
     private final HanaBankClient hanaBankClient;
     private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final int concurrency;
+
+    private volatile SyncRun currentRun;
+
+    public AccountSyncService(HanaBankClient hanaBankClient,
+                              AccountRepository accountRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${account.sync.chunk-size:200}") int chunkSize,
+                              @Value("${account.sync.concurrency:8}") int concurrency) {
+        this.hanaBankClient = hanaBankClient;
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    public AccountSyncRunStats syncAllUserAccounts() {
+        SyncRun run = new SyncRun();
+        currentRun = run;
 
-    @Transactional
-    public int syncAllUserAccounts() {
         log.info("====================================================");
-        log.info("모든 사용자의 계좌 동기화 시작");
+        log.info("모든 사용자의 계좌 동기화 시작 - 실행 ID: {}, 청크 크기: {}, 동시 호출 수: {}",
+                run.runId, chunkSize, concurrency);
         log.info("====================================================");
 
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, syncThreadFactory());
+
         try {
-            List<BankingAccount> allAccounts = accountRepository.findAll();
-            Map<String, List<BankingAccount>> accountsByCi = allAccounts.stream()
-                    .filter(account -> account.getCustomerCi() != null && !account.getCustomerCi().isEmpty())
-                    .collect(Collectors.groupingBy(BankingAccount::getCustomerCi));
+            String cursor = "";
 
-            int syncedUserCount = 0;
-            int syncedAccountCount = 0;
+            while (true) {
+                List<String> customerCis = accountRepository.findCustomerCisAfter(cursor, PageRequest.of(0, chunkSize));
+                if (customerCis.isEmpty()) {
+                    break;
+                }
+                cursor = customerCis.get(customerCis.size() - 1);
 
-            for (String customerCi : accountsByCi.keySet()) {
                 try {
-                    int accountCount = syncUserAccounts(customerCi);
-                    if (accountCount > 0) {
-                        syncedUserCount++;
-                        syncedAccountCount += accountCount;
-                        log.info("사용자 CI: {} - {}개 계좌 동기화 완료", customerCi, accountCount);
-                    }
+                    syncChunk(customerCis, executor, run);
                 } catch (Exception e) {
-                    log.error("사용자 CI: {} 계좌 동기화 실패", customerCi, e);
+                    run.failedChunks.incrementAndGet();
+                    log.error("계좌 동기화 청크 실패 - 청크 시작 CI: {}, {}건", customerCis.get(0), customerCis.size(), e);
                 }
-            }
+                run.processedChunks.incrementAndGet();
+                run.processedCustomers.addAndGet(customerCis.size());
 
-            log.info("====================================================");
-            log.info("계좌 동기화 완료");
-            log.info("- 동기화된 사용자 수: {}", syncedUserCount);
-            log.info("- 동기화된 계좌 수: {}", syncedAccountCount);
-            log.info("====================================================");
-
-            return syncedUserCount;
+                log.info("계좌 동기화 진행 - 처리 고객 {}명 / 동기화 계좌 {}개 / 실패 고객 {}명",
+                        run.processedCustomers.get(), run.syncedAccounts.get(), run.failedCustomers.get());
 
+                if (customerCis.size() < chunkSize) {
+                    break;
+                }
+            }
         } catch (Exception e) {
             log.error("계좌 동기화 중 오류 발생", e);
-            return 0;
+        } finally {
+            executor.shutdownNow();
+            run.finish();
         }
+
+        AccountSyncRunStats stats = run.toStats();
+
+        log.info("====================================================");
+        log.info("계좌 동기화 완료 - 실행 ID: {}", stats.getRunId());
+        log.info("- 처리된 사용자 수: {}", stats.getProcessedCustomers());
+        log.info("- 동기화된 사용자 수: {}", stats.getSyncedCustomers());
+        log.info("- 동기화된 계좌 수: {}", stats.getSyncedAccounts());
+        log.info("- 실패 사용자 수: {} / 실패 청크 수: {}", stats.getFailedCustomers(), stats.getFailedChunks());
+        log.info("- 소요 시간: {}ms ({} 명/초)", stats.getElapsedMillis(), String.format("%.2f", stats.getCustomersPerSecond()));
+        log.info("====================================================");
+
+        return stats;
+    }
+
+    public AccountSyncRunStats getSyncStatus() {
+        SyncRun run = currentRun;
+        return run != null ? run.toStats() : null;
+    }
+
+    private void syncChunk(List<String> customerCis, ExecutorService executor, SyncRun run) {
+        List<CompletableFuture<Map<String, BigDecimal>>> futures = new ArrayList<>(customerCis.size());
+        for (String customerCi : customerCis) {
+            futures.add(CompletableFuture.supplyAsync(() -> fetchBalances(customerCi), executor)
+                    .exceptionally(e -> {
+                        run.failedCustomers.incrementAndGet();
+                        log.error("사용자 CI: {} 계좌 조회 실패 - {}", customerCi, e.getMessage());
+                        return Map.of();
+                    }));
+        }
+
+        Map<String, BigDecimal> balances = new HashMap<>();
+        for (CompletableFuture<Map<String, BigDecimal>> future : futures) {
+            Map<String, BigDecimal> customerBalances = future.join();
+            if (!customerBalances.isEmpty()) {
+                run.syncedCustomers.incrementAndGet();
+                balances.putAll(customerBalances);
+            }
+        }
+
+        run.syncedAccounts.addAndGet(applyBalances(balances));
     }
 
     @Transactional
@@ -96,59 +169,117 @@ public class AccountSyncService {
         log.info("사용자 계좌 동기화 시작 - CI: {}", customerCi);
 
         try {
-            Map<String, Object> response = hanaBankClient.getCustomerAccountsByCi(customerCi);
+            Map<String, BigDecimal> balances = fetchBalances(customerCi);
+            int syncedCount = applyBalances(balances);
 
-            Boolean exists = response != null ? (Boolean) response.get("exists") : null;
-            if (response == null || exists == null || !exists) {
-                log.warn("하나은행에 고객 정보가 없음 - CI: {}", customerCi);
-                return 0;
-            }
-
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> hanaAccounts = (List<Map<String, Object>>) response.get("accounts");
+            log.info("사용자 계좌 동기화 완료 - CI: {}, {}개 계좌 동기화됨", customerCi, syncedCount);
+            return syncedCount;
 
-            if (hanaAccounts == null || hanaAccounts.isEmpty()) {
-                log.info("동기화할 계좌가 없음 - CI: {}", customerCi);
-                return 0;
-            }
+        } catch (Exception e) {
+            log.error("사용자 계좌 동기화 실패 - CI: {}", customerCi, e);
+            return 0;
+        }
+    }
 
-            log.info("하나은행에서 조회된 계좌: {}개", hanaAccounts.size());
+    private Map<String, BigDecimal> fetchBalances(String customerCi) {
+        HanaCustomerAccountsDto response = hanaBankClient.getCustomerAccountsByCi(customerCi);
 
-            int syncedCount = 0;
+        if (response == null || !Boolean.TRUE.equals(response.getExists())) {
+            log.debug("하나은행에 고객 정보가 없음 - CI: {}", customerCi);
+            return Map.of();
+        }
 
-            for (Map<String, Object> hanaAccount : hanaAccounts) {
-                try {
-                    String accountNumber = (String) hanaAccount.get("accountNumber");
+        List<HanaCustomerAccountsDto.Account> hanaAccounts = response.getAccounts();
 
-                    BankingAccount account = accountRepository.findByAccountNumber(accountNumber)
-                            .orElse(null);
+        if (hanaAccounts == null || hanaAccounts.isEmpty()) {
+            log.debug("동기화할 계좌가 없음 - CI: {}", customerCi);
+            return Map.of();
+        }
 
-                    if (account == null) {
-                        log.warn("하나인플랜에 계좌가 없음 - 계좌번호: {}", accountNumber);
-                        continue;
-                    }
+        Map<String, BigDecimal> balances = new HashMap<>();
+        for (HanaCustomerAccountsDto.Account hanaAccount : hanaAccounts) {
+            if (hanaAccount.getAccountNumber() == null || hanaAccount.getBalance() == null) {
+                continue;
+            }
+            balances.put(hanaAccount.getAccountNumber(), hanaAccount.getBalance());
+        }
+        return balances;
+    }
 
-                    BigDecimal newBalance = new BigDecimal(hanaAccount.get("balance").toString());
-                    account.setBalance(newBalance);
-                    account.setUpdatedAt(java.time.LocalDateTime.now());
+    private int applyBalances(Map<String, BigDecimal> balances) {
+        if (balances.isEmpty()) {
+            return 0;
+        }
 
-                    accountRepository.save(account);
-                    syncedCount++;
+        Integer synced = transactionTemplate.execute(status -> {
+            List<BankingAccount> accounts = accountRepository.findByAccountNumberIn(balances.keySet());
+            LocalDateTime now = LocalDateTime.now();
 
-                    log.debug("계좌 동기화 완료 - 계좌번호: {}, 잔액: {}원", accountNumber, newBalance);
+            for (BankingAccount account : accounts) {
+                BigDecimal newBalance = balances.get(account.getAccountNumber());
+                account.setBalance(newBalance);
+                account.setUpdatedAt(now);
+                log.debug("계좌 동기화 완료 - 계좌번호: {}, 잔액: {}원", account.getAccountNumber(), newBalance);
+            }
 
-                } catch (Exception e) {
-                    log.error("계좌 동기화 실패 - 계좌번호: {}", 
-                            hanaAccount.get("accountNumber"), e);
-                }
+            if (accounts.size() < balances.size()) {
+                log.debug("하나인플랜에 없는 계좌 {}개는 건너뜀", balances.size() - accounts.size());
             }
 
-            log.info("사용자 계좌 동기화 완료 - CI: {}, {}개 계좌 동기화됨", customerCi, syncedCount);
-            return syncedCount;
+            accountRepository.saveAll(accounts);
+            return accounts.size();
+        });
 
-        } catch (Exception e) {
-            log.error("사용자 계좌 동기화 실패 - CI: {}", customerCi, e);
-            return 0;
+        return synced != null ? synced : 0;
+    }
+
+    private ThreadFactory syncThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "account-sync-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class SyncRun {
+        private final String runId = UUID.randomUUID().toString();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private final AtomicInteger processedChunks = new AtomicInteger();
+        private final AtomicInteger failedChunks = new AtomicInteger();
+        private final AtomicInteger processedCustomers = new AtomicInteger();
+        private final AtomicInteger syncedCustomers = new AtomicInteger();
+        private final AtomicInteger failedCustomers = new AtomicInteger();
+        private final AtomicInteger syncedAccounts = new AtomicInteger();
+
+        void finish() {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+        }
+
+        AccountSyncRunStats toStats() {
+            boolean running = finishedAt == null;
+            long elapsedMillis = Duration.ofNanos((running ? System.nanoTime() : finishedNanos) - startedNanos).toMillis();
+            int customers = processedCustomers.get();
+
+            return AccountSyncRunStats.builder()
+                    .runId(runId)
+                    .running(running)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .processedChunks(processedChunks.get())
+                    .failedChunks(failedChunks.get())
+                    .processedCustomers(customers)
+                    .syncedCustomers(syncedCustomers.get())
+                    .failedCustomers(failedCustomers.get())
+                    .syncedAccounts(syncedAccounts.get())
+                    .elapsedMillis(elapsedMillis)
+                    .customersPerSecond(elapsedMillis > 0 ? customers * 1000.0 / elapsedMillis : 0.0)
+                    .build();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,266 @@
+package com.hanainplan.domain.banking.service;
+
+import com.hanainplan.domain.banking.dto.TransactionResponseDto;
+import com.hanainplan.domain.banking.dto.TransferRequestDto;
+import com.hanainplan.domain.banking.entity.AutoTransfer;
+import com.hanainplan.domain.banking.entity.AutoTransferExecution;
+import com.hanainplan.domain.banking.repository.AutoTransferExecutionRepository;
+import com.hanainplan.domain.banking.repository.AutoTransferRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동이체 회차 실행기.
+ * 워커마다 실행 대상을 청크 단위로 선점(SELECT ... FOR UPDATE SKIP LOCKED)하고 실행 기록에 멱등 키를 남긴 뒤 병렬로 이체한다.
+ * 이체와 성공 기록은 한 트랜잭션으로 커밋되므로, 중간에 중단되면 선점 임대가 만료된 회차만 다시 실행된다.
+ */
+@Service
+@Slf4j
+public class AutoTransferExecutionService {
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 500;
+
+    private final AutoTransferRepository autoTransferRepository;
+    private final AutoTransferExecutionRepository executionRepository;
+    private final TransactionService transactionService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final int concurrency;
+    private final Duration claimLease;
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public AutoTransferExecutionService(AutoTransferRepository autoTransferRepository,
+                                        AutoTransferExecutionRepository executionRepository,
+                                        TransactionService transactionService,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${auto-transfer.execution.chunk-size:100}") int chunkSize,
+                                        @Value("${auto-transfer.execution.concurrency:4}") int concurrency,
+                                        @Value("${auto-transfer.execution.claim-lease-minutes:30}") long claimLeaseMinutes) {
+        this.autoTransferRepository = autoTransferRepository;
+        this.executionRepository = executionRepository;
+        this.transactionService = transactionService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.concurrency = Math.max(1, concurrency);
+        this.claimLease = Duration.ofMinutes(Math.max(1, claimLeaseMinutes));
+    }
+
+    /**
+     * 예정일이 scheduledDate인 자동이체를 모두 실행. 같은 날 다시 호출하면 남은 회차만 이어서 실행한다.
+     */
+    public RunResult executeDueTransfers(LocalDate scheduledDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("자동이체 실행이 이미 진행 중입니다 - 예정일: {}", scheduledDate);
+            return null;
+        }
+
+        long startedNanos = System.nanoTime();
+        RunCounters counters = new RunCounters();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, workerThreadFactory());
+
+        log.info("자동이체 실행 시작 - 예정일: {}, 워커 수: {}, 청크 크기: {}", scheduledDate, concurrency, chunkSize);
+
+        try {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int i = 1; i <= concurrency; i++) {
+                String workerId = instanceId + "-" + i;
+                workers.add(executor.submit(() -> drain(scheduledDate, workerId, counters)));
+            }
+
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("자동이체 실행 대기 중 인터럽트 발생");
+                    break;
+                } catch (Exception e) {
+                    log.error("자동이체 워커 오류: {}", e.getMessage(), e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            running.set(false);
+        }
+
+        RunResult result = new RunResult(scheduledDate, counters.claimed.get(), counters.succeeded.get(),
+                counters.failed.get(), counters.leaseLost.get(),
+                Duration.ofNanos(System.nanoTime() - startedNanos).toMillis());
+
+        log.info("자동이체 실행 완료 - 예정일: {}, 선점 {}건 / 성공 {}건 / 실패 {}건 / 임대 만료 {}건, 소요 시간: {}ms",
+                result.scheduledDate(), result.claimed(), result.succeeded(), result.failed(),
+                result.leaseLost(), result.elapsedMillis());
+        return result;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void drain(LocalDate scheduledDate, String workerId, RunCounters counters) {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> claimed = claimChunk(scheduledDate, workerId);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            counters.claimed.addAndGet(claimed.size());
+
+            for (Long autoTransferId : claimed) {
+                executeClaimed(autoTransferId, scheduledDate, workerId, counters);
+            }
+        }
+    }
+
+    private List<Long> claimChunk(LocalDate scheduledDate, String workerId) {
+        List<Long> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = executionRepository.lockClaimableAutoTransferIds(
+                    scheduledDate, now.minus(claimLease), chunkSize);
+
+            for (Long autoTransferId : ids) {
+                executionRepository.upsertClaim(AutoTransferExecution.idempotencyKey(autoTransferId, scheduledDate),
+                        autoTransferId, scheduledDate, workerId, now);
+            }
+            return ids;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void executeClaimed(Long autoTransferId, LocalDate scheduledDate, String workerId, RunCounters counters) {
+        String idempotencyKey = AutoTransferExecution.idempotencyKey(autoTransferId, scheduledDate);
+        Outcome outcome;
+
+        try {
+            outcome = transactionTemplate.execute(status -> {
+                AutoTransfer autoTransfer = autoTransferRepository.findById(autoTransferId)
+                        .orElseThrow(() -> new RuntimeException("자동이체를 찾을 수 없습니다: " + autoTransferId));
+
+                TransferRequestDto transferRequest = TransferRequestDto.builder()
+                        .fromAccountId(autoTransfer.getFromAccountId())
+                        .toAccountId(autoTransfer.getToAccountId())
+                        .amount(autoTransfer.getAmount())
+                        .description(autoTransfer.getTransferName() + " 자동이체")
+                        .memo(autoTransfer.getDescription())
+                        .referenceNumber(idempotencyKey)
+                        .build();
+
+                TransactionResponseDto response = transactionService.transfer(transferRequest);
+
+                if (!response.isSuccess()) {
+                    status.setRollbackOnly();
+                    return Outcome.failed(response.getFailureReason() != null
+                            ? response.getFailureReason() : response.getMessage());
+                }
+
+                // 성공 기록과 이체를 함께 커밋 - 다른 워커가 회차를 가져간 경우 이체도 되돌린다
+                int recorded = executionRepository.complete(idempotencyKey, workerId,
+                        AutoTransferExecution.ExecutionStatus.SUCCEEDED, response.getTransactionNumber(),
+                        null, LocalDateTime.now());
+                if (recorded == 0) {
+                    status.setRollbackOnly();
+                    return Outcome.LEASE_LOST;
+                }
+
+                autoTransfer.executeTransfer();
+                autoTransferRepository.save(autoTransfer);
+
+                log.info("자동이체 실행 성공 - 자동이체 ID: {}, 거래번호: {}", autoTransferId, response.getTransactionNumber());
+                return Outcome.SUCCEEDED;
+            });
+        } catch (Exception e) {
+            outcome = Outcome.failed(e.getMessage());
+        }
+
+        if (outcome == null) {
+            outcome = Outcome.failed("트랜잭션 결과 없음");
+        }
+
+        if (outcome.type() == OutcomeType.SUCCEEDED) {
+            counters.succeeded.incrementAndGet();
+        } else if (outcome.type() == OutcomeType.LEASE_LOST) {
+            counters.leaseLost.incrementAndGet();
+            log.warn("자동이체 선점 임대 만료로 실행 취소 - 자동이체 ID: {}, 멱등 키: {}", autoTransferId, idempotencyKey);
+        } else {
+            recordFailure(autoTransferId, idempotencyKey, workerId, outcome.reason(), counters);
+        }
+    }
+
+    private void recordFailure(Long autoTransferId, String idempotencyKey, String workerId,
+                               String reason, RunCounters counters) {
+        log.warn("자동이체 실행 실패 - 자동이체 ID: {}, 사유: {}", autoTransferId, reason);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int recorded = executionRepository.complete(idempotencyKey, workerId,
+                        AutoTransferExecution.ExecutionStatus.FAILED, null, truncate(reason), LocalDateTime.now());
+                if (recorded == 0) {
+                    counters.leaseLost.incrementAndGet();
+                    return;
+                }
+
+                autoTransferRepository.findById(autoTransferId).ifPresent(autoTransfer -> {
+                    autoTransfer.failTransfer();
+                    autoTransferRepository.save(autoTransfer);
+                });
+                counters.failed.incrementAndGet();
+            });
+        } catch (Exception e) {
+            log.error("자동이체 실패 기록 중 오류 - 자동이체 ID: {}, 오류: {}", autoTransferId, e.getMessage());
+        }
+    }
+
+    private static String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_FAILURE_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+
+    private ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "auto-transfer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public record RunResult(LocalDate scheduledDate, int claimed, int succeeded, int failed,
+                            int leaseLost, long elapsedMillis) {}
+
+    private enum OutcomeType { SUCCEEDED, FAILED, LEASE_LOST }
+
+    private record Outcome(OutcomeType type, String reason) {
+        static final Outcome SUCCEEDED = new Outcome(OutcomeType.SUCCEEDED, null);
+        static final Outcome LEASE_LOST = new Outcome(OutcomeType.LEASE_LOST, null);
+
+        static Outcome failed(String reason) {
+            return new Outcome(OutcomeType.FAILED, reason);
+        }
+    }
+
+    private static class RunCounters {
+        private final AtomicInteger claimed = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger leaseLost = new AtomicInteger();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -32,7 +33,7 @@ public class AutoTransferService {
     private final AutoTransferRepository autoTransferRepository;
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
-    private final TransactionService transactionService;
+    private final AutoTransferExecutionService autoTransferExecutionService;
 
     public AutoTransferResponseDto createAutoTransfer(AutoTransferRequestDto request) {
         log.info("자동이체 생성 요청 - 출금 계좌 ID: {}, 입금 계좌 ID: {}, 자동이체명: {}", 
@@ -215,77 +216,35 @@ public class AutoTransferService {
     }
 
     @Scheduled(cron = "0 0 9 * * ?")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void executeAutoTransfers() {
         log.info("자동이체 실행 스케줄러 시작");
 
-        LocalDate today = LocalDate.now();
-        List<AutoTransfer> executableTransfers = autoTransferRepository.findExecutableAutoTransfers(today);
-
-        log.info("실행 가능한 자동이체 수: {}", executableTransfers.size());
-
-        for (AutoTransfer autoTransfer : executableTransfers) {
-            try {
-                executeSingleAutoTransfer(autoTransfer);
-            } catch (Exception e) {
-                log.error("자동이체 실행 실패 - 자동이체 ID: {}, 오류: {}", 
-                        autoTransfer.getAutoTransferId(), e.getMessage());
-                autoTransfer.failTransfer();
-                autoTransferRepository.save(autoTransfer);
-            }
-        }
+        autoTransferExecutionService.executeDueTransfers(LocalDate.now());
 
         log.info("자동이체 실행 스케줄러 완료");
     }
 
-    private void executeSingleAutoTransfer(AutoTransfer autoTransfer) {
-        log.info("자동이체 실행 - 자동이체 ID: {}, 금액: {}", 
-                autoTransfer.getAutoTransferId(), autoTransfer.getAmount());
-
-        try {
-            TransferRequestDto transferRequest = TransferRequestDto.builder()
-                    .fromAccountId(autoTransfer.getFromAccountId())
-                    .toAccountId(autoTransfer.getToAccountId())
-                    .amount(autoTransfer.getAmount())
-                    .description(autoTransfer.getTransferName() + " 자동이체")
-                    .memo(autoTransfer.getDescription())
-                    .build();
-
-            TransactionResponseDto response = transactionService.transfer(transferRequest);
-
-            if (response.isSuccess()) {
-                autoTransfer.executeTransfer();
-                log.info("자동이체 실행 성공 - 자동이체 ID: {}, 거래번호: {}", 
-                        autoTransfer.getAutoTransferId(), response.getTransactionNumber());
-            } else {
-                autoTransfer.failTransfer();
-                log.warn("자동이체 실행 실패 - 자동이체 ID: {}, 사유: {}", 
-                        autoTransfer.getAutoTransferId(), response.getFailureReason());
-            }
-
-            autoTransferRepository.save(autoTransfer);
-
-        } catch (Exception e) {
-            log.error("자동이체 실행 중 오류 - 자동이체 ID: {}, 오류: {}", 
-                    autoTransfer.getAutoTransferId(), e.getMessage());
-            autoTransfer.failTransfer();
-            autoTransferRepository.save(autoTransfer);
+    /**
+     * 중단된 실행 이어서 처리 - 완료된 회차는 멱등 키로 건너뛰고, 임대가 만료된 회차만 다시 실행한다
+     */
+    @Scheduled(cron = "0 30 9-17 * * ?")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resumeAutoTransfers() {
+        if (autoTransferExecutionService.isRunning()) {
+            return;
         }
+        autoTransferExecutionService.executeDueTransfers(LocalDate.now());
     }
 
     @Scheduled(cron = "0 0 1 * * ?")
     public void cleanupExpiredAutoTransfers() {
         log.info("만료된 자동이체 정리 스케줄러 시작");
 
-        LocalDate today = LocalDate.now();
-        List<AutoTransfer> expiredTransfers = autoTransferRepository.findExpiredAutoTransfers(today);
-
-        log.info("만료된 자동이체 수: {}", expiredTransfers.size());
-
-        for (AutoTransfer autoTransfer : expiredTransfers) {
-            autoTransfer.setTransferStatus(AutoTransfer.TransferStatus.COMPLETED);
-            autoTransferRepository.save(autoTransfer);
-        }
+        int completed = autoTransferRepository.completeExpiredAutoTransfers(
+                LocalDate.now(), LocalDateTime.now(),
+                AutoTransfer.TransferStatus.ACTIVE, AutoTransfer.TransferStatus.COMPLETED);
 
-        log.info("만료된 자동이체 정리 스케줄러 완료");
+        log.info("만료된 자동이체 정리 스케줄러 완료 - 완료 처리: {}건", completed);
     }
-}
\ No newline at end of file
+}
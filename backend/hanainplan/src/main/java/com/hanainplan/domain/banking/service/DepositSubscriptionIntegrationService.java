@@ -13,6 +13,7 @@ import com.hanainplan.domain.banking.repository.TransactionRepository;
 import com.hanainplan.domain.banking.util.InterestRateCalculator;
 import com.hanainplan.domain.user.entity.User;
 import com.hanainplan.domain.user.repository.UserRepository;
+import com.hanainplan.domain.portfolio.service.IrpPortfolioSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -37,6 +38,7 @@ public class DepositSubscriptionIntegrationService {
     private final IrpAccountRepository irpAccountRepository;
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final IrpPortfolioSnapshotCache irpPortfolioSnapshotCache;
 
     @Transactional
     public Map<String, Object> subscribeDeposit(DepositSubscriptionRequest request) {
@@ -73,6 +75,7 @@ public class DepositSubscriptionIntegrationService {
         BigDecimal newIrpBalance = irpAccount.getCurrentBalance().subtract(request.getSubscriptionAmount());
         irpAccount.setCurrentBalance(newIrpBalance);
         irpAccountRepository.save(irpAccount);
+        irpPortfolioSnapshotCache.invalidate(irpAccount.getCustomerId());
 
         log.info("하나인플랜 IRP 계좌 잔액 차감 완료 (tb_irp_account) - 계좌: {}, 차감액: {}원, 남은 잔액: {}원", 
                 request.getIrpAccountNumber(), request.getSubscriptionAmount(), newIrpBalance);
@@ -12,6 +12,7 @@ import com.hanainplan.domain.banking.repository.DepositSubscriptionRepository;
 import com.hanainplan.domain.banking.repository.TransactionRepository;
 import com.hanainplan.domain.user.entity.User;
 import com.hanainplan.domain.user.repository.UserRepository;
+import com.hanainplan.domain.portfolio.service.IrpPortfolioSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -37,6 +38,7 @@ public class DepositSubscriptionService {
     private final DepositSubscriptionRepository depositSubscriptionRepository;
     private final com.hanainplan.domain.banking.repository.IrpAccountRepository irpAccountRepository;
     private final TaxCalculationService taxCalculationService;
+    private final IrpPortfolioSnapshotCache irpPortfolioSnapshotCache;
 
     public DepositSubscriptionResponseDto subscribeDeposit(DepositSubscriptionRequestDto request) throws Exception {
         log.info("정기예금 가입 요청 - 사용자 ID: {}, 추천 은행: {}, IRP 계좌: {}", 
@@ -78,6 +80,7 @@ public class DepositSubscriptionService {
                 BigDecimal newIrpBalance = irpAccountEntity.getCurrentBalance().subtract(request.getSubscriptionAmount());
                 irpAccountEntity.setCurrentBalance(newIrpBalance);
                 irpAccountRepository.save(irpAccountEntity);
+                irpPortfolioSnapshotCache.invalidate(irpAccountEntity.getCustomerId());
 
                 log.info("하나인플랜 IrpAccount(tb_irp_account) 출금 완료 - 계좌: {}, 출금액: {}원, 남은 잔액: {}원", 
                         request.getIrpAccountNumber(), request.getSubscriptionAmount(), newIrpBalance);
@@ -299,6 +302,7 @@ public class DepositSubscriptionService {
                     .build();
 
             depositPortfolioRepository.save(portfolio);
+            irpPortfolioSnapshotCache.invalidate(user.getUserId());
 
             log.info("[하나인플랜] 정기예금 포트폴리오 저장 완료 - 사용자ID: {}, 상품코드: {}, 금액: {}원", 
                     user.getUserId(), request.getDepositCode(), request.getSubscriptionAmount());
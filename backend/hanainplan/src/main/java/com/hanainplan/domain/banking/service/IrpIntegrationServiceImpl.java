@@ -15,6 +15,7 @@ import com.hanainplan.domain.banking.repository.IrpAccountRepository;
 import com.hanainplan.domain.banking.repository.TransactionRepository;
 import com.hanainplan.domain.user.entity.User;
 import com.hanainplan.domain.user.repository.UserRepository;
+import com.hanainplan.domain.portfolio.service.IrpPortfolioSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +45,7 @@ public class IrpIntegrationServiceImpl implements IrpIntegrationService {
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final BankWithdrawalService bankWithdrawalService;
+    private final IrpPortfolioSnapshotCache irpPortfolioSnapshotCache;
 
     @Override
     public List<IrpAccountDto> getCustomerIrpAccounts(String customerCi) {
@@ -250,6 +252,7 @@ public class IrpIntegrationServiceImpl implements IrpIntegrationService {
                     .build();
 
             IrpAccount savedAccount = irpAccountRepository.save(account);
+            irpPortfolioSnapshotCache.invalidate(savedAccount.getCustomerId());
             log.info("하나인플랜 IRP 계좌 저장 완료 - 계좌번호: {}", realAccountNumber);
 
             BankingAccount irpBankingAccount = BankingAccount.builder()
@@ -1,7 +1,9 @@
 package com.hanainplan.domain.banking.service;
 
 import com.hanainplan.domain.banking.dto.IrpLimitStatus;
+import com.hanainplan.domain.banking.entity.IrpContributionLedger;
 import com.hanainplan.domain.banking.exception.IrpLimitExceededException;
+import com.hanainplan.domain.banking.repository.IrpContributionLedgerRepository;
 import com.hanainplan.domain.banking.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,10 +11,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+/**
+ * IRP 연간 납입 한도 관리.
+ * 연도별 납입 누계를 원장(tb_irp_contribution_ledger)에 유지하므로 한도 조회와 선점이 거래내역 크기와 무관하게 한 행만 읽고 쓴다.
+ * 원장이 없는 고객-연도는 처음 한 번만 거래내역 합계로 채운다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,46 +28,50 @@ public class IrpLimitService {
     private static final BigDecimal ANNUAL_LIMIT = new BigDecimal("9000000");
     
     private final TransactionRepository transactionRepository;
+    private final IrpContributionLedgerRepository ledgerRepository;
 
     public void checkAnnualLimit(String customerCi, BigDecimal depositAmount) {
-        int currentYear = LocalDate.now().getYear();
-        LocalDateTime startDate = LocalDateTime.of(currentYear, 1, 1, 0, 0, 0);
-        LocalDateTime endDate = LocalDateTime.of(currentYear + 1, 1, 1, 0, 0, 0);
-        
-        BigDecimal yearlyTotal = transactionRepository
-                .sumIrpDepositsByCustomerCiAndYear(customerCi, startDate, endDate)
-                .orElse(BigDecimal.ZERO);
+        BigDecimal yearlyTotal = currentTotal(customerCi, LocalDate.now().getYear());
         
         BigDecimal newTotal = yearlyTotal.add(depositAmount);
         
         if (newTotal.compareTo(ANNUAL_LIMIT) > 0) {
-            BigDecimal remaining = ANNUAL_LIMIT.subtract(yearlyTotal);
-            
-            log.warn("IRP 연간 납입 한도 초과 - customerCi: {}, 현재 납입액: {}, 요청 금액: {}, 잔여 한도: {}",
-                    customerCi, yearlyTotal, depositAmount, remaining);
-            
-            throw new IrpLimitExceededException(
-                    String.format("IRP 연간 납입 한도 초과. 잔여 한도: %,d원", remaining.intValue()),
-                    customerCi,
-                    depositAmount,
-                    remaining
-            );
+            throw limitExceeded(customerCi, yearlyTotal, depositAmount);
         }
         
         log.info("IRP 한도 체크 통과 - customerCi: {}, 현재: {}, 요청: {}, 새 합계: {}",
                 customerCi, yearlyTotal, depositAmount, newTotal);
     }
 
+    /**
+     * 한도 안이면 납입 금액만큼 올해 누계를 원자적으로 늘린다. 호출한 트랜잭션이 롤백되면 선점도 함께 취소되며,
+     * 롤백 없이 실패로 끝나는 경우에는 releaseAnnualLimit으로 되돌려야 한다.
+     */
+    @Transactional
+    public void reserveAnnualLimit(String customerCi, BigDecimal depositAmount) {
+        int year = LocalDate.now().getYear();
+        LocalDateTime now = LocalDateTime.now();
+
+        if (ledgerRepository.reserve(customerCi, year, depositAmount, ANNUAL_LIMIT, now) == 0) {
+            // 원장이 없으면 거래내역으로 채운 뒤 한 번 더 시도 (동시에 다른 요청이 채웠어도 다시 시도)
+            ledgerRepository.insertIfAbsent(customerCi, year, sumDeposits(customerCi, year), now);
+            if (ledgerRepository.reserve(customerCi, year, depositAmount, ANNUAL_LIMIT, now) == 0) {
+                throw limitExceeded(customerCi, currentTotal(customerCi, year), depositAmount);
+            }
+        }
+
+        log.info("IRP 한도 선점 완료 - customerCi: {}, 금액: {}원", customerCi, depositAmount);
+    }
+
+    @Transactional
+    public void releaseAnnualLimit(String customerCi, BigDecimal depositAmount) {
+        ledgerRepository.release(customerCi, LocalDate.now().getYear(), depositAmount, LocalDateTime.now());
+        log.info("IRP 한도 선점 취소 - customerCi: {}, 금액: {}원", customerCi, depositAmount);
+    }
+
     public IrpLimitStatus getAnnualLimitStatus(String customerCi) {
         int currentYear = LocalDate.now().getYear();
-        LocalDateTime startDate = LocalDateTime.of(currentYear, 1, 1, 0, 0, 0);
-        LocalDateTime endDate = LocalDateTime.of(currentYear + 1, 1, 1, 0, 0, 0);
-        
-        BigDecimal yearlyTotal = transactionRepository
-                .sumIrpDepositsByCustomerCiAndYear(customerCi, startDate, endDate)
-                .orElse(BigDecimal.ZERO);
-        
-        return IrpLimitStatus.of(currentYear, yearlyTotal, ANNUAL_LIMIT);
+        return IrpLimitStatus.of(currentYear, currentTotal(customerCi, currentYear), ANNUAL_LIMIT);
     }
 
     public BigDecimal getAnnualLimit() {
@@ -72,5 +82,33 @@ public class IrpLimitService {
         IrpLimitStatus status = getAnnualLimitStatus(customerCi);
         return status.getRemaining();
     }
-}
 
+    private BigDecimal currentTotal(String customerCi, int year) {
+        return ledgerRepository.findByCustomerCiAndContributionYear(customerCi, year)
+                .map(IrpContributionLedger::getTotalContributed)
+                .orElseGet(() -> sumDeposits(customerCi, year));
+    }
+
+    private BigDecimal sumDeposits(String customerCi, int year) {
+        LocalDateTime startDate = LocalDateTime.of(year, 1, 1, 0, 0, 0);
+        LocalDateTime endDate = LocalDateTime.of(year + 1, 1, 1, 0, 0, 0);
+
+        return transactionRepository
+                .sumIrpDepositsByCustomerCiAndYear(customerCi, startDate, endDate)
+                .orElse(BigDecimal.ZERO);
+    }
+
+    private IrpLimitExceededException limitExceeded(String customerCi, BigDecimal yearlyTotal, BigDecimal depositAmount) {
+        BigDecimal remaining = ANNUAL_LIMIT.subtract(yearlyTotal);
+
+        log.warn("IRP 연간 납입 한도 초과 - customerCi: {}, 현재 납입액: {}, 요청 금액: {}, 잔여 한도: {}",
+                customerCi, yearlyTotal, depositAmount, remaining);
+
+        return new IrpLimitExceededException(
+                String.format("IRP 연간 납입 한도 초과. 잔여 한도: %,d원", remaining.intValue()),
+                customerCi,
+                depositAmount,
+                remaining
+        );
+    }
+}
@@ -9,6 +9,7 @@ import com.hanainplan.domain.banking.entity.Transaction;
 import com.hanainplan.domain.banking.repository.AccountRepository;
 import com.hanainplan.domain.banking.repository.IrpAccountRepository;
 import com.hanainplan.domain.banking.repository.TransactionRepository;
+import com.hanainplan.domain.portfolio.service.IrpPortfolioSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -30,12 +31,15 @@ public class IrpTransferService {
     private final BankWithdrawalService withdrawalService;
     private final BankDepositService depositService;
     private final IrpLimitService irpLimitService;
+    private final IrpPortfolioSnapshotCache irpPortfolioSnapshotCache;
 
     @Transactional
     public TransactionResponseDto transferToIrp(TransferToIrpRequestDto request) {
         log.info("IRP 계좌 송금 처리 시작 - 출금계좌ID: {}, IRP계좌번호: {}, 금액: {}원",
                 request.getFromAccountId(), request.getToIrpAccountNumber(), request.getAmount());
 
+        String reservedCi = null;
+
         try {
             BankingAccount fromAccount = accountRepository.findById(request.getFromAccountId())
                     .orElseThrow(() -> new RuntimeException("출금 계좌를 찾을 수 없습니다: " + request.getFromAccountId()));
@@ -71,7 +75,8 @@ public class IrpTransferService {
             String customerCi = fromAccount.getCustomerCi();
             if (customerCi != null) {
                 try {
-                    irpLimitService.checkAnnualLimit(customerCi, request.getAmount());
+                    irpLimitService.reserveAnnualLimit(customerCi, request.getAmount());
+                    reservedCi = customerCi;
                     log.info("IRP 연간 한도 체크 통과 - customerCi: {}, 금액: {}원", customerCi, request.getAmount());
                 } catch (com.hanainplan.domain.banking.exception.IrpLimitExceededException e) {
                     log.warn("IRP 연간 한도 초과 - {}", e.getMessage());
@@ -87,6 +92,7 @@ public class IrpTransferService {
                     );
 
             if (!withdrawalResult.isSuccess()) {
+                releaseAnnualLimit(reservedCi, request.getAmount());
                 return TransactionResponseDto.failure("출금 처리 실패", withdrawalResult.getMessage());
             }
 
@@ -103,6 +109,7 @@ public class IrpTransferService {
 
             if (!depositResult.isSuccess()) {
                 log.error("IRP 입금 처리 실패 - 출금은 완료됨, 수동 조정 필요");
+                releaseAnnualLimit(reservedCi, request.getAmount());
                 return TransactionResponseDto.failure("IRP 입금 처리 실패 (출금은 완료됨)", depositResult.getMessage());
             }
 
@@ -129,6 +136,7 @@ public class IrpTransferService {
                         irpAccount.setLastContributionDate(LocalDate.now());
                         irpAccount.setExternalLastUpdated(LocalDateTime.now());
                         irpAccountRepository.save(irpAccount);
+                        irpPortfolioSnapshotCache.invalidate(irpAccount.getCustomerId());
 
                         log.info("HANAinPLAN IrpAccount 업데이트 완료 - 계좌번호: {}, 새 잔액: {}원, 총 납입: {}원", 
                                 request.getToIrpAccountNumber(), newBalance, newTotalContribution);
@@ -205,8 +213,16 @@ public class IrpTransferService {
 
         } catch (Exception e) {
             log.error("IRP 계좌 송금 실패 - 출금계좌ID: {}, 오류: {}", request.getFromAccountId(), e.getMessage());
+            releaseAnnualLimit(reservedCi, request.getAmount());
             return TransactionResponseDto.failure("IRP 계좌 송금 중 오류가 발생했습니다", e.getMessage());
         }
     }
 
+    // 실패 응답은 트랜잭션을 롤백하지 않으므로 선점한 한도를 직접 되돌린다
+    private void releaseAnnualLimit(String reservedCi, BigDecimal amount) {
+        if (reservedCi != null) {
+            irpLimitService.releaseAnnualLimit(reservedCi, amount);
+        }
+    }
+
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.hanainplan.domain.banking.dto.*;
 import com.hanainplan.domain.banking.entity.BankingAccount;
 import com.hanainplan.domain.banking.entity.Transaction;
 import com.hanainplan.domain.banking.repository.AccountRepository;
+import com.hanainplan.domain.banking.repository.TransactionBulkRepository;
 import com.hanainplan.domain.banking.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,11 +14,20 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,7 +36,11 @@ import java.util.stream.Collectors;
 @Transactional
 public class TransactionService {
 
+    private static final int MAX_BATCH_TRANSFERS = 1000;
+    private static final int BATCH_INSERT_SIZE = 500;
+
     private final TransactionRepository transactionRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
     private final AccountRepository accountRepository;
     private final AccountService accountService;
     private final BankWithdrawalService bankWithdrawalService;
@@ -154,6 +168,10 @@ public class TransactionService {
                 request.getFromAccountId(), request.getToAccountId(), request.getAmount());
 
         try {
+            if (request.getFromAccountId().equals(request.getToAccountId())) {
+                return TransactionResponseDto.failure("동일 계좌로는 이체할 수 없습니다", "계좌 ID: " + request.getFromAccountId());
+            }
+
             BankingAccount fromAccount = accountRepository.findById(request.getFromAccountId())
                     .orElseThrow(() -> new RuntimeException("출금 계좌를 찾을 수 없습니다: " + request.getFromAccountId()));
 
@@ -170,11 +188,26 @@ public class TransactionService {
                         "계좌 상태: " + toAccount.getAccountStatus().getDescription());
             }
 
+            // 락 없이 읽은 잔액으로 먼저 걸러내고, 실제 판정은 조건부 UPDATE로 한다
             if (!fromAccount.hasSufficientBalance(request.getAmount())) {
                 return TransactionResponseDto.failure("잔액이 부족합니다", 
                         "현재 잔액: " + fromAccount.getBalance() + ", 요청 금액: " + request.getAmount());
             }
 
+            Map<Long, BigDecimal> deltas = new HashMap<>();
+            deltas.put(request.getFromAccountId(), request.getAmount().negate());
+            deltas.put(request.getToAccountId(), request.getAmount());
+
+            Long rejectedAccountId = applyBalanceDeltas(deltas, LocalDateTime.now());
+            if (rejectedAccountId != null) {
+                markRollbackOnly();
+                return TransactionResponseDto.failure("잔액이 부족합니다", 
+                        "요청 금액: " + request.getAmount() + " (동시 거래로 잔액이 변경되었습니다)");
+            }
+
+            Map<Long, BigDecimal> balances = findBalances(deltas.keySet());
+            BigDecimal fromBalance = balances.get(request.getFromAccountId());
+
             Transaction transaction = createTransaction(
                     request.getFromAccountId(),
                     request.getToAccountId(),
@@ -185,37 +218,186 @@ public class TransactionService {
                     request.getMemo(),
                     request.getReferenceNumber()
             );
-
-            fromAccount.updateBalance(request.getAmount().negate());
-            toAccount.updateBalance(request.getAmount());
-
-            accountRepository.save(fromAccount);
-            accountRepository.save(toAccount);
+            transaction.setFromAccountNumber(fromAccount.getAccountNumber());
+            transaction.setToAccountNumber(toAccount.getAccountNumber());
 
             transaction.complete();
-            transaction.setBalanceAfter(fromAccount.getBalance());
+            transaction.setBalanceAfter(fromBalance);
             Transaction savedTransaction = transactionRepository.save(transaction);
 
             log.info("이체 처리 완료 - 거래 ID: {}, 거래번호: {}, 출금 계좌 잔액: {}, 입금 계좌 잔액: {}", 
                     savedTransaction.getTransactionId(), savedTransaction.getTransactionNumber(), 
-                    fromAccount.getBalance(), toAccount.getBalance());
+                    fromBalance, balances.get(request.getToAccountId()));
 
             return TransactionResponseDto.success(
                     "이체가 완료되었습니다",
                     savedTransaction.getTransactionNumber(),
                     request.getAmount(),
-                    fromAccount.getBalance(),
+                    fromBalance,
                     BigDecimal.ZERO,
                     savedTransaction.getTransactionStatus().getDescription()
             );
 
         } catch (Exception e) {
+            markRollbackOnly();
             log.error("이체 처리 실패 - 출금 계좌 ID: {}, 입금 계좌 ID: {}, 금액: {}, 오류: {}", 
                     request.getFromAccountId(), request.getToAccountId(), request.getAmount(), e.getMessage());
             return TransactionResponseDto.failure("이체 처리 중 오류가 발생했습니다", e.getMessage());
         }
     }
 
+    /**
+     * 일괄 이체 - 여러 건을 하나의 트랜잭션으로 처리하며, 한 건이라도 실패하면 전체를 되돌린다.
+     * 계좌별 증감액을 합산해 계좌당 한 번만 갱신하고, 요청 순서대로 잔액을 재계산해 중간 잔액 부족도 검사한다.
+     */
+    public TransferBatchResponseDto transferBatch(List<TransferRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return TransferBatchResponseDto.failure("이체 요청이 없습니다", "요청 건수: 0");
+        }
+        if (requests.size() > MAX_BATCH_TRANSFERS) {
+            return TransferBatchResponseDto.failure("일괄 이체 건수를 초과했습니다", 
+                    "요청 건수: " + requests.size() + ", 최대: " + MAX_BATCH_TRANSFERS);
+        }
+
+        log.info("일괄 이체 처리 요청 - {}건", requests.size());
+
+        try {
+            Set<Long> accountIds = new HashSet<>();
+            for (TransferRequestDto request : requests) {
+                if (request.getFromAccountId().equals(request.getToAccountId())) {
+                    return TransferBatchResponseDto.failure("동일 계좌로는 이체할 수 없습니다", "계좌 ID: " + request.getFromAccountId());
+                }
+                accountIds.add(request.getFromAccountId());
+                accountIds.add(request.getToAccountId());
+            }
+
+            Map<Long, BankingAccount> accounts = accountRepository.findAllById(accountIds).stream()
+                    .collect(Collectors.toMap(BankingAccount::getAccountId, Function.identity()));
+
+            Map<Long, BigDecimal> deltas = new HashMap<>();
+            BigDecimal totalAmount = BigDecimal.ZERO;
+            for (Long accountId : accountIds) {
+                BankingAccount account = accounts.get(accountId);
+                if (account == null) {
+                    return TransferBatchResponseDto.failure("계좌를 찾을 수 없습니다", "계좌 ID: " + accountId);
+                }
+                if (account.getAccountStatus() != BankingAccount.AccountStatus.ACTIVE) {
+                    return TransferBatchResponseDto.failure("비활성 계좌가 포함되어 있습니다", 
+                            "계좌번호: " + account.getAccountNumber() + ", 상태: " + account.getAccountStatus().getDescription());
+                }
+            }
+            for (TransferRequestDto request : requests) {
+                deltas.merge(request.getFromAccountId(), request.getAmount().negate(), BigDecimal::add);
+                deltas.merge(request.getToAccountId(), request.getAmount(), BigDecimal::add);
+                totalAmount = totalAmount.add(request.getAmount());
+            }
+
+            Long rejectedAccountId = applyBalanceDeltas(deltas, LocalDateTime.now());
+            if (rejectedAccountId != null) {
+                markRollbackOnly();
+                return TransferBatchResponseDto.failure("잔액이 부족합니다", 
+                        "계좌번호: " + accounts.get(rejectedAccountId).getAccountNumber());
+            }
+
+            // 갱신 후 잔액에서 합산 증감액을 빼 시작 잔액을 구한 뒤 요청 순서대로 재생
+            Map<Long, BigDecimal> running = findBalances(accountIds);
+            deltas.forEach((accountId, delta) -> running.merge(accountId, delta.negate(), BigDecimal::add));
+
+            List<Transaction> transactions = new ArrayList<>(requests.size());
+            List<TransactionResponseDto> results = new ArrayList<>(requests.size());
+
+            for (int i = 0; i < requests.size(); i++) {
+                TransferRequestDto request = requests.get(i);
+                BigDecimal fromBalance = running.merge(request.getFromAccountId(), request.getAmount().negate(), BigDecimal::add);
+                running.merge(request.getToAccountId(), request.getAmount(), BigDecimal::add);
+
+                if (fromBalance.signum() < 0) {
+                    markRollbackOnly();
+                    return TransferBatchResponseDto.failure("잔액이 부족합니다", 
+                            (i + 1) + "번째 이체 처리 시 출금 계좌 잔액 부족 - 계좌번호: "
+                                    + accounts.get(request.getFromAccountId()).getAccountNumber());
+                }
+
+                Transaction transaction = createTransaction(
+                        request.getFromAccountId(),
+                        request.getToAccountId(),
+                        Transaction.TransactionType.TRANSFER,
+                        Transaction.TransactionCategory.OTHER,
+                        request.getAmount(),
+                        request.getDescription(),
+                        request.getMemo(),
+                        request.getReferenceNumber()
+                );
+                transaction.setFromAccountNumber(accounts.get(request.getFromAccountId()).getAccountNumber());
+                transaction.setToAccountNumber(accounts.get(request.getToAccountId()).getAccountNumber());
+                transaction.complete();
+                transaction.setBalanceAfter(fromBalance);
+                transactions.add(transaction);
+
+                results.add(TransactionResponseDto.success(
+                        "이체가 완료되었습니다",
+                        transaction.getTransactionNumber(),
+                        request.getAmount(),
+                        fromBalance,
+                        BigDecimal.ZERO,
+                        transaction.getTransactionStatus().getDescription()
+                ));
+            }
+
+            int inserted = transactionBulkRepository.insertAll(transactions, BATCH_INSERT_SIZE);
+            if (inserted != transactions.size()) {
+                markRollbackOnly();
+                log.error("일괄 이체 거래내역 저장 건수 불일치 - 요청: {}건, 저장: {}건", transactions.size(), inserted);
+                return TransferBatchResponseDto.failure("일괄 이체 처리 중 오류가 발생했습니다",
+                        "거래내역 저장 건수 불일치 - 요청: " + transactions.size() + "건, 저장: " + inserted + "건");
+            }
+
+            log.info("일괄 이체 처리 완료 - {}건, 계좌 {}개, 총 금액: {}", requests.size(), accountIds.size(), totalAmount);
+
+            return TransferBatchResponseDto.success("일괄 이체가 완료되었습니다", totalAmount, results);
+
+        } catch (Exception e) {
+            markRollbackOnly();
+            log.error("일괄 이체 처리 실패 - {}건, 오류: {}", requests.size(), e.getMessage());
+            return TransferBatchResponseDto.failure("일괄 이체 처리 중 오류가 발생했습니다", e.getMessage());
+        }
+    }
+
+    /**
+     * 계좌별 증감액을 조건부 UPDATE로 반영. 실패한 계좌 ID를 반환하고, 모두 성공하면 null.
+     * 계좌 ID 오름차순으로 갱신해 행 잠금 획득 순서를 고정한다 (동시 이체 간 교착 방지).
+     */
+    private Long applyBalanceDeltas(Map<Long, BigDecimal> deltas, LocalDateTime now) {
+        for (Map.Entry<Long, BigDecimal> entry : new TreeMap<>(deltas).entrySet()) {
+            BigDecimal delta = entry.getValue();
+            int updated;
+            if (delta.signum() < 0) {
+                updated = accountRepository.debitIfSufficient(entry.getKey(), delta.negate(), now);
+            } else if (delta.signum() > 0) {
+                updated = accountRepository.credit(entry.getKey(), delta, now);
+            } else {
+                continue;
+            }
+
+            if (updated == 0) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private Map<Long, BigDecimal> findBalances(Collection<Long> accountIds) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (Object[] row : accountRepository.findBalancesByAccountIds(accountIds)) {
+            balances.put(((Number) row[0]).longValue(), (BigDecimal) row[1]);
+        }
+        return balances;
+    }
+
+    private void markRollbackOnly() {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+    }
+
     @Transactional(readOnly = true)
     public Page<TransactionDto> getTransactionHistory(TransactionHistoryRequestDto request) {
         log.info("거래 내역 조회 - 계좌 ID: {}, 계좌번호: {}, 페이지: {}, 크기: {}",
@@ -1,30 +1,87 @@
 package com.hanainplan.domain.banking.service;
 
-import com.hanainplan.domain.banking.client.HanaBankClient;
+import com.hanainplan.domain.banking.adapter.BankAdapter;
+import com.hanainplan.domain.banking.adapter.BankAdapterRegistry;
+import com.hanainplan.domain.banking.client.BankTransactionDto;
 import com.hanainplan.domain.banking.entity.BankingAccount;
 import com.hanainplan.domain.banking.entity.Transaction;
+import com.hanainplan.domain.banking.entity.TransactionSyncCursor;
 import com.hanainplan.domain.banking.repository.AccountRepository;
+import com.hanainplan.domain.banking.repository.TransactionBulkRepository;
 import com.hanainplan.domain.banking.repository.TransactionRepository;
-import lombok.RequiredArgsConstructor;
+import com.hanainplan.domain.banking.repository.TransactionSyncCursorRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class TransactionSyncService {
 
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
-    private final HanaBankClient hanaBankClient;
+    private final TransactionSyncCursorRepository transactionSyncCursorRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final BankAdapterRegistry bankAdapterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final LocalDateTime INITIAL_SYNC_SINCE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final int fetchSize;
+    private final ExecutorService syncExecutor;
+
+    public TransactionSyncService(TransactionRepository transactionRepository,
+                                  AccountRepository accountRepository,
+                                  TransactionSyncCursorRepository transactionSyncCursorRepository,
+                                  TransactionBulkRepository transactionBulkRepository,
+                                  BankAdapterRegistry bankAdapterRegistry,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${transaction.sync.fetch-size:500}") int fetchSize,
+                                  @Value("${transaction.sync.concurrency:8}") int concurrency) {
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.transactionSyncCursorRepository = transactionSyncCursorRepository;
+        this.transactionBulkRepository = transactionBulkRepository;
+        this.bankAdapterRegistry = bankAdapterRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.fetchSize = Math.max(1, fetchSize);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.syncExecutor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "transaction-sync-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
+    }
 
+    /**
+     * 은행 호출 허가를 먼저 받고 나서 트랜잭션을 연다. 허가 대기 중에는 DB 커넥션을 잡지 않는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int syncTransactionsByAccount(String accountNumber) {
         log.info("계좌 거래내역 동기화 시작: accountNumber={}", accountNumber);
 
@@ -35,123 +92,156 @@ public class TransactionSyncService {
                 return 0;
             }
 
-            BankingAccount account = accountOpt.get();
+            Optional<BankAdapter> adapterOpt = bankAdapterRegistry.findByAccountNumber(accountNumber);
+            if (adapterOpt.isEmpty()) {
+                log.warn("지원하지 않는 은행: bankCode={}", bankAdapterRegistry.resolveBankCode(accountNumber));
+                return 0;
+            }
 
-            String bankCode = getBankCodeFromAccountNumber(accountNumber);
+            Integer syncedCount = bankAdapterRegistry.execute(adapterOpt.get(),
+                    adapter -> transactionTemplate.execute(status -> syncWithAdapter(accountOpt.get(), adapter)));
+            return syncedCount != null ? syncedCount : 0;
 
-            List<HanaBankClient.BankTransactionDto> bankTransactions;
-            switch (bankCode) {
-                case "081":
-                    bankTransactions = hanaBankClient.getTransactionsByAccount(accountNumber);
-                    break;
-                default:
-                    log.warn("지원하지 않는 은행: bankCode={}", bankCode);
-                    return 0;
-            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("거래내역 동기화 중단: " + accountNumber);
+        } catch (Exception e) {
+            log.error("거래내역 동기화 실패: accountNumber={}, error={}", accountNumber, e.getMessage(), e);
+            throw new RuntimeException("거래내역 동기화 실패: " + e.getMessage());
+        }
+    }
+
+    private int syncWithAdapter(BankingAccount account, BankAdapter adapter) {
+        String accountNumber = account.getAccountNumber();
+
+        TransactionSyncCursor cursor = transactionSyncCursorRepository.findById(accountNumber)
+                .orElseGet(() -> createInitialCursor(account));
+        LocalDateTime since = cursor.getLastTransactionDatetime() != null
+                ? cursor.getLastTransactionDatetime()
+                : INITIAL_SYNC_SINCE;
+        log.info("거래내역 동기화 기준 시각: {} ({})", since, adapter.getBankName());
+
+        int syncedCount = 0;
+        int fetchCount = 0;
+
+        while (true) {
+            List<BankTransactionDto> bankTransactions = adapter.getTransactionsSince(accountNumber, since, fetchSize);
+            fetchCount++;
 
             if (bankTransactions == null || bankTransactions.isEmpty()) {
-                log.info("조회된 거래내역 없음");
-                return 0;
+                break;
             }
 
-            log.info("은행에서 조회된 거래내역 수: {}", bankTransactions.size());
+            syncedCount += insertNewTransactions(account, adapter, bankTransactions);
 
-            List<Transaction> existingTransactions = transactionRepository
-                    .findTop1ByAccountAccountNumberOrderByTransactionDateDesc(accountNumber);
+            BankTransactionDto lastTx = bankTransactions.get(bankTransactions.size() - 1);
+            cursor.advance(lastTx.getTransactionDatetime(), adapter.toTransactionNumber(lastTx.getTransactionNumber()));
 
-            LocalDateTime lastTransactionDate = null;
-            if (!existingTransactions.isEmpty()) {
-                lastTransactionDate = existingTransactions.get(0).getTransactionDate();
-                log.info("마지막 동기화된 거래 시각: {}", lastTransactionDate);
+            if (bankTransactions.size() < fetchSize
+                    || lastTx.getTransactionDatetime() == null
+                    || !lastTx.getTransactionDatetime().isAfter(since)) {
+                break;
             }
+            since = lastTx.getTransactionDatetime();
+        }
 
-            int syncedCount = 0;
-            LocalDateTime finalLastTransactionDate = lastTransactionDate;
-
-            for (HanaBankClient.BankTransactionDto bankTx : bankTransactions) {
-                if (finalLastTransactionDate == null || 
-                    bankTx.getTransactionDatetime().isAfter(finalLastTransactionDate)) {
-
-                    Long fromAccountId = null;
-                    Long toAccountId = null;
-
-                    if ("DEBIT".equals(bankTx.getTransactionDirection())) {
-                        fromAccountId = account.getAccountId();
-                    } else if ("CREDIT".equals(bankTx.getTransactionDirection())) {
-                        toAccountId = account.getAccountId();
-                    }
-
-                    Transaction transaction = Transaction.builder()
-                            .fromAccountId(fromAccountId)
-                            .toAccountId(toAccountId)
-                            .transactionNumber(bankTx.getTransactionNumber())
-                            .transactionType(convertTransactionType(bankTx.getTransactionType()))
-                            .transactionDirection(convertTransactionDirection(bankTx.getTransactionDirection()))
-                            .amount(bankTx.getAmount())
-                            .balanceAfter(bankTx.getBalanceAfter())
-                            .transactionDate(bankTx.getTransactionDatetime())
-                            .processedDate(bankTx.getProcessedDate())
-                            .transactionStatus(convertTransactionStatus(bankTx.getTransactionStatus()))
-                            .transactionCategory(convertTransactionCategory(bankTx.getTransactionCategory()))
-                            .description(bankTx.getDescription())
-                            .memo(bankTx.getMemo())
-                            .referenceNumber(bankTx.getReferenceNumber())
-                            .build();
-
-                    transactionRepository.save(transaction);
-                    syncedCount++;
-                }
+        cursor.setLastSyncedAt(LocalDateTime.now());
+        transactionSyncCursorRepository.save(cursor);
+
+        log.info("거래내역 동기화 완료: accountNumber={}, syncedCount={}, fetchCount={}", accountNumber, syncedCount, fetchCount);
+        return syncedCount;
+    }
+
+    private TransactionSyncCursor createInitialCursor(BankingAccount account) {
+        TransactionSyncCursor cursor = TransactionSyncCursor.builder()
+                .accountNumber(account.getAccountNumber())
+                .build();
+
+        List<Transaction> latest = transactionRepository
+                .findRecentTransactions(account.getAccountId(), PageRequest.of(0, 1));
+        if (!latest.isEmpty()) {
+            cursor.advance(latest.get(0).getTransactionDate(), latest.get(0).getTransactionNumber());
+        }
+        return cursor;
+    }
+
+    private int insertNewTransactions(BankingAccount account, BankAdapter adapter, List<BankTransactionDto> bankTransactions) {
+        // 거래번호는 은행별로 구분된 번호(adapter.toTransactionNumber)로 중복을 판단한다
+        Map<String, BankTransactionDto> candidates = new LinkedHashMap<>();
+        for (BankTransactionDto bankTx : bankTransactions) {
+            if (bankTx.getTransactionNumber() != null && bankTx.getTransactionDatetime() != null) {
+                candidates.putIfAbsent(adapter.toTransactionNumber(bankTx.getTransactionNumber()), bankTx);
             }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
 
-            log.info("거래내역 동기화 완료: accountNumber={}, syncedCount={}", accountNumber, syncedCount);
-            return syncedCount;
+        Set<String> existingNumbers = new HashSet<>(
+                transactionRepository.findExistingTransactionNumbers(candidates.keySet()));
 
-        } catch (Exception e) {
-            log.error("거래내역 동기화 실패: accountNumber={}, error={}", accountNumber, e.getMessage(), e);
-            throw new RuntimeException("거래내역 동기화 실패: " + e.getMessage());
+        List<Transaction> newTransactions = new ArrayList<>();
+        candidates.forEach((transactionNumber, bankTx) -> {
+            if (!existingNumbers.contains(transactionNumber)) {
+                newTransactions.add(toTransaction(account, transactionNumber, bankTx));
+            }
+        });
+
+        return transactionBulkRepository.insertAllIgnoringDuplicates(newTransactions, fetchSize);
+    }
+
+    private Transaction toTransaction(BankingAccount account, String transactionNumber, BankTransactionDto bankTx) {
+        Long fromAccountId = null;
+        Long toAccountId = null;
+
+        if ("DEBIT".equals(bankTx.getTransactionDirection())) {
+            fromAccountId = account.getAccountId();
+        } else if ("CREDIT".equals(bankTx.getTransactionDirection())) {
+            toAccountId = account.getAccountId();
         }
+
+        return Transaction.builder()
+                .fromAccountId(fromAccountId)
+                .toAccountId(toAccountId)
+                .transactionNumber(transactionNumber)
+                .transactionType(convertTransactionType(bankTx.getTransactionType()))
+                .transactionDirection(convertTransactionDirection(bankTx.getTransactionDirection()))
+                .amount(bankTx.getAmount())
+                .balanceAfter(bankTx.getBalanceAfter())
+                .transactionDate(bankTx.getTransactionDatetime())
+                .processedDate(bankTx.getProcessedDate())
+                .transactionStatus(convertTransactionStatus(bankTx.getTransactionStatus()))
+                .transactionCategory(convertTransactionCategory(bankTx.getTransactionCategory()))
+                .description(bankTx.getDescription())
+                .memo(bankTx.getMemo())
+                .referenceNumber(bankTx.getReferenceNumber())
+                .build();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int syncAllTransactionsByUser(Long userId) {
         log.info("사용자 전체 계좌 거래내역 동기화 시작: userId={}", userId);
 
         List<BankingAccount> accounts = accountRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        int totalSyncedCount = 0;
 
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(accounts.size());
         for (BankingAccount account : accounts) {
-            try {
-                int syncedCount = syncTransactionsByAccount(account.getAccountNumber());
-                totalSyncedCount += syncedCount;
-            } catch (Exception e) {
-                log.error("계좌 거래내역 동기화 실패: accountNumber={}, error={}", 
-                        account.getAccountNumber(), e.getMessage());
-            }
+            futures.add(CompletableFuture.supplyAsync(() -> syncTransactionsByAccount(account.getAccountNumber()), syncExecutor)
+                    .exceptionally(e -> {
+                        log.error("계좌 거래내역 동기화 실패: accountNumber={}, error={}",
+                                account.getAccountNumber(), e.getMessage());
+                        return 0;
+                    }));
         }
 
-        log.info("사용자 전체 계좌 거래내역 동기화 완료: userId={}, totalSyncedCount={}", userId, totalSyncedCount);
-        return totalSyncedCount;
-    }
-
-    private String getBankCodeFromAccountNumber(String accountNumber) {
-        if (accountNumber == null || accountNumber.length() < 3) {
-            return null;
+        int totalSyncedCount = 0;
+        for (CompletableFuture<Integer> future : futures) {
+            totalSyncedCount += future.join();
         }
 
-        String cleanAccountNumber = accountNumber.replace("-", "");
-        String prefix = cleanAccountNumber.substring(0, 3);
-
-        switch (prefix) {
-            case "081":
-            case "117":
-                return "HANA";
-            case "088":
-                return "SHINHAN";
-            case "004":
-                return "KOOKMIN";
-            default:
-                log.warn("알 수 없는 은행코드: prefix={}", prefix);
-                return null;
-        }
+        log.info("사용자 전체 계좌 거래내역 동기화 완료: userId={}, 계좌 수={}, totalSyncedCount={}",
+                userId, accounts.size(), totalSyncedCount);
+        return totalSyncedCount;
     }
 
     private Transaction.TransactionType convertTransactionType(String type) {
@@ -1,5 +1,7 @@
 package com.hanainplan.domain.common.controller;
 
+import com.hanainplan.config.http.HttpRouteStats;
+import com.hanainplan.config.http.HttpTransport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "헬스체크", description = "서버 상태 확인 API")
@@ -15,6 +18,12 @@ import java.util.Map;
 @RequestMapping("/api/health")
 public class HealthController {
 
+    private final HttpTransport httpTransport;
+
+    public HealthController(HttpTransport httpTransport) {
+        this.httpTransport = httpTransport;
+    }
+
     @Operation(summary = "서버 상태 확인", description = "서버가 정상적으로 동작하는지 확인합니다.")
     @GetMapping
     public ResponseEntity<Map<String, Object>> health() {
@@ -35,4 +44,10 @@ public class HealthController {
                 "timestamp", LocalDateTime.now()
         ));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "외부 HTTP 호출 현황", description = "은행/FastAPI 호스트별 사용 중 연결 수, 동시 호출 상한, 거절/타임아웃 건수를 확인합니다.")
+    @GetMapping("/http-transport")
+    public ResponseEntity<List<HttpRouteStats>> httpTransport() {
+        return ResponseEntity.ok(httpTransport.getStats());
+    }
+}
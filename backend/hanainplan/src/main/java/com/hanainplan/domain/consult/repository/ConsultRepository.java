@@ -1,12 +1,16 @@
 package com.hanainplan.domain.consult.repository;
 
 import com.hanainplan.domain.consult.entity.Consult;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -39,19 +43,30 @@ public interface ConsultRepository extends JpaRepository<Consult, String> {
     List<Consult> findByConsultantIdAndConsultStatusInOrderByReservationDatetimeAsc(
             String consultantId, List<String> statuses);
 
+    // 알림 미발송 확정 상담 (기동 시 / 주기적 타이밍 휠 적재용)
     @Query("SELECT c FROM Consult c WHERE c.consultStatus = '예약확정' " +
-           "AND c.notificationSent10min = false " +
+           "AND (c.notificationSent10min = false OR c.notificationSentOntime = false) " +
            "AND c.reservationDatetime BETWEEN :startTime AND :endTime")
-    List<Consult> findConsultationsFor10MinNotification(
+    List<Consult> findConsultationsPendingNotification(
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime
     );
 
-    @Query("SELECT c FROM Consult c WHERE c.consultStatus = '예약확정' " +
-           "AND c.notificationSentOntime = false " +
-           "AND c.reservationDatetime BETWEEN :startTime AND :endTime")
-    List<Consult> findConsultationsForOntimeNotification(
-            @Param("startTime") LocalDateTime startTime,
-            @Param("endTime") LocalDateTime endTime
-    );
-}
\ No newline at end of file
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Consult c WHERE c.consultId IN :consultIds " +
+           "AND c.consultStatus = '예약확정' AND c.notificationSent10min = false")
+    List<Consult> lockUnsent10MinNotifications(@Param("consultIds") Collection<String> consultIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Consult c WHERE c.consultId IN :consultIds " +
+           "AND c.consultStatus = '예약확정' AND c.notificationSentOntime = false")
+    List<Consult> lockUnsentOntimeNotifications(@Param("consultIds") Collection<String> consultIds);
+
+    @Modifying
+    @Query("UPDATE Consult c SET c.notificationSent10min = true WHERE c.consultId IN :consultIds")
+    int markNotification10minSent(@Param("consultIds") Collection<String> consultIds);
+
+    @Modifying
+    @Query("UPDATE Consult c SET c.notificationSentOntime = true WHERE c.consultId IN :consultIds")
+    int markNotificationOntimeSent(@Param("consultIds") Collection<String> consultIds);
+}
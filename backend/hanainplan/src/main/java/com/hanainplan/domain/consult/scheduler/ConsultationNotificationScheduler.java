@@ -7,102 +7,257 @@ import com.hanainplan.domain.notification.entity.NotificationType;
 import com.hanainplan.domain.notification.service.NotificationService;
 import com.hanainplan.domain.user.entity.User;
 import com.hanainplan.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상담 10분 전/정각 알림 스케줄러.
+ * 예약확정 상담을 계층형 타이밍 휠에 올려 두고 1초 tick으로 만료된 알림만 발송한다.
+ * ConsultService의 상태 변경 시 휠을 갱신하며, 기동 시와 주기적으로 DB에서 미발송 알림을 다시 적재해 늦게 처리된 알림도 누락되지 않는다.
+ * 발송은 상담 행을 잠그고 발송 플래그를 일괄 갱신하는 트랜잭션 안에서 이뤄지므로 노드가 여러 대여도 한 번만 발송된다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ConsultationNotificationScheduler {
 
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+
     private final ConsultRepository consultRepository;
     private final NotificationService notificationService;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration loadHorizon;
+    private final Duration ontimeGrace;
+
+    private final HierarchicalTimingWheel<ReminderKey> wheel =
+            new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "consult-reminder-1");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ConsultationNotificationScheduler(ConsultRepository consultRepository,
+                                             NotificationService notificationService,
+                                             UserRepository userRepository,
+                                             TransactionTemplate transactionTemplate,
+                                             @Value("${consult.reminder.load-horizon-hours:24}") long loadHorizonHours,
+                                             @Value("${consult.reminder.ontime-grace-minutes:10}") long ontimeGraceMinutes) {
+        this.consultRepository = consultRepository;
+        this.notificationService = notificationService;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.loadHorizon = Duration.ofHours(Math.max(1, loadHorizonHours));
+        this.ontimeGrace = Duration.ofMinutes(Math.max(0, ontimeGraceMinutes));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loadPendingNotifications();
+        ticker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
 
-    @Scheduled(cron = "0 * * * * *")
-    @Transactional
-    public void sendConsultationNotifications() {
+    /**
+     * 미발송 알림 재적재 (기동 직후에는 start에서 수행). 놓친 알림과 적재 범위 밖이던 예약을 휠에 올린다.
+     */
+    @Scheduled(fixedDelayString = "${consult.reminder.reload-minutes:30}",
+               initialDelayString = "${consult.reminder.reload-minutes:30}", timeUnit = TimeUnit.MINUTES)
+    public void loadPendingNotifications() {
         try {
-            send10MinNotifications();
-            sendOntimeNotifications();
+            LocalDateTime now = LocalDateTime.now();
+            List<Consult> consults = consultRepository.findConsultationsPendingNotification(
+                    now.minus(ontimeGrace), now.plus(loadHorizon));
+
+            for (Consult consult : consults) {
+                scheduleNow(consult);
+            }
+
+            int scheduled;
+            synchronized (wheel) {
+                scheduled = wheel.size();
+            }
+            log.info("상담 알림 적재 완료 - 미발송 상담: {}건, 대기 중인 알림: {}건", consults.size(), scheduled);
         } catch (Exception e) {
-            log.error("상담 알림 발송 중 오류 발생", e);
+            log.error("상담 알림 적재 중 오류 발생", e);
         }
     }
 
-    private void send10MinNotifications() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime targetTime = now.plusMinutes(10);
-
-        LocalDateTime startRange = targetTime.minusSeconds(30);
-        LocalDateTime endRange = targetTime.plusSeconds(30);
+    /**
+     * 상담 생성/상태 변경/일정 변경 시 호출. 예약확정 상태가 아니면 대기 중인 알림을 취소한다.
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영한다 (롤백된 변경으로 알림이 나가지 않도록).
+     */
+    public void schedule(Consult consult) {
+        afterCommit(() -> scheduleNow(consult));
+    }
 
-        List<Consult> consultations = consultRepository.findConsultationsFor10MinNotification(
-                startRange, endRange
-        );
+    public void cancel(String consultId) {
+        afterCommit(() -> cancelNow(consultId));
+    }
 
-        log.info("10분 전 알림 대상 상담: {}건", consultations.size());
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 
-        for (Consult consult : consultations) {
-            try {
-                sendNotificationToCustomer(consult, "곧 상담이 시작됩니다", 
-                        "10분 후 상담이 시작됩니다. 준비해 주세요.");
+    private void scheduleNow(Consult consult) {
+        if (!Consult.ConsultStatus.CONFIRMED.getValue().equals(consult.getConsultStatus())) {
+            cancelNow(consult.getConsultId());
+            return;
+        }
 
-                sendNotificationToConsultant(consult, "곧 상담이 시작됩니다", 
-                        "10분 후 상담이 예정되어 있습니다.");
+        LocalDateTime now = LocalDateTime.now();
+        List<ReminderKey> due = new ArrayList<>();
+
+        for (ReminderType type : ReminderType.values()) {
+            ReminderKey key = new ReminderKey(consult.getConsultId(), type);
+            LocalDateTime deadline = consult.getReservationDatetime().minus(type.leadTime);
+
+            synchronized (wheel) {
+                if (type.isSent(consult) || isMissed(type, consult.getReservationDatetime(), now)) {
+                    wheel.cancel(key);
+                } else if (!wheel.schedule(key, toEpochMillis(deadline))) {
+                    due.add(key);
+                }
+            }
+        }
 
-                consult.markNotification10minSent();
-                consultRepository.save(consult);
+        if (!due.isEmpty()) {
+            ticker.execute(() -> fire(due));
+        }
+    }
 
-                log.info("10분 전 알림 발송 완료 - consultId: {}", consult.getConsultId());
-            } catch (Exception e) {
-                log.error("10분 전 알림 발송 실패 - consultId: {}", consult.getConsultId(), e);
+    private void cancelNow(String consultId) {
+        synchronized (wheel) {
+            for (ReminderType type : ReminderType.values()) {
+                wheel.cancel(new ReminderKey(consultId, type));
             }
         }
     }
 
-    private void sendOntimeNotifications() {
-        LocalDateTime now = LocalDateTime.now();
-
-        LocalDateTime startRange = now.minusSeconds(30);
-        LocalDateTime endRange = now.plusSeconds(30);
+    private void tick() {
+        List<ReminderKey> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
 
-        List<Consult> consultations = consultRepository.findConsultationsForOntimeNotification(
-                startRange, endRange
-        );
+        if (!due.isEmpty()) {
+            fire(due);
+        }
+    }
 
-        log.info("정각 알림 대상 상담: {}건", consultations.size());
+    private void fire(List<ReminderKey> due) {
+        Map<ReminderType, List<String>> consultIdsByType = new EnumMap<>(ReminderType.class);
+        for (ReminderKey key : due) {
+            consultIdsByType.computeIfAbsent(key.type(), type -> new ArrayList<>()).add(key.consultId());
+        }
 
-        for (Consult consult : consultations) {
+        consultIdsByType.forEach((type, consultIds) -> {
             try {
-                sendNotificationToCustomer(consult, "상담 시작 시간", 
-                        "상담이 시작되었습니다. 지금 입장하세요.");
+                sendNotifications(type, consultIds);
+            } catch (Exception e) {
+                // 플래그가 갱신되지 않았으므로 다음 재적재 때 다시 발송된다
+                log.error("{} 알림 발송 실패 - 상담: {}", type.label, consultIds, e);
+            }
+        });
+    }
 
-                sendNotificationToConsultant(consult, "상담 시작 시간", 
-                        "상담이 시작되었습니다. 고객이 입장을 기다리고 있습니다.");
+    private void sendNotifications(ReminderType type, List<String> consultIds) {
+        List<Consult> rescheduled = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Consult> locked = type == ReminderType.TEN_MINUTES
+                    ? consultRepository.lockUnsent10MinNotifications(consultIds)
+                    : consultRepository.lockUnsentOntimeNotifications(consultIds);
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime dueLimit = now.plus(Duration.ofMillis(TICK_MILLIS));
+            List<Consult> targets = new ArrayList<>();
+            for (Consult consult : locked) {
+                if (consult.getReservationDatetime().minus(type.leadTime).isAfter(dueLimit)) {
+                    rescheduled.add(consult);
+                } else if (!isMissed(type, consult.getReservationDatetime(), now)) {
+                    targets.add(consult);
+                }
+            }
 
-                consult.markNotificationOntimeSent();
-                consultRepository.save(consult);
+            if (targets.isEmpty()) {
+                return;
+            }
 
-                log.info("정각 알림 발송 완료 - consultId: {}", consult.getConsultId());
-            } catch (Exception e) {
-                log.error("정각 알림 발송 실패 - consultId: {}", consult.getConsultId(), e);
+            Map<Long, String> userNames = loadUserNames(targets);
+            for (Consult consult : targets) {
+                sendNotificationToCustomer(consult, type.customerTitle, type.customerMessage, userNames);
+                sendNotificationToConsultant(consult, type.consultantTitle, type.consultantMessage, userNames);
             }
+
+            List<String> sentIds = targets.stream().map(Consult::getConsultId).toList();
+            if (type == ReminderType.TEN_MINUTES) {
+                consultRepository.markNotification10minSent(sentIds);
+            } else {
+                consultRepository.markNotificationOntimeSent(sentIds);
+            }
+
+            log.info("{} 알림 발송 완료 - {}건: {}", type.label, sentIds.size(), sentIds);
+        });
+
+        // 휠에 올라간 뒤 예약 시각이 바뀐 상담은 새 시각으로 다시 등록
+        rescheduled.forEach(this::schedule);
+    }
+
+    /**
+     * 10분 전 알림은 상담 시작 전까지만, 정각 알림은 시작 후 유예 시간까지만 발송한다.
+     */
+    private boolean isMissed(ReminderType type, LocalDateTime reservationDatetime, LocalDateTime now) {
+        if (type == ReminderType.TEN_MINUTES) {
+            return !reservationDatetime.isAfter(now);
         }
+        return reservationDatetime.plus(ontimeGrace).isBefore(now);
     }
 
-    private void sendNotificationToCustomer(Consult consult, String title, String message) {
+    private void sendNotificationToCustomer(Consult consult, String title, String message, Map<Long, String> userNames) {
         try {
             Long customerId = Long.valueOf(consult.getCustomerId());
 
-            String consultantName = getConsultantName(consult.getConsultantId());
+            String consultantName = getConsultantName(consult.getConsultantId(), userNames);
             String consultationType = convertConsultationTypeToKorean(consult.getConsultType());
             String reservationTime = consult.getReservationDatetime()
                     .format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm"));
@@ -129,11 +284,11 @@ public class ConsultationNotificationScheduler {
         }
     }
 
-    private void sendNotificationToConsultant(Consult consult, String title, String message) {
+    private void sendNotificationToConsultant(Consult consult, String title, String message, Map<Long, String> userNames) {
         try {
             Long consultantId = Long.valueOf(consult.getConsultantId());
 
-            String customerName = getCustomerName(consult.getCustomerId());
+            String customerName = getCustomerName(consult.getCustomerId(), userNames);
             String consultationType = convertConsultationTypeToKorean(consult.getConsultType());
             String reservationTime = consult.getReservationDatetime()
                     .format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH:mm"));
@@ -160,23 +315,19 @@ public class ConsultationNotificationScheduler {
         }
     }
 
-    private String getCustomerName(String customerIdStr) {
+    private String getCustomerName(String customerIdStr, Map<Long, String> userNames) {
         try {
             Long customerId = Long.valueOf(customerIdStr);
-            return userRepository.findById(customerId)
-                    .map(User::getUserName)
-                    .orElse("알 수 없는 고객");
+            return userNames.getOrDefault(customerId, "알 수 없는 고객");
         } catch (Exception e) {
             return "알 수 없는 고객";
         }
     }
 
-    private String getConsultantName(String consultantIdStr) {
+    private String getConsultantName(String consultantIdStr, Map<Long, String> userNames) {
         try {
             Long consultantId = Long.valueOf(consultantIdStr);
-            return userRepository.findById(consultantId)
-                    .map(User::getUserName)
-                    .orElse("알 수 없는 상담사");
+            return userNames.getOrDefault(consultantId, "알 수 없는 상담사");
         } catch (Exception e) {
             return "알 수 없는 상담사";
         }
@@ -190,4 +341,63 @@ public class ConsultationNotificationScheduler {
             default: return consultationType;
         }
     }
-}
\ No newline at end of file
+
+    private Map<Long, String> loadUserNames(List<Consult> consults) {
+        Set<Long> userIds = new HashSet<>();
+        for (Consult consult : consults) {
+            addUserId(userIds, consult.getCustomerId());
+            addUserId(userIds, consult.getConsultantId());
+        }
+
+        Map<Long, String> userNames = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            userNames.put(user.getUserId(), user.getUserName());
+        }
+        return userNames;
+    }
+
+    private static void addUserId(Set<Long> userIds, String userId) {
+        try {
+            userIds.add(Long.valueOf(userId));
+        } catch (NumberFormatException ignored) {
+            // 숫자가 아닌 사용자 ID는 이름 조회 대상에서 제외
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private enum ReminderType {
+        TEN_MINUTES(Duration.ofMinutes(10), "10분 전",
+                "곧 상담이 시작됩니다", "10분 후 상담이 시작됩니다. 준비해 주세요.",
+                "곧 상담이 시작됩니다", "10분 후 상담이 예정되어 있습니다."),
+        ONTIME(Duration.ZERO, "정각",
+                "상담 시작 시간", "상담이 시작되었습니다. 지금 입장하세요.",
+                "상담 시작 시간", "상담이 시작되었습니다. 고객이 입장을 기다리고 있습니다.");
+
+        private final Duration leadTime;
+        private final String label;
+        private final String customerTitle;
+        private final String customerMessage;
+        private final String consultantTitle;
+        private final String consultantMessage;
+
+        ReminderType(Duration leadTime, String label, String customerTitle, String customerMessage,
+                     String consultantTitle, String consultantMessage) {
+            this.leadTime = leadTime;
+            this.label = label;
+            this.customerTitle = customerTitle;
+            this.customerMessage = customerMessage;
+            this.consultantTitle = consultantTitle;
+            this.consultantMessage = consultantMessage;
+        }
+
+        private boolean isSent(Consult consult) {
+            Boolean sent = this == TEN_MINUTES ? consult.getNotificationSent10min() : consult.getNotificationSentOntime();
+            return Boolean.TRUE.equals(sent);
+        }
+    }
+
+    private record ReminderKey(String consultId, ReminderType type) {}
+}
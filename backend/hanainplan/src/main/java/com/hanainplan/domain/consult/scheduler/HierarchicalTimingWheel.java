@@ -0,0 +1,154 @@
+package com.hanainplan.domain.consult.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠.
+ * 가장 아래 휠은 tickMillis 단위 슬롯 wheelSize개로 구성되고, 범위를 넘는 만료 시각은 한 단계 위 휠(tick = 아래 휠 전체 범위)에 넣는다.
+ * 위 휠의 슬롯 시각에 도달하면 해당 슬롯의 항목을 다시 넣어 아래 휠로 내려보내므로, 등록/취소/진행이 항목 수와 무관하게 상수 시간이다.
+ * 같은 키로 다시 등록하면 이전 항목은 취소된다. 스레드 안전하지 않으므로 호출자가 동기화한다.
+ */
+class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level> levels = new ArrayList<>();
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    private long currentTime;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        levels.add(new Level(tickMillis, wheelSize));
+    }
+
+    /**
+     * 만료 시각이 이미 현재 tick 안이면 등록하지 않고 false를 반환한다 (호출자가 즉시 실행).
+     */
+    boolean schedule(K key, long deadlineMillis) {
+        cancel(key);
+
+        Entry<K> entry = new Entry<>(key, deadlineMillis);
+        if (!insert(entry)) {
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * nowMillis까지 tick을 진행하며 만료된 키를 만료 순서대로 반환한다.
+     */
+    List<K> advance(long nowMillis) {
+        List<K> expired = new ArrayList<>();
+
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+
+            // 위 휠부터 내려보내야 같은 시각에 만료되는 항목이 아래 휠에서 함께 처리된다
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level level = levels.get(i);
+                if (Math.floorMod(currentTime, level.tickMillis) != 0) {
+                    continue;
+                }
+
+                Set<Entry<K>> bucket = level.drain(currentTime);
+                for (Entry<K> entry : bucket) {
+                    if (entry.cancelled) {
+                        continue;
+                    }
+                    if (!insert(entry)) {
+                        entries.remove(entry.key);
+                        expired.add(entry.key);
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    private boolean insert(Entry<K> entry) {
+        if (entry.deadlineMillis < currentTime + tickMillis) {
+            return false;
+        }
+
+        for (int i = 0; ; i++) {
+            if (i == levels.size()) {
+                Level below = levels.get(i - 1);
+                levels.add(new Level(below.tickMillis * wheelSize, wheelSize));
+            }
+
+            Level level = levels.get(i);
+            long levelTime = currentTime - Math.floorMod(currentTime, level.tickMillis);
+            if (entry.deadlineMillis < levelTime + level.intervalMillis) {
+                level.add(entry);
+                return true;
+            }
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineMillis;
+        private boolean cancelled;
+
+        private Entry(K key, long deadlineMillis) {
+            this.key = key;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+
+    private final class Level {
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final List<Set<Entry<K>>> buckets;
+
+        private Level(long tickMillis, int wheelSize) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+        }
+
+        private void add(Entry<K> entry) {
+            buckets.get(index(entry.deadlineMillis)).add(entry);
+        }
+
+        private Set<Entry<K>> drain(long slotTime) {
+            int index = index(slotTime);
+            Set<Entry<K>> bucket = buckets.get(index);
+            buckets.set(index, new LinkedHashSet<>());
+            return bucket;
+        }
+
+        private int index(long timeMillis) {
+            return (int) Math.floorMod(Math.floorDiv(timeMillis, tickMillis), (long) buckets.size());
+        }
+    }
+}
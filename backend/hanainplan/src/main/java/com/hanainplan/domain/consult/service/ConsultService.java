@@ -4,26 +4,24 @@ import com.hanainplan.domain.consult.dto.ConsultationRequestDto;
 import com.hanainplan.domain.consult.dto.ConsultationResponseDto;
 import com.hanainplan.domain.consult.entity.Consult;
 import com.hanainplan.domain.consult.repository.ConsultRepository;
+import com.hanainplan.domain.consult.scheduler.ConsultationNotificationScheduler;
 import com.hanainplan.domain.notification.dto.NotificationDto;
 import com.hanainplan.domain.notification.entity.NotificationType;
 import com.hanainplan.domain.notification.service.EmailService;
+import com.hanainplan.domain.notification.service.EmailTemplateRenderer;
 import com.hanainplan.domain.notification.service.NotificationService;
 import com.hanainplan.domain.schedule.service.ScheduleService;
 import com.hanainplan.domain.user.entity.User;
 import com.hanainplan.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,7 +34,9 @@ public class ConsultService {
     private final UserRepository userRepository;
     private final ScheduleService scheduleService;
     private final EmailService emailService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
     private final NotificationService notificationService;
+    private final ConsultationNotificationScheduler consultationNotificationScheduler;
 
     @Transactional
     public ConsultationResponseDto createConsultation(ConsultationRequestDto request) {
@@ -62,6 +62,7 @@ public class ConsultService {
                 .build();
 
         Consult savedConsult = consultRepository.save(consult);
+        consultationNotificationScheduler.schedule(savedConsult);
 
         try {
             LocalDateTime endTime = request.getReservationDatetime().plusHours(1);
@@ -180,6 +181,7 @@ public class ConsultService {
         }
 
         Consult updatedConsult = consultRepository.save(consult);
+        consultationNotificationScheduler.schedule(updatedConsult);
 
         if ("예약확정".equals(newStatus)) {
             try {
@@ -246,9 +248,9 @@ public class ConsultService {
 
         boolean emailSent = emailService.sendHtmlEmail(customer.getEmail(), subject, htmlContent);
         if (emailSent) {
-            log.info("상담 예약 확정 이메일 전송 성공 - customerId: {}, email: {}", customer.getUserId(), customer.getEmail());
+            log.info("상담 예약 확정 이메일 발송 요청 완료 - customerId: {}, email: {}", customer.getUserId(), customer.getEmail());
         } else {
-            log.error("상담 예약 확정 이메일 전송 실패 - customerId: {}, email: {}", customer.getUserId(), customer.getEmail());
+            log.error("상담 예약 확정 이메일 발송 요청 실패 - customerId: {}, email: {}", customer.getUserId(), customer.getEmail());
         }
     }
 
@@ -264,16 +266,15 @@ public class ConsultService {
             String consultationTypeKorean = convertConsultationTypeToKorean(consultationType);
             String consultationIcon = getConsultationIcon(consultationType);
 
-            String template = loadEmailTemplate("consultation-confirmation-email.html");
-
-            return template
-                    .replace("{title}", "🎉 축하합니다!")
-                    .replace("{customerName}", customerName)
-                    .replace("{consultId}", consultId)
-                    .replace("{consultationIcon}", consultationIcon)
-                    .replace("{consultationType}", consultationTypeKorean)
-                    .replace("{consultantName}", consultantName)
-                    .replace("{reservationDateTime}", formattedDateTime);
+            return emailTemplateRenderer.render("consultation-confirmation-email.html", Map.of(
+                    "title", "🎉 축하합니다!",
+                    "customerName", customerName,
+                    "consultId", consultId,
+                    "consultationIcon", consultationIcon,
+                    "consultationType", consultationTypeKorean,
+                    "consultantName", consultantName,
+                    "reservationDateTime", formattedDateTime
+            ));
 
         } catch (Exception e) {
             log.error("이메일 템플릿 로드 실패", e);
@@ -281,13 +282,6 @@ public class ConsultService {
         }
     }
 
-    private String loadEmailTemplate(String templateName) throws IOException {
-        ClassPathResource resource = new ClassPathResource("templates/" + templateName);
-        try (InputStream inputStream = resource.getInputStream()) {
-            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
-        }
-    }
-
     private String createFallbackEmailHtml(
             String customerName,
             String consultantName,
@@ -465,6 +459,7 @@ public class ConsultService {
 
         consult.setConsultStatus("취소");
         Consult updatedConsult = consultRepository.save(consult);
+        consultationNotificationScheduler.cancel(consultId);
 
         try {
             deleteConsultationSchedule(consult);
@@ -0,0 +1,123 @@
+package com.hanainplan.domain.fund.crawler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class FundNavCrawlerWorkerPool {
+
+    private final String pythonPath;
+    private final String scriptPath;
+    private final long timeoutSeconds;
+    private final int concurrency;
+    private final String navUrlTemplate;
+    private final HostRateLimiter rateLimiter;
+
+    private final Semaphore permits;
+    private final LinkedBlockingQueue<PythonCrawlerWorker> idleWorkers = new LinkedBlockingQueue<>();
+    private final List<PythonCrawlerWorker> allWorkers = new ArrayList<>();
+    private final AtomicInteger workerSequence = new AtomicInteger();
+
+    private volatile boolean shutdown = false;
+
+    public FundNavCrawlerWorkerPool(
+            @Value("${fund.crawler.python-path:python3}") String pythonPath,
+            @Value("${fund.crawler.script-path:backend/hanainplan/crawler/fund_crawler.py}") String scriptPath,
+            @Value("${fund.crawler.timeout-seconds:10}") long timeoutSeconds,
+            @Value("${fund.crawler.concurrency:4}") int concurrency,
+            @Value("${fund.crawler.min-request-interval-ms:200}") long minRequestIntervalMs,
+            @Value("${fund.crawler.nav-url-template:https://investments.miraeasset.com/magi/fund/view.do?fundGb=2&fundCd={fundCd}&childFundCd={childFundCd}&childFundGb=2}") String navUrlTemplate) {
+        this.pythonPath = pythonPath;
+        this.scriptPath = scriptPath;
+        this.timeoutSeconds = timeoutSeconds;
+        this.concurrency = Math.max(1, concurrency);
+        this.navUrlTemplate = navUrlTemplate;
+        this.rateLimiter = new HostRateLimiter(Duration.ofMillis(minRequestIntervalMs));
+        this.permits = new Semaphore(this.concurrency, true);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public BigDecimal crawl(String fundCd, String childFundCd) throws Exception {
+        String url = navUrlTemplate
+                .replace("{fundCd}", fundCd)
+                .replace("{childFundCd}", childFundCd);
+
+        permits.acquire();
+        PythonCrawlerWorker worker = null;
+        try {
+            worker = borrowWorker();
+            rateLimiter.acquire(URI.create(url).getHost());
+            return worker.crawl(childFundCd, url, timeoutSeconds);
+        } finally {
+            if (worker != null) {
+                releaseWorker(worker);
+            }
+            permits.release();
+        }
+    }
+
+    private PythonCrawlerWorker borrowWorker() throws Exception {
+        if (shutdown) {
+            throw new IllegalStateException("크롤러 워커 풀이 종료되었습니다.");
+        }
+
+        PythonCrawlerWorker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            if (worker.isAlive()) {
+                return worker;
+            }
+            discard(worker);
+        }
+
+        worker = new PythonCrawlerWorker(workerSequence.incrementAndGet(), pythonPath, scriptPath);
+        synchronized (allWorkers) {
+            allWorkers.add(worker);
+        }
+        return worker;
+    }
+
+    private void releaseWorker(PythonCrawlerWorker worker) {
+        if (!shutdown && worker.isAlive()) {
+            idleWorkers.offer(worker);
+        } else {
+            discard(worker);
+        }
+    }
+
+    private void discard(PythonCrawlerWorker worker) {
+        synchronized (allWorkers) {
+            allWorkers.remove(worker);
+        }
+        worker.close();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdown = true;
+        idleWorkers.clear();
+
+        List<PythonCrawlerWorker> workers;
+        synchronized (allWorkers) {
+            workers = new ArrayList<>(allWorkers);
+            allWorkers.clear();
+        }
+        workers.forEach(PythonCrawlerWorker::close);
+
+        log.info("펀드 기준가 크롤러 워커 풀 종료 - 종료된 워커 수: {}", workers.size());
+    }
+}
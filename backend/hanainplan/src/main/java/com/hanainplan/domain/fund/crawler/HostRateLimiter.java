@@ -0,0 +1,35 @@
+package com.hanainplan.domain.fund.crawler;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HostRateLimiter {
+
+    private final long minIntervalNanos;
+
+    private final Map<String, AtomicLong> nextSlotByHost = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(Duration minInterval) {
+        this.minIntervalNanos = minInterval.toNanos();
+    }
+
+    public void acquire(String host) throws InterruptedException {
+        if (minIntervalNanos <= 0) {
+            return;
+        }
+
+        AtomicLong nextSlot = nextSlotByHost.computeIfAbsent(host, key -> new AtomicLong(System.nanoTime()));
+
+        long now = System.nanoTime();
+        long reserved = nextSlot.getAndAccumulate(now,
+                (slot, current) -> Math.max(slot, current) + minIntervalNanos);
+        long waitNanos = Math.max(reserved, now) - now;
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.hanainplan.domain.fund.crawler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+class PythonCrawlerWorker implements AutoCloseable {
+
+    private static final String EOF_MARKER = "\u0000EOF";
+
+    private final int workerId;
+    private final Process process;
+    private final BufferedWriter writer;
+    private final BlockingQueue<String> responses = new LinkedBlockingQueue<>();
+
+    private volatile boolean broken = false;
+
+    PythonCrawlerWorker(int workerId, String pythonPath, String scriptPath) throws IOException {
+        this.workerId = workerId;
+
+        ProcessBuilder processBuilder = new ProcessBuilder(
+                pythonPath,
+                new File(scriptPath).getAbsolutePath(),
+                "--worker"
+        );
+        processBuilder.directory(new File(System.getProperty("user.dir")));
+        processBuilder.environment().put("PYTHONIOENCODING", "utf-8");
+
+        this.process = processBuilder.start();
+        this.writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+
+        startReader("crawler-worker-" + workerId + "-out", new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)), true);
+        startReader("crawler-worker-" + workerId + "-err", new BufferedReader(
+                new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8)), false);
+
+        log.debug("크롤러 워커 시작: #{} (pid: {})", workerId, process.pid());
+    }
+
+    private void startReader(String threadName, BufferedReader reader, boolean stdout) {
+        Thread thread = new Thread(() -> {
+            try (reader) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (stdout) {
+                        responses.offer(line);
+                    } else {
+                        log.warn("크롤러 워커 #{} stderr: {}", workerId, line);
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("크롤러 워커 #{} 스트림 종료: {}", workerId, e.getMessage());
+            } finally {
+                if (stdout) {
+                    responses.offer(EOF_MARKER);
+                }
+            }
+        }, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    BigDecimal crawl(String childFundCd, String url, long timeoutSeconds) throws Exception {
+        if (!isAlive()) {
+            throw new IllegalStateException("크롤러 워커가 종료되었습니다. (#" + workerId + ")");
+        }
+
+        try {
+            writer.write(childFundCd + "\t" + url);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            broken = true;
+            throw e;
+        }
+
+        String line = responses.poll(timeoutSeconds, TimeUnit.SECONDS);
+
+        if (line == null) {
+            broken = true;
+            throw new RuntimeException("크롤링 타임아웃 (" + timeoutSeconds + "초 초과)");
+        }
+        if (EOF_MARKER.equals(line)) {
+            broken = true;
+            throw new RuntimeException("Python 크롤러 워커가 비정상 종료되었습니다. (#" + workerId + ")");
+        }
+
+        String[] parts = line.split("\t", 3);
+        if (parts.length < 2 || !childFundCd.equals(parts[0])) {
+            broken = true;
+            throw new RuntimeException("Python 크롤러 응답 형식 오류: " + line);
+        }
+
+        if ("OK".equals(parts[1]) && parts.length == 3) {
+            return new BigDecimal(parts[2].trim());
+        }
+
+        String message = parts.length == 3 ? parts[2] : "알 수 없는 오류";
+        if (message.contains("기준가를 찾을 수 없습니다")) {
+            return null;
+        }
+        throw new RuntimeException("Python 크롤러 실행 실패: " + message);
+    }
+
+    boolean isAlive() {
+        return !broken && process.isAlive();
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+        }
+        try {
+            if (!process.waitFor(1, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+        log.debug("크롤러 워커 종료: #{}", workerId);
+    }
+}
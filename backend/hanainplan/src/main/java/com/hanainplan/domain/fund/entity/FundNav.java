@@ -11,7 +11,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "fund_nav")
+@Table(name = "fund_nav",
+       uniqueConstraints = @UniqueConstraint(name = "uk_fund_nav_child_date", columnNames = {"child_fund_cd", "nav_date"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FundClassRepository extends JpaRepository<FundClass, String> {
@@ -21,4 +22,15 @@ public interface FundClassRepository extends JpaRepository<FundClass, String> {
 
     @Query("SELECT fc FROM FundClass fc WHERE fc.classCode = :classCode AND fc.saleStatus = 'ON'")
     List<FundClass> findByClassCode(@Param("classCode") String classCode);
-}
\ No newline at end of file
+
+    @Query("SELECT fc FROM FundClass fc JOIN FETCH fc.fundMaster fm " +
+           "LEFT JOIN FETCH fc.fundFees LEFT JOIN FETCH fc.fundRules " +
+           "WHERE fc.saleStatus = 'ON' AND fm.isActive = true")
+    List<FundClass> findOnSaleWithMasterAndFees();
+
+    @Query("SELECT fc FROM FundClass fc JOIN FETCH fc.fundMaster")
+    List<FundClass> findAllWithMaster();
+
+    @Query("SELECT fc FROM FundClass fc JOIN FETCH fc.fundMaster WHERE fc.childFundCd = :childFundCd")
+    Optional<FundClass> findByIdWithMaster(@Param("childFundCd") String childFundCd);
+}
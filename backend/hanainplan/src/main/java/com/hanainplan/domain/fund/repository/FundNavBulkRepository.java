@@ -0,0 +1,73 @@
+package com.hanainplan.domain.fund.repository;
+
+import com.hanainplan.domain.fund.entity.FundNav;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FundNavBulkRepository {
+
+    private static final String UNIQUE_KEY_NAME = "uk_fund_nav_child_date";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO fund_nav (child_fund_cd, nav_date, nav, published_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE nav = VALUES(nav), published_at = VALUES(published_at)";
+
+    private static final String FIND_UNIQUE_KEY_SQL =
+            "SELECT index_name FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = 'fund_nav' AND non_unique = 0 " +
+            "GROUP BY index_name " +
+            "HAVING GROUP_CONCAT(column_name ORDER BY seq_in_index) = 'child_fund_cd,nav_date'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean uniqueKeyVerified = false;
+
+    public int upsertAll(List<FundNav> navs, int chunkSize) {
+        if (navs.isEmpty()) {
+            return 0;
+        }
+
+        ensureUniqueKey();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, navs, Math.max(1, chunkSize), (ps, nav) -> {
+            ps.setString(1, nav.getChildFundCd());
+            ps.setDate(2, Date.valueOf(nav.getNavDate()));
+            ps.setBigDecimal(3, nav.getNav());
+            ps.setTimestamp(4, nav.getPublishedAt() != null ? Timestamp.valueOf(nav.getPublishedAt()) : now);
+            ps.setTimestamp(5, now);
+        });
+
+        return navs.size();
+    }
+
+    /**
+     * ON DUPLICATE KEY UPDATE는 (child_fund_cd, nav_date) 유니크 키가 있어야 upsert로 동작한다.
+     * 키는 엔티티의 @UniqueConstraint(신규 테이블) 또는 docker/mysql/fund_nav_unique_key.sql(기존 테이블)로 만들며,
+     * 여기서는 존재 여부만 확인하고 없으면 중복 기준가가 쌓이지 않도록 기동/저장을 실패시킨다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniqueKey() {
+        if (uniqueKeyVerified) {
+            return;
+        }
+
+        if (jdbcTemplate.queryForList(FIND_UNIQUE_KEY_SQL, String.class).isEmpty()) {
+            throw new IllegalStateException("fund_nav 테이블에 (child_fund_cd, nav_date) 유니크 키(" + UNIQUE_KEY_NAME + ")가 없습니다. "
+                    + "중복 기준가를 정리한 뒤 docker/mysql/fund_nav_unique_key.sql을 적용하세요.");
+        }
+
+        uniqueKeyVerified = true;
+    }
+}
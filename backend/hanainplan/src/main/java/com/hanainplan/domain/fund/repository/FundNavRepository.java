@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,15 @@ public interface FundNavRepository extends JpaRepository<FundNav, Long> {
     @Query("SELECT fn FROM FundNav fn WHERE fn.childFundCd = :childFundCd ORDER BY fn.navDate DESC LIMIT 1")
     Optional<FundNav> findLatestByChildFundCd(@Param("childFundCd") String childFundCd);
 
+    @Query("SELECT fn FROM FundNav fn WHERE fn.navDate = " +
+           "(SELECT MAX(latest.navDate) FROM FundNav latest WHERE latest.childFundCd = fn.childFundCd)")
+    List<FundNav> findLatestNavPerFund();
+
+    @Query("SELECT fn FROM FundNav fn WHERE fn.childFundCd IN :childFundCds AND fn.navDate = " +
+           "(SELECT MAX(prev.navDate) FROM FundNav prev WHERE prev.childFundCd = fn.childFundCd AND prev.navDate < " +
+           "(SELECT MAX(latest.navDate) FROM FundNav latest WHERE latest.childFundCd = fn.childFundCd))")
+    List<FundNav> findPreviousNavs(@Param("childFundCds") Collection<String> childFundCds);
+
     List<FundNav> findByChildFundCdOrderByNavDateDesc(String childFundCd);
 
     Optional<FundNav> findByChildFundCdAndNavDate(String childFundCd, LocalDate navDate);
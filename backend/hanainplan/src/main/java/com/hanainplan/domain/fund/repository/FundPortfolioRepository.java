@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,4 +55,10 @@ public interface FundPortfolioRepository extends JpaRepository<FundPortfolio, Lo
 
     @Query("SELECT COALESCE(SUM(f.totalReturn), 0) FROM FundPortfolio f WHERE f.userId = :userId AND f.status IN ('ACTIVE', 'PARTIAL_SOLD')")
     java.math.BigDecimal getTotalReturnByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    @Query("SELECT ia.customerId, SUM(f.currentValue) FROM FundPortfolio f, IrpAccount ia " +
+           "WHERE f.irpAccountNumber = ia.accountNumber AND ia.accountStatus = 'ACTIVE' " +
+           "AND ia.customerId IN :customerIds AND f.status IN ('ACTIVE', 'PARTIAL_SOLD') " +
+           "GROUP BY ia.customerId")
+    List<Object[]> sumActiveFundValueByCustomerIds(@Param("customerIds") Collection<Long> customerIds);
+}
@@ -2,9 +2,7 @@ package com.hanainplan.domain.fund.service;
 
 import com.hanainplan.domain.fund.dto.FundClassDetailDto;
 import com.hanainplan.domain.fund.entity.FundClass;
-import com.hanainplan.domain.fund.entity.FundNav;
 import com.hanainplan.domain.fund.repository.FundClassRepository;
-import com.hanainplan.domain.fund.repository.FundNavRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,7 +19,7 @@ import java.util.stream.Collectors;
 public class FundClassService {
 
     private final FundClassRepository fundClassRepository;
-    private final FundNavRepository fundNavRepository;
+    private final LatestNavIndex latestNavIndex;
 
     public List<FundClassDetailDto> getAllOnSaleFundClasses() {
         log.info("판매중인 펀드 클래스 목록 조회");
@@ -30,7 +28,7 @@ public class FundClassService {
 
         return fundClasses.stream()
                 .map(fc -> {
-                    FundNav latestNav = fundNavRepository.findLatestByChildFundCd(fc.getChildFundCd())
+                    LatestNavIndex.LatestNav latestNav = latestNavIndex.get(fc.getChildFundCd())
                             .orElse(null);
                     return toDetailDto(fc, latestNav);
                 })
@@ -47,7 +45,7 @@ public class FundClassService {
         }
 
         FundClass fundClass = fundClassOpt.get();
-        FundNav latestNav = fundNavRepository.findLatestByChildFundCd(childFundCd)
+        LatestNavIndex.LatestNav latestNav = latestNavIndex.get(childFundCd)
                 .orElse(null);
 
         return Optional.of(toDetailDto(fundClass, latestNav));
@@ -60,7 +58,7 @@ public class FundClassService {
 
         return fundClasses.stream()
                 .map(fc -> {
-                    FundNav latestNav = fundNavRepository.findLatestByChildFundCd(fc.getChildFundCd())
+                    LatestNavIndex.LatestNav latestNav = latestNavIndex.get(fc.getChildFundCd())
                             .orElse(null);
                     return toDetailDto(fc, latestNav);
                 })
@@ -74,7 +72,7 @@ public class FundClassService {
 
         return fundClasses.stream()
                 .map(fc -> {
-                    FundNav latestNav = fundNavRepository.findLatestByChildFundCd(fc.getChildFundCd())
+                    LatestNavIndex.LatestNav latestNav = latestNavIndex.get(fc.getChildFundCd())
                             .orElse(null);
                     return toDetailDto(fc, latestNav);
                 })
@@ -88,7 +86,7 @@ public class FundClassService {
 
         return fundClasses.stream()
                 .map(fc -> {
-                    FundNav latestNav = fundNavRepository.findLatestByChildFundCd(fc.getChildFundCd())
+                    LatestNavIndex.LatestNav latestNav = latestNavIndex.get(fc.getChildFundCd())
                             .orElse(null);
                     return toDetailDto(fc, latestNav);
                 })
@@ -106,14 +104,14 @@ public class FundClassService {
 
         return fundClasses.stream()
                 .map(fc -> {
-                    FundNav latestNav = fundNavRepository.findLatestByChildFundCd(fc.getChildFundCd())
+                    LatestNavIndex.LatestNav latestNav = latestNavIndex.get(fc.getChildFundCd())
                             .orElse(null);
                     return toDetailDto(fc, latestNav);
                 })
                 .collect(Collectors.toList());
     }
 
-    private FundClassDetailDto toDetailDto(FundClass entity, FundNav latestNav) {
+    private FundClassDetailDto toDetailDto(FundClass entity, LatestNavIndex.LatestNav latestNav) {
         FundClassDetailDto.FundClassDetailDtoBuilder builder = FundClassDetailDto.builder()
                 .childFundCd(entity.getChildFundCd())
                 .classCode(entity.getClassCode())
@@ -168,8 +166,8 @@ public class FundClassService {
         }
 
         if (latestNav != null) {
-            builder.latestNav(latestNav.getNav())
-                   .latestNavDate(latestNav.getNavDate());
+            builder.latestNav(latestNav.nav())
+                   .latestNavDate(latestNav.navDate());
         }
 
         return builder.build();
@@ -1,10 +1,11 @@
 package com.hanainplan.domain.fund.service;
 
+import com.hanainplan.domain.fund.crawler.FundNavCrawlerWorkerPool;
 import com.hanainplan.domain.fund.dto.FundNavCrawlResult;
 import com.hanainplan.domain.fund.entity.FundClass;
 import com.hanainplan.domain.fund.entity.FundNav;
 import com.hanainplan.domain.fund.repository.FundClassRepository;
-import com.hanainplan.domain.fund.repository.FundNavRepository;
+import com.hanainplan.domain.fund.repository.FundNavBulkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,21 +14,26 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
@@ -35,24 +41,24 @@ import java.util.concurrent.TimeUnit;
 public class FundNavCrawlerService {
 
     private final FundClassRepository fundClassRepository;
-    private final FundNavRepository fundNavRepository;
+    private final FundNavBulkRepository fundNavBulkRepository;
     private final RestTemplate restTemplate;
-
-    @Value("${fund.crawler.python-path:python3}")
-    private String pythonPath;
-
-    @Value("${fund.crawler.script-path:backend/hanainplan/crawler/fund_crawler.py}")
-    private String scriptPath;
-
-    @Value("${fund.crawler.timeout-seconds:10}")
-    private long timeoutSeconds;
+    private final FundNavCrawlerWorkerPool crawlerWorkerPool;
+    private final LatestNavIndex latestNavIndex;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${bank.hana.url:http://localhost:8081}")
     private String hanaBankUrl;
 
+    @Value("${fund.crawler.write-batch-size:500}")
+    private int writeBatchSize;
+
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    @Transactional
+    /**
+     * 크롤링은 트랜잭션 밖에서 수행하고, 기준가 일괄 저장 구간만 트랜잭션으로 묶는다
+     * (수 분 걸리는 크롤링 동안 DB 커넥션을 점유하지 않도록).
+     */
     public FundNavCrawlResult crawlAndUpdateAllFundNav() {
         LocalDateTime startTime = LocalDateTime.now();
         log.info("====================================================");
@@ -63,51 +69,63 @@ public class FundNavCrawlerService {
                 .startTime(startTime.format(TIME_FORMATTER))
                 .build();
 
-        List<FundClass> fundClasses = fundClassRepository.findAll();
+        List<FundClass> fundClasses = fundClassRepository.findAllWithMaster();
         result.setTotalCount(fundClasses.size());
 
-        log.info("총 {}개의 펀드 클래스를 크롤링합니다.", fundClasses.size());
+        log.info("총 {}개의 펀드 클래스를 크롤링합니다. (동시 실행 수: {})",
+                fundClasses.size(), crawlerWorkerPool.getConcurrency());
 
         int successCount = 0;
         int failureCount = 0;
 
-        for (FundClass fundClass : fundClasses) {
-            try {
+        List<CrawlOutcome> crawled = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(crawlerWorkerPool.getConcurrency(), crawlerThreadFactory());
+        CompletionService<CrawlOutcome> completionService = new ExecutorCompletionService<>(executor);
+
+        try {
+            for (FundClass fundClass : fundClasses) {
                 String fundCd = fundClass.getFundMaster().getFundCd();
                 String childFundCd = fundClass.getChildFundCd();
                 String fundName = fundClass.getDisplayName();
 
-                log.debug("크롤링 시작: {} (모펀드: {}, 자펀드: {})", fundName, fundCd, childFundCd);
+                completionService.submit(() -> crawlFund(fundCd, childFundCd, fundName));
+            }
 
-                BigDecimal nav = executePythonCrawler(fundCd, childFundCd);
+            for (int i = 0; i < fundClasses.size(); i++) {
+                CrawlOutcome outcome = completionService.take().get();
 
-                if (nav != null) {
-                    saveOrUpdateNav(childFundCd, nav);
-                    successCount++;
-                    log.info("✓ 크롤링 성공: {} - 기준가: {}", fundName, nav);
-                } else {
+                if (outcome.error() != null) {
                     failureCount++;
-                    result.addFailedFund(fundCd, childFundCd, fundName, "기준가를 찾을 수 없음");
-                    log.warn("✗ 크롤링 실패: {} - 기준가를 찾을 수 없음", fundName);
+                    result.addFailedFund(outcome.fundCd(), outcome.childFundCd(), outcome.fundName(), outcome.error());
+                    log.warn("✗ 크롤링 실패: {} - {}", outcome.fundName(), outcome.error());
+                    continue;
                 }
 
-            } catch (Exception e) {
-                failureCount++;
-                String fundName = fundClass.getDisplayName();
-                result.addFailedFund(
-                        fundClass.getFundMaster().getFundCd(),
-                        fundClass.getChildFundCd(),
-                        fundName,
-                        e.getMessage()
-                );
-                log.error("✗ 크롤링 실패: {} - {}", fundName, e.getMessage());
+                crawled.add(outcome);
+                log.info("✓ 크롤링 성공: {} - 기준가: {}", outcome.fundName(), outcome.nav());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("크롤링 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            log.error("크롤링 작업 실행 중 오류 발생", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
 
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("크롤링 딜레이 중 인터럽트 발생");
+        LocalDate navDate = LocalDate.now();
+        try {
+            saveAllNavs(navDate, crawled.stream()
+                    .map(outcome -> new NavEntry(outcome.childFundCd(), outcome.nav()))
+                    .toList());
+            successCount = crawled.size();
+        } catch (Exception e) {
+            log.error("✗ 기준가 일괄 저장 실패 - {}건", crawled.size(), e);
+            for (CrawlOutcome outcome : crawled) {
+                failureCount++;
+                result.addFailedFund(outcome.fundCd(), outcome.childFundCd(), outcome.fundName(),
+                        "기준가 저장 실패: " + e.getMessage());
             }
         }
 
@@ -132,125 +150,118 @@ public class FundNavCrawlerService {
         return result;
     }
 
-    private BigDecimal executePythonCrawler(String fundCd, String childFundCd) throws Exception {
-        File scriptFile = new File(scriptPath);
-        String absoluteScriptPath = scriptFile.getAbsolutePath();
-
-        ProcessBuilder processBuilder = new ProcessBuilder(
-                pythonPath,
-                absoluteScriptPath,
-                fundCd,
-                childFundCd
-        );
-
-        processBuilder.directory(new File(System.getProperty("user.dir")));
-
-        Process process = processBuilder.start();
-
-        StringBuilder output = new StringBuilder();
-        StringBuilder errorOutput = new StringBuilder();
-
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-             BufferedReader errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-
-            boolean finished = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+    private CrawlOutcome crawlFund(String fundCd, String childFundCd, String fundName) {
+        log.debug("크롤링 시작: {} (모펀드: {}, 자펀드: {})", fundName, fundCd, childFundCd);
 
-            if (!finished) {
-                process.destroyForcibly();
-                throw new RuntimeException("크롤링 타임아웃 (" + timeoutSeconds + "초 초과)");
-            }
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
-            }
-
-            while ((line = errorReader.readLine()) != null) {
-                errorOutput.append(line).append("\n");
-            }
-
-            int exitCode = process.exitValue();
-
-            if (exitCode != 0) {
-                throw new RuntimeException("Python 크롤러 실행 실패 (exit code: " + exitCode + "): " + errorOutput.toString());
-            }
-
-            String result = output.toString().trim();
-            if (result.isEmpty()) {
-                return null;
+        try {
+            BigDecimal nav = crawlerWorkerPool.crawl(fundCd, childFundCd);
+            if (nav == null) {
+                return new CrawlOutcome(fundCd, childFundCd, fundName, null, "기준가를 찾을 수 없음");
             }
-
-            return new BigDecimal(result);
-
-        } finally {
-            process.destroyForcibly();
+            return new CrawlOutcome(fundCd, childFundCd, fundName, nav, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new CrawlOutcome(fundCd, childFundCd, fundName, null, "크롤링 중 인터럽트 발생");
+        } catch (Exception e) {
+            return new CrawlOutcome(fundCd, childFundCd, fundName, null, e.getMessage());
         }
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void saveOrUpdateNav(String childFundCd, BigDecimal nav) {
-        LocalDate today = LocalDate.now();
+    private ThreadFactory crawlerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "fund-nav-crawler-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 
-        FundNav fundNav = fundNavRepository.findByChildFundCdAndNavDate(childFundCd, today)
-                .orElse(null);
+    private record CrawlOutcome(
+            String fundCd,
+            String childFundCd,
+            String fundName,
+            BigDecimal nav,
+            String error
+    ) {}
+
+    private void saveAllNavs(LocalDate navDate, List<NavEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
 
-        if (fundNav != null) {
-            fundNav.setNav(nav);
-            fundNav.setPublishedAt(LocalDateTime.now());
-            fundNavRepository.save(fundNav);
-            log.debug("기준가 업데이트: {} - {}", childFundCd, nav);
+        LocalDateTime publishedAt = LocalDateTime.now();
+        List<FundNav> navs = entries.stream()
+                .map(entry -> FundNav.builder()
+                        .childFundCd(entry.childFundCd())
+                        .navDate(navDate)
+                        .nav(entry.nav())
+                        .publishedAt(publishedAt)
+                        .build())
+                .toList();
+
+        Integer written = transactionTemplate.execute(status -> {
+            int count = fundNavBulkRepository.upsertAll(navs, writeBatchSize);
+            latestNavIndex.updateAll(navs);
+            return count;
+        });
+        log.info("기준가 일괄 저장 완료: {}건 (배치 크기: {})", written, writeBatchSize);
+
+        // 하나은행 전송은 커밋된 기준가만 대상으로 한다 (바깥 트랜잭션이 있으면 그 커밋 이후로 미룸)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    syncToHanaBank(navs);
+                }
+            });
         } else {
-            fundNav = FundNav.builder()
-                    .childFundCd(childFundCd)
-                    .navDate(today)
-                    .nav(nav)
-                    .publishedAt(LocalDateTime.now())
-                    .build();
-            fundNavRepository.save(fundNav);
-            log.debug("기준가 신규 생성: {} - {}", childFundCd, nav);
+            syncToHanaBank(navs);
         }
-
-        syncToHanaBank(childFundCd, today, nav);
     }
 
-    private void syncToHanaBank(String childFundCd, LocalDate navDate, BigDecimal nav) {
+    private void syncToHanaBank(List<FundNav> navs) {
         try {
-            String url = hanaBankUrl + "/api/hana/fund-nav";
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("childFundCd", childFundCd);
-            requestBody.put("navDate", navDate);
-            requestBody.put("nav", nav);
+            String url = hanaBankUrl + "/api/hana/fund-nav/bulk";
+
+            List<Map<String, Object>> requestBody = new ArrayList<>(navs.size());
+            for (FundNav nav : navs) {
+                Map<String, Object> item = new HashMap<>();
+                item.put("childFundCd", nav.getChildFundCd());
+                item.put("navDate", nav.getNavDate());
+                item.put("nav", nav.getNav());
+                requestBody.add(item);
+            }
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+            HttpEntity<List<Map<String, Object>>> request = new HttpEntity<>(requestBody, headers);
 
             ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
 
             if (response.getStatusCode().is2xxSuccessful()) {
-                log.debug("하나은행 기준가 동기화 성공: {} - {}", childFundCd, nav);
+                log.info("하나은행 기준가 일괄 동기화 성공: {}건", navs.size());
             } else {
-                log.warn("하나은행 기준가 동기화 실패: {} - status: {}", childFundCd, response.getStatusCode());
+                log.warn("하나은행 기준가 일괄 동기화 실패: {}건 - status: {}", navs.size(), response.getStatusCode());
             }
 
         } catch (Exception e) {
-            log.error("하나은행 기준가 동기화 중 오류 발생: {} - {}", childFundCd, e.getMessage());
+            log.error("하나은행 기준가 일괄 동기화 중 오류 발생: {}건 - {}", navs.size(), e.getMessage());
         }
     }
 
-    @Transactional
+    private record NavEntry(String childFundCd, BigDecimal nav) {}
+
     public BigDecimal crawlSingleFundNav(String childFundCd) {
-        FundClass fundClass = fundClassRepository.findById(childFundCd)
+        FundClass fundClass = fundClassRepository.findByIdWithMaster(childFundCd)
                 .orElseThrow(() -> new IllegalArgumentException("펀드 클래스를 찾을 수 없습니다: " + childFundCd));
 
         String fundCd = fundClass.getFundMaster().getFundCd();
 
         try {
-            BigDecimal nav = executePythonCrawler(fundCd, childFundCd);
+            BigDecimal nav = crawlerWorkerPool.crawl(fundCd, childFundCd);
             if (nav != null) {
-                saveOrUpdateNav(childFundCd, nav);
+                saveAllNavs(LocalDate.now(), List.of(new NavEntry(childFundCd, nav)));
                 log.info("펀드 기준가 크롤링 성공: {} - {}", fundClass.getDisplayName(), nav);
                 return nav;
             } else {
@@ -0,0 +1,103 @@
+package com.hanainplan.domain.fund.service;
+
+import com.hanainplan.domain.fund.entity.FundNav;
+import com.hanainplan.domain.fund.repository.FundNavRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 펀드 클래스별 최신 기준가와 직전(T-1) 기준가 조회.
+ * 최신 기준가는 LatestNavIndex에서, 직전 기준가는 최신 기준일이 바뀔 때만 일괄 조회해 캐시한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FundNavPricingService {
+
+    private final LatestNavIndex latestNavIndex;
+    private final FundNavRepository fundNavRepository;
+
+    private final Map<String, PreviousNav> previousNavs = new ConcurrentHashMap<>();
+
+    public Optional<NavQuote> getQuote(String childFundCd) {
+        if (childFundCd == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getQuotes(List.of(childFundCd)).get(childFundCd));
+    }
+
+    public Map<String, NavQuote> getQuotes(Collection<String> childFundCds) {
+        Set<String> codes = new LinkedHashSet<>(childFundCds);
+        codes.remove(null);
+
+        Map<String, LatestNavIndex.LatestNav> latestNavs = new HashMap<>();
+        List<String> stale = new ArrayList<>();
+
+        for (String childFundCd : codes) {
+            latestNavIndex.get(childFundCd).ifPresent(latest -> {
+                latestNavs.put(childFundCd, latest);
+                PreviousNav previous = previousNavs.get(childFundCd);
+                if (previous == null || !previous.latestNavDate().equals(latest.navDate())) {
+                    stale.add(childFundCd);
+                }
+            });
+        }
+
+        if (!stale.isEmpty()) {
+            loadPreviousNavs(stale, latestNavs);
+        }
+
+        Map<String, NavQuote> quotes = new HashMap<>();
+        latestNavs.forEach((childFundCd, latest) -> {
+            PreviousNav previous = previousNavs.get(childFundCd);
+            boolean previousValid = previous != null && previous.navDate() != null
+                    && previous.navDate().isBefore(latest.navDate());
+            quotes.put(childFundCd, new NavQuote(
+                    childFundCd,
+                    latest.navDate(),
+                    latest.nav(),
+                    previousValid ? previous.navDate() : null,
+                    previousValid ? previous.nav() : null
+            ));
+        });
+
+        if (quotes.size() < codes.size()) {
+            log.debug("기준가가 없는 펀드 {}건", codes.size() - quotes.size());
+        }
+        return quotes;
+    }
+
+    private void loadPreviousNavs(List<String> childFundCds, Map<String, LatestNavIndex.LatestNav> latestNavs) {
+        Map<String, FundNav> found = new HashMap<>();
+        for (FundNav nav : fundNavRepository.findPreviousNavs(childFundCds)) {
+            found.put(nav.getChildFundCd(), nav);
+        }
+
+        for (String childFundCd : childFundCds) {
+            FundNav previous = found.get(childFundCd);
+            previousNavs.put(childFundCd, new PreviousNav(
+                    latestNavs.get(childFundCd).navDate(),
+                    previous != null ? previous.getNavDate() : null,
+                    previous != null ? previous.getNav() : null
+            ));
+        }
+    }
+
+    public record NavQuote(String childFundCd, LocalDate navDate, BigDecimal nav,
+                           LocalDate previousNavDate, BigDecimal previousNav) {}
+
+    private record PreviousNav(LocalDate latestNavDate, LocalDate navDate, BigDecimal nav) {}
+}
@@ -4,9 +4,14 @@ import com.hanainplan.domain.fund.entity.FundPortfolio;
 import com.hanainplan.domain.fund.entity.FundTransaction;
 import com.hanainplan.domain.fund.repository.FundPortfolioRepository;
 import com.hanainplan.domain.fund.repository.FundTransactionRepository;
+import com.hanainplan.domain.banking.client.BankJsonStreamReader;
 import com.hanainplan.domain.banking.client.HanaBankClient;
+import com.hanainplan.domain.banking.client.HanaFundSubscriptionDto;
+import com.hanainplan.domain.banking.client.HanaFundTransactionDto;
 import com.hanainplan.domain.banking.entity.BankingAccount;
 import com.hanainplan.domain.banking.repository.AccountRepository;
+import com.hanainplan.domain.portfolio.service.IrpPortfolioSnapshotCache;
+import feign.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,9 +29,11 @@ import java.util.stream.Collectors;
 public class FundPortfolioSyncService {
 
     private final HanaBankClient hanaBankClient;
+    private final BankJsonStreamReader bankJsonStreamReader;
     private final FundPortfolioRepository fundPortfolioRepository;
     private final FundTransactionRepository fundTransactionRepository;
     private final AccountRepository accountRepository;
+    private final IrpPortfolioSnapshotCache irpPortfolioSnapshotCache;
 
     @Transactional
     public void syncAllUserPortfolios() {
@@ -78,7 +86,7 @@ public class FundPortfolioSyncService {
         log.info("사용자 펀드 포트폴리오 동기화 시작 - CI: {}", customerCi);
 
         try {
-            List<Map<String, Object>> hanaSubscriptions = hanaBankClient.getCustomerSubscriptions(customerCi);
+            List<HanaFundSubscriptionDto> hanaSubscriptions = hanaBankClient.getCustomerSubscriptions(customerCi);
 
             log.info("하나은행에서 조회된 펀드 가입 내역: {}건", hanaSubscriptions.size());
 
@@ -90,9 +98,9 @@ public class FundPortfolioSyncService {
                 return 0;
             }
 
-            for (Map<String, Object> hanaSubscription : hanaSubscriptions) {
+            for (HanaFundSubscriptionDto hanaSubscription : hanaSubscriptions) {
                 try {
-                    Long subscriptionId = ((Number) hanaSubscription.get("subscriptionId")).longValue();
+                    Long subscriptionId = hanaSubscription.getSubscriptionId();
 
                     FundPortfolio portfolio = fundPortfolioRepository
                             .findByCustomerCiAndSubscriptionId(customerCi, subscriptionId)
@@ -111,10 +119,14 @@ public class FundPortfolioSyncService {
 
                 } catch (Exception e) {
                     log.error("포트폴리오 동기화 실패 - 가입 ID: {}", 
-                            hanaSubscription.get("subscriptionId"), e);
+                            hanaSubscription.getSubscriptionId(), e);
                 }
             }
 
+            if (syncedCount > 0) {
+                irpPortfolioSnapshotCache.invalidate(userId);
+            }
+
             log.info("사용자 펀드 포트폴리오 동기화 완료 - CI: {}, {}건 동기화됨", customerCi, syncedCount);
             return syncedCount;
 
@@ -128,22 +140,19 @@ public class FundPortfolioSyncService {
     public int syncUserTransactions(String customerCi) {
         log.info("사용자 펀드 거래 내역 동기화 시작 - CI: {}", customerCi);
 
-        try {
-            List<Map<String, Object>> hanaTransactions = hanaBankClient.getCustomerTransactions(customerCi);
-
-            log.info("하나은행에서 조회된 펀드 거래 내역: {}건", hanaTransactions.size());
+        Long userId = getUserIdByCustomerCi(customerCi);
+        if (userId == null) {
+            log.warn("CI에 해당하는 사용자를 찾을 수 없음 - CI: {}", customerCi);
+            return 0;
+        }
 
-            int syncedCount = 0;
+        try (Response response = hanaBankClient.streamCustomerTransactions(customerCi)) {
+            AtomicInteger syncedCount = new AtomicInteger();
 
-            Long userId = getUserIdByCustomerCi(customerCi);
-            if (userId == null) {
-                log.warn("CI에 해당하는 사용자를 찾을 수 없음 - CI: {}", customerCi);
-                return 0;
-            }
-
-            for (Map<String, Object> hanaTransaction : hanaTransactions) {
+            // 거래내역 배열을 원소 단위로 읽어 바로 반영 (전체 목록을 메모리에 만들지 않음)
+            int fetched = bankJsonStreamReader.forEach(response, HanaFundTransactionDto.class, hanaTransaction -> {
                 try {
-                    Long hanaTransactionId = ((Number) hanaTransaction.get("transactionId")).longValue();
+                    Long hanaTransactionId = hanaTransaction.getTransactionId();
 
                     boolean exists = fundTransactionRepository.existsByDescriptionContaining(
                             "HANA_TX_" + hanaTransactionId);
@@ -151,18 +160,19 @@ public class FundPortfolioSyncService {
                     if (!exists) {
                         FundTransaction transaction = createNewTransaction(userId, customerCi, hanaTransaction);
                         fundTransactionRepository.save(transaction);
-                        syncedCount++;
+                        syncedCount.incrementAndGet();
                         log.debug("신규 펀드 거래 내역 생성 - hanaTransactionId: {}", hanaTransactionId);
                     }
 
                 } catch (Exception e) {
                     log.error("거래 내역 동기화 실패 - 거래 ID: {}", 
-                            hanaTransaction.get("transactionId"), e);
+                            hanaTransaction.getTransactionId(), e);
                 }
-            }
+            });
 
-            log.info("사용자 펀드 거래 내역 동기화 완료 - CI: {}, {}건 동기화됨", customerCi, syncedCount);
-            return syncedCount;
+            log.info("하나은행에서 조회된 펀드 거래 내역: {}건", fetched);
+            log.info("사용자 펀드 거래 내역 동기화 완료 - CI: {}, {}건 동기화됨", customerCi, syncedCount.get());
+            return syncedCount.get();
 
         } catch (Exception e) {
             log.error("사용자 펀드 거래 내역 동기화 실패 - CI: {}", customerCi, e);
@@ -170,56 +180,56 @@ public class FundPortfolioSyncService {
         }
     }
 
-    private FundPortfolio createNewPortfolio(Long userId, String customerCi, Map<String, Object> hanaSubscription) {
-        String fundType = hanaSubscription.get("fundType") != null ? 
-                (String) hanaSubscription.get("fundType") : "기타";
-        String riskLevel = hanaSubscription.get("riskLevel") != null ? 
-                (String) hanaSubscription.get("riskLevel") : "정보없음";
+    private FundPortfolio createNewPortfolio(Long userId, String customerCi, HanaFundSubscriptionDto hanaSubscription) {
+        String fundType = hanaSubscription.getFundType() != null ? 
+                hanaSubscription.getFundType() : "기타";
+        String riskLevel = hanaSubscription.getRiskLevel() != null ? 
+                hanaSubscription.getRiskLevel() : "정보없음";
 
         return FundPortfolio.builder()
                 .userId(userId)
                 .customerCi(customerCi)
                 .bankCode("HANA")
                 .bankName("하나은행")
-                .fundCode((String) hanaSubscription.get("fundCode"))
-                .childFundCd((String) hanaSubscription.get("childFundCd"))
-                .fundName((String) hanaSubscription.get("fundName"))
-                .classCode((String) hanaSubscription.get("classCode"))
+                .fundCode(hanaSubscription.getFundCode())
+                .childFundCd(hanaSubscription.getChildFundCd())
+                .fundName(hanaSubscription.getFundName())
+                .classCode(hanaSubscription.getClassCode())
                 .fundType(fundType)
                 .riskLevel(riskLevel)
-                .purchaseDate(java.time.LocalDate.parse((String) hanaSubscription.get("purchaseDate")))
-                .purchaseNav(new java.math.BigDecimal(hanaSubscription.get("purchaseNav").toString()))
-                .purchaseAmount(new java.math.BigDecimal(hanaSubscription.get("purchaseAmount").toString()))
-                .purchaseFee(new java.math.BigDecimal(hanaSubscription.get("purchaseFee").toString()))
-                .purchaseUnits(new java.math.BigDecimal(hanaSubscription.get("purchaseUnits").toString()))
-                .currentUnits(new java.math.BigDecimal(hanaSubscription.get("currentUnits").toString()))
-                .currentNav(new java.math.BigDecimal(hanaSubscription.get("currentNav").toString()))
-                .currentValue(new java.math.BigDecimal(hanaSubscription.get("currentValue").toString()))
-                .totalReturn(new java.math.BigDecimal(hanaSubscription.get("totalReturn").toString()))
-                .returnRate(new java.math.BigDecimal(hanaSubscription.get("returnRate").toString()))
-                .accumulatedFees(new java.math.BigDecimal(hanaSubscription.get("accumulatedFees").toString()))
-                .irpAccountNumber((String) hanaSubscription.get("irpAccountNumber"))
-                .subscriptionId(((Number) hanaSubscription.get("subscriptionId")).longValue())
-                .status((String) hanaSubscription.get("status"))
+                .purchaseDate(hanaSubscription.getPurchaseDate())
+                .purchaseNav(hanaSubscription.getPurchaseNav())
+                .purchaseAmount(hanaSubscription.getPurchaseAmount())
+                .purchaseFee(hanaSubscription.getPurchaseFee())
+                .purchaseUnits(hanaSubscription.getPurchaseUnits())
+                .currentUnits(hanaSubscription.getCurrentUnits())
+                .currentNav(hanaSubscription.getCurrentNav())
+                .currentValue(hanaSubscription.getCurrentValue())
+                .totalReturn(hanaSubscription.getTotalReturn())
+                .returnRate(hanaSubscription.getReturnRate())
+                .accumulatedFees(hanaSubscription.getAccumulatedFees())
+                .irpAccountNumber(hanaSubscription.getIrpAccountNumber())
+                .subscriptionId(hanaSubscription.getSubscriptionId())
+                .status(hanaSubscription.getStatus())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
     }
 
-    private void updateExistingPortfolio(FundPortfolio portfolio, Map<String, Object> hanaSubscription) {
-        portfolio.setCurrentUnits(new java.math.BigDecimal(hanaSubscription.get("currentUnits").toString()));
-        portfolio.setCurrentNav(new java.math.BigDecimal(hanaSubscription.get("currentNav").toString()));
-        portfolio.setCurrentValue(new java.math.BigDecimal(hanaSubscription.get("currentValue").toString()));
-        portfolio.setTotalReturn(new java.math.BigDecimal(hanaSubscription.get("totalReturn").toString()));
-        portfolio.setReturnRate(new java.math.BigDecimal(hanaSubscription.get("returnRate").toString()));
-        portfolio.setAccumulatedFees(new java.math.BigDecimal(hanaSubscription.get("accumulatedFees").toString()));
-        portfolio.setStatus((String) hanaSubscription.get("status"));
+    private void updateExistingPortfolio(FundPortfolio portfolio, HanaFundSubscriptionDto hanaSubscription) {
+        portfolio.setCurrentUnits(hanaSubscription.getCurrentUnits());
+        portfolio.setCurrentNav(hanaSubscription.getCurrentNav());
+        portfolio.setCurrentValue(hanaSubscription.getCurrentValue());
+        portfolio.setTotalReturn(hanaSubscription.getTotalReturn());
+        portfolio.setReturnRate(hanaSubscription.getReturnRate());
+        portfolio.setAccumulatedFees(hanaSubscription.getAccumulatedFees());
+        portfolio.setStatus(hanaSubscription.getStatus());
         portfolio.setUpdatedAt(LocalDateTime.now());
     }
 
-    private FundTransaction createNewTransaction(Long userId, String customerCi, Map<String, Object> hanaTransaction) {
-        Long hanaTransactionId = ((Number) hanaTransaction.get("transactionId")).longValue();
-        Long subscriptionId = ((Number) hanaTransaction.get("subscriptionId")).longValue();
+    private FundTransaction createNewTransaction(Long userId, String customerCi, HanaFundTransactionDto hanaTransaction) {
+        Long hanaTransactionId = hanaTransaction.getTransactionId();
+        Long subscriptionId = hanaTransaction.getSubscriptionId();
         
         // subscriptionId로 FundPortfolio를 찾아서 실제 portfolioId를 가져옴
         FundPortfolio portfolio = fundPortfolioRepository
@@ -229,20 +239,17 @@ public class FundPortfolioSyncService {
         return FundTransaction.builder()
                 .portfolioId(portfolio.getPortfolioId()) // 실제 portfolioId 사용
                 .userId(userId)
-                .fundCode((String) hanaTransaction.get("childFundCd"))
-                .transactionType((String) hanaTransaction.get("transactionType"))
-                .transactionDate(java.time.LocalDateTime.of(
-                        java.time.LocalDate.parse(hanaTransaction.get("transactionDate").toString()),
-                        java.time.LocalTime.MIN))
-                .settlementDate(hanaTransaction.get("settlementDate") != null ? 
-                        java.time.LocalDate.parse(hanaTransaction.get("settlementDate").toString()) : null)
-                .nav(new java.math.BigDecimal(hanaTransaction.get("nav").toString()))
-                .units(new java.math.BigDecimal(hanaTransaction.get("units").toString()))
-                .amount(new java.math.BigDecimal(hanaTransaction.get("amount").toString()))
-                .fee(new java.math.BigDecimal(hanaTransaction.get("fee").toString()))
-                .balanceUnits(new java.math.BigDecimal(hanaTransaction.get("units").toString()))
-                .irpAccountNumber((String) hanaTransaction.get("irpAccountNumber"))
-                .description("HANA_TX_" + hanaTransactionId + " - " + hanaTransaction.get("note"))
+                .fundCode(hanaTransaction.getChildFundCd())
+                .transactionType(hanaTransaction.getTransactionType())
+                .transactionDate(hanaTransaction.getTransactionDate().atStartOfDay())
+                .settlementDate(hanaTransaction.getSettlementDate())
+                .nav(hanaTransaction.getNav())
+                .units(hanaTransaction.getUnits())
+                .amount(hanaTransaction.getAmount())
+                .fee(hanaTransaction.getFee())
+                .balanceUnits(hanaTransaction.getUnits())
+                .irpAccountNumber(hanaTransaction.getIrpAccountNumber())
+                .description("HANA_TX_" + hanaTransactionId + " - " + hanaTransaction.getNote())
                 .createdAt(LocalDateTime.now())
                 .build();
     }
@@ -12,6 +12,7 @@ import com.hanainplan.domain.fund.dto.FundRedemptionRequestDto;
 import com.hanainplan.domain.fund.dto.FundRedemptionResponseDto;
 import com.hanainplan.domain.user.entity.User;
 import com.hanainplan.domain.user.repository.UserRepository;
+import com.hanainplan.domain.portfolio.service.IrpPortfolioSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -36,6 +37,7 @@ public class FundSubscriptionService {
     private final com.hanainplan.domain.banking.repository.TransactionRepository transactionRepository;
     private final FundPortfolioSyncService fundPortfolioSyncService;
     private final com.hanainplan.domain.banking.service.IrpLimitService irpLimitService;
+    private final IrpPortfolioSnapshotCache irpPortfolioSnapshotCache;
 
     @Transactional
     public FundPurchaseResponseDto purchaseFund(FundPurchaseRequestDto request) {
@@ -126,6 +128,7 @@ public class FundSubscriptionService {
 
                 irpAccount.setCurrentBalance(newBalance);
                 irpAccountRepository.save(irpAccount);
+                irpPortfolioSnapshotCache.invalidate(irpAccount.getCustomerId());
 
                 log.info("하나인플랜 IRP 계좌 출금 완료 - 계좌번호: {}, {}원 -> {}원",
                         irpAccount.getAccountNumber(), oldBalance, newBalance);
@@ -164,6 +167,7 @@ public class FundSubscriptionService {
 
                 irpAccount.setCurrentBalance(newBalance);
                 irpAccountRepository.save(irpAccount);
+                irpPortfolioSnapshotCache.invalidate(irpAccount.getCustomerId());
 
                 log.info("하나인플랜 IRP 계좌 입금 완료 - 계좌번호: {}, {}원 -> {}원",
                         irpAccount.getAccountNumber(), oldBalance, newBalance);
@@ -1,10 +1,13 @@
 package com.hanainplan.domain.fund.service;
 
+import com.hanainplan.domain.banking.client.BankJsonStreamReader;
 import com.hanainplan.domain.banking.client.HanaBankClient;
+import com.hanainplan.domain.banking.client.HanaFundClassDto;
 import com.hanainplan.domain.fund.entity.*;
 import com.hanainplan.domain.fund.repository.FundClassRepository;
 import com.hanainplan.domain.fund.repository.FundMasterRepository;
 import com.hanainplan.domain.fund.repository.FundNavRepository;
+import feign.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,9 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,60 +23,28 @@ import java.util.Map;
 public class FundSyncService {
 
     private final HanaBankClient hanaBankClient;
+    private final BankJsonStreamReader bankJsonStreamReader;
     private final FundMasterRepository fundMasterRepository;
     private final FundClassRepository fundClassRepository;
     private final FundNavRepository fundNavRepository;
+    private final LatestNavIndex latestNavIndex;
 
     @Transactional
     public void syncFundProducts() {
         log.info("===== 펀드 상품 동기화 시작 =====");
 
-        try {
-            List<Map<String, Object>> fundClassesFromBank = hanaBankClient.getAllOnSaleFundClasses();
-            log.info("하나은행에서 조회한 펀드 클래스 수: {}건", fundClassesFromBank.size());
-
-            int masterCreated = 0;
-            int masterUpdated = 0;
-            int classCreated = 0;
-            int classUpdated = 0;
-            int navCreated = 0;
-
-            for (Map<String, Object> fundData : fundClassesFromBank) {
-                try {
-                    FundMaster fundMaster = syncFundMaster(fundData);
-                    if (fundMaster != null) {
-                        if (fundMaster.getSyncedAt() == null) {
-                            masterCreated++;
-                        } else {
-                            masterUpdated++;
-                        }
-                    }
-
-                    FundClass fundClass = syncFundClass(fundData, fundMaster);
-                    if (fundClass != null) {
-                        String childFundCd = fundClass.getChildFundCd();
-                        boolean existed = fundClassRepository.existsById(childFundCd);
-                        if (!existed) {
-                            classCreated++;
-                        } else {
-                            classUpdated++;
-                        }
-                    }
-
-                    boolean navSynced = syncFundNav(fundData);
-                    if (navSynced) {
-                        navCreated++;
-                    }
-
-                } catch (Exception e) {
-                    log.error("펀드 클래스 동기화 실패 - childFundCd: {}", fundData.get("childFundCd"), e);
-                }
-            }
+        try (Response response = hanaBankClient.streamOnSaleFundClasses()) {
+            SyncCounts counts = new SyncCounts();
+
+            // 응답 배열을 원소 단위로 읽어 바로 반영 (전체 목록을 메모리에 만들지 않음)
+            int fetched = bankJsonStreamReader.forEach(response, HanaFundClassDto.class,
+                    fundData -> syncFundClassData(fundData, counts));
+            log.info("하나은행에서 조회한 펀드 클래스 수: {}건", fetched);
 
             log.info("===== 펀드 상품 동기화 완료 =====");
-            log.info("FundMaster - 신규: {}건, 업데이트: {}건", masterCreated, masterUpdated);
-            log.info("FundClass - 신규: {}건, 업데이트: {}건", classCreated, classUpdated);
-            log.info("FundNav - 신규: {}건", navCreated);
+            log.info("FundMaster - 신규: {}건, 업데이트: {}건", counts.masterCreated, counts.masterUpdated);
+            log.info("FundClass - 신규: {}건, 업데이트: {}건", counts.classCreated, counts.classUpdated);
+            log.info("FundNav - 신규: {}건", counts.navCreated);
 
         } catch (Exception e) {
             log.error("펀드 상품 동기화 중 오류 발생", e);
@@ -84,65 +52,92 @@ public class FundSyncService {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private FundMaster syncFundMaster(Map<String, Object> fundData) {
-        Map<String, Object> fundMasterData = (Map<String, Object>) fundData.get("fundMaster");
+    private void syncFundClassData(HanaFundClassDto fundData, SyncCounts counts) {
+        try {
+            FundMaster fundMaster = syncFundMaster(fundData.getFundMaster());
+            if (fundMaster != null) {
+                if (fundMaster.getSyncedAt() == null) {
+                    counts.masterCreated++;
+                } else {
+                    counts.masterUpdated++;
+                }
+            }
+
+            FundClass fundClass = syncFundClass(fundData, fundMaster);
+            if (fundClass != null) {
+                String childFundCd = fundClass.getChildFundCd();
+                boolean existed = fundClassRepository.existsById(childFundCd);
+                if (!existed) {
+                    counts.classCreated++;
+                } else {
+                    counts.classUpdated++;
+                }
+            }
+
+            boolean navSynced = syncFundNav(fundData);
+            if (navSynced) {
+                counts.navCreated++;
+            }
+
+        } catch (Exception e) {
+            log.error("펀드 클래스 동기화 실패 - childFundCd: {}", fundData.getChildFundCd(), e);
+        }
+    }
+
+    private FundMaster syncFundMaster(HanaFundClassDto.FundMaster fundMasterData) {
         if (fundMasterData == null) {
             return null;
         }
 
-        String fundCd = (String) fundMasterData.get("fundCd");
+        String fundCd = fundMasterData.getFundCd();
         FundMaster fundMaster = fundMasterRepository.findById(fundCd)
                 .orElse(FundMaster.builder()
                         .fundCd(fundCd)
                         .build());
 
-        fundMaster.setFundName((String) fundMasterData.get("fundName"));
-        fundMaster.setFundGb((Integer) fundMasterData.get("fundGb"));
-        fundMaster.setAssetType((String) fundMasterData.get("assetType"));
-        fundMaster.setRiskGrade((String) fundMasterData.get("riskGrade"));
-        fundMaster.setCurrency((String) fundMasterData.get("currency"));
-        fundMaster.setIsActive((Boolean) fundMasterData.get("isActive"));
+        fundMaster.setFundName(fundMasterData.getFundName());
+        fundMaster.setFundGb(fundMasterData.getFundGb());
+        fundMaster.setAssetType(fundMasterData.getAssetType());
+        fundMaster.setRiskGrade(fundMasterData.getRiskGrade());
+        fundMaster.setCurrency(fundMasterData.getCurrency());
+        fundMaster.setIsActive(fundMasterData.getIsActive());
         fundMaster.updateSyncTime();
 
         return fundMasterRepository.save(fundMaster);
     }
 
-    @SuppressWarnings("unchecked")
-    private FundClass syncFundClass(Map<String, Object> fundData, FundMaster fundMaster) {
+    private FundClass syncFundClass(HanaFundClassDto fundData, FundMaster fundMaster) {
         if (fundMaster == null) {
             return null;
         }
 
-        String childFundCd = (String) fundData.get("childFundCd");
+        String childFundCd = fundData.getChildFundCd();
         FundClass fundClass = fundClassRepository.findById(childFundCd)
                 .orElse(FundClass.builder()
                         .childFundCd(childFundCd)
                         .fundMaster(fundMaster)
                         .build());
 
-        fundClass.setClassCode((String) fundData.get("classCode"));
-        fundClass.setLoadType((String) fundData.get("loadType"));
-        fundClass.setTaxCategory((String) fundData.get("taxCategory"));
-        fundClass.setSaleStatus((String) fundData.get("saleStatus"));
-        fundClass.setSourceUrl((String) fundData.get("sourceUrl"));
+        fundClass.setClassCode(fundData.getClassCode());
+        fundClass.setLoadType(fundData.getLoadType());
+        fundClass.setTaxCategory(fundData.getTaxCategory());
+        fundClass.setSaleStatus(fundData.getSaleStatus());
+        fundClass.setSourceUrl(fundData.getSourceUrl());
 
         fundClass = fundClassRepository.save(fundClass);
 
-        Map<String, Object> rulesData = (Map<String, Object>) fundData.get("rules");
-        if (rulesData != null) {
-            syncFundRules(fundClass, rulesData);
+        if (fundData.getRules() != null) {
+            syncFundRules(fundClass, fundData.getRules());
         }
 
-        Map<String, Object> feesData = (Map<String, Object>) fundData.get("fees");
-        if (feesData != null) {
-            syncFundFees(fundClass, feesData);
+        if (fundData.getFees() != null) {
+            syncFundFees(fundClass, fundData.getFees());
         }
 
         return fundClass;
     }
 
-    private void syncFundRules(FundClass fundClass, Map<String, Object> rulesData) {
+    private void syncFundRules(FundClass fundClass, HanaFundClassDto.Rules rulesData) {
         FundRules rules = fundClass.getFundRules();
         if (rules == null) {
             rules = FundRules.builder()
@@ -150,24 +145,24 @@ public class FundSyncService {
                     .build();
         }
 
-        rules.setCutoffTime(parseLocalTime(rulesData.get("cutoffTime")));
-        rules.setNavPublishTime(parseLocalTime(rulesData.get("navPublishTime")));
-        rules.setBuySettleDays((Integer) rulesData.get("buySettleDays"));
-        rules.setRedeemSettleDays((Integer) rulesData.get("redeemSettleDays"));
-        rules.setUnitType((String) rulesData.get("unitType"));
-        rules.setMinInitialAmount(toBigDecimal(rulesData.get("minInitialAmount")));
-        rules.setMinAdditional(toBigDecimal(rulesData.get("minAdditional")));
-        rules.setIncrementAmount(toBigDecimal(rulesData.get("incrementAmount")));
-        rules.setAllowSip((Boolean) rulesData.get("allowSip"));
-        rules.setAllowSwitch((Boolean) rulesData.get("allowSwitch"));
-        rules.setRedemptionFeeRate(toBigDecimal(rulesData.get("redemptionFeeRate")));
-        rules.setRedemptionFeeDays((Integer) rulesData.get("redemptionFeeDays"));
+        rules.setCutoffTime(rulesData.getCutoffTime());
+        rules.setNavPublishTime(rulesData.getNavPublishTime());
+        rules.setBuySettleDays(rulesData.getBuySettleDays());
+        rules.setRedeemSettleDays(rulesData.getRedeemSettleDays());
+        rules.setUnitType(rulesData.getUnitType());
+        rules.setMinInitialAmount(rulesData.getMinInitialAmount());
+        rules.setMinAdditional(rulesData.getMinAdditional());
+        rules.setIncrementAmount(rulesData.getIncrementAmount());
+        rules.setAllowSip(rulesData.getAllowSip());
+        rules.setAllowSwitch(rulesData.getAllowSwitch());
+        rules.setRedemptionFeeRate(rulesData.getRedemptionFeeRate());
+        rules.setRedemptionFeeDays(rulesData.getRedemptionFeeDays());
 
         fundClass.setFundRules(rules);
         rules.setFundClass(fundClass);
     }
 
-    private void syncFundFees(FundClass fundClass, Map<String, Object> feesData) {
+    private void syncFundFees(FundClass fundClass, HanaFundClassDto.Fees feesData) {
         FundFees fees = fundClass.getFundFees();
         if (fees == null) {
             fees = FundFees.builder()
@@ -175,28 +170,23 @@ public class FundSyncService {
                     .build();
         }
 
-        fees.setMgmtFeeBps((Integer) feesData.get("mgmtFeeBps"));
-        fees.setSalesFeeBps((Integer) feesData.get("salesFeeBps"));
-        fees.setTrusteeFeeBps((Integer) feesData.get("trusteeFeeBps"));
-        fees.setAdminFeeBps((Integer) feesData.get("adminFeeBps"));
-        fees.setFrontLoadPct(toBigDecimal(feesData.get("frontLoadPct")));
-        fees.setTotalFeeBps((Integer) feesData.get("totalFeeBps"));
+        fees.setMgmtFeeBps(feesData.getMgmtFeeBps());
+        fees.setSalesFeeBps(feesData.getSalesFeeBps());
+        fees.setTrusteeFeeBps(feesData.getTrusteeFeeBps());
+        fees.setAdminFeeBps(feesData.getAdminFeeBps());
+        fees.setFrontLoadPct(feesData.getFrontLoadPct());
+        fees.setTotalFeeBps(feesData.getTotalFeeBps());
 
         fundClass.setFundFees(fees);
         fees.setFundClass(fundClass);
     }
 
-    private boolean syncFundNav(Map<String, Object> fundData) {
-        String childFundCd = (String) fundData.get("childFundCd");
-        BigDecimal latestNav = toBigDecimal(fundData.get("latestNav"));
-        Object navDateObj = fundData.get("latestNavDate");
+    private boolean syncFundNav(HanaFundClassDto fundData) {
+        String childFundCd = fundData.getChildFundCd();
+        BigDecimal latestNav = fundData.getLatestNav();
+        LocalDate navDate = fundData.getLatestNavDate();
 
-        if (latestNav == null || navDateObj == null) {
-            return false;
-        }
-
-        LocalDate navDate = parseLocalDate(navDateObj);
-        if (navDate == null) {
+        if (latestNav == null || navDate == null) {
             return false;
         }
 
@@ -212,77 +202,15 @@ public class FundSyncService {
                 .build();
 
         fundNavRepository.save(fundNav);
+        latestNavIndex.update(childFundCd, navDate, latestNav);
         return true;
     }
 
-    private LocalTime parseLocalTime(Object value) {
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof LocalTime) {
-            return (LocalTime) value;
-        }
-        if (value instanceof String) {
-            try {
-                return LocalTime.parse((String) value);
-            } catch (Exception e) {
-                log.warn("LocalTime 파싱 실패: {}", value);
-                return null;
-            }
-        }
-        if (value instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Integer> parts = (List<Integer>) value;
-            if (parts.size() >= 2) {
-                return LocalTime.of(parts.get(0), parts.get(1), parts.size() > 2 ? parts.get(2) : 0);
-            }
-        }
-        return null;
-    }
-
-    private LocalDate parseLocalDate(Object value) {
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof LocalDate) {
-            return (LocalDate) value;
-        }
-        if (value instanceof String) {
-            try {
-                return LocalDate.parse((String) value);
-            } catch (Exception e) {
-                log.warn("LocalDate 파싱 실패: {}", value);
-                return null;
-            }
-        }
-        if (value instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Integer> parts = (List<Integer>) value;
-            if (parts.size() >= 3) {
-                return LocalDate.of(parts.get(0), parts.get(1), parts.get(2));
-            }
-        }
-        return null;
-    }
-
-    private BigDecimal toBigDecimal(Object value) {
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof BigDecimal) {
-            return (BigDecimal) value;
-        }
-        if (value instanceof Number) {
-            return BigDecimal.valueOf(((Number) value).doubleValue());
-        }
-        if (value instanceof String) {
-            try {
-                return new BigDecimal((String) value);
-            } catch (NumberFormatException e) {
-                log.warn("BigDecimal 변환 실패: {}", value);
-                return null;
-            }
-        }
-        return null;
+    private static final class SyncCounts {
+        private int masterCreated;
+        private int masterUpdated;
+        private int classCreated;
+        private int classUpdated;
+        private int navCreated;
     }
-}
\ No newline at end of file
+}
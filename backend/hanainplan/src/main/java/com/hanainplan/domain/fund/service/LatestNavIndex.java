@@ -0,0 +1,118 @@
+package com.hanainplan.domain.fund.service;
+
+import com.hanainplan.domain.fund.entity.FundNav;
+import com.hanainplan.domain.fund.repository.FundNavRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LatestNavIndex {
+
+    private static final int NAV_SCALE = 4;
+
+    private final FundNavRepository fundNavRepository;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 반영 순번 - reload 스냅샷 이후에 반영된 항목을 구분하는 데 사용
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile boolean loaded = false;
+
+    public Optional<LatestNav> get(String childFundCd) {
+        ensureLoaded();
+        Entry entry = entries.get(childFundCd);
+        return entry == null ? Optional.empty() : Optional.of(entry.toLatestNav());
+    }
+
+    public void update(String childFundCd, LocalDate navDate, BigDecimal nav) {
+        if (childFundCd == null || navDate == null || nav == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(childFundCd, navDate, nav);
+                }
+            });
+        } else {
+            apply(childFundCd, navDate, nav);
+        }
+    }
+
+    public void updateAll(List<FundNav> navs) {
+        navs.forEach(nav -> update(nav.getChildFundCd(), nav.getNavDate(), nav.getNav()));
+    }
+
+    public synchronized void reload() {
+        long snapshotSequence = sequence.get();
+        List<FundNav> latestNavs = fundNavRepository.findLatestNavPerFund();
+
+        Map<String, Entry> fresh = new ConcurrentHashMap<>(latestNavs.size() * 2);
+        for (FundNav nav : latestNavs) {
+            fresh.merge(nav.getChildFundCd(), Entry.of(nav.getNavDate(), nav.getNav(), snapshotSequence), Entry::newer);
+        }
+
+        // 스냅샷에 없는 항목은 조회 이후 커밋되어 반영된 경우에만 남긴다
+        entries.entrySet().removeIf(current -> !fresh.containsKey(current.getKey())
+                && current.getValue().sequence() <= snapshotSequence);
+        fresh.forEach((childFundCd, entry) -> entries.merge(childFundCd, entry, Entry::newer));
+        loaded = true;
+
+        log.info("최신 기준가 인덱스 적재 완료: {}건", entries.size());
+    }
+
+    private void apply(String childFundCd, LocalDate navDate, BigDecimal nav) {
+        entries.merge(childFundCd, Entry.of(navDate, nav, sequence.incrementAndGet()), Entry::newer);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+    }
+
+    public record LatestNav(LocalDate navDate, BigDecimal nav) {}
+
+    private record Entry(long navEpochDay, long navUnits, long sequence) {
+
+        static Entry of(LocalDate navDate, BigDecimal nav, long sequence) {
+            return new Entry(
+                    navDate.toEpochDay(),
+                    nav.setScale(NAV_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact(),
+                    sequence
+            );
+        }
+
+        static Entry newer(Entry current, Entry candidate) {
+            if (candidate.navEpochDay != current.navEpochDay) {
+                return candidate.navEpochDay > current.navEpochDay ? candidate : current;
+            }
+            return candidate.sequence >= current.sequence ? candidate : current;
+        }
+
+        LatestNav toLatestNav() {
+            return new LatestNav(LocalDate.ofEpochDay(navEpochDay), BigDecimal.valueOf(navUnits, NAV_SCALE));
+        }
+    }
+}
@@ -7,12 +7,10 @@ import com.hanainplan.domain.notification.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -41,12 +39,26 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "알림 일괄 생성", description = "같은 알림을 여러 사용자에게 한 번에 생성합니다.")
+    public ResponseEntity<ApiResponse> createNotifications(
+            @Valid @RequestBody NotificationDto.BulkCreateRequest request) {
+        log.info("알림 일괄 생성 요청 - 대상 사용자: {}명, 제목: {}", request.getUserIds().size(), request.getTitle());
+
+        int createdCount = notificationService.createNotifications(request);
+
+        return ResponseEntity.ok(ApiResponse.builder()
+                .success(true)
+                .message(String.format("%d개의 알림이 생성되었습니다.", createdCount))
+                .build());
+    }
+
     @GetMapping
-    @Operation(summary = "사용자 알림 목록 조회", description = "현재 로그인한 사용자의 알림 목록을 페이징으로 조회합니다.")
-    public ResponseEntity<Page<NotificationDto.Response>> getUserNotifications(
+    @Operation(summary = "사용자 알림 목록 조회", description = "현재 로그인한 사용자의 알림 목록을 커서 기반으로 조회합니다.")
+    public ResponseEntity<NotificationDto.CursorPage> getUserNotifications(
             Authentication authentication,
             @Parameter(description = "사용자 ID (개발용)") @RequestParam(required = false) Long userId,
-            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
 
         Long targetUserId;
@@ -60,23 +72,21 @@ public class NotificationController {
             }
         }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<NotificationDto.Response> notifications = notificationService.getUserNotifications(targetUserId, pageable);
+        NotificationDto.CursorPage notifications = notificationService.getUserNotifications(targetUserId, cursor, size);
         return ResponseEntity.ok(notifications);
     }
 
     @GetMapping("/unread")
-    @Operation(summary = "읽지 않은 알림 목록 조회", description = "현재 로그인한 사용자의 읽지 않은 알림 목록을 페이징으로 조회합니다.")
-    public ResponseEntity<Page<NotificationDto.Response>> getUserUnreadNotifications(
+    @Operation(summary = "읽지 않은 알림 목록 조회", description = "현재 로그인한 사용자의 읽지 않은 알림 목록을 커서 기반으로 조회합니다.")
+    public ResponseEntity<NotificationDto.CursorPage> getUserUnreadNotifications(
             Authentication authentication,
             @Parameter(description = "사용자 ID (개발용)") @RequestParam(required = false) Long userId,
-            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
 
         Long targetUserId = (userId != null) ? userId : getUserIdFromAuthentication(authentication);
-        Pageable pageable = PageRequest.of(page, size);
 
-        Page<NotificationDto.Response> notifications = notificationService.getUserUnreadNotifications(targetUserId, pageable);
+        NotificationDto.CursorPage notifications = notificationService.getUserUnreadNotifications(targetUserId, cursor, size);
         return ResponseEntity.ok(notifications);
     }
 
@@ -91,34 +101,32 @@ public class NotificationController {
     }
 
     @GetMapping("/type/{type}")
-    @Operation(summary = "특정 타입 알림 목록 조회", description = "현재 로그인한 사용자의 특정 타입 알림 목록을 페이징으로 조회합니다.")
-    public ResponseEntity<Page<NotificationDto.Response>> getUserNotificationsByType(
+    @Operation(summary = "특정 타입 알림 목록 조회", description = "현재 로그인한 사용자의 특정 타입 알림 목록을 커서 기반으로 조회합니다.")
+    public ResponseEntity<NotificationDto.CursorPage> getUserNotificationsByType(
             Authentication authentication,
             @Parameter(description = "알림 타입") @PathVariable NotificationType type,
             @Parameter(description = "사용자 ID (개발용)") @RequestParam(required = false) Long userId,
-            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
 
         Long targetUserId = (userId != null) ? userId : getUserIdFromAuthentication(authentication);
-        Pageable pageable = PageRequest.of(page, size);
 
-        Page<NotificationDto.Response> notifications = notificationService.getUserNotificationsByType(targetUserId, type, pageable);
+        NotificationDto.CursorPage notifications = notificationService.getUserNotificationsByType(targetUserId, type, cursor, size);
         return ResponseEntity.ok(notifications);
     }
 
     @GetMapping("/period")
-    @Operation(summary = "기간별 알림 목록 조회", description = "현재 로그인한 사용자의 특정 기간 알림 목록을 페이징으로 조회합니다.")
-    public ResponseEntity<Page<NotificationDto.Response>> getUserNotificationsByPeriod(
+    @Operation(summary = "기간별 알림 목록 조회", description = "현재 로그인한 사용자의 특정 기간 알림 목록을 커서 기반으로 조회합니다.")
+    public ResponseEntity<NotificationDto.CursorPage> getUserNotificationsByPeriod(
             Authentication authentication,
             @Parameter(description = "시작일 (yyyy-MM-ddTHH:mm:ss)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @Parameter(description = "종료일 (yyyy-MM-ddTHH:mm:ss)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size) {
 
         Long userId = getUserIdFromAuthentication(authentication);
-        Pageable pageable = PageRequest.of(page, size);
 
-        Page<NotificationDto.Response> notifications = notificationService.getUserNotificationsByPeriod(userId, startDate, endDate, pageable);
+        NotificationDto.CursorPage notifications = notificationService.getUserNotificationsByPeriod(userId, startDate, endDate, cursor, size);
         return ResponseEntity.ok(notifications);
     }
 
@@ -2,12 +2,16 @@ package com.hanainplan.domain.notification.dto;
 
 import com.hanainplan.domain.notification.entity.Notification;
 import com.hanainplan.domain.notification.entity.NotificationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class NotificationDto {
 
@@ -59,6 +63,52 @@ public class NotificationDto {
         }
     }
 
+    /**
+     * 키셋(seek) 페이지. 다음 페이지는 nextCursor를 cursor로 넘겨 조회한다.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CursorPage {
+        private List<Response> content;
+        private int size;
+        private Long nextCursor;
+        private boolean hasNext;
+
+        public static CursorPage of(List<Notification> fetched, int size) {
+            boolean hasNext = size > 0 && fetched.size() > size;
+            List<Response> content = fetched.stream()
+                    .limit(size)
+                    .map(Response::from)
+                    .toList();
+
+            return CursorPage.builder()
+                    .content(content)
+                    .size(size)
+                    .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                    .hasNext(hasNext)
+                    .build();
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BulkCreateRequest {
+        @NotEmpty(message = "대상 사용자 ID는 필수입니다")
+        private List<@NotNull(message = "대상 사용자 ID에 null이 포함될 수 없습니다") Long> userIds;
+
+        @NotBlank(message = "알림 제목은 필수입니다")
+        private String title;
+
+        private String content;
+
+        @NotNull(message = "알림 유형은 필수입니다")
+        private NotificationType type;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
        indexes = {
            @Index(name = "idx_user_id", columnList = "user_id"),
            @Index(name = "idx_user_read", columnList = "user_id, is_read"),
-           @Index(name = "idx_created_at", columnList = "created_at")
+           @Index(name = "idx_created_at", columnList = "created_at"),
+           @Index(name = "idx_read_created", columnList = "is_read, created_at")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,61 @@
+package com.hanainplan.domain.notification.repository;
+
+import com.hanainplan.domain.notification.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송할 이메일을 잠그며 가져온다. 다른 워커가 잠근 행은 건너뛰고(SKIP LOCKED),
+     * 발송 중 상태로 임대 시간이 지난 행(발송 중 종료된 노드)은 다시 가져온다.
+     */
+    @Query(value = "SELECT o.outbox_id FROM tb_email_outbox o " +
+                   "WHERE (o.status = 'PENDING' AND o.next_attempt_at <= :now) " +
+                   "OR (o.status = 'SENDING' AND o.claimed_at < :leaseCutoff) " +
+                   "ORDER BY o.next_attempt_at " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockDispatchableIds(@Param("now") LocalDateTime now,
+                                   @Param("leaseCutoff") LocalDateTime leaseCutoff,
+                                   @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = com.hanainplan.domain.notification.entity.EmailOutbox.Status.SENDING, " +
+           "o.claimedBy = :claimedBy, o.claimedAt = :now, o.attemptCount = o.attemptCount + 1 " +
+           "WHERE o.outboxId IN :outboxIds")
+    int claim(@Param("outboxIds") Collection<Long> outboxIds,
+              @Param("claimedBy") String claimedBy,
+              @Param("now") LocalDateTime now);
+
+    // 선점한 워커만 결과를 기록할 수 있다 (임대가 만료되어 다른 워커가 가져간 경우 0 반환)
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = com.hanainplan.domain.notification.entity.EmailOutbox.Status.SENT, " +
+           "o.sentAt = :now, o.lastError = null " +
+           "WHERE o.outboxId IN :outboxIds AND o.claimedBy = :claimedBy " +
+           "AND o.status = com.hanainplan.domain.notification.entity.EmailOutbox.Status.SENDING")
+    int markSent(@Param("outboxIds") Collection<Long> outboxIds,
+                 @Param("claimedBy") String claimedBy,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError " +
+           "WHERE o.outboxId = :outboxId AND o.claimedBy = :claimedBy " +
+           "AND o.status = com.hanainplan.domain.notification.entity.EmailOutbox.Status.SENDING")
+    int markFailedAttempt(@Param("outboxId") Long outboxId,
+                          @Param("claimedBy") String claimedBy,
+                          @Param("status") EmailOutbox.Status status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    long countByStatus(EmailOutbox.Status status);
+}
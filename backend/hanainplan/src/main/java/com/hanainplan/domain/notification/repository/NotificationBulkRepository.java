@@ -0,0 +1,69 @@
+package com.hanainplan.domain.notification.repository;
+
+import com.hanainplan.domain.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (user_id, title, content, type, is_read, created_at, created_date) " +
+            "VALUES (?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 알림을 여러 사용자에게 한 번의 배치 INSERT로 생성하고, 생성된 알림 ID를 userIds 순서대로 반환한다.
+     */
+    public List<Long> insertForUsers(List<Long> userIds, String title, String content, NotificationType type,
+                                     LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, userIds.get(i));
+                        ps.setString(2, title);
+                        ps.setString(3, content);
+                        ps.setString(4, type.name());
+                        ps.setTimestamp(5, timestamp);
+                        ps.setTimestamp(6, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return userIds.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(userIds.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            Object id = keys.values().iterator().next();
+            ids.add(id != null ? ((Number) id).longValue() : null);
+        }
+        return ids;
+    }
+}
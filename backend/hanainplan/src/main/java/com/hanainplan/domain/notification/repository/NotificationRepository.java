@@ -2,8 +2,7 @@ package com.hanainplan.domain.notification.repository;
 
 import com.hanainplan.domain.notification.entity.Notification;
 import com.hanainplan.domain.notification.entity.NotificationType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -11,27 +10,41 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    // 키셋 페이지 조회 - id 내림차순(최신순)으로 cursor보다 작은 id만 읽어 OFFSET 스캔을 피한다
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notification> findPageByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor, Limit limit);
 
-    Page<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notification> findUnreadPageByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor, Limit limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.type = :type AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notification> findPageByUserIdAndType(@Param("userId") Long userId, @Param("type") NotificationType type,
+                                               @Param("cursor") Long cursor, Limit limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.createdAt BETWEEN :startDate AND :endDate " +
+           "AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notification> findPageByUserIdAndPeriod(@Param("userId") Long userId,
+                                                 @Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate,
+                                                 @Param("cursor") Long cursor, Limit limit);
 
     Long countByUserIdAndIsReadFalse(Long userId);
 
     Long countByUserId(Long userId);
 
-    Page<Notification> findByUserIdAndTypeOrderByCreatedAtDesc(Long userId, NotificationType type, Pageable pageable);
+    // 보관 기간이 지난 읽은 알림 (전체 사용자 대상, idx_read_created 사용)
+    @Query("SELECT n FROM Notification n WHERE n.isRead = true AND n.createdAt < :cutoffDate ORDER BY n.createdAt ASC")
+    List<Notification> findExpiredReadNotifications(@Param("cutoffDate") LocalDateTime cutoffDate, Limit limit);
 
-    Page<Notification> findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(
-        Long userId,
-        LocalDateTime startDate,
-        LocalDateTime endDate,
-        Pageable pageable
-    );
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true, n.readAt = CURRENT_TIMESTAMP WHERE n.userId = :userId AND n.isRead = false")
@@ -0,0 +1,176 @@
+package com.hanainplan.domain.notification.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hanainplan.domain.notification.entity.Notification;
+import com.hanainplan.domain.notification.repository.NotificationRepository;
+import com.hanainplan.domain.notification.service.NotificationCounterCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 알림 보관 기간 정리 작업.
+ * 보관 기간이 지난 읽은 알림을 전체 사용자 대상으로 청크 단위(청크마다 별도 트랜잭션)로 삭제해 잠금 시간과 undo 로그를 제한한다.
+ * 아카이브를 켜면 삭제 전에 청크를 gzip JSON Lines 파일에 기록하고 flush하며, 기록에 실패한 청크는 삭제하지 않는다.
+ */
+@Component
+@Slf4j
+public class NotificationRetentionScheduler {
+
+    private static final DateTimeFormatter FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterCache counterCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final boolean archiveEnabled;
+    private final Path archiveDirectory;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public NotificationRetentionScheduler(NotificationRepository notificationRepository,
+                                          NotificationCounterCache counterCache,
+                                          TransactionTemplate transactionTemplate,
+                                          ObjectMapper objectMapper,
+                                          @Value("${notification.retention.days:30}") int retentionDays,
+                                          @Value("${notification.retention.chunk-size:1000}") int chunkSize,
+                                          @Value("${notification.retention.max-chunks-per-run:500}") int maxChunksPerRun,
+                                          @Value("${notification.retention.archive.enabled:false}") boolean archiveEnabled,
+                                          @Value("${notification.retention.archive.directory:./archive/notifications}") String archiveDirectory) {
+        this.notificationRepository = notificationRepository;
+        this.counterCache = counterCache;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.retentionDays = Math.max(1, retentionDays);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+        this.archiveEnabled = archiveEnabled;
+        this.archiveDirectory = Paths.get(archiveDirectory);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void purgeExpiredNotifications() {
+        purge(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    /**
+     * cutoffDate 이전에 생성된 읽은 알림을 삭제하고 삭제 건수를 반환한다. 이미 실행 중이면 -1을 반환한다.
+     */
+    public int purge(LocalDateTime cutoffDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("알림 정리 작업이 이미 진행 중입니다");
+            return -1;
+        }
+
+        long startedNanos = System.nanoTime();
+        int deleted = 0;
+        int chunks = 0;
+
+        log.info("알림 정리 시작 - 기준일: {}, 청크 크기: {}, 아카이브: {}", cutoffDate, chunkSize, archiveEnabled);
+
+        try (Writer archive = archiveEnabled ? openArchive() : null) {
+            while (chunks < maxChunksPerRun && !Thread.currentThread().isInterrupted()) {
+                ChunkResult purged = transactionTemplate.execute(status -> purgeChunk(cutoffDate, archive));
+                if (purged == null || purged.deleted() == 0) {
+                    break;
+                }
+
+                // 읽은 알림만 지우므로 안 읽은 수는 그대로지만 전체 수는 커밋 후 다시 적재
+                counterCache.invalidateAll(purged.userIds());
+                deleted += purged.deleted();
+                chunks++;
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.error("알림 아카이브 기록 실패로 정리 중단 - 삭제 {}건", deleted, e);
+        } catch (Exception e) {
+            log.error("알림 정리 중 오류 - 삭제 {}건", deleted, e);
+        } finally {
+            running.set(false);
+        }
+
+        log.info("알림 정리 완료 - 삭제 {}건 ({}개 청크), 소요 시간: {}ms",
+                deleted, chunks, Duration.ofNanos(System.nanoTime() - startedNanos).toMillis());
+        return deleted;
+    }
+
+    private ChunkResult purgeChunk(LocalDateTime cutoffDate, Writer archive) {
+        List<Notification> expired = notificationRepository.findExpiredReadNotifications(cutoffDate, Limit.of(chunkSize));
+        if (expired.isEmpty()) {
+            return new ChunkResult(0, Set.of());
+        }
+
+        // 아카이브 기록이 실패하면 예외로 트랜잭션이 롤백되어 삭제되지 않는다
+        if (archive != null) {
+            writeArchive(archive, expired);
+        }
+
+        List<Long> ids = new ArrayList<>(expired.size());
+        Set<Long> userIds = new HashSet<>();
+        for (Notification notification : expired) {
+            ids.add(notification.getId());
+            userIds.add(notification.getUserId());
+        }
+        return new ChunkResult(notificationRepository.deleteByIds(ids), userIds);
+    }
+
+    private void writeArchive(Writer archive, List<Notification> notifications) {
+        try {
+            for (Notification notification : notifications) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", notification.getId());
+                row.put("userId", notification.getUserId());
+                row.put("type", notification.getType());
+                row.put("title", notification.getTitle());
+                row.put("content", notification.getContent());
+                row.put("createdAt", notification.getCreatedAt());
+                row.put("readAt", notification.getReadAt());
+
+                archive.write(objectMapper.writeValueAsString(row));
+                archive.write('\n');
+            }
+            archive.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Writer openArchive() throws IOException {
+        Files.createDirectories(archiveDirectory);
+        Path file = archiveDirectory.resolve("notifications-" + LocalDateTime.now().format(FILE_SUFFIX) + ".jsonl.gz");
+
+        // syncFlush - 청크마다 flush한 내용이 압축 스트림 밖으로 실제로 기록되도록 한다
+        GZIPOutputStream gzip = new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024, true);
+        log.info("알림 아카이브 파일: {}", file.toAbsolutePath());
+        return new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+    }
+
+    private record ChunkResult(int deleted, Set<Long> userIds) {}
+}
@@ -0,0 +1,253 @@
+package com.hanainplan.domain.notification.service;
+
+import com.hanainplan.domain.notification.entity.EmailOutbox;
+import com.hanainplan.domain.notification.repository.EmailOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 아웃박스 발송기.
+ * 고정 크기 워커가 아웃박스 행을 배치 단위로 선점(SELECT ... FOR UPDATE SKIP LOCKED)하고,
+ * 배치 전체를 JavaMailSender.send(MimeMessage...) 한 번으로 보내 SMTP 연결 하나를 재사용한다.
+ * 실패한 메일은 지수 백오프로 다시 시도하고 최대 시도 횟수를 넘으면 FAILED로 남긴다.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+
+    private final String fromEmail;
+    private final int batchSize;
+    private final int concurrency;
+    private final long pollIntervalMillis;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimLease;
+
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final Object signal = new Object();
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 JavaMailSender mailSender,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${spring.mail.username:noreply@hanainplan.com}") String fromEmail,
+                                 @Value("${email.outbox.batch-size:20}") int batchSize,
+                                 @Value("${email.outbox.concurrency:4}") int concurrency,
+                                 @Value("${email.outbox.poll-interval-ms:2000}") long pollIntervalMillis,
+                                 @Value("${email.outbox.max-attempts:6}") int maxAttempts,
+                                 @Value("${email.outbox.initial-backoff-seconds:30}") long initialBackoffSeconds,
+                                 @Value("${email.outbox.max-backoff-seconds:1800}") long maxBackoffSeconds,
+                                 @Value("${email.outbox.claim-lease-minutes:10}") long claimLeaseMinutes) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.fromEmail = fromEmail;
+        this.batchSize = Math.max(1, batchSize);
+        this.concurrency = Math.max(1, concurrency);
+        this.pollIntervalMillis = Math.max(100, pollIntervalMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = Duration.ofSeconds(Math.max(1, initialBackoffSeconds));
+        this.maxBackoff = Duration.ofSeconds(Math.max(initialBackoffSeconds, maxBackoffSeconds));
+        this.claimLease = Duration.ofMinutes(Math.max(1, claimLeaseMinutes));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        running = true;
+        for (int i = 1; i <= concurrency; i++) {
+            String workerId = instanceId + "-" + i;
+            workers.execute(() -> drain(workerId));
+        }
+        log.info("이메일 아웃박스 발송기 시작 - 워커 수: {}, 배치 크기: {}", concurrency, batchSize);
+    }
+
+    /**
+     * 새 아웃박스 행이 커밋되면 대기 중인 워커를 깨운다 (폴링 주기를 기다리지 않음).
+     */
+    public void wakeUp() {
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        wakeUp();
+        if (workers == null) {
+            return;
+        }
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    private void drain(String workerId) {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                List<EmailOutbox> batch = claimBatch(workerId);
+                if (!batch.isEmpty()) {
+                    dispatch(batch, workerId);
+                    continue;
+                }
+            } catch (Exception e) {
+                log.error("이메일 아웃박스 처리 중 오류 - 워커: {}", workerId, e);
+            }
+
+            synchronized (signal) {
+                try {
+                    signal.wait(pollIntervalMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private List<EmailOutbox> claimBatch(String workerId) {
+        List<EmailOutbox> batch = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = emailOutboxRepository.lockDispatchableIds(now, now.minus(claimLease), batchSize);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+
+            emailOutboxRepository.claim(ids, workerId, now);
+            return emailOutboxRepository.findAllById(ids);
+        });
+        return batch != null ? batch : List.of();
+    }
+
+    private void dispatch(List<EmailOutbox> batch, String workerId) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        List<Long> sentIds = new ArrayList<>();
+        Map<EmailOutbox, Exception> failures = new IdentityHashMap<>();
+        Map<EmailOutbox, Exception> invalid = new IdentityHashMap<>();
+
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등 메시지를 만들 수 없는 경우는 재시도하지 않는다
+                invalid.put(email, e);
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                // 연결 자체가 실패하면 모든 메시지가 실패 목록에 담긴다
+                e.getFailedMessages().forEach((message, cause) -> {
+                    EmailOutbox email = message instanceof MimeMessage mime ? messages.remove(mime) : null;
+                    if (email != null) {
+                        failures.put(email, cause);
+                    }
+                });
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(email -> failures.put(email, e));
+                    messages.clear();
+                }
+            } catch (Exception e) {
+                messages.values().forEach(email -> failures.put(email, e));
+                messages.clear();
+            }
+            messages.values().forEach(email -> sentIds.add(email.getOutboxId()));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                emailOutboxRepository.markSent(sentIds, workerId, LocalDateTime.now());
+            }
+            failures.forEach((email, cause) -> recordFailure(email, cause, workerId, false));
+            invalid.forEach((email, cause) -> recordFailure(email, cause, workerId, true));
+        });
+
+        log.info("이메일 발송 - 워커: {}, 성공 {}건 / 실패 {}건", workerId, sentIds.size(), failures.size() + invalid.size());
+    }
+
+    private void recordFailure(EmailOutbox email, Exception cause, String workerId, boolean permanent) {
+        // 선점 시 시도 횟수가 이미 증가되어 있다
+        int attempts = email.getAttemptCount();
+        boolean exhausted = permanent || attempts >= maxAttempts;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+
+        emailOutboxRepository.markFailedAttempt(email.getOutboxId(), workerId,
+                exhausted ? EmailOutbox.Status.FAILED : EmailOutbox.Status.PENDING,
+                nextAttemptAt, truncate(cause.getMessage()));
+
+        if (exhausted) {
+            log.error("이메일 발송 최종 실패 - outboxId: {}, to: {}, 시도: {}회", email.getOutboxId(), email.getRecipient(), attempts, cause);
+        } else {
+            log.warn("이메일 발송 실패, 재시도 예정 - outboxId: {}, to: {}, 시도: {}회, 다음 시도: {}, 사유: {}",
+                    email.getOutboxId(), email.getRecipient(), attempts, nextAttemptAt, cause.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, email.getHtml(), "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), email.getHtml());
+        return message;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
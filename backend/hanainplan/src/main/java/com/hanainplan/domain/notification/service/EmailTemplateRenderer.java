@@ -0,0 +1,76 @@
+package com.hanainplan.domain.notification.service;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * classpath:templates/ 아래 이메일 HTML 템플릿 렌더러.
+ * 템플릿은 처음 사용할 때 한 번만 읽어 {placeholder} 기준으로 조각내 캐시하고, 이후에는 조각을 이어 붙이기만 한다.
+ * 치환 값은 HTML 이스케이프하며, 값이 없는 placeholder는 그대로 남긴다.
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z][A-Za-z0-9]*)}");
+
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+
+    public String render(String templateName, Map<String, ?> values) {
+        return templates.computeIfAbsent(templateName, EmailTemplateRenderer::compile).render(values);
+    }
+
+    private static CompiledTemplate compile(String templateName) {
+        String source;
+        ClassPathResource resource = new ClassPathResource("templates/" + templateName);
+        try (InputStream inputStream = resource.getInputStream()) {
+            source = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이메일 템플릿을 읽을 수 없습니다: " + templateName, e);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(last, matcher.start()));
+            names.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(source.substring(last));
+
+        return new CompiledTemplate(literals, names, source.length());
+    }
+
+    private record CompiledTemplate(List<String> literals, List<String> names, int sourceLength) {
+
+        private String render(Map<String, ?> values) {
+            StringBuilder html = new StringBuilder(sourceLength + 256);
+            for (int i = 0; i < names.size(); i++) {
+                html.append(literals.get(i));
+
+                String name = names.get(i);
+                if (values.containsKey(name)) {
+                    Object value = values.get(name);
+                    html.append(value != null ? HtmlUtils.htmlEscape(value.toString(), "UTF-8") : "");
+                } else {
+                    html.append('{').append(name).append('}');
+                }
+            }
+            html.append(literals.get(literals.size() - 1));
+            return html.toString();
+        }
+    }
+}
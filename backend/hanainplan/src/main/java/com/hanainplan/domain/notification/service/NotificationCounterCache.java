@@ -0,0 +1,117 @@
+package com.hanainplan.domain.notification.service;
+
+import com.hanainplan.domain.notification.dto.NotificationDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용자별 전체/안 읽은 알림 수 캐시.
+ * 처음 조회할 때 DB에서 적재하고, 알림 생성/읽음/삭제 시에는 증감 대신 무효화해 다음 조회 때 다시 적재한다.
+ * 적재 중에 무효화되면 그 결과는 캐시하지 않으며, TTL이 지나면 다시 적재해 다른 노드에서의 변경도 따라잡는다.
+ * 최대 크기를 넘으면 가장 오래 조회되지 않은 사용자부터 내보낸다.
+ */
+@Component
+public class NotificationCounterCache {
+
+    private final Map<Long, Counters> cache;
+    private final long ttlNanos;
+
+    public NotificationCounterCache(@Value("${notification.counter.ttl-seconds:600}") long ttlSeconds,
+                                    @Value("${notification.counter.max-size:100000}") int maxSize) {
+        this.ttlNanos = Duration.ofSeconds(Math.max(1, ttlSeconds)).toNanos();
+        int capacity = Math.max(1, maxSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Counters> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public NotificationDto.Summary get(Long userId, Function<Long, NotificationDto.Summary> loader) {
+        Counters counters;
+        synchronized (cache) {
+            counters = cache.computeIfAbsent(userId, id -> new Counters());
+        }
+
+        long version;
+        synchronized (counters) {
+            if (counters.isFresh(ttlNanos)) {
+                return NotificationDto.Summary.of(counters.total, counters.unread);
+            }
+            version = counters.version;
+        }
+
+        NotificationDto.Summary loaded = loader.apply(userId);
+
+        synchronized (counters) {
+            if (counters.version == version) {
+                counters.total = loaded.getTotalCount();
+                counters.unread = loaded.getUnreadCount();
+                counters.loadedAt = System.nanoTime();
+                counters.loaded = true;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화한다
+     * (커밋 전에 다른 요청이 이전 값으로 다시 적재하는 경우 방지).
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        invalidateAll(List.of(userId));
+    }
+
+    public void invalidateAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        userIds.forEach(this::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userIds.forEach(NotificationCounterCache.this::evict);
+                }
+            });
+        }
+    }
+
+    private void evict(Long userId) {
+        Counters counters;
+        synchronized (cache) {
+            counters = cache.remove(userId);
+        }
+        if (counters != null) {
+            synchronized (counters) {
+                counters.version++;
+            }
+        }
+    }
+
+    private static final class Counters {
+        private long total;
+        private long unread;
+        private long version;
+        private long loadedAt;
+        private boolean loaded;
+
+        private boolean isFresh(long ttlNanos) {
+            return loaded && System.nanoTime() - loadedAt < ttlNanos;
+        }
+    }
+}
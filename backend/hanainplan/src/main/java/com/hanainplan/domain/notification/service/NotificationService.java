@@ -3,17 +3,20 @@ package com.hanainplan.domain.notification.service;
 import com.hanainplan.domain.notification.dto.NotificationDto;
 import com.hanainplan.domain.notification.entity.Notification;
 import com.hanainplan.domain.notification.entity.NotificationType;
+import com.hanainplan.domain.notification.repository.NotificationBulkRepository;
 import com.hanainplan.domain.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,48 +24,96 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    private static final String PUSH_DESTINATION = "/queue/notifications";
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationCounterCache counterCache;
+    private final SimpMessagingTemplate messagingTemplate;
 
     @Transactional
     public NotificationDto.Response createNotification(NotificationDto.CreateRequest request) {
         Notification notification = request.toEntity();
         Notification savedNotification = notificationRepository.save(notification);
-        return NotificationDto.Response.from(savedNotification);
+        NotificationDto.Response response = NotificationDto.Response.from(savedNotification);
+
+        counterCache.invalidate(response.getUserId());
+        afterCommit(() -> push(response));
+        return response;
     }
 
-    public Page<NotificationDto.Response> getUserNotifications(Long userId, Pageable pageable) {
-        log.debug("Fetching notifications for user: {}, page: {}", userId, pageable.getPageNumber());
+    /**
+     * 같은 알림을 여러 사용자에게 생성 (배치 작업용). 청크 단위 배치 INSERT 후 커밋되면 사용자별로 푸시한다.
+     */
+    @Transactional
+    public int createNotifications(NotificationDto.BulkCreateRequest request) {
+        List<Long> userIds = request.getUserIds().stream().distinct().toList();
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationDto.Response> created = new ArrayList<>(userIds.size());
+
+        for (int from = 0; from < userIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, userIds.size()));
+            List<Long> ids = notificationBulkRepository.insertForUsers(
+                    chunk, request.getTitle(), request.getContent(), request.getType(), now);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                created.add(NotificationDto.Response.builder()
+                        .id(i < ids.size() ? ids.get(i) : null)
+                        .userId(chunk.get(i))
+                        .title(request.getTitle())
+                        .content(request.getContent())
+                        .type(request.getType())
+                        .isRead(false)
+                        .createdAt(now)
+                        .build());
+            }
+        }
 
-        Page<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-        return notifications.map(NotificationDto.Response::from);
+        counterCache.invalidateAll(userIds);
+        afterCommit(() -> created.forEach(this::push));
+
+        log.info("Created {} notifications in bulk, type: {}", created.size(), request.getType());
+        return created.size();
     }
 
-    public Page<NotificationDto.Response> getUserUnreadNotifications(Long userId, Pageable pageable) {
-        log.debug("Fetching unread notifications for user: {}, page: {}", userId, pageable.getPageNumber());
+    public NotificationDto.CursorPage getUserNotifications(Long userId, Long cursor, int requestedSize) {
+        int size = pageSize(requestedSize);
+        log.debug("Fetching notifications for user: {}, cursor: {}", userId, cursor);
 
-        Page<Notification> notifications = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId, pageable);
-        return notifications.map(NotificationDto.Response::from);
+        return NotificationDto.CursorPage.of(
+                notificationRepository.findPageByUserId(userId, cursorOrMax(cursor), Limit.of(size + 1)), size);
     }
 
-    public NotificationDto.Summary getNotificationSummary(Long userId) {
-        Long totalCount = notificationRepository.countByUserId(userId);
-        Long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
+    public NotificationDto.CursorPage getUserUnreadNotifications(Long userId, Long cursor, int requestedSize) {
+        int size = pageSize(requestedSize);
+        log.debug("Fetching unread notifications for user: {}, cursor: {}", userId, cursor);
 
-        return NotificationDto.Summary.of(totalCount, unreadCount);
+        return NotificationDto.CursorPage.of(
+                notificationRepository.findUnreadPageByUserId(userId, cursorOrMax(cursor), Limit.of(size + 1)), size);
     }
 
-    public Page<NotificationDto.Response> getUserNotificationsByType(Long userId, NotificationType type, Pageable pageable) {
-        log.debug("Fetching notifications for user: {}, type: {}, page: {}", userId, type, pageable.getPageNumber());
+    public NotificationDto.Summary getNotificationSummary(Long userId) {
+        return counterCache.get(userId, this::countNotifications);
+    }
 
-        Page<Notification> notifications = notificationRepository.findByUserIdAndTypeOrderByCreatedAtDesc(userId, type, pageable);
-        return notifications.map(NotificationDto.Response::from);
+    public NotificationDto.CursorPage getUserNotificationsByType(Long userId, NotificationType type, Long cursor, int requestedSize) {
+        int size = pageSize(requestedSize);
+        log.debug("Fetching notifications for user: {}, type: {}, cursor: {}", userId, type, cursor);
+
+        return NotificationDto.CursorPage.of(
+                notificationRepository.findPageByUserIdAndType(userId, type, cursorOrMax(cursor), Limit.of(size + 1)), size);
     }
 
-    public Page<NotificationDto.Response> getUserNotificationsByPeriod(Long userId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
-        log.debug("Fetching notifications for user: {}, period: {} to {}, page: {}", userId, startDate, endDate, pageable.getPageNumber());
+    public NotificationDto.CursorPage getUserNotificationsByPeriod(Long userId, LocalDateTime startDate, LocalDateTime endDate,
+                                                                   Long cursor, int requestedSize) {
+        int size = pageSize(requestedSize);
+        log.debug("Fetching notifications for user: {}, period: {} to {}, cursor: {}", userId, startDate, endDate, cursor);
 
-        Page<Notification> notifications = notificationRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(userId, startDate, endDate, pageable);
-        return notifications.map(NotificationDto.Response::from);
+        return NotificationDto.CursorPage.of(
+                notificationRepository.findPageByUserIdAndPeriod(userId, startDate, endDate, cursorOrMax(cursor), Limit.of(size + 1)),
+                size);
     }
 
     public NotificationDto.Response getNotificationById(Long notificationId) {
@@ -79,9 +130,13 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다. ID: " + notificationId));
 
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notification.markAsRead();
         Notification savedNotification = notificationRepository.save(notification);
 
+        if (wasUnread) {
+            counterCache.invalidate(savedNotification.getUserId());
+        }
         return NotificationDto.Response.from(savedNotification);
     }
 
@@ -92,6 +147,8 @@ public class NotificationService {
         int updatedCount = notificationRepository.markAllAsReadByUserId(userId);
         log.info("Marked {} notifications as read for user: {}", updatedCount, userId);
 
+        counterCache.invalidate(userId);
+
         return updatedCount;
     }
 
@@ -102,6 +159,8 @@ public class NotificationService {
         int updatedCount = notificationRepository.markAllAsReadByUserIdAndType(userId, type);
         log.info("Marked {} {} notifications as read for user: {}", updatedCount, type, userId);
 
+        counterCache.invalidate(userId);
+
         return updatedCount;
     }
 
@@ -118,6 +177,8 @@ public class NotificationService {
 
         notificationRepository.delete(notification);
         log.info("Notification deleted: {}", notificationId);
+
+        counterCache.invalidate(userId);
     }
 
     @Transactional
@@ -127,6 +188,8 @@ public class NotificationService {
         int deletedCount = notificationRepository.deleteNotificationsByIdsAndUserId(notificationIds, userId);
         log.info("Deleted {} notifications for user: {}", deletedCount, userId);
 
+        counterCache.invalidate(userId);
+
         return deletedCount;
     }
 
@@ -138,6 +201,8 @@ public class NotificationService {
         int deletedCount = notificationRepository.deleteOldReadNotifications(userId, cutoffDate);
         log.info("Deleted {} old notifications for user: {}", deletedCount, userId);
 
+        counterCache.invalidate(userId);
+
         return deletedCount;
     }
 
@@ -153,4 +218,42 @@ public class NotificationService {
 
         return NotificationDto.Response.from(savedNotification);
     }
-}
\ No newline at end of file
+
+    // 페이지 크기는 1~100으로 제한 (0 이하나 과도한 값으로 전체 조회되는 것 방지)
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static Long cursorOrMax(Long cursor) {
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
+
+    private NotificationDto.Summary countNotifications(Long userId) {
+        Long totalCount = notificationRepository.countByUserId(userId);
+        Long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
+
+        return NotificationDto.Summary.of(totalCount, unreadCount);
+    }
+
+    private void push(NotificationDto.Response response) {
+        try {
+            messagingTemplate.convertAndSendToUser(String.valueOf(response.getUserId()), PUSH_DESTINATION, response);
+        } catch (Exception e) {
+            log.warn("Failed to push notification {} to user {}: {}", response.getId(), response.getUserId(), e.getMessage());
+        }
+    }
+
+    // 카운터 반영과 푸시는 커밋된 변경에만 적용 (롤백된 알림이 보이지 않도록)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package com.hanainplan.domain.portfolio.batch;
+
+import com.hanainplan.domain.banking.repository.DepositPortfolioRepository;
+import com.hanainplan.domain.banking.repository.IrpAccountRepository;
+import com.hanainplan.domain.fund.repository.FundPortfolioRepository;
+import com.hanainplan.domain.portfolio.dto.PortfolioRecommendationResponse;
+import com.hanainplan.domain.portfolio.repository.RebalancingJobRepository;
+import com.hanainplan.domain.portfolio.service.PortfolioRecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 밴드 기반 리밸런싱 사전 선별.
+ * 샤드 단위로 현금/예금/펀드 잔액을 집계 쿼리로 한 번에 읽어 배열에 담고,
+ * 목표 비중과 비교해 밴드를 벗어난 고객만 전체 시뮬레이션 대상으로 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BandDriftPreScreen {
+
+    // 밴드 임계값 (펀드 ±5%, 예금 ±3%, 현금 ±2%)
+    public static final double FUND_BAND = 5.0;
+    public static final double DEPOSIT_BAND = 3.0;
+    public static final double CASH_BAND = 2.0;
+
+    private static final int COOLDOWN_DAYS = 7;
+
+    // 시뮬레이션은 소수 둘째 자리 반올림 비중으로 판정하므로, 경계값 근처는 시뮬레이션으로 넘긴다
+    private static final double ROUNDING_MARGIN = 0.01;
+
+    private final IrpAccountRepository irpAccountRepository;
+    private final DepositPortfolioRepository depositPortfolioRepository;
+    private final FundPortfolioRepository fundPortfolioRepository;
+    private final RebalancingJobRepository rebalancingJobRepository;
+    private final PortfolioRecommendationService portfolioRecommendationService;
+
+    public Result screen(List<Long> customerIds) {
+        Set<Long> coolingDown = new HashSet<>(rebalancingJobRepository.findCustomerIdsWithJobsSince(
+                customerIds, LocalDateTime.now().minusDays(COOLDOWN_DAYS)));
+
+        List<Long> targets = new ArrayList<>(customerIds.size());
+        for (Long customerId : customerIds) {
+            if (!coolingDown.contains(customerId)) {
+                targets.add(customerId);
+            }
+        }
+
+        int size = targets.size();
+        if (size == 0) {
+            return new Result(List.of(), customerIds.size(), 0);
+        }
+
+        Map<Long, Integer> indexByCustomerId = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            indexByCustomerId.put(targets.get(i), i);
+        }
+
+        double[] cash = new double[size];
+        double[] deposit = new double[size];
+        double[] fund = new double[size];
+        fill(cash, indexByCustomerId, irpAccountRepository.sumActiveBalanceByCustomerIds(targets));
+        fill(deposit, indexByCustomerId, depositPortfolioRepository.sumActivePrincipalByUserIds(targets));
+        fill(fund, indexByCustomerId, fundPortfolioRepository.sumActiveFundValueByCustomerIds(targets));
+
+        BigDecimal[][] targetWeights = new BigDecimal[size][];
+        double[] targetCash = new double[size];
+        double[] targetDeposit = new double[size];
+        double[] targetFund = new double[size];
+        boolean[] targetKnown = new boolean[size];
+        Map<Long, PortfolioRecommendationResponse.SimilarUserPortfolio> targetPortfolios = loadTargetPortfolios(targets);
+        for (int i = 0; i < size; i++) {
+            BigDecimal[] weights = toWeights(targetPortfolios.get(targets.get(i)));
+            if (weights != null) {
+                targetWeights[i] = weights;
+                targetCash[i] = weights[0].doubleValue();
+                targetDeposit[i] = weights[1].doubleValue();
+                targetFund[i] = weights[2].doubleValue();
+                targetKnown[i] = true;
+            }
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        int withinBand = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (!targetKnown[i]) {
+                // 목표 비중을 알 수 없으면 판단을 시뮬레이션에 맡긴다
+                candidates.add(new Candidate(targets.get(i), null, null, null));
+                continue;
+            }
+
+            double total = cash[i] + deposit[i] + fund[i];
+            double cashWeight = total > 0 ? cash[i] * 100.0 / total : 0.0;
+            double depositWeight = total > 0 ? deposit[i] * 100.0 / total : 0.0;
+            double fundWeight = total > 0 ? fund[i] * 100.0 / total : 0.0;
+
+            boolean breached = Math.abs(fundWeight - targetFund[i]) >= FUND_BAND - ROUNDING_MARGIN
+                    || Math.abs(depositWeight - targetDeposit[i]) >= DEPOSIT_BAND - ROUNDING_MARGIN
+                    || Math.abs(cashWeight - targetCash[i]) >= CASH_BAND - ROUNDING_MARGIN;
+
+            if (breached) {
+                BigDecimal[] weights = targetWeights[i];
+                candidates.add(new Candidate(targets.get(i), weights[0], weights[1], weights[2]));
+            } else {
+                withinBand++;
+            }
+        }
+
+        log.debug("밴드 사전 선별 - 대상 {}명 / 쿨다운 스킵 {}명 / 밴드 이내 {}명 / 시뮬레이션 대상 {}명",
+                customerIds.size(), coolingDown.size(), withinBand, candidates.size());
+
+        return new Result(candidates, customerIds.size() - size, withinBand);
+    }
+
+    public static boolean exceedsBand(double fundDeviation, double depositDeviation, double cashDeviation) {
+        return fundDeviation >= FUND_BAND || depositDeviation >= DEPOSIT_BAND || cashDeviation >= CASH_BAND;
+    }
+
+    private Map<Long, PortfolioRecommendationResponse.SimilarUserPortfolio> loadTargetPortfolios(List<Long> customerIds) {
+        try {
+            return portfolioRecommendationService.getSimilarUserPortfolios(customerIds);
+        } catch (Exception e) {
+            log.warn("목표 비중 일괄 조회 실패 - {}명, {}", customerIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static BigDecimal[] toWeights(PortfolioRecommendationResponse.SimilarUserPortfolio target) {
+        if (target == null || target.getCashWeight() == null
+                || target.getDepositWeight() == null || target.getFundWeight() == null) {
+            return null;
+        }
+        return new BigDecimal[]{target.getCashWeight(), target.getDepositWeight(), target.getFundWeight()};
+    }
+
+    private static void fill(double[] values, Map<Long, Integer> indexByCustomerId, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            Integer index = indexByCustomerId.get(((Number) row[0]).longValue());
+            if (index != null && row[1] != null) {
+                values[index] = ((Number) row[1]).doubleValue();
+            }
+        }
+    }
+
+    public record Candidate(Long customerId, BigDecimal cashWeight, BigDecimal depositWeight, BigDecimal fundWeight) {}
+
+    public record Result(List<Candidate> candidates, int cooldownSkipped, int withinBand) {
+
+        public int skipped() {
+            return cooldownSkipped + withinBand;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.hanainplan.domain.banking.entity.IrpAccount;
 import com.hanainplan.domain.banking.repository.IrpAccountRepository;
 import com.hanainplan.domain.portfolio.entity.IrpHolding;
 import com.hanainplan.domain.portfolio.repository.IrpHoldingRepository;
+import com.hanainplan.domain.portfolio.service.IrpPortfolioSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -22,6 +23,7 @@ public class IrpPortfolioSyncBatch {
 
     private final IrpAccountRepository irpAccountRepository;
     private final IrpHoldingRepository irpHoldingRepository;
+    private final IrpPortfolioSnapshotCache irpPortfolioSnapshotCache;
     
     private final com.hanainplan.domain.portfolio.client.HanaBankClient hanaBankClient;
 
@@ -76,6 +78,8 @@ public class IrpPortfolioSyncBatch {
         // 3. 펀드 보유 동기화
         syncFundHoldings(irpAccount);
 
+        irpPortfolioSnapshotCache.invalidate(customerId);
+
         log.debug("IRP 계좌 {} 포트폴리오 동기화 완료", irpAccountNumber);
     }
 
@@ -0,0 +1,573 @@
+package com.hanainplan.domain.portfolio.batch;
+
+import com.hanainplan.domain.banking.repository.IrpAccountRepository;
+import com.hanainplan.domain.portfolio.dto.RebalancingBatchReport;
+import com.hanainplan.domain.portfolio.dto.RebalancingSimulationRequest;
+import com.hanainplan.domain.portfolio.dto.RebalancingSimulationResponse;
+import com.hanainplan.domain.portfolio.entity.RebalancingBatchItem;
+import com.hanainplan.domain.portfolio.entity.RebalancingJob;
+import com.hanainplan.domain.portfolio.repository.RebalancingBatchItemRepository;
+import com.hanainplan.domain.portfolio.repository.RebalancingJobRepository;
+import com.hanainplan.domain.portfolio.service.RebalancingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 활성 IRP 고객을 고객 ID 순으로 샤드로 나누어 병렬로 리밸런싱하는 배치 실행기.
+ * 진행 상황은 BATCH 유형의 RebalancingJob에 샤드 단위로 기록되고, 처리를 마친 고객은 RebalancingBatchItem으로 남긴다.
+ * 중단된 실행은 EXECUTING 상태로 남아 연속으로 완료된 마지막 샤드 이후부터 재개되며,
+ * 그 뒤 샤드에서 이미 처리된 고객은 건너뛰므로 같은 배치에서 주문이 두 번 실행되지 않는다.
+ */
+@Component
+@Slf4j
+public class RebalancingBatchRunner {
+
+    private final IrpAccountRepository irpAccountRepository;
+    private final RebalancingJobRepository rebalancingJobRepository;
+    private final RebalancingBatchItemRepository rebalancingBatchItemRepository;
+    private final RebalancingService rebalancingService;
+    private final BandDriftPreScreen bandDriftPreScreen;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int shardSize;
+    private final int concurrency;
+    private final long resumeWindowHours;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile BatchRun currentRun;
+
+    public RebalancingBatchRunner(IrpAccountRepository irpAccountRepository,
+                                  RebalancingJobRepository rebalancingJobRepository,
+                                  RebalancingBatchItemRepository rebalancingBatchItemRepository,
+                                  RebalancingService rebalancingService,
+                                  BandDriftPreScreen bandDriftPreScreen,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${rebalancing.batch.shard-size:100}") int shardSize,
+                                  @Value("${rebalancing.batch.concurrency:8}") int concurrency,
+                                  @Value("${rebalancing.batch.resume-window-hours:24}") long resumeWindowHours) {
+        this.irpAccountRepository = irpAccountRepository;
+        this.rebalancingJobRepository = rebalancingJobRepository;
+        this.rebalancingBatchItemRepository = rebalancingBatchItemRepository;
+        this.rebalancingService = rebalancingService;
+        this.bandDriftPreScreen = bandDriftPreScreen;
+        this.transactionTemplate = transactionTemplate;
+        this.shardSize = Math.max(1, shardSize);
+        this.concurrency = Math.max(1, concurrency);
+        this.resumeWindowHours = resumeWindowHours;
+    }
+
+    /**
+     * 배치를 호출한 스레드에서 끝까지 실행 (스케줄러용)
+     */
+    public RebalancingBatchReport run(RebalancingJob.TriggerType triggerType) {
+        BatchRun run = begin(triggerType);
+        execute(run);
+        return run.toReport();
+    }
+
+    /**
+     * 배치를 백그라운드 스레드에서 실행하고 시작 시점의 리포트를 즉시 반환 (API 트리거용)
+     */
+    public RebalancingBatchReport start(RebalancingJob.TriggerType triggerType) {
+        BatchRun run = begin(triggerType);
+
+        Thread coordinator = new Thread(() -> execute(run), "rebalancing-batch-" + run.jobId);
+        coordinator.setDaemon(true);
+        coordinator.start();
+
+        return run.toReport();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public RebalancingBatchReport getCurrentReport() {
+        BatchRun run = currentRun;
+        return run != null ? run.toReport() : null;
+    }
+
+    private BatchRun begin(RebalancingJob.TriggerType triggerType) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 실행 중인 리밸런싱 배치가 있습니다.");
+        }
+
+        try {
+            RebalancingJob batchJob = transactionTemplate.execute(status -> prepareBatchJob(triggerType));
+            BatchRun run = new BatchRun(batchJob, triggerType, countProcessedItems(batchJob.getJobId()));
+            currentRun = run;
+            return run;
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private RebalancingJob prepareBatchJob(RebalancingJob.TriggerType triggerType) {
+        Optional<RebalancingJob> interrupted = rebalancingJobRepository
+                .findFirstByJobTypeAndTriggerTypeAndStatusOrderByCreatedAtDesc(
+                        RebalancingJob.JobType.BATCH, triggerType, RebalancingJob.JobStatus.EXECUTING);
+
+        if (interrupted.isPresent()) {
+            RebalancingJob job = interrupted.get();
+            if (job.getCreatedAt() != null
+                    && job.getCreatedAt().isAfter(LocalDateTime.now().minusHours(resumeWindowHours))) {
+                log.info("중단된 리밸런싱 배치 재개 - 작업 ID: {}, 재시작 고객 ID: {}",
+                        job.getJobId(), job.getResumeCustomerId());
+                return job;
+            }
+            job.fail("재시작 가능 기간(" + resumeWindowHours + "시간) 초과");
+            rebalancingJobRepository.save(job);
+        }
+
+        RebalancingJob job = RebalancingJob.builder()
+                .customerId(RebalancingJob.BATCH_CUSTOMER_ID)
+                .irpAccountNumber(RebalancingJob.BATCH_ACCOUNT_NUMBER)
+                .jobType(RebalancingJob.JobType.BATCH)
+                .triggerType(triggerType)
+                .completedShards(0)
+                .processedCount(0)
+                .successCount(0)
+                .failCount(0)
+                .skipCount(0)
+                .resumeCustomerId(0L)
+                .createdAt(LocalDateTime.now())
+                .build();
+        job.startExecution();
+        return rebalancingJobRepository.save(job);
+    }
+
+    /**
+     * 재개 시 집계는 저장된 카운터가 아니라 처리 완료 기록에서 다시 계산한다
+     * (순서와 무관하게 끝난 샤드의 카운터가 재처리로 중복 집계되지 않도록).
+     */
+    private Map<RebalancingBatchItem.Outcome, Integer> countProcessedItems(Long jobId) {
+        Map<RebalancingBatchItem.Outcome, Integer> counts = new EnumMap<>(RebalancingBatchItem.Outcome.class);
+        for (Object[] row : rebalancingBatchItemRepository.countByOutcome(jobId)) {
+            counts.put((RebalancingBatchItem.Outcome) row[0], ((Number) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    private void execute(BatchRun run) {
+        log.info("====================================================");
+        log.info("리밸런싱 배치 시작 - 작업 ID: {}, 트리거: {}, 샤드 크기: {}, 동시 실행 수: {}{}",
+                run.jobId, run.triggerType, shardSize, concurrency, run.resumed ? " (재개)" : "");
+        log.info("====================================================");
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, batchThreadFactory(run.jobId));
+        CompletionService<ShardResult> completionService = new ExecutorCompletionService<>(executor);
+        int maxInFlight = concurrency * 2;
+        int inFlight = 0;
+        boolean completed = false;
+        String failureReason = null;
+
+        try {
+            long cursor = run.resumeCustomerId;
+            int sequence = 0;
+
+            while (true) {
+                while (inFlight >= maxInFlight) {
+                    onShardCompleted(completionService.take().get(), run);
+                    inFlight--;
+                }
+
+                List<Long> customerIds = irpAccountRepository
+                        .findActiveCustomerIdsAfter(cursor, PageRequest.of(0, shardSize));
+                if (customerIds.isEmpty()) {
+                    break;
+                }
+                cursor = customerIds.get(customerIds.size() - 1);
+
+                int shardSequence = sequence++;
+                completionService.submit(() -> processShard(shardSequence, customerIds, run));
+                run.submittedShards.incrementAndGet();
+                inFlight++;
+
+                if (customerIds.size() < shardSize) {
+                    break;
+                }
+            }
+
+            while (inFlight > 0) {
+                onShardCompleted(completionService.take().get(), run);
+                inFlight--;
+            }
+            completed = true;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failureReason = "배치 실행이 중단되었습니다.";
+            log.warn("리밸런싱 배치 중단 (재개 가능) - 작업 ID: {}", run.jobId);
+        } catch (Exception e) {
+            failureReason = e.getMessage();
+            log.error("리밸런싱 배치 실행 중 오류 발생 (재개 가능) - 작업 ID: {}", run.jobId, e);
+        } finally {
+            executor.shutdownNow();
+            run.finish();
+            finishBatchJob(run, completed, failureReason);
+            running.set(false);
+        }
+
+        RebalancingBatchReport report = run.toReport();
+        log.info("====================================================");
+        log.info("리밸런싱 배치 완료 - 작업 ID: {}, 트리거: {}", report.getJobId(), report.getTriggerType());
+        log.info("- 처리 고객 수: {} (성공: {}, 실패: {}, 스킵: {})", report.getProcessedCustomers(),
+                report.getSuccessCount(), report.getFailCount(), report.getSkipCount());
+        log.info("- 완료 샤드 수: {} / {}", report.getCompletedShards(), report.getSubmittedShards());
+        log.info("- 소요 시간: {}ms ({} 명/초)", report.getElapsedMillis(), String.format("%.2f", report.getCustomersPerSecond()));
+        log.info("- 고객당 처리 시간: p50 {}ms, p95 {}ms, 최대 {}ms",
+                report.getP50LatencyMillis(), report.getP95LatencyMillis(), report.getMaxLatencyMillis());
+        log.info("====================================================");
+    }
+
+    /**
+     * 샤드 내 고객을 순서대로 처리. 고객마다 RebalancingService의 트랜잭션이 따로 커밋되므로
+     * 한 고객의 실패가 같은 샤드의 다른 고객 결과를 되돌리지 않는다.
+     * 재개된 배치는 이미 처리 기록이 있는 고객을 건너뛰고, 밴드 기반 배치는 사전 선별을 통과한 고객만 시뮬레이션한다.
+     */
+    private ShardResult processShard(int sequence, List<Long> customerIds, BatchRun run) {
+        RebalancingJob.TriggerType triggerType = run.triggerType;
+        long lastCustomerId = customerIds.get(customerIds.size() - 1);
+
+        List<Long> pending = customerIds;
+        if (run.resumed) {
+            Set<Long> processed = new HashSet<>(
+                    rebalancingBatchItemRepository.findProcessedCustomerIds(run.jobId, customerIds));
+            pending = customerIds.stream().filter(customerId -> !processed.contains(customerId)).toList();
+        }
+        int alreadyProcessed = customerIds.size() - pending.size();
+        if (pending.isEmpty()) {
+            return new ShardResult(sequence, lastCustomerId, customerIds.size(), alreadyProcessed, 0);
+        }
+
+        List<BandDriftPreScreen.Candidate> candidates;
+        int screenedOut = 0;
+
+        if (RebalancingJob.TriggerType.BAND_BASED.equals(triggerType)) {
+            try {
+                BandDriftPreScreen.Result screen = bandDriftPreScreen.screen(pending);
+                candidates = screen.candidates();
+                screenedOut = screen.skipped();
+            } catch (Exception e) {
+                log.error("밴드 사전 선별 실패 - 샤드 #{} ({}명)", sequence, pending.size(), e);
+                ShardResult failed = new ShardResult(sequence, lastCustomerId, customerIds.size(), alreadyProcessed, 0);
+                failed.processedCount = pending.size();
+                failed.failCount = pending.size();
+                recordItems(run.jobId, pending, RebalancingBatchItem.Outcome.FAIL);
+                return failed;
+            }
+        } else {
+            candidates = pending.stream()
+                    .map(customerId -> new BandDriftPreScreen.Candidate(customerId, null, null, null))
+                    .toList();
+        }
+
+        ShardResult result = new ShardResult(
+                sequence, lastCustomerId, customerIds.size(), alreadyProcessed, candidates.size());
+        if (screenedOut > 0) {
+            Set<Long> candidateIds = new HashSet<>();
+            candidates.forEach(candidate -> candidateIds.add(candidate.customerId()));
+            recordItems(run.jobId, pending.stream().filter(customerId -> !candidateIds.contains(customerId)).toList(),
+                    RebalancingBatchItem.Outcome.SKIP);
+            result.skipCount += screenedOut;
+            result.processedCount += screenedOut;
+        }
+
+        for (BandDriftPreScreen.Candidate candidate : candidates) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            long startedNanos = System.nanoTime();
+            try {
+                if (processCustomer(candidate, run)) {
+                    result.successCount++;
+                } else {
+                    result.skipCount++;
+                }
+            } catch (Exception e) {
+                result.failCount++;
+                log.error("리밸런싱 실패 - 고객 ID: {}, 트리거: {}", candidate.customerId(), triggerType, e);
+                recordItems(run.jobId, List.of(candidate.customerId()), RebalancingBatchItem.Outcome.FAIL);
+            }
+            result.latencyNanos[result.latencyCount++] = System.nanoTime() - startedNanos;
+            result.processedCount++;
+        }
+
+        return result;
+    }
+
+    private void recordItems(Long jobId, List<Long> customerIds, RebalancingBatchItem.Outcome outcome) {
+        if (customerIds.isEmpty()) {
+            return;
+        }
+        try {
+            rebalancingBatchItemRepository.saveAll(customerIds.stream()
+                    .map(customerId -> RebalancingBatchItem.of(jobId, customerId, outcome))
+                    .toList());
+        } catch (Exception e) {
+            log.error("리밸런싱 배치 처리 기록 저장 실패 - 작업 ID: {}, 고객 {}명, 결과: {}", jobId, customerIds.size(), outcome, e);
+        }
+    }
+
+    /**
+     * 주문 실행과 처리 완료 기록을 한 트랜잭션으로 커밋해, 실행된 고객은 재개 시 반드시 건너뛰게 한다.
+     */
+    private boolean processCustomer(BandDriftPreScreen.Candidate candidate, BatchRun run) {
+        RebalancingJob.TriggerType triggerType = run.triggerType;
+        Long customerId = candidate.customerId();
+
+        RebalancingSimulationRequest request = RebalancingSimulationRequest.builder()
+                .customerId(customerId)
+                .triggerType(triggerType.name())
+                .cashWeight(candidate.cashWeight())
+                .depositWeight(candidate.depositWeight())
+                .fundWeight(candidate.fundWeight())
+                .build();
+
+        RebalancingSimulationResponse simulationResponse = rebalancingService.simulateRebalancing(request);
+
+        boolean shouldExecute = RebalancingJob.TriggerType.BAND_BASED.equals(triggerType)
+                ? isBandThresholdExceeded(simulationResponse)
+                : simulationResponse.getOrders() != null && !simulationResponse.getOrders().isEmpty();
+
+        if (!shouldExecute) {
+            log.debug("리밸런싱 불필요 - 고객 ID: {}, 트리거: {}", customerId, triggerType);
+            recordItems(run.jobId, List.of(customerId), RebalancingBatchItem.Outcome.SKIP);
+            return false;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rebalancingService.approveAndExecuteRebalancing(simulationResponse.getJobId());
+            rebalancingBatchItemRepository.save(
+                    RebalancingBatchItem.of(run.jobId, customerId, RebalancingBatchItem.Outcome.SUCCESS));
+        });
+        log.info("리밸런싱 완료 - 고객 ID: {}, 작업 ID: {}, 트리거: {}",
+                customerId, simulationResponse.getJobId(), triggerType);
+        return true;
+    }
+
+    /**
+     * 밴드 임계값 초과 여부 확인
+     */
+    private boolean isBandThresholdExceeded(RebalancingSimulationResponse simulation) {
+        if (simulation.getCurrentPortfolio() == null || simulation.getTargetPortfolio() == null) {
+            return false;
+        }
+
+        double fundDeviation = Math.abs(simulation.getCurrentPortfolio().getFundWeight().doubleValue() -
+                                      simulation.getTargetPortfolio().getFundWeight().doubleValue());
+        double depositDeviation = Math.abs(simulation.getCurrentPortfolio().getDepositWeight().doubleValue() -
+                                         simulation.getTargetPortfolio().getDepositWeight().doubleValue());
+        double cashDeviation = Math.abs(simulation.getCurrentPortfolio().getCashWeight().doubleValue() -
+                                      simulation.getTargetPortfolio().getCashWeight().doubleValue());
+
+        log.debug("밴드 임계값 확인 - 펀드: {}% (임계값: {}%), 예금: {}% (임계값: {}%), 현금: {}% (임계값: {}%)",
+                fundDeviation, BandDriftPreScreen.FUND_BAND, depositDeviation, BandDriftPreScreen.DEPOSIT_BAND,
+                cashDeviation, BandDriftPreScreen.CASH_BAND);
+
+        return BandDriftPreScreen.exceedsBand(fundDeviation, depositDeviation, cashDeviation);
+    }
+
+    private void onShardCompleted(ShardResult result, BatchRun run) {
+        run.record(result);
+        transactionTemplate.executeWithoutResult(status -> rebalancingJobRepository.updateBatchProgress(
+                run.jobId,
+                run.getContiguousShards(),
+                run.processedCount.get(),
+                run.successCount.get(),
+                run.failCount.get(),
+                run.skipCount.get(),
+                run.resumeCustomerId));
+    }
+
+    private void finishBatchJob(BatchRun run, boolean completed, String failureReason) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> rebalancingJobRepository.findById(run.jobId)
+                    .ifPresent(job -> {
+                        job.setCompletedShards(run.getContiguousShards());
+                        job.setProcessedCount(run.processedCount.get());
+                        job.setSuccessCount(run.successCount.get());
+                        job.setFailCount(run.failCount.get());
+                        job.setSkipCount(run.skipCount.get());
+                        job.setResumeCustomerId(run.resumeCustomerId);
+                        if (completed) {
+                            job.setExecutionReason(String.format("처리 %d명 / 성공 %d / 실패 %d / 스킵 %d",
+                                    run.processedCount.get(), run.successCount.get(),
+                                    run.failCount.get(), run.skipCount.get()));
+                            job.complete();
+                        } else {
+                            // 실패로 닫지 않고 EXECUTING으로 남겨 다음 실행에서 재개한다 (재시작 가능 기간이 지나면 그때 실패 처리)
+                            String reason = "중단됨 (재개 대기): " + (failureReason != null ? failureReason : "알 수 없음");
+                            job.setExecutionReason(reason.length() > 200 ? reason.substring(0, 200) : reason);
+                        }
+                        rebalancingJobRepository.save(job);
+                    }));
+        } catch (Exception e) {
+            log.error("리밸런싱 배치 작업 상태 저장 실패 - 작업 ID: {}", run.jobId, e);
+        }
+    }
+
+    private ThreadFactory batchThreadFactory(Long jobId) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "rebalancing-batch-" + jobId + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class ShardResult {
+        private final int sequence;
+        private final long lastCustomerId;
+        private final int customerCount;
+        private final int alreadyProcessed;
+        private final long[] latencyNanos;
+        private int latencyCount;
+        private int processedCount;
+        private int successCount;
+        private int failCount;
+        private int skipCount;
+
+        ShardResult(int sequence, long lastCustomerId, int customerCount, int alreadyProcessed, int simulatedCount) {
+            this.sequence = sequence;
+            this.lastCustomerId = lastCustomerId;
+            this.customerCount = customerCount;
+            this.alreadyProcessed = alreadyProcessed;
+            this.latencyNanos = new long[simulatedCount];
+        }
+
+        boolean isComplete() {
+            return alreadyProcessed + processedCount == customerCount;
+        }
+    }
+
+    private static class BatchRun {
+        private final Long jobId;
+        private final RebalancingJob.TriggerType triggerType;
+        private final boolean resumed;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedNanos = System.nanoTime();
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private final AtomicInteger submittedShards = new AtomicInteger();
+        private final AtomicInteger completedShards = new AtomicInteger();
+        private final int previousContiguousShards;
+        private final AtomicInteger processedCount;
+        private final AtomicInteger successCount;
+        private final AtomicInteger failCount;
+        private final AtomicInteger skipCount;
+
+        // 샤드는 순서와 무관하게 끝나므로, 연속으로 완료된 샤드까지만 재시작 지점을 전진시킨다
+        private final Map<Integer, Long> completedOutOfOrder = new TreeMap<>();
+        private int nextSequence = 0;
+        private volatile long resumeCustomerId;
+
+        private final List<long[]> latencies = new ArrayList<>();
+        private int processedThisRun = 0;
+
+        BatchRun(RebalancingJob job, RebalancingJob.TriggerType triggerType,
+                 Map<RebalancingBatchItem.Outcome, Integer> processedItems) {
+            this.jobId = job.getJobId();
+            this.triggerType = triggerType;
+            this.resumeCustomerId = job.getResumeCustomerId() != null ? job.getResumeCustomerId() : 0L;
+            this.successCount = new AtomicInteger(processedItems.getOrDefault(RebalancingBatchItem.Outcome.SUCCESS, 0));
+            this.failCount = new AtomicInteger(processedItems.getOrDefault(RebalancingBatchItem.Outcome.FAIL, 0));
+            this.skipCount = new AtomicInteger(processedItems.getOrDefault(RebalancingBatchItem.Outcome.SKIP, 0));
+            this.processedCount = new AtomicInteger(successCount.get() + failCount.get() + skipCount.get());
+            this.resumed = processedCount.get() > 0 || resumeCustomerId > 0;
+            // 저장된 샤드 수는 재시작 지점까지 연속으로 완료된 샤드만 의미한다
+            this.previousContiguousShards = resumeCustomerId > 0 && job.getCompletedShards() != null
+                    ? job.getCompletedShards() : 0;
+        }
+
+        synchronized int getContiguousShards() {
+            return previousContiguousShards + nextSequence;
+        }
+
+        synchronized void record(ShardResult result) {
+            completedShards.incrementAndGet();
+            processedCount.addAndGet(result.processedCount);
+            successCount.addAndGet(result.successCount);
+            failCount.addAndGet(result.failCount);
+            skipCount.addAndGet(result.skipCount);
+            latencies.add(Arrays.copyOf(result.latencyNanos, result.latencyCount));
+            processedThisRun += result.processedCount;
+
+            if (!result.isComplete()) {
+                return;
+            }
+            completedOutOfOrder.put(result.sequence, result.lastCustomerId);
+            Long lastCustomerId;
+            while ((lastCustomerId = completedOutOfOrder.remove(nextSequence)) != null) {
+                resumeCustomerId = lastCustomerId;
+                nextSequence++;
+            }
+        }
+
+        void finish() {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+        }
+
+        synchronized RebalancingBatchReport toReport() {
+            boolean active = finishedAt == null;
+            long elapsedMillis = Duration.ofNanos((active ? System.nanoTime() : finishedNanos) - startedNanos).toMillis();
+
+            long[] sorted = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+
+            return RebalancingBatchReport.builder()
+                    .jobId(jobId)
+                    .triggerType(triggerType.name())
+                    .running(active)
+                    .resumed(resumed)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .submittedShards(submittedShards.get())
+                    .completedShards(completedShards.get())
+                    .processedCustomers(processedCount.get())
+                    .successCount(successCount.get())
+                    .failCount(failCount.get())
+                    .skipCount(skipCount.get())
+                    .resumeCustomerId(resumeCustomerId)
+                    .elapsedMillis(elapsedMillis)
+                    .customersPerSecond(elapsedMillis > 0 ? processedThisRun * 1000.0 / elapsedMillis : 0.0)
+                    .p50LatencyMillis(percentileMillis(sorted, 0.50))
+                    .p95LatencyMillis(percentileMillis(sorted, 0.95))
+                    .maxLatencyMillis(sorted.length > 0 ? Duration.ofNanos(sorted[sorted.length - 1]).toMillis() : 0L)
+                    .build();
+        }
+
+        private static long percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0L;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return Duration.ofNanos(sorted[Math.max(0, index)]).toMillis();
+        }
+    }
+}
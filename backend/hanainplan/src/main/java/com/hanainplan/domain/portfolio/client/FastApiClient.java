@@ -2,7 +2,6 @@ package com.hanainplan.domain.portfolio.client;
 
 import com.hanainplan.domain.portfolio.dto.PortfolioRecommendationRequest;
 import com.hanainplan.domain.portfolio.dto.PortfolioRecommendationResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -10,69 +9,223 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class FastApiClient {
 
     private final RestTemplate restTemplate;
+    private final String fastApiBaseUrl;
 
-    @Value("${fastapi.base-url:http://localhost:8090}")
-    private String fastApiBaseUrl;
+    private final int birthYearBucket;
+    private final BigDecimal riskScoreBucket;
+    private final long cacheTtlNanos;
+    private final int cacheMaxSize;
+    private final int batchSize;
+
+    private final CircuitBreaker circuitBreaker;
+
+    // 특성 벡터가 같은 고객은 같은 추천 결과를 공유 (접근 순서 기준 LRU)
+    private final LinkedHashMap<FeatureKey, CachedPortfolio> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<FeatureKey, CompletableFuture<PortfolioRecommendationResponse.SimilarUserPortfolio>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private volatile boolean batchEndpointAvailable = true;
+
+    public FastApiClient(RestTemplate restTemplate,
+                         @Value("${fastapi.base-url:http://localhost:8090}") String fastApiBaseUrl,
+                         @Value("${fastapi.recommendation.birth-year-bucket:5}") int birthYearBucket,
+                         @Value("${fastapi.recommendation.risk-score-bucket:0.5}") BigDecimal riskScoreBucket,
+                         @Value("${fastapi.recommendation.cache-ttl-seconds:3600}") long cacheTtlSeconds,
+                         @Value("${fastapi.recommendation.cache-max-size:10000}") int cacheMaxSize,
+                         @Value("${fastapi.recommendation.batch-size:200}") int batchSize,
+                         @Value("${fastapi.circuit.failure-threshold:5}") int failureThreshold,
+                         @Value("${fastapi.circuit.open-seconds:30}") long openSeconds) {
+        this.restTemplate = restTemplate;
+        this.fastApiBaseUrl = fastApiBaseUrl;
+        this.birthYearBucket = Math.max(1, birthYearBucket);
+        this.riskScoreBucket = riskScoreBucket.signum() > 0 ? riskScoreBucket : BigDecimal.valueOf(0.5);
+        this.cacheTtlNanos = Duration.ofSeconds(cacheTtlSeconds).toNanos();
+        this.cacheMaxSize = Math.max(1, cacheMaxSize);
+        this.batchSize = Math.max(1, batchSize);
+        this.circuitBreaker = new CircuitBreaker("fastapi", failureThreshold, Duration.ofSeconds(openSeconds));
+    }
 
     /**
      * FastAPI 서버에서 유사 사용자 기반 포트폴리오 추천 요청
+     * 같은 특성 버킷의 결과는 캐시에서 반환하고, 동시에 들어온 같은 버킷 요청은 한 번만 호출한다.
      */
     public PortfolioRecommendationResponse.SimilarUserPortfolio getSimilarUserPortfolio(
             PortfolioRecommendationRequest request) {
-        
+
+        FeatureKey key = toFeatureKey(request);
+
+        PortfolioRecommendationResponse.SimilarUserPortfolio cached = getCached(key);
+        if (cached != null) {
+            log.debug("FastAPI 추천 캐시 적중 - 고객 ID: {}", request.getCustomerId());
+            return cached;
+        }
+
+        CompletableFuture<PortfolioRecommendationResponse.SimilarUserPortfolio> future = new CompletableFuture<>();
+        CompletableFuture<PortfolioRecommendationResponse.SimilarUserPortfolio> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            log.debug("진행 중인 FastAPI 추천 요청에 합류 - 고객 ID: {}", request.getCustomerId());
+            return existing.join();
+        }
+
+        try {
+            PortfolioRecommendationResponse.SimilarUserPortfolio result = requestSimilarUserPortfolio(key, request);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 여러 고객의 유사 사용자 포트폴리오를 한 번에 조회 (고객 ID 기준 결과)
+     * 캐시에 없는 특성 버킷만 배치 엔드포인트로 요청한다.
+     */
+    public Map<Long, PortfolioRecommendationResponse.SimilarUserPortfolio> getSimilarUserPortfolios(
+            List<PortfolioRecommendationRequest> requests) {
+
+        Map<Long, PortfolioRecommendationResponse.SimilarUserPortfolio> results = new HashMap<>();
+        Map<FeatureKey, List<Long>> customersByKey = new LinkedHashMap<>();
+        Map<FeatureKey, PortfolioRecommendationRequest> missing = new LinkedHashMap<>();
+
+        for (PortfolioRecommendationRequest request : requests) {
+            FeatureKey key = toFeatureKey(request);
+            customersByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(request.getCustomerId());
+
+            PortfolioRecommendationResponse.SimilarUserPortfolio cached = getCached(key);
+            if (cached != null) {
+                results.put(request.getCustomerId(), cached);
+            } else {
+                missing.putIfAbsent(key, request);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            Map<FeatureKey, PortfolioRecommendationResponse.SimilarUserPortfolio> fetched = fetchBatch(missing);
+            fetched.forEach((key, portfolio) ->
+                    customersByKey.get(key).forEach(customerId -> results.put(customerId, portfolio)));
+        }
+
+        log.info("FastAPI 유사 사용자 포트폴리오 일괄 조회 - 고객 {}명, 특성 버킷 {}개, 원격 조회 {}개",
+                requests.size(), customersByKey.size(), missing.size());
+        return results;
+    }
+
+    private Map<FeatureKey, PortfolioRecommendationResponse.SimilarUserPortfolio> fetchBatch(
+            Map<FeatureKey, PortfolioRecommendationRequest> missing) {
+
+        Map<FeatureKey, PortfolioRecommendationResponse.SimilarUserPortfolio> fetched = new HashMap<>();
+        List<Map.Entry<FeatureKey, PortfolioRecommendationRequest>> entries = new ArrayList<>(missing.entrySet());
+
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Map.Entry<FeatureKey, PortfolioRecommendationRequest>> chunk =
+                    entries.subList(from, Math.min(from + batchSize, entries.size()));
+
+            if (batchEndpointAvailable && circuitBreaker.allowRequest()) {
+                try {
+                    fetched.putAll(postBatch(chunk));
+                    circuitBreaker.recordSuccess();
+                    continue;
+                } catch (HttpClientErrorException.NotFound e) {
+                    circuitBreaker.recordSuccess();
+                    batchEndpointAvailable = false;
+                    log.warn("FastAPI 배치 추천 엔드포인트가 없어 단건 호출로 전환합니다.");
+                } catch (Exception e) {
+                    circuitBreaker.recordFailure();
+                    log.error("FastAPI 배치 추천 요청 실패 - {}건: {}", chunk.size(), e.getMessage());
+                }
+            }
+
+            for (Map.Entry<FeatureKey, PortfolioRecommendationRequest> entry : chunk) {
+                if (!fetched.containsKey(entry.getKey())) {
+                    fetched.put(entry.getKey(), getSimilarUserPortfolio(entry.getValue()));
+                }
+            }
+        }
+
+        return fetched;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<FeatureKey, PortfolioRecommendationResponse.SimilarUserPortfolio> postBatch(
+            List<Map.Entry<FeatureKey, PortfolioRecommendationRequest>> chunk) {
+
+        String url = fastApiBaseUrl + "/api/recommendation/similar-users/batch";
+
+        Map<Long, FeatureKey> keyByCustomerId = new HashMap<>();
+        List<Map<String, Object>> items = new ArrayList<>(chunk.size());
+        for (Map.Entry<FeatureKey, PortfolioRecommendationRequest> entry : chunk) {
+            keyByCustomerId.put(entry.getValue().getCustomerId(), entry.getKey());
+            items.add(toRequestData(entry.getValue()));
+        }
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(url, jsonEntity(Map.of("requests", items)), Map.class);
+        Map<String, Object> responseBody = response.getBody();
+        if (!response.getStatusCode().is2xxSuccessful() || responseBody == null
+                || !Boolean.TRUE.equals(responseBody.get("success"))) {
+            throw new IllegalStateException("FastAPI 배치 응답 실패: "
+                    + (responseBody != null ? responseBody.get("message") : response.getStatusCode()));
+        }
+
+        Map<FeatureKey, PortfolioRecommendationResponse.SimilarUserPortfolio> fetched = new HashMap<>();
+        for (Map<String, Object> data : (List<Map<String, Object>>) responseBody.get("data")) {
+            FeatureKey key = keyByCustomerId.get(((Number) data.get("customer_id")).longValue());
+            if (key != null) {
+                PortfolioRecommendationResponse.SimilarUserPortfolio portfolio = toSimilarUserPortfolio(data);
+                putCached(key, portfolio);
+                fetched.put(key, portfolio);
+            }
+        }
+        return fetched;
+    }
+
+    private PortfolioRecommendationResponse.SimilarUserPortfolio requestSimilarUserPortfolio(
+            FeatureKey key, PortfolioRecommendationRequest request) {
+
+        if (!circuitBreaker.allowRequest()) {
+            log.warn("FastAPI 서킷 차단 중 - 기본 유사 사용자 포트폴리오 사용 (고객 ID: {})", request.getCustomerId());
+            return createDefaultSimilarUserPortfolio();
+        }
+
         log.info("FastAPI 유사 사용자 포트폴리오 추천 요청 - 고객 ID: {}", request.getCustomerId());
 
         try {
             String url = fastApiBaseUrl + "/api/recommendation/similar-users";
-            
-            // 요청 데이터 구성
-            Map<String, Object> requestData = Map.of(
-                "customer_id", request.getCustomerId(),
-                "birth_year", request.getBirthYear(),
-                "industry_code", request.getIndustryCode(),
-                "asset_level", request.getAssetLevel(),
-                "risk_profile_score", request.getRiskProfileScore().doubleValue(),
-                "has_disease", request.getHasDisease()
-            );
-
-            // HTTP 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> httpEntity = new HttpEntity<>(requestData, headers);
 
             // FastAPI 호출
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, httpEntity, Map.class);
-            
+            ResponseEntity<Map> response = restTemplate.postForEntity(url, jsonEntity(toRequestData(request)), Map.class);
+            circuitBreaker.recordSuccess();
+
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 Map<String, Object> responseBody = response.getBody();
-                
+
                 if (Boolean.TRUE.equals(responseBody.get("success"))) {
+                    @SuppressWarnings("unchecked")
                     Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-                    Map<String, Object> avgPortfolio = (Map<String, Object>) data.get("avg_portfolio");
-                    
-                    // 유사 사용자 정보 추출
-                    Integer similarUserCount = ((java.util.List<?>) data.get("similar_users")).size();
-                    Double averageSimilarity = calculateAverageSimilarity((java.util.List<Map<String, Object>>) data.get("similar_users"));
-                    
-                    return PortfolioRecommendationResponse.SimilarUserPortfolio.builder()
-                            .cashWeight(java.math.BigDecimal.valueOf((Double) avgPortfolio.get("cash_weight")))
-                            .depositWeight(java.math.BigDecimal.valueOf((Double) avgPortfolio.get("deposit_weight")))
-                            .fundWeight(java.math.BigDecimal.valueOf((Double) avgPortfolio.get("fund_weight")))
-                            .similarUserCount(similarUserCount)
-                            .averageSimilarity(averageSimilarity)
-                            .description(String.format("유사 사용자 %d명의 평균 포트폴리오 (평균 유사도: %.2f)", similarUserCount, averageSimilarity))
-                            .basis("SIMILAR_USERS")
-                            .build();
+                    PortfolioRecommendationResponse.SimilarUserPortfolio portfolio = toSimilarUserPortfolio(data);
+                    putCached(key, portfolio);
+                    return portfolio;
                 } else {
                     log.warn("FastAPI 응답 실패: {}", responseBody.get("message"));
                     return createDefaultSimilarUserPortfolio();
@@ -83,21 +236,105 @@ public class FastApiClient {
             }
 
         } catch (Exception e) {
-            log.error("FastAPI 유사 사용자 포트폴리오 추천 요청 실패", e);
+            circuitBreaker.recordFailure();
+            log.error("FastAPI 유사 사용자 포트폴리오 추천 요청 실패: {}", e.getMessage());
             return createDefaultSimilarUserPortfolio();
         }
     }
 
+    /**
+     * 요청 데이터 구성 (모델에는 고객의 실제 값을 보내고, 버킷은 캐시 키로만 사용)
+     * 같은 버킷의 다른 고객은 버킷에서 처음 조회한 고객의 추천 결과를 공유한다.
+     */
+    private Map<String, Object> toRequestData(PortfolioRecommendationRequest request) {
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("customer_id", request.getCustomerId());
+        requestData.put("birth_year", request.getBirthYear());
+        requestData.put("industry_code", request.getIndustryCode());
+        requestData.put("asset_level", request.getAssetLevel());
+        requestData.put("risk_profile_score", request.getRiskProfileScore() != null
+                ? request.getRiskProfileScore().doubleValue() : 0.0);
+        requestData.put("has_disease", Boolean.TRUE.equals(request.getHasDisease()));
+        return requestData;
+    }
+
+    private HttpEntity<Map<String, Object>> jsonEntity(Map<String, Object> body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PortfolioRecommendationResponse.SimilarUserPortfolio toSimilarUserPortfolio(Map<String, Object> data) {
+        Map<String, Object> avgPortfolio = (Map<String, Object>) data.get("avg_portfolio");
+        List<Map<String, Object>> similarUsers = (List<Map<String, Object>>) data.get("similar_users");
+
+        // 유사 사용자 정보 추출
+        Integer similarUserCount = similarUsers != null ? similarUsers.size() : 0;
+        Double averageSimilarity = calculateAverageSimilarity(similarUsers);
+
+        return PortfolioRecommendationResponse.SimilarUserPortfolio.builder()
+                .cashWeight(BigDecimal.valueOf(((Number) avgPortfolio.get("cash_weight")).doubleValue()))
+                .depositWeight(BigDecimal.valueOf(((Number) avgPortfolio.get("deposit_weight")).doubleValue()))
+                .fundWeight(BigDecimal.valueOf(((Number) avgPortfolio.get("fund_weight")).doubleValue()))
+                .similarUserCount(similarUserCount)
+                .averageSimilarity(averageSimilarity)
+                .description(String.format("유사 사용자 %d명의 평균 포트폴리오 (평균 유사도: %.2f)", similarUserCount, averageSimilarity))
+                .basis("SIMILAR_USERS")
+                .build();
+    }
+
+    private FeatureKey toFeatureKey(PortfolioRecommendationRequest request) {
+        Integer birthYear = request.getBirthYear() != null
+                ? Math.floorDiv(request.getBirthYear(), birthYearBucket) * birthYearBucket
+                : null;
+        BigDecimal riskScore = request.getRiskProfileScore() != null
+                ? request.getRiskProfileScore().divide(riskScoreBucket, 0, RoundingMode.FLOOR).multiply(riskScoreBucket)
+                : BigDecimal.ZERO;
+
+        return new FeatureKey(
+                birthYear,
+                request.getIndustryCode(),
+                request.getAssetLevel(),
+                riskScore.stripTrailingZeros(),
+                Boolean.TRUE.equals(request.getHasDisease())
+        );
+    }
+
+    private PortfolioRecommendationResponse.SimilarUserPortfolio getCached(FeatureKey key) {
+        synchronized (cache) {
+            CachedPortfolio cached = cache.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (System.nanoTime() - cached.cachedAtNanos() > cacheTtlNanos) {
+                cache.remove(key);
+                return null;
+            }
+            return cached.portfolio();
+        }
+    }
+
+    private void putCached(FeatureKey key, PortfolioRecommendationResponse.SimilarUserPortfolio portfolio) {
+        synchronized (cache) {
+            cache.put(key, new CachedPortfolio(portfolio, System.nanoTime()));
+            while (cache.size() > cacheMaxSize) {
+                FeatureKey eldest = cache.keySet().iterator().next();
+                cache.remove(eldest);
+            }
+        }
+    }
+
     /**
      * 유사 사용자들의 평균 유사도 계산
      */
-    private Double calculateAverageSimilarity(java.util.List<Map<String, Object>> similarUsers) {
+    private Double calculateAverageSimilarity(List<Map<String, Object>> similarUsers) {
         if (similarUsers == null || similarUsers.isEmpty()) {
             return 0.0;
         }
-        
+
         return similarUsers.stream()
-                .mapToDouble(user -> (Double) user.get("similarity"))
+                .mapToDouble(user -> ((Number) user.get("similarity")).doubleValue())
                 .average()
                 .orElse(0.0);
     }
@@ -107,9 +344,9 @@ public class FastApiClient {
      */
     private PortfolioRecommendationResponse.SimilarUserPortfolio createDefaultSimilarUserPortfolio() {
         return PortfolioRecommendationResponse.SimilarUserPortfolio.builder()
-                .cashWeight(java.math.BigDecimal.valueOf(5.0))
-                .depositWeight(java.math.BigDecimal.valueOf(40.0))
-                .fundWeight(java.math.BigDecimal.valueOf(55.0))
+                .cashWeight(BigDecimal.valueOf(5.0))
+                .depositWeight(BigDecimal.valueOf(40.0))
+                .fundWeight(BigDecimal.valueOf(55.0))
                 .similarUserCount(0)
                 .averageSimilarity(0.0)
                 .description("유사 사용자 데이터 없음 - 기본 포트폴리오 적용")
@@ -118,16 +355,14 @@ public class FastApiClient {
     }
 
     /**
-     * FastAPI 서버 상태 확인
+     * FastAPI 서버 사용 가능 여부 (서킷 브레이커 상태 기준, 원격 호출 없음)
      */
     public boolean isFastApiAvailable() {
-        try {
-            String url = fastApiBaseUrl + "/health";
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            return response.getStatusCode().is2xxSuccessful();
-        } catch (Exception e) {
-            log.warn("FastAPI 서버 상태 확인 실패: {}", e.getMessage());
-            return false;
-        }
+        return circuitBreaker.getState() != CircuitBreaker.State.OPEN;
     }
+
+    private record FeatureKey(Integer birthYear, String industryCode, String assetLevel,
+                              BigDecimal riskProfileScore, boolean hasDisease) {}
+
+    private record CachedPortfolio(PortfolioRecommendationResponse.SimilarUserPortfolio portfolio, long cachedAtNanos) {}
 }
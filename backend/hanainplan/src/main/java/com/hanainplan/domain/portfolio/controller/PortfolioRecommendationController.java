@@ -8,6 +8,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/irp/portfolio")
 @RequiredArgsConstructor
@@ -81,4 +84,21 @@ public class PortfolioRecommendationController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 여러 고객의 유사 사용자 포트폴리오 일괄 조회 (고객 ID 기준)
+     */
+    @PostMapping("/similar-user-portfolio/batch")
+    public ResponseEntity<Map<Long, PortfolioRecommendationResponse.SimilarUserPortfolio>> getSimilarUserPortfolios(
+            @RequestBody List<Long> customerIds) {
+
+        log.debug("유사 사용자 포트폴리오 일괄 조회 요청 - 고객 {}명", customerIds.size());
+
+        try {
+            return ResponseEntity.ok(portfolioRecommendationService.getSimilarUserPortfolios(customerIds));
+        } catch (Exception e) {
+            log.error("유사 사용자 포트폴리오 일괄 조회 중 오류 발생", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
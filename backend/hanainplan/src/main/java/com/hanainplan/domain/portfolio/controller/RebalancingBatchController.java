@@ -1,5 +1,7 @@
 package com.hanainplan.domain.portfolio.controller;
 
+import com.hanainplan.domain.portfolio.batch.RebalancingBatchRunner;
+import com.hanainplan.domain.portfolio.dto.RebalancingBatchReport;
 import com.hanainplan.domain.portfolio.dto.RebalancingSimulationRequest;
 import com.hanainplan.domain.portfolio.dto.RebalancingSimulationResponse;
 import com.hanainplan.domain.portfolio.entity.RebalancingJob;
@@ -14,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,6 +34,7 @@ public class RebalancingBatchController {
 
     private final RebalancingJobRepository rebalancingJobRepository;
     private final RebalancingService rebalancingService;
+    private final RebalancingBatchRunner rebalancingBatchRunner;
 
     /**
      * 배치 실행 통계 조회
@@ -192,4 +196,58 @@ public class RebalancingBatchController {
             return ResponseEntity.internalServerError().body(result);
         }
     }
+
+    /**
+     * 전체 대상 샤딩 배치 실행
+     */
+    @PostMapping("/run")
+    @Operation(summary = "리밸런싱 배치 실행", description = "활성 IRP 계좌 전체를 대상으로 리밸런싱 배치를 백그라운드에서 실행합니다. 중단된 배치가 있으면 이어서 실행합니다")
+    public ResponseEntity<Map<String, Object>> runBatch(
+            @Parameter(description = "트리거 타입 (TIME_BASED, BAND_BASED)") @RequestParam(defaultValue = "TIME_BASED") String triggerType) {
+        log.info("리밸런싱 배치 실행 요청 - 트리거: {}", triggerType);
+
+        Map<String, Object> result = new HashMap<>();
+
+        RebalancingJob.TriggerType type;
+        try {
+            type = RebalancingJob.TriggerType.valueOf(triggerType);
+        } catch (IllegalArgumentException e) {
+            type = null;
+        }
+        if (type != RebalancingJob.TriggerType.TIME_BASED && type != RebalancingJob.TriggerType.BAND_BASED) {
+            result.put("success", false);
+            result.put("message", "지원하지 않는 트리거 타입입니다: " + triggerType);
+            return ResponseEntity.badRequest().body(result);
+        }
+
+        try {
+            RebalancingBatchReport report = rebalancingBatchRunner.start(type);
+
+            result.put("success", true);
+            result.put("message", report.isResumed() ? "중단된 리밸런싱 배치를 재개했습니다" : "리밸런싱 배치를 시작했습니다");
+            result.put("report", report);
+            return ResponseEntity.accepted().body(result);
+
+        } catch (IllegalStateException e) {
+            result.put("success", false);
+            result.put("message", e.getMessage());
+            result.put("report", rebalancingBatchRunner.getCurrentReport());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+        }
+    }
+
+    /**
+     * 배치 진행 상황 조회
+     */
+    @GetMapping("/run/status")
+    @Operation(summary = "리밸런싱 배치 진행 상황", description = "현재(또는 마지막) 리밸런싱 배치의 진행률, 처리량, 지연 시간을 조회합니다")
+    public ResponseEntity<Map<String, Object>> getRunStatus() {
+        RebalancingBatchReport report = rebalancingBatchRunner.getCurrentReport();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("running", rebalancingBatchRunner.isRunning());
+        result.put("report", report);
+
+        return ResponseEntity.ok(result);
+    }
 }
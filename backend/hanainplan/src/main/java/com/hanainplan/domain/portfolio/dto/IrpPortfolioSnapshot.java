@@ -0,0 +1,61 @@
+package com.hanainplan.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 고객 IRP 포트폴리오의 슬리브별 합계 스냅샷 (집계 쿼리 한 번으로 생성)
+ */
+@Getter
+@AllArgsConstructor
+public class IrpPortfolioSnapshot {
+
+    private final Long customerId;
+    private final String irpAccountNumber;
+    private final BigDecimal cashBalance;
+    private final BigDecimal depositTotal;
+    private final BigDecimal fundTotal;
+    private final BigDecimal totalValue;
+    private final double fundWeight;
+    private final int maturedDepositsCount;
+
+    /**
+     * IrpAccountRepository.aggregatePortfolioTotals 결과 행으로 스냅샷을 만든다.
+     * 활성 IRP 계좌가 없으면 예금 합계만 유지하고 총액/현금/펀드/비중은 0으로 둔다 (기존 조회 메서드와 동일).
+     */
+    public static IrpPortfolioSnapshot of(Long customerId, Object[] row) {
+        String accountNumber = row != null ? (String) row[0] : null;
+        BigDecimal deposit = row != null ? toBigDecimal(row[2]) : BigDecimal.ZERO;
+        int maturedCount = row != null && row[3] != null ? ((Number) row[3]).intValue() : 0;
+
+        if (accountNumber == null) {
+            return new IrpPortfolioSnapshot(customerId, null, BigDecimal.ZERO, deposit, BigDecimal.ZERO,
+                    BigDecimal.ZERO, 0.0, maturedCount);
+        }
+
+        BigDecimal cash = toBigDecimal(row[1]);
+        BigDecimal fund = toBigDecimal(row[4]);
+        BigDecimal total = cash.add(deposit).add(fund);
+        double weight = total.signum() == 0 ? 0.0
+                : fund.multiply(BigDecimal.valueOf(100)).divide(total, 6, RoundingMode.HALF_UP).doubleValue();
+
+        return new IrpPortfolioSnapshot(customerId, accountNumber, cash, deposit, fund, total, weight, maturedCount);
+    }
+
+    public boolean hasIrpAccount() {
+        return irpAccountNumber != null;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return new BigDecimal(value.toString());
+    }
+}
@@ -0,0 +1,35 @@
+package com.hanainplan.domain.portfolio.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalancingBatchReport {
+    private Long jobId;
+    private String triggerType;
+    private boolean running;
+    private boolean resumed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private int submittedShards;
+    private int completedShards;
+    private int processedCustomers;
+    private int successCount;
+    private int failCount;
+    private int skipCount;
+    private Long resumeCustomerId;
+
+    private long elapsedMillis;
+    private double customersPerSecond;
+    private long p50LatencyMillis;
+    private long p95LatencyMillis;
+    private long maxLatencyMillis;
+}
@@ -0,0 +1,54 @@
+package com.hanainplan.domain.portfolio.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리밸런싱 배치에서 처리를 마친 고객 기록 (배치 작업당 고객 1건).
+ * 재개 시 이미 처리한 고객을 건너뛰고, 배치 집계는 이 기록으로 다시 계산한다.
+ */
+@Entity
+@Table(name = "tb_rebalancing_batch_item",
+       uniqueConstraints = @UniqueConstraint(name = "uk_rebalancing_batch_item", columnNames = {"batch_job_id", "customer_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RebalancingBatchItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "item_id")
+    private Long itemId;
+
+    @Column(name = "batch_job_id", nullable = false)
+    private Long batchJobId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", nullable = false, length = 10)
+    private Outcome outcome;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    public enum Outcome {
+        SUCCESS, FAIL, SKIP
+    }
+
+    public static RebalancingBatchItem of(Long batchJobId, Long customerId, Outcome outcome) {
+        return RebalancingBatchItem.builder()
+                .batchJobId(batchJobId)
+                .customerId(customerId)
+                .outcome(outcome)
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+}
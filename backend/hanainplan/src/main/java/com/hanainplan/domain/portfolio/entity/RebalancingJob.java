@@ -28,6 +28,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class RebalancingJob {
 
+    // 배치 실행 기록은 특정 고객/계좌에 속하지 않으므로 고정값을 사용
+    public static final Long BATCH_CUSTOMER_ID = 0L;
+    public static final String BATCH_ACCOUNT_NUMBER = "BATCH";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "job_id")
@@ -85,6 +89,24 @@ public class RebalancingJob {
     @Column(name = "cancellation_reason", length = 200)
     private String cancellationReason;
 
+    @Column(name = "completed_shards")
+    private Integer completedShards; // 배치: 완료된 샤드 수
+
+    @Column(name = "processed_count")
+    private Integer processedCount; // 배치: 처리된 고객 수
+
+    @Column(name = "success_count")
+    private Integer successCount;
+
+    @Column(name = "fail_count")
+    private Integer failCount;
+
+    @Column(name = "skip_count")
+    private Integer skipCount;
+
+    @Column(name = "resume_customer_id")
+    private Long resumeCustomerId; // 배치: 이 고객 ID까지 처리 완료 (재시작 지점)
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -95,7 +117,8 @@ public class RebalancingJob {
 
     public enum JobType {
         SIMULATION("시뮬레이션"),
-        EXECUTION("실행");
+        EXECUTION("실행"),
+        BATCH("배치");
 
         private final String description;
 
@@ -173,6 +196,10 @@ public class RebalancingJob {
         this.cancellationReason = reason;
     }
 
+    public boolean isBatch() {
+        return JobType.BATCH.equals(jobType);
+    }
+
     public boolean isSimulation() {
         return JobType.SIMULATION.equals(jobType);
     }
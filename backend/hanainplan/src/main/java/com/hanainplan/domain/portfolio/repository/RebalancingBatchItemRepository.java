@@ -0,0 +1,26 @@
+package com.hanainplan.domain.portfolio.repository;
+
+import com.hanainplan.domain.portfolio.entity.RebalancingBatchItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RebalancingBatchItemRepository extends JpaRepository<RebalancingBatchItem, Long> {
+
+    @Query("SELECT i.customerId FROM RebalancingBatchItem i " +
+           "WHERE i.batchJobId = :batchJobId AND i.customerId IN :customerIds")
+    List<Long> findProcessedCustomerIds(@Param("batchJobId") Long batchJobId,
+                                        @Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * 배치 작업의 결과별 처리 고객 수 [outcome, count]
+     */
+    @Query("SELECT i.outcome, COUNT(i) FROM RebalancingBatchItem i " +
+           "WHERE i.batchJobId = :batchJobId GROUP BY i.outcome")
+    List<Object[]> countByOutcome(@Param("batchJobId") Long batchJobId);
+}
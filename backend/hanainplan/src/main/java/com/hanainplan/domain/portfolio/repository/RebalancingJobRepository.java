@@ -2,11 +2,13 @@ package com.hanainplan.domain.portfolio.repository;
 
 import com.hanainplan.domain.portfolio.entity.RebalancingJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,4 +49,24 @@ public interface RebalancingJobRepository extends JpaRepository<RebalancingJob,
 
     // Pageable을 포함한 메서드들
     org.springframework.data.domain.Page<RebalancingJob> findByJobTypeAndStatus(RebalancingJob.JobType jobType, RebalancingJob.JobStatus status, org.springframework.data.domain.Pageable pageable);
+
+    Optional<RebalancingJob> findFirstByJobTypeAndTriggerTypeAndStatusOrderByCreatedAtDesc(
+            RebalancingJob.JobType jobType, RebalancingJob.TriggerType triggerType, RebalancingJob.JobStatus status);
+
+    @Modifying
+    @Query("UPDATE RebalancingJob rj SET rj.completedShards = :completedShards, rj.processedCount = :processedCount, " +
+           "rj.successCount = :successCount, rj.failCount = :failCount, rj.skipCount = :skipCount, " +
+           "rj.resumeCustomerId = :resumeCustomerId, rj.updatedAt = CURRENT_TIMESTAMP WHERE rj.jobId = :jobId")
+    int updateBatchProgress(@Param("jobId") Long jobId,
+                            @Param("completedShards") int completedShards,
+                            @Param("processedCount") int processedCount,
+                            @Param("successCount") int successCount,
+                            @Param("failCount") int failCount,
+                            @Param("skipCount") int skipCount,
+                            @Param("resumeCustomerId") Long resumeCustomerId);
+
+    @Query("SELECT DISTINCT rj.customerId FROM RebalancingJob rj " +
+           "WHERE rj.customerId IN :customerIds AND rj.createdAt > :since")
+    List<Long> findCustomerIdsWithJobsSince(@Param("customerIds") Collection<Long> customerIds,
+                                            @Param("since") LocalDateTime since);
 }
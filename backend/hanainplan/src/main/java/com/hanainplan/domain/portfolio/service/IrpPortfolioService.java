@@ -7,6 +7,7 @@ import com.hanainplan.domain.banking.repository.IrpAccountRepository;
 import com.hanainplan.domain.fund.entity.FundPortfolio;
 import com.hanainplan.domain.fund.repository.FundPortfolioRepository;
 import com.hanainplan.domain.portfolio.dto.IrpPortfolioResponse;
+import com.hanainplan.domain.portfolio.dto.IrpPortfolioSnapshot;
 import com.hanainplan.domain.portfolio.entity.IrpHolding;
 import com.hanainplan.domain.portfolio.repository.IrpHoldingRepository;
 import com.hanainplan.domain.user.entity.Customer;
@@ -34,6 +35,7 @@ public class IrpPortfolioService {
     private final IrpAccountRepository irpAccountRepository;
     private final DepositPortfolioRepository depositPortfolioRepository;
     private final FundPortfolioRepository fundPortfolioRepository;
+    private final IrpPortfolioSnapshotCache snapshotCache;
 
     /**
      * 고객의 IRP 포트폴리오 조회 (슬리브별 분리)
@@ -54,7 +56,7 @@ public class IrpPortfolioService {
                 irpAccount.getAccountNumber(), irpAccount.getAccountStatus(), irpAccount.getCurrentBalance());
 
         // 실제 데이터 조회
-        List<IrpHolding> holdings = getActualPortfolioData(customerId, irpAccount.getAccountNumber());
+        List<IrpHolding> holdings = getActualPortfolioData(customerId, irpAccount);
         
         log.info("고객 ID {} IRP 포트폴리오 조회 완료 - 보유 자산 수: {}", customerId, holdings.size());
 
@@ -64,7 +66,8 @@ public class IrpPortfolioService {
     /**
      * 실제 deposit_portfolio와 fund_portfolio 테이블에서 데이터를 가져와서 IrpHolding 형태로 변환
      */
-    private List<IrpHolding> getActualPortfolioData(Long customerId, String irpAccountNumber) {
+    private List<IrpHolding> getActualPortfolioData(Long customerId, IrpAccount irpAccount) {
+        String irpAccountNumber = irpAccount.getAccountNumber();
         List<IrpHolding> holdings = new ArrayList<>();
 
         // 1. 예금 포트폴리오 조회 (userId로 조회)
@@ -118,8 +121,7 @@ public class IrpPortfolioService {
         }
 
         // 3. 현금 잔액 (IRP 계좌의 currentBalance)
-        IrpAccount irpAccount = irpAccountRepository.findByCustomerIdAndAccountStatus(customerId, "ACTIVE").orElse(null);
-        if (irpAccount != null && irpAccount.getCurrentBalance() != null && irpAccount.getCurrentBalance().compareTo(BigDecimal.ZERO) > 0) {
+        if (irpAccount.getCurrentBalance() != null && irpAccount.getCurrentBalance().compareTo(BigDecimal.ZERO) > 0) {
             IrpHolding cashHolding = IrpHolding.builder()
                     .customerId(customerId)
                     .irpAccountNumber(irpAccountNumber)
@@ -139,7 +141,7 @@ public class IrpPortfolioService {
 
         log.info("고객 ID {} 전체 포트폴리오 구성 - 예금: {}건, 펀드: {}건, 현금: {}건", 
                 customerId, deposits.size(), funds.stream().mapToInt(f -> f.isActive() ? 1 : 0).sum(), 
-                (irpAccount != null && irpAccount.getCurrentBalance().compareTo(BigDecimal.ZERO) > 0) ? 1 : 0);
+                (irpAccount.getCurrentBalance() != null && irpAccount.getCurrentBalance().compareTo(BigDecimal.ZERO) > 0) ? 1 : 0);
 
         return holdings;
     }
@@ -167,45 +169,31 @@ public class IrpPortfolioService {
         }
 
         // 실제 데이터 조회
-        List<IrpHolding> holdings = getActualPortfolioData(customerId, irpAccountNumber);
+        List<IrpHolding> holdings = getActualPortfolioData(customerId, irpAccount);
         
         log.info("고객 ID {} 계좌 {} 포트폴리오 조회 완료 - 보유 자산 수: {}", customerId, irpAccountNumber, holdings.size());
 
         return IrpPortfolioResponse.from(holdings, customerId, irpAccountNumber);
     }
 
+    /**
+     * 고객의 IRP 포트폴리오 합계 스냅샷 조회 (집계 쿼리 1회, 짧은 TTL 캐시)
+     */
+    public IrpPortfolioSnapshot getPortfolioSnapshot(Long customerId) {
+        return snapshotCache.get(customerId, this::loadPortfolioSnapshot);
+    }
+
+    private IrpPortfolioSnapshot loadPortfolioSnapshot(Long customerId) {
+        List<Object[]> rows = irpAccountRepository.aggregatePortfolioTotals(customerId);
+        return IrpPortfolioSnapshot.of(customerId, rows.isEmpty() ? null : rows.get(0));
+    }
+
     /**
      * 고객의 총 IRP 자산 가치 조회
      */
     public Double getTotalIrpValue(Long customerId) {
         log.debug("고객 ID {} 총 IRP 자산 가치 조회", customerId);
-
-        // IRP 계좌 조회
-        Optional<IrpAccount> irpAccountOpt = irpAccountRepository.findByCustomerIdAndAccountStatus(customerId, "ACTIVE");
-        if (irpAccountOpt.isEmpty()) {
-            return 0.0;
-        }
-
-        String irpAccountNumber = irpAccountOpt.get().getAccountNumber();
-
-        // 예금 총액
-        BigDecimal depositTotal = depositPortfolioRepository.findByUserIdAndStatus(customerId, "ACTIVE")
-                .stream()
-                .map(DepositPortfolio::getPrincipalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 펀드 총액
-        BigDecimal fundTotal = fundPortfolioRepository.findByIrpAccountNumberOrderByCreatedAtDesc(irpAccountNumber)
-                .stream()
-                .filter(FundPortfolio::isActive)
-                .map(FundPortfolio::getCurrentValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 현금 잔액
-        BigDecimal cashBalance = irpAccountOpt.get().getCurrentBalance() != null ? 
-                irpAccountOpt.get().getCurrentBalance() : BigDecimal.ZERO;
-
-        return depositTotal.add(fundTotal).add(cashBalance).doubleValue();
+        return getPortfolioSnapshot(customerId).getTotalValue().doubleValue();
     }
 
     /**
@@ -230,62 +218,28 @@ public class IrpPortfolioService {
      * 고객의 현금 잔액 조회
      */
     public Double getCashBalance(Long customerId) {
-        Optional<IrpAccount> irpAccountOpt = irpAccountRepository.findByCustomerIdAndAccountStatus(customerId, "ACTIVE");
-        if (irpAccountOpt.isEmpty()) {
-            return 0.0;
-        }
-        
-        BigDecimal cashBalance = irpAccountOpt.get().getCurrentBalance() != null ? 
-                irpAccountOpt.get().getCurrentBalance() : BigDecimal.ZERO;
-        
-        return cashBalance.doubleValue();
+        return getPortfolioSnapshot(customerId).getCashBalance().doubleValue();
     }
 
     /**
      * 고객의 예금 총액 조회
      */
     public Double getDepositTotal(Long customerId) {
-        BigDecimal depositTotal = depositPortfolioRepository.findByUserIdAndStatus(customerId, "ACTIVE")
-                .stream()
-                .map(DepositPortfolio::getPrincipalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        return depositTotal.doubleValue();
+        return getPortfolioSnapshot(customerId).getDepositTotal().doubleValue();
     }
 
     /**
      * 고객의 펀드 총액 조회
      */
     public Double getFundTotal(Long customerId) {
-        // IRP 계좌 조회
-        Optional<IrpAccount> irpAccountOpt = irpAccountRepository.findByCustomerIdAndAccountStatus(customerId, "ACTIVE");
-        if (irpAccountOpt.isEmpty()) {
-            return 0.0;
-        }
-
-        String irpAccountNumber = irpAccountOpt.get().getAccountNumber();
-
-        BigDecimal fundTotal = fundPortfolioRepository.findByIrpAccountNumberOrderByCreatedAtDesc(irpAccountNumber)
-                .stream()
-                .filter(FundPortfolio::isActive)
-                .map(FundPortfolio::getCurrentValue)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return fundTotal.doubleValue();
+        return getPortfolioSnapshot(customerId).getFundTotal().doubleValue();
     }
 
     /**
      * 고객의 펀드 비중 계산 (70% 상한 체크용)
      */
     public Double getFundWeight(Long customerId) {
-        Double totalValue = getTotalIrpValue(customerId);
-        Double fundValue = getFundTotal(customerId);
-        
-        if (totalValue == null || totalValue == 0.0) {
-            return 0.0;
-        }
-        
-        return (fundValue / totalValue) * 100.0;
+        return getPortfolioSnapshot(customerId).getFundWeight();
     }
 
     /**
@@ -402,21 +356,17 @@ public class IrpPortfolioService {
     public PortfolioSummary getPortfolioSummary(Long customerId) {
         log.debug("고객 ID {} 포트폴리오 요약 조회", customerId);
 
-        Double totalValue = getTotalIrpValue(customerId);
-        Double cashValue = getCashBalance(customerId);
-        Double depositValue = getDepositTotal(customerId);
-        Double fundValue = getFundTotal(customerId);
-        Double fundWeight = getFundWeight(customerId);
+        IrpPortfolioSnapshot snapshot = getPortfolioSnapshot(customerId);
 
         return PortfolioSummary.builder()
                 .customerId(customerId)
-                .totalValue(totalValue)
-                .cashValue(cashValue)
-                .depositValue(depositValue)
-                .fundValue(fundValue)
-                .fundWeight(fundWeight)
-                .isFundWeightExceeded(isFundWeightExceeded(customerId))
-                .maturedDepositsCount(getMaturedDeposits(customerId).size())
+                .totalValue(snapshot.getTotalValue().doubleValue())
+                .cashValue(snapshot.getCashBalance().doubleValue())
+                .depositValue(snapshot.getDepositTotal().doubleValue())
+                .fundValue(snapshot.getFundTotal().doubleValue())
+                .fundWeight(snapshot.getFundWeight())
+                .isFundWeightExceeded(snapshot.getFundWeight() > 70.0)
+                .maturedDepositsCount(snapshot.getMaturedDepositsCount())
                 .build();
     }
 
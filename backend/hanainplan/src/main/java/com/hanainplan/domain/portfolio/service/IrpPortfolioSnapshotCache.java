@@ -0,0 +1,104 @@
+package com.hanainplan.domain.portfolio.service;
+
+import com.hanainplan.domain.portfolio.dto.IrpPortfolioSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 고객별 IRP 포트폴리오 스냅샷 캐시.
+ * 대시보드가 한 화면에서 여러 합계/비중 조회를 호출해도 집계 쿼리는 TTL 동안 한 번만 실행한다.
+ * 예금 가입, 펀드 매수/환매, 이체, 동기화 배치가 invalidate를 호출하며, 적재 중에 무효화되면 그 결과는 캐시하지 않는다.
+ */
+@Component
+public class IrpPortfolioSnapshotCache {
+
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public IrpPortfolioSnapshotCache(@Value("${portfolio.snapshot.ttl-seconds:30}") long ttlSeconds,
+                                     @Value("${portfolio.snapshot.max-size:50000}") int maxSize) {
+        this.ttlNanos = Duration.ofSeconds(Math.max(1, ttlSeconds)).toNanos();
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    public IrpPortfolioSnapshot get(Long customerId, Function<Long, IrpPortfolioSnapshot> loader) {
+        if (cache.size() >= maxSize && !cache.containsKey(customerId)) {
+            cache.clear();
+        }
+
+        Entry entry = cache.computeIfAbsent(customerId, id -> new Entry());
+        long version;
+        synchronized (entry) {
+            if (entry.isFresh(ttlNanos)) {
+                return entry.snapshot;
+            }
+            version = entry.version;
+        }
+
+        IrpPortfolioSnapshot loaded = loader.apply(customerId);
+
+        synchronized (entry) {
+            if (entry.version == version) {
+                entry.snapshot = loaded;
+                entry.loadedAt = System.nanoTime();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안에서 호출되면 커밋 후 한 번 더 무효화한다
+     * (커밋 전에 다른 요청이 이전 값으로 다시 적재하는 경우 방지).
+     */
+    public void invalidate(Long customerId) {
+        if (customerId == null) {
+            return;
+        }
+
+        evict(customerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(customerId);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.values().forEach(entry -> {
+            synchronized (entry) {
+                entry.version++;
+            }
+        });
+        cache.clear();
+    }
+
+    private void evict(Long customerId) {
+        Entry entry = cache.remove(customerId);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.version++;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private IrpPortfolioSnapshot snapshot;
+        private long version;
+        private long loadedAt;
+
+        private boolean isFresh(long ttlNanos) {
+            return snapshot != null && System.nanoTime() - loadedAt < ttlNanos;
+        }
+    }
+}
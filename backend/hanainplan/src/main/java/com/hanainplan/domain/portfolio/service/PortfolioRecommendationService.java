@@ -12,6 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -116,15 +118,15 @@ public class PortfolioRecommendationService {
      * 유사 사용자 포트폴리오 생성 (FastAPI 호출)
      */
     private PortfolioRecommendationResponse.SimilarUserPortfolio createSimilarUserPortfolio(Customer customer) {
-        // FastAPI 서버 상태 확인
-        if (!fastApiClient.isFastApiAvailable()) {
-            log.warn("FastAPI 서버가 사용 불가능합니다. 기본 유사 사용자 포트폴리오를 사용합니다.");
-            return createDefaultSimilarUserPortfolio();
-        }
+        // FastAPI 장애 시에는 클라이언트의 서킷 브레이커가 기본 포트폴리오를 반환
+        return fastApiClient.getSimilarUserPortfolio(toRecommendationRequest(customer));
+    }
 
-        // FastAPI 요청 데이터 구성
-        PortfolioRecommendationRequest request = 
-            PortfolioRecommendationRequest.builder()
+    /**
+     * FastAPI 요청 데이터 구성
+     */
+    private PortfolioRecommendationRequest toRecommendationRequest(Customer customer) {
+        return PortfolioRecommendationRequest.builder()
                 .customerId(customer.getCustomerId())
                 .irpAccountNumber(customer.getIrpAccountNumber())
                 .birthYear(calculateBirthYear(customer))
@@ -133,8 +135,6 @@ public class PortfolioRecommendationService {
                 .riskProfileScore(customer.getRiskProfileScore() != null ? customer.getRiskProfileScore() : BigDecimal.valueOf(2.5))
                 .hasDisease(customer.hasHealthRisk())
                 .build();
-
-        return fastApiClient.getSimilarUserPortfolio(request);
     }
 
     /**
@@ -204,21 +204,6 @@ public class PortfolioRecommendationService {
                 .build();
     }
 
-    /**
-     * 기본 유사 사용자 포트폴리오 생성
-     */
-    private PortfolioRecommendationResponse.SimilarUserPortfolio createDefaultSimilarUserPortfolio() {
-        return PortfolioRecommendationResponse.SimilarUserPortfolio.builder()
-                .cashWeight(BigDecimal.valueOf(5.0))
-                .depositWeight(BigDecimal.valueOf(40.0))
-                .fundWeight(BigDecimal.valueOf(55.0))
-                .similarUserCount(0)
-                .averageSimilarity(0.0)
-                .description("유사 사용자 데이터 없음 - 기본 포트폴리오 적용")
-                .basis("SIMILAR_USERS")
-                .build();
-    }
-
     /**
      * 고객의 출생년도 계산 (간단한 추정)
      */
@@ -247,4 +232,15 @@ public class PortfolioRecommendationService {
         
         return createSimilarUserPortfolio(customer);
     }
+
+    /**
+     * 여러 고객의 유사 사용자 포트폴리오 일괄 조회 (배치 리밸런싱용)
+     */
+    public Map<Long, PortfolioRecommendationResponse.SimilarUserPortfolio> getSimilarUserPortfolios(List<Long> customerIds) {
+        List<PortfolioRecommendationRequest> requests = customerRepository.findAllById(customerIds).stream()
+                .map(this::toRecommendationRequest)
+                .toList();
+
+        return fastApiClient.getSimilarUserPortfolios(requests);
+    }
 }
@@ -6,6 +6,7 @@ import com.hanainplan.domain.banking.repository.DepositPortfolioRepository;
 import com.hanainplan.domain.banking.repository.IrpAccountRepository;
 import com.hanainplan.domain.fund.entity.FundPortfolio;
 import com.hanainplan.domain.fund.repository.FundPortfolioRepository;
+import com.hanainplan.domain.fund.service.FundNavPricingService;
 import com.hanainplan.domain.notification.entity.NotificationType;
 import com.hanainplan.domain.notification.service.NotificationService;
 import com.hanainplan.domain.notification.dto.NotificationDto;
@@ -17,6 +18,8 @@ import com.hanainplan.domain.portfolio.entity.RebalancingJob;
 import com.hanainplan.domain.portfolio.entity.RebalancingOrder;
 import com.hanainplan.domain.portfolio.repository.RebalancingJobRepository;
 import com.hanainplan.domain.portfolio.repository.RebalancingOrderRepository;
+import com.hanainplan.domain.user.entity.Customer;
+import com.hanainplan.domain.user.repository.CustomerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,7 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -44,6 +48,11 @@ public class RebalancingService {
     private final RebalancingOrderRepository rebalancingOrderRepository;
     private final NotificationService notificationService;
     private final HanaBankClient hanaBankClient;
+    private final CustomerRepository customerRepository;
+    private final FundNavPricingService fundNavPricingService;
+    private final RecommendedFundSelector recommendedFundSelector;
+
+    private static final BigDecimal DEFAULT_FEE_RATE = BigDecimal.valueOf(0.0015); // 0.15% 수수료
 
     /**
      * 리밸런싱 시뮬레이션 실행
@@ -214,6 +223,7 @@ public class RebalancingService {
             RebalancingSimulationResponse.PortfolioSnapshot target) {
         
         List<RebalancingSimulationResponse.RebalancingOrder> orders = new ArrayList<>();
+        List<PendingOrder> pendingOrders = new ArrayList<>();
 
         // 펀드 비중 편차 계산
         BigDecimal fundDrift = current.getFundWeight().subtract(target.getFundWeight());
@@ -223,21 +233,19 @@ public class RebalancingService {
             BigDecimal buyAmount = target.getFundAmount().subtract(current.getFundAmount());
             
             if (buyAmount.compareTo(BigDecimal.valueOf(100000)) > 0) { // 최소 거래 금액 10만원
-                // 추천 펀드 선택 (실제 존재하는 펀드 클래스 사용)
-                String recommendedFundCode = getRecommendedFundCode();
-                BigDecimal expectedNav = getExpectedNav(recommendedFundCode);
-                
-                orders.add(RebalancingSimulationResponse.RebalancingOrder.builder()
-                        .orderType("BUY")
-                        .assetType("FUND")
-                        .fundCode(recommendedFundCode)
-                        .fundName("미래에셋퇴직플랜30증권자투자신탁1호(채권혼합) P클래스")
-                        .orderAmount(buyAmount)
-                        .expectedNav(expectedNav)
-                        .orderUnits(buyAmount.divide(expectedNav, 4, RoundingMode.HALF_UP))
-                        .fee(buyAmount.multiply(BigDecimal.valueOf(0.0015))) // 0.15% 수수료
-                        .reason("펀드 비중 부족으로 매수 필요")
-                        .build());
+                // 투자성향에 맞는 판매중 펀드 클래스 중 추천 펀드 선택
+                Optional<RecommendedFundSelector.EligibleFund> recommendedFund =
+                        recommendedFundSelector.select(getRiskProfileType(customerId));
+
+                if (recommendedFund.isPresent()) {
+                    RecommendedFundSelector.EligibleFund fund = recommendedFund.get();
+                    BigDecimal feeRate = fund.frontLoadPct() != null && fund.frontLoadPct().compareTo(BigDecimal.ZERO) > 0
+                            ? fund.frontLoadPct().divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP)
+                            : DEFAULT_FEE_RATE;
+
+                    pendingOrders.add(new PendingOrder("BUY", fund.childFundCd(), fund.childFundCd(),
+                            fund.fundName(), buyAmount, feeRate, "펀드 비중 부족으로 매수 필요"));
+                }
             }
         }
         
@@ -250,42 +258,57 @@ public class RebalancingService {
                 FundPortfolio fundToSell = getFundToSell(irpAccountNumber);
                 
                 if (fundToSell != null) {
-                    BigDecimal expectedNav = getExpectedNav(fundToSell.getFundCode());
-                    
-                    orders.add(RebalancingSimulationResponse.RebalancingOrder.builder()
-                            .orderType("SELL")
-                            .assetType("FUND")
-                            .fundCode(fundToSell.getFundCode())
-                            .fundName(fundToSell.getFundName())
-                            .orderAmount(sellAmount)
-                            .expectedNav(expectedNav)
-                            .orderUnits(sellAmount.divide(expectedNav, 4, RoundingMode.HALF_UP))
-                            .fee(sellAmount.multiply(BigDecimal.valueOf(0.0015))) // 0.15% 수수료
-                            .reason("펀드 비중 초과로 매도 필요")
-                            .build());
+                    String navCode = fundToSell.getChildFundCd() != null ? fundToSell.getChildFundCd() : fundToSell.getFundCode();
+                    pendingOrders.add(new PendingOrder("SELL", fundToSell.getFundCode(), navCode,
+                            fundToSell.getFundName(), sellAmount, DEFAULT_FEE_RATE, "펀드 비중 초과로 매도 필요"));
                 }
             }
         }
 
+        if (pendingOrders.isEmpty()) {
+            return orders;
+        }
+
+        // 주문에 포함된 펀드의 기준가를 한 번에 조회
+        Map<String, FundNavPricingService.NavQuote> quotes = fundNavPricingService.getQuotes(
+                pendingOrders.stream().map(PendingOrder::navCode).toList());
+
+        for (PendingOrder pending : pendingOrders) {
+            FundNavPricingService.NavQuote quote = quotes.get(pending.navCode());
+            if (quote == null || quote.nav() == null || quote.nav().compareTo(BigDecimal.ZERO) <= 0) {
+                log.warn("기준가가 없어 주문을 생성하지 않음 - 고객 ID: {}, 펀드: {}", customerId, pending.navCode());
+                continue;
+            }
+
+            orders.add(RebalancingSimulationResponse.RebalancingOrder.builder()
+                    .orderType(pending.orderType())
+                    .assetType("FUND")
+                    .fundCode(pending.fundCode())
+                    .fundName(pending.fundName())
+                    .orderAmount(pending.amount())
+                    .expectedNav(quote.nav())
+                    .orderUnits(pending.amount().divide(quote.nav(), 4, RoundingMode.HALF_UP))
+                    .fee(pending.amount().multiply(pending.feeRate()).setScale(2, RoundingMode.HALF_UP))
+                    .reason(pending.reason())
+                    .build());
+        }
+
         return orders;
     }
 
     /**
-     * 추천 펀드 코드 반환 (실제 존재하는 펀드 클래스)
+     * 고객 투자성향 조회 (미설정 시 위험성향 점수로 판정)
      */
-    private String getRecommendedFundCode() {
-        // 실제 존재하는 펀드 클래스 코드 반환
-        return "51305P"; // 미래에셋퇴직플랜30 P클래스
+    private Customer.RiskProfileType getRiskProfileType(Long customerId) {
+        return customerRepository.findById(customerId)
+                .map(customer -> customer.getRiskProfileType() != null
+                        ? customer.getRiskProfileType()
+                        : Customer.RiskProfileType.fromScore(customer.getRiskProfileScore()))
+                .orElse(Customer.RiskProfileType.STABLE_PLUS);
     }
 
-    /**
-     * 예상 NAV 조회
-     */
-    private BigDecimal getExpectedNav(String fundCode) {
-        // 실제로는 하나은행 서버에서 최신 NAV를 조회해야 함
-        // 현재는 테스트용 고정값 사용
-        return BigDecimal.valueOf(1006.48); // 최신 NAV
-    }
+    private record PendingOrder(String orderType, String fundCode, String navCode, String fundName,
+                                BigDecimal amount, BigDecimal feeRate, String reason) {}
 
     /**
      * 매도할 펀드 선택
@@ -0,0 +1,163 @@
+package com.hanainplan.domain.portfolio.service;
+
+import com.hanainplan.domain.fund.entity.FundClass;
+import com.hanainplan.domain.fund.repository.FundClassRepository;
+import com.hanainplan.domain.fund.service.LatestNavIndex;
+import com.hanainplan.domain.user.entity.Customer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 리밸런싱 매수 주문에 사용할 추천 펀드 선택.
+ * 판매중인 펀드 클래스 전체를 주기적으로 읽어 투자성향별 우선순위 목록으로 캐시하고,
+ * 기준가가 있는 첫 번째 펀드를 고른다.
+ */
+@Component
+@Slf4j
+public class RecommendedFundSelector {
+
+    // 위험등급을 알 수 없는 펀드는 가장 위험한 1등급으로 본다 (공격투자형에만 추천)
+    private static final int UNKNOWN_RISK_GRADE = 1;
+
+    private final FundClassRepository fundClassRepository;
+    private final LatestNavIndex latestNavIndex;
+    private final long universeTtlMillis;
+
+    private volatile Universe universe;
+
+    public RecommendedFundSelector(FundClassRepository fundClassRepository,
+                                   LatestNavIndex latestNavIndex,
+                                   @Value("${rebalancing.fund.universe-ttl-seconds:600}") long universeTtlSeconds) {
+        this.fundClassRepository = fundClassRepository;
+        this.latestNavIndex = latestNavIndex;
+        this.universeTtlMillis = universeTtlSeconds * 1000;
+    }
+
+    public Optional<EligibleFund> select(Customer.RiskProfileType riskProfile) {
+        Customer.RiskProfileType profile = riskProfile != null ? riskProfile : Customer.RiskProfileType.STABLE_PLUS;
+
+        for (EligibleFund fund : currentUniverse().rankedByProfile.get(profile)) {
+            if (latestNavIndex.get(fund.childFundCd()).isPresent()) {
+                return Optional.of(fund);
+            }
+        }
+
+        log.warn("추천 가능한 펀드가 없음 - 투자성향: {}", profile);
+        return Optional.empty();
+    }
+
+    public void invalidate() {
+        universe = null;
+    }
+
+    private Universe currentUniverse() {
+        Universe current = universe;
+        if (current == null || System.currentTimeMillis() - current.loadedAtMillis > universeTtlMillis) {
+            synchronized (this) {
+                current = universe;
+                if (current == null || System.currentTimeMillis() - current.loadedAtMillis > universeTtlMillis) {
+                    current = loadUniverse();
+                    universe = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Universe loadUniverse() {
+        List<EligibleFund> funds = fundClassRepository.findOnSaleWithMasterAndFees().stream()
+                .map(RecommendedFundSelector::toEligibleFund)
+                .toList();
+
+        Map<Customer.RiskProfileType, List<EligibleFund>> ranked = new EnumMap<>(Customer.RiskProfileType.class);
+        for (Customer.RiskProfileType profile : Customer.RiskProfileType.values()) {
+            int riskFloor = riskGradeFloor(profile);
+            String preferredAssetType = preferredAssetType(profile);
+
+            ranked.put(profile, funds.stream()
+                    .filter(fund -> effectiveRiskGrade(fund) >= riskFloor)
+                    .sorted(Comparator
+                            .comparing((EligibleFund fund) -> !matchesAssetType(fund, preferredAssetType))
+                            .thenComparing(fund -> fund.riskGrade() == null)
+                            .thenComparingInt(fund -> Math.abs(effectiveRiskGrade(fund) - riskFloor))
+                            .thenComparing(EligibleFund::totalFeeBps, Comparator.nullsLast(Comparator.naturalOrder()))
+                            .thenComparing(EligibleFund::childFundCd))
+                    .toList());
+        }
+
+        log.info("추천 펀드 후보 적재 완료: {}건", funds.size());
+        return new Universe(ranked, System.currentTimeMillis());
+    }
+
+    /**
+     * 투자성향별 허용 위험등급 하한 (1등급: 매우 높은 위험 ~ 6등급: 매우 낮은 위험)
+     */
+    private static int riskGradeFloor(Customer.RiskProfileType profile) {
+        return switch (profile) {
+            case STABLE -> 5;
+            case STABLE_PLUS -> 4;
+            case NEUTRAL -> 3;
+            case AGGRESSIVE -> 1;
+        };
+    }
+
+    private static int effectiveRiskGrade(EligibleFund fund) {
+        return fund.riskGrade() != null ? fund.riskGrade() : UNKNOWN_RISK_GRADE;
+    }
+
+    private static String preferredAssetType(Customer.RiskProfileType profile) {
+        return switch (profile) {
+            case STABLE -> "채권";
+            case STABLE_PLUS, NEUTRAL -> "채권혼합";
+            case AGGRESSIVE -> "주식";
+        };
+    }
+
+    private static boolean matchesAssetType(EligibleFund fund, String preferredAssetType) {
+        return fund.assetType() != null && fund.assetType().contains(preferredAssetType);
+    }
+
+    private static EligibleFund toEligibleFund(FundClass fundClass) {
+        String fundName = fundClass.getFundMaster().getFundName();
+        if (fundClass.getClassCode() != null) {
+            fundName = fundName + " " + fundClass.getClassCode() + "클래스";
+        }
+
+        return new EligibleFund(
+                fundClass.getChildFundCd(),
+                fundName,
+                fundClass.getFundMaster().getAssetType(),
+                parseRiskGrade(fundClass.getFundMaster().getRiskGrade()),
+                fundClass.getFundFees() != null ? fundClass.getFundFees().getTotalFeeBps() : null,
+                fundClass.getFundFees() != null ? fundClass.getFundFees().getFrontLoadPct() : null
+        );
+    }
+
+    private static Integer parseRiskGrade(String riskGrade) {
+        if (riskGrade == null) {
+            return null;
+        }
+        String digits = riskGrade.replaceAll("[^0-9]", "");
+        if (digits.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public record EligibleFund(String childFundCd, String fundName, String assetType, Integer riskGrade,
+                               Integer totalFeeBps, BigDecimal frontLoadPct) {}
+
+    private record Universe(Map<Customer.RiskProfileType, List<EligibleFund>> rankedByProfile, long loadedAtMillis) {}
+}
@@ -7,11 +7,14 @@ import com.hanainplan.domain.webrtc.controller.WebRTCSignalController;
 import com.hanainplan.domain.webrtc.entity.VideoCallRoom;
 import com.hanainplan.domain.webrtc.repository.VideoCallRoomRepository;
 import com.hanainplan.domain.webrtc.service.ConsultationMatchingService;
+import com.hanainplan.domain.webrtc.signaling.IceCandidateCoalescer;
+import com.hanainplan.domain.webrtc.signaling.SignalingChannelMetrics;
 import com.hanainplan.domain.webrtc.service.WebRTCService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
 
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +31,9 @@ public class WebRTCController {
     private final WebRTCSignalController signalController;
     private final ConsultationMatchingService consultationMatchingService;
     private final ConsultRepository consultRepository;
+    private final SignalingChannelMetrics signalingChannelMetrics;
+    private final IceCandidateCoalescer iceCandidateCoalescer;
+    private final WebSocketMessageBrokerStats webSocketMessageBrokerStats;
 
     @PostMapping("/call/request")
     public ResponseEntity<?> createCallRequest(@RequestBody CallRequestMessage request) {
@@ -247,6 +253,20 @@ public class WebRTCController {
         ));
     }
 
+    @GetMapping("/signaling/metrics")
+    public ResponseEntity<?> getSignalingMetrics(@RequestParam(defaultValue = "50") int limit) {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("sessionCount", signalingChannelMetrics.getSessionCount());
+        metrics.put("inboundQueued", signalingChannelMetrics.getTotalInboundQueued());
+        metrics.put("outboundQueued", signalingChannelMetrics.getTotalOutboundQueued());
+        metrics.put("rejected", signalingChannelMetrics.getTotalRejected());
+        metrics.put("pendingIcePeers", iceCandidateCoalescer.getPendingPeerCount());
+        metrics.put("sessions", signalingChannelMetrics.getSessionQueueDepths(limit));
+        metrics.put("inboundExecutor", webSocketMessageBrokerStats.getClientInboundExecutorStatsInfo());
+        metrics.put("outboundExecutor", webSocketMessageBrokerStats.getClientOutboundExecutorStatsInfo());
+        return ResponseEntity.ok(metrics);
+    }
+
     @PostMapping("/consultation/{consultationId}/join")
     public ResponseEntity<?> joinConsultationRoom(
             @PathVariable String consultationId,
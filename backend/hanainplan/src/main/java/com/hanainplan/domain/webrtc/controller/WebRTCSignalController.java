@@ -11,6 +11,7 @@ import com.hanainplan.domain.webrtc.dto.WebRTCMessage;
 import com.hanainplan.domain.webrtc.entity.VideoCallRoom;
 import com.hanainplan.domain.webrtc.repository.VideoCallRoomRepository;
 import com.hanainplan.domain.webrtc.service.WebRTCService;
+import com.hanainplan.domain.webrtc.signaling.IceCandidateCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,6 +35,7 @@ public class WebRTCSignalController {
     private final ScheduleService scheduleService;
     private final UserRepository userRepository;
     private final VideoCallRoomRepository videoCallRoomRepository;
+    private final IceCandidateCoalescer iceCandidateCoalescer;
 
     @Value("${app.base-url:http://localhost:5173}")
     private String baseUrl;
@@ -121,19 +123,21 @@ public class WebRTCSignalController {
     @MessageMapping("/webrtc.offer")
     public void handleOffer(@Payload SdpMessage offer) {
         log.info("Offer from {} to {}, room {}", offer.getSenderId(), offer.getReceiverId(), offer.getRoomId());
+        iceCandidateCoalescer.flushPeer(offer.getRoomId(), offer.getSenderId(), offer.getReceiverId());
         messagingTemplate.convertAndSendToUser(String.valueOf(offer.getReceiverId()), "/queue/webrtc-offer", offer);
     }
 
     @MessageMapping("/webrtc.answer")
     public void handleAnswer(@Payload SdpMessage answer) {
         log.info("Answer from {} to {}, room {}", answer.getSenderId(), answer.getReceiverId(), answer.getRoomId());
+        iceCandidateCoalescer.flushPeer(answer.getRoomId(), answer.getSenderId(), answer.getReceiverId());
         messagingTemplate.convertAndSendToUser(String.valueOf(answer.getReceiverId()), "/queue/webrtc-answer", answer);
     }
 
     @MessageMapping("/webrtc.ice")
     public void handleIce(@Payload IceCandidateMessage ice) {
         log.debug("ICE from {} to {}, room {}", ice.getSenderId(), ice.getReceiverId(), ice.getRoomId());
-        messagingTemplate.convertAndSendToUser(String.valueOf(ice.getReceiverId()), "/queue/webrtc-ice", ice);
+        iceCandidateCoalescer.enqueue(ice);
     }
 
     @MessageMapping("/consultation.start")
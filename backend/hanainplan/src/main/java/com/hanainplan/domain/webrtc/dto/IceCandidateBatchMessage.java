@@ -0,0 +1,19 @@
+package com.hanainplan.domain.webrtc.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IceCandidateBatchMessage {
+    private String roomId;
+    private Long senderId;
+    private Long receiverId;
+    private List<IceCandidateMessage> candidates;
+}
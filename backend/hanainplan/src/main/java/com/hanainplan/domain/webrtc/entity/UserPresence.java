@@ -0,0 +1,37 @@
+package com.hanainplan.domain.webrtc.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * WebSocket 세션별 접속 상태 (다중 노드 공유용)
+ */
+@Entity
+@Table(name = "user_presence", indexes = {
+        @Index(name = "idx_user_presence_user", columnList = "userId"),
+        @Index(name = "idx_user_presence_node", columnList = "nodeId")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class UserPresence {
+
+    @Id
+    @Column(length = 100)
+    private String sessionId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime connectedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSeenAt;
+}
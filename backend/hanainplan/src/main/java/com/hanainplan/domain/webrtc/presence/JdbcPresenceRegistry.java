@@ -0,0 +1,118 @@
+package com.hanainplan.domain.webrtc.presence;
+
+import com.hanainplan.domain.webrtc.entity.UserPresence;
+import com.hanainplan.domain.webrtc.repository.UserPresenceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 공유 접속 상태 저장소 (여러 노드가 같은 테이블을 본다).
+ * 각 노드는 주기적으로 자기 세션의 lastSeenAt을 갱신하고, 갱신이 끊긴 세션(비정상 종료 노드)은 TTL이 지나면 정리된다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.presence.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcPresenceRegistry implements PresenceRegistry {
+
+    private static final String API_SESSION_PREFIX = "api:";
+
+    private final UserPresenceRepository userPresenceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final String nodeId;
+
+    public JdbcPresenceRegistry(UserPresenceRepository userPresenceRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${websocket.presence.ttl-seconds:90}") long ttlSeconds,
+                                @Value("${websocket.node-id:}") String nodeId) {
+        this.userPresenceRepository = userPresenceRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofSeconds(Math.max(1, ttlSeconds));
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        log.info("Using shared JDBC presence store. Node ID: {}", this.nodeId);
+    }
+
+    @Override
+    @Transactional
+    public void markOnline(Long userId, String sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        userPresenceRepository.save(UserPresence.builder()
+                .sessionId(sessionId != null ? sessionId : API_SESSION_PREFIX + userId)
+                .userId(userId)
+                .nodeId(nodeId)
+                .connectedAt(now)
+                .lastSeenAt(now)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void markOffline(Long userId) {
+        userPresenceRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * 세션 종료 시 그 노드에 있는 사용자의 행을 모두 지운다 (REST로 등록한 api: 행 포함).
+     * api: 행은 heartbeat가 계속 갱신하므로 남겨 두면 WebSocket이 끊겨도 온라인으로 남는다 (local 구현과 동일하게 맞춤).
+     */
+    @Override
+    @Transactional
+    public Optional<Long> removeSession(String sessionId) {
+        Optional<UserPresence> presence = userPresenceRepository.findById(sessionId);
+        presence.ifPresent(session ->
+                userPresenceRepository.deleteByUserIdAndNodeId(session.getUserId(), session.getNodeId()));
+        return presence.map(UserPresence::getUserId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isOnline(Long userId) {
+        return userPresenceRepository.existsByUserIdAndLastSeenAtAfter(userId, cutoff());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getOnlineUserIds() {
+        return new HashSet<>(userPresenceRepository.findOnlineUserIds(cutoff()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int getSessionCount() {
+        return (int) userPresenceRepository.countByLastSeenAtAfter(cutoff());
+    }
+
+    @Scheduled(fixedDelayString = "${websocket.presence.heartbeat-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    @Transactional
+    public void heartbeat() {
+        int touched = userPresenceRepository.touchNode(nodeId, LocalDateTime.now());
+        int expired = userPresenceRepository.deleteStale(cutoff());
+        if (expired > 0) {
+            log.info("Removed {} expired presence sessions ({} sessions refreshed on this node)", expired, touched);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // @PreDestroy는 프록시를 거치지 않으므로 트랜잭션을 직접 연다
+        transactionTemplate.executeWithoutResult(status -> userPresenceRepository.deleteByNodeId(nodeId));
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(ttl);
+    }
+}
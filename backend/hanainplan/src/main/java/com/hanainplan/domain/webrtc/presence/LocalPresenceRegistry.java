@@ -0,0 +1,56 @@
+package com.hanainplan.domain.webrtc.presence;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "websocket.presence.store", havingValue = "local", matchIfMissing = true)
+public class LocalPresenceRegistry implements PresenceRegistry {
+
+    private final Map<Long, Boolean> onlineUsers = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> sessionUserMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void markOnline(Long userId, String sessionId) {
+        onlineUsers.put(userId, true);
+        if (sessionId != null) {
+            sessionUserMap.put(sessionId, userId);
+        }
+    }
+
+    @Override
+    public void markOffline(Long userId) {
+        onlineUsers.remove(userId);
+        sessionUserMap.values().removeIf(userId::equals);
+    }
+
+    @Override
+    public Optional<Long> removeSession(String sessionId) {
+        Long userId = sessionUserMap.remove(sessionId);
+        if (userId != null) {
+            onlineUsers.remove(userId);
+        }
+        return Optional.ofNullable(userId);
+    }
+
+    @Override
+    public boolean isOnline(Long userId) {
+        return onlineUsers.getOrDefault(userId, false);
+    }
+
+    @Override
+    public Set<Long> getOnlineUserIds() {
+        return Set.copyOf(onlineUsers.keySet());
+    }
+
+    @Override
+    public int getSessionCount() {
+        return sessionUserMap.size();
+    }
+}
@@ -0,0 +1,23 @@
+package com.hanainplan.domain.webrtc.presence;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 접속 상태 저장소.
+ * 단일 노드에서는 메모리(local), 여러 노드를 띄울 때는 DB 공유(jdbc) 구현을 사용한다.
+ */
+public interface PresenceRegistry {
+
+    void markOnline(Long userId, String sessionId);
+
+    void markOffline(Long userId);
+
+    Optional<Long> removeSession(String sessionId);
+
+    boolean isOnline(Long userId);
+
+    Set<Long> getOnlineUserIds();
+
+    int getSessionCount();
+}
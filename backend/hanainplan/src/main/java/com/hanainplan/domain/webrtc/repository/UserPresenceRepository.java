@@ -0,0 +1,42 @@
+package com.hanainplan.domain.webrtc.repository;
+
+import com.hanainplan.domain.webrtc.entity.UserPresence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserPresenceRepository extends JpaRepository<UserPresence, String> {
+
+    boolean existsByUserIdAndLastSeenAtAfter(Long userId, LocalDateTime cutoff);
+
+    @Query("SELECT DISTINCT p.userId FROM UserPresence p WHERE p.lastSeenAt > :cutoff")
+    List<Long> findOnlineUserIds(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByLastSeenAtAfter(LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM UserPresence p WHERE p.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserPresence p WHERE p.userId = :userId AND p.nodeId = :nodeId")
+    int deleteByUserIdAndNodeId(@Param("userId") Long userId, @Param("nodeId") String nodeId);
+
+    @Modifying
+    @Query("DELETE FROM UserPresence p WHERE p.nodeId = :nodeId")
+    int deleteByNodeId(@Param("nodeId") String nodeId);
+
+    @Modifying
+    @Query("DELETE FROM UserPresence p WHERE p.lastSeenAt < :cutoff")
+    int deleteStale(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("UPDATE UserPresence p SET p.lastSeenAt = :now WHERE p.nodeId = :nodeId")
+    int touchNode(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,401 @@
+package com.hanainplan.domain.webrtc.service;
+
+import com.hanainplan.domain.user.entity.Consultant;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 기반 상담원 매칭 엔진.
+ * 상담 가능한 상담원은 일반 풀과 전문 분야별 풀에 대기 시간이 긴 순서로 들어 있다.
+ * 상담원 배정은 상담 가능 토큰의 CAS로 처리하므로 두 요청이 같은 상담원을 잡는 일은 없다.
+ * 상담원이 없으면 고객은 상담 유형별 FIFO 대기열에서 기다리며, 취소는 티켓 상태만 바꾸고
+ * 대기열 머리에 도달했을 때 버린다.
+ */
+@Component
+public class ConsultantMatchingEngine {
+
+    public static final String GENERAL_TYPE = "일반상담";
+
+    // 토큰이 양수이면 상담 가능 (값은 상담 가능 상태가 된 순번), 음수이면 상담 중/오프라인
+    private static final long BUSY = -1L;
+    private static final long OFFLINE = -2L;
+
+    private static final int WAITING = 0;
+    private static final int MATCHED = 1;
+    private static final int CANCELLED = 2;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong ticketSequence = new AtomicLong();
+
+    private final Map<Long, ConsultantSlot> slots = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<PoolEntry> generalPool = new ConcurrentSkipListSet<>(PoolEntry.ORDER);
+    private final Map<String, ConcurrentSkipListSet<PoolEntry>> specialtyPools = new ConcurrentHashMap<>();
+
+    private final Map<String, WaitingQueue> waitingQueues = new ConcurrentHashMap<>();
+    private final Map<Long, Ticket> customers = new ConcurrentHashMap<>();
+    private final Map<String, Assignment> activeRooms = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 유형에서 가장 오래 대기한 상담원을 배정하고, 없으면 대기열에 넣는다.
+     * 같은 대기열에서 이미 기다리던 고객에게 함께 배정된 매칭도 돌려준다.
+     */
+    public MatchOutcome request(Long customerId, String customerName, String consultationType) {
+        String type = normalizeType(consultationType);
+        Ticket ticket = new Ticket(ticketSequence.incrementAndGet(), customerId, customerName, type);
+
+        // 티켓 공개 전에 대기열을 만들어 두어, 곧바로 들어온 취소도 대기 인원 수를 맞게 줄이도록 한다
+        WaitingQueue queue = waitingQueues.computeIfAbsent(type, WaitingQueue::new);
+        if (customers.putIfAbsent(customerId, ticket) != null) {
+            return MatchOutcome.duplicate();
+        }
+
+        Claim claim = claimConsultant(type);
+        if (claim != null) {
+            if (ticket.state.compareAndSet(WAITING, MATCHED)) {
+                return MatchOutcome.matched(assign(ticket, claim.slot()), List.of());
+            }
+            // 상담원을 잡는 사이 고객이 취소한 경우 - 상담원을 되돌리고 대기 고객에게 넘긴다
+            // (대기열에 넣지 않은 티켓이므로 취소가 줄인 대기 인원 수를 되돌린다)
+            queue.waiting.incrementAndGet();
+            unclaim(claim);
+            return MatchOutcome.cancelled(drainAll());
+        }
+
+        int position = queue.enqueue(ticket);
+
+        // 대기열에 넣은 직후 다시 확인 - 그 사이 상담 가능해진 상담원을 놓치지 않도록
+        List<Assignment> assignments = drain(queue);
+        Assignment own = null;
+        List<Assignment> others = new ArrayList<>(assignments.size());
+        for (Assignment assignment : assignments) {
+            if (assignment.customerId().equals(customerId)) {
+                own = assignment;
+            } else {
+                others.add(assignment);
+            }
+        }
+
+        return own != null ? MatchOutcome.matched(own, others) : MatchOutcome.queued(position, others);
+    }
+
+    public boolean cancel(Long customerId) {
+        Ticket ticket = customers.get(customerId);
+        if (ticket == null || !ticket.state.compareAndSet(WAITING, CANCELLED)) {
+            return false;
+        }
+
+        customers.remove(customerId, ticket);
+        WaitingQueue queue = waitingQueues.get(ticket.consultationType);
+        if (queue != null) {
+            queue.waiting.decrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * 상담원을 상담 가능 풀에 넣고, 가장 오래 기다린 대기 고객부터 배정한다.
+     */
+    public List<Assignment> makeAvailable(Consultant profile, Set<String> specialties) {
+        ConsultantSlot slot = slots.computeIfAbsent(profile.getConsultantId(), ConsultantSlot::new);
+        slot.profile = profile;
+
+        long since = generation.incrementAndGet();
+        while (true) {
+            long current = slot.token.get();
+            if (current > 0) {
+                return List.of();
+            }
+            if (slot.token.compareAndSet(current, since)) {
+                break;
+            }
+        }
+
+        slot.specialties = Set.copyOf(specialties);
+        publish(slot, since);
+        return drainAll();
+    }
+
+    public void markBusy(Long consultantId) {
+        withdraw(consultantId, BUSY);
+    }
+
+    public void markOffline(Long consultantId) {
+        withdraw(consultantId, OFFLINE);
+    }
+
+    /**
+     * 상담방을 닫고 배정 정보를 돌려준다. 상담원을 다시 상담 가능 상태로 돌리는 것은 호출 측이 한다.
+     */
+    public Assignment endRoom(String roomId) {
+        Assignment assignment = activeRooms.remove(roomId);
+        if (assignment != null) {
+            Ticket ticket = customers.get(assignment.customerId());
+            if (ticket != null && ticket.state.get() == MATCHED) {
+                customers.remove(assignment.customerId(), ticket);
+            }
+        }
+        return assignment;
+    }
+
+    public void releaseCustomer(Long customerId) {
+        Ticket ticket = customers.get(customerId);
+        if (ticket != null && ticket.state.get() != WAITING) {
+            customers.remove(customerId, ticket);
+        }
+    }
+
+    public boolean isConsultant(Long userId) {
+        return slots.containsKey(userId);
+    }
+
+    public int availableConsultantCount() {
+        int count = 0;
+        for (ConsultantSlot slot : slots.values()) {
+            if (slot.token.get() > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int activeCustomerCount() {
+        return customers.size();
+    }
+
+    public Map<String, Integer> waitingCountByType() {
+        Map<String, Integer> counts = new HashMap<>();
+        waitingQueues.forEach((type, queue) -> counts.put(type, Math.max(0, queue.waiting.get())));
+        return counts;
+    }
+
+    public int waitingCount() {
+        int total = 0;
+        for (WaitingQueue queue : waitingQueues.values()) {
+            total += Math.max(0, queue.waiting.get());
+        }
+        return total;
+    }
+
+    private Claim claimConsultant(String type) {
+        ConcurrentSkipListSet<PoolEntry> specialtyPool = specialtyPools.get(type);
+        if (specialtyPool != null) {
+            Claim claim = claimFrom(specialtyPool);
+            if (claim != null) {
+                return claim;
+            }
+        }
+        return claimFrom(generalPool);
+    }
+
+    private Claim claimFrom(ConcurrentSkipListSet<PoolEntry> pool) {
+        for (PoolEntry entry : pool) {
+            ConsultantSlot slot = slots.get(entry.consultantId());
+            if (slot != null && slot.token.compareAndSet(entry.since(), BUSY)) {
+                unpublish(slot, entry.since());
+                return new Claim(slot, entry.since());
+            }
+            if (slot == null || slot.token.get() != entry.since()) {
+                pool.remove(entry);
+            }
+        }
+        return null;
+    }
+
+    // 대기 고객이 그 사이 취소한 경우 상담원을 원래 순번 그대로 풀에 되돌린다
+    private void unclaim(Claim claim) {
+        if (claim.slot().token.compareAndSet(BUSY, claim.since())) {
+            publish(claim.slot(), claim.since());
+        }
+    }
+
+    private void withdraw(Long consultantId, long state) {
+        ConsultantSlot slot = slots.get(consultantId);
+        if (slot == null) {
+            return;
+        }
+        long previous = slot.token.getAndSet(state);
+        if (previous > 0) {
+            unpublish(slot, previous);
+        }
+    }
+
+    private void publish(ConsultantSlot slot, long since) {
+        PoolEntry entry = new PoolEntry(since, slot.consultantId);
+        generalPool.add(entry);
+        for (String specialty : slot.specialties) {
+            specialtyPools.computeIfAbsent(specialty, key -> new ConcurrentSkipListSet<>(PoolEntry.ORDER)).add(entry);
+        }
+    }
+
+    private void unpublish(ConsultantSlot slot, long since) {
+        PoolEntry entry = new PoolEntry(since, slot.consultantId);
+        generalPool.remove(entry);
+        for (String specialty : slot.specialties) {
+            ConcurrentSkipListSet<PoolEntry> pool = specialtyPools.get(specialty);
+            if (pool != null) {
+                pool.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * 모든 대기열을 처리하되, 가장 오래 기다린 고객이 있는 대기열부터 배정한다.
+     */
+    private List<Assignment> drainAll() {
+        List<WaitingQueue> queues = new ArrayList<>();
+        for (WaitingQueue queue : waitingQueues.values()) {
+            if (queue.peekLive() != null) {
+                queues.add(queue);
+            }
+        }
+        if (queues.isEmpty()) {
+            return List.of();
+        }
+        queues.sort(Comparator.comparingLong(queue -> {
+            Ticket head = queue.peekLive();
+            return head != null ? head.sequence : Long.MAX_VALUE;
+        }));
+
+        List<Assignment> assignments = new ArrayList<>();
+        for (WaitingQueue queue : queues) {
+            assignments.addAll(drain(queue));
+        }
+        return assignments;
+    }
+
+    private List<Assignment> drain(WaitingQueue queue) {
+        List<Assignment> assignments = new ArrayList<>();
+
+        while (true) {
+            Ticket head = queue.peekLive();
+            if (head == null) {
+                return assignments;
+            }
+
+            Claim claim = claimConsultant(queue.type);
+            if (claim == null) {
+                return assignments;
+            }
+
+            if (head.state.compareAndSet(WAITING, MATCHED)) {
+                queue.remove(head);
+                assignments.add(assign(head, claim.slot()));
+            } else {
+                unclaim(claim);
+            }
+        }
+    }
+
+    private Assignment assign(Ticket ticket, ConsultantSlot slot) {
+        Assignment assignment = new Assignment(UUID.randomUUID().toString(), ticket.customerId, ticket.customerName,
+                ticket.consultationType, slot.consultantId, slot.profile);
+        activeRooms.put(assignment.roomId(), assignment);
+        return assignment;
+    }
+
+    private static String normalizeType(String consultationType) {
+        return consultationType == null || consultationType.isBlank() ? GENERAL_TYPE : consultationType.trim();
+    }
+
+    public record Assignment(String roomId, Long customerId, String customerName, String consultationType,
+                             Long consultantId, Consultant consultant) {}
+
+    public record MatchOutcome(Status status, Assignment assignment, int queuePosition, List<Assignment> otherAssignments) {
+
+        public enum Status { MATCHED, QUEUED, DUPLICATE, CANCELLED }
+
+        static MatchOutcome matched(Assignment assignment, List<Assignment> others) {
+            return new MatchOutcome(Status.MATCHED, assignment, 0, others);
+        }
+
+        static MatchOutcome queued(int position, List<Assignment> others) {
+            return new MatchOutcome(Status.QUEUED, null, position, others);
+        }
+
+        static MatchOutcome duplicate() {
+            return new MatchOutcome(Status.DUPLICATE, null, 0, List.of());
+        }
+
+        static MatchOutcome cancelled(List<Assignment> others) {
+            return new MatchOutcome(Status.CANCELLED, null, 0, others);
+        }
+    }
+
+    private record Claim(ConsultantSlot slot, long since) {}
+
+    private record PoolEntry(long since, long consultantId) {
+        static final Comparator<PoolEntry> ORDER = Comparator
+                .comparingLong(PoolEntry::since)
+                .thenComparingLong(PoolEntry::consultantId);
+    }
+
+    private static final class ConsultantSlot {
+        private final long consultantId;
+        private final AtomicLong token = new AtomicLong(OFFLINE);
+        private volatile Set<String> specialties = Set.of();
+        private volatile Consultant profile;
+
+        ConsultantSlot(Long consultantId) {
+            this.consultantId = consultantId;
+        }
+    }
+
+    private static final class Ticket {
+        private final long sequence;
+        private final Long customerId;
+        private final String customerName;
+        private final String consultationType;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Ticket(long sequence, Long customerId, String customerName, String consultationType) {
+            this.sequence = sequence;
+            this.customerId = customerId;
+            this.customerName = customerName;
+            this.consultationType = consultationType;
+        }
+    }
+
+    private static final class WaitingQueue {
+        private final String type;
+        private final ConcurrentLinkedQueue<Ticket> tickets = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        WaitingQueue(String type) {
+            this.type = type;
+        }
+
+        int enqueue(Ticket ticket) {
+            tickets.offer(ticket);
+            return waiting.incrementAndGet();
+        }
+
+        // 취소/매칭된 티켓은 머리에 도달했을 때 버린다
+        Ticket peekLive() {
+            Ticket head;
+            while ((head = tickets.peek()) != null) {
+                if (head.state.get() == WAITING) {
+                    return head;
+                }
+                tickets.remove(head);
+            }
+            return null;
+        }
+
+        void remove(Ticket ticket) {
+            tickets.remove(ticket);
+            waiting.decrementAndGet();
+        }
+    }
+}
@@ -4,45 +4,46 @@ import com.hanainplan.domain.user.entity.Consultant;
 import com.hanainplan.domain.user.repository.ConsultantRepository;
 import com.hanainplan.domain.webrtc.entity.VideoCallRoom;
 import com.hanainplan.domain.webrtc.repository.VideoCallRoomRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class ConsultationMatchingService {
 
+    private static final Pattern SPECIALIZATION_TOKEN = Pattern.compile("[A-Z_]+");
+
     private final ConsultantRepository consultantRepository;
     private final VideoCallRoomRepository videoCallRoomRepository;
-
-    private final Queue<CustomerRequest> customerQueue = new ConcurrentLinkedQueue<>();
-
-    private final Set<Long> matchingCustomers = ConcurrentHashMap.newKeySet();
-
-    public static class CustomerRequest {
-        private final Long customerId;
-        private final String customerName;
-        private final String consultationType;
-        private final Date requestTime;
-
-        public CustomerRequest(Long customerId, String customerName, String consultationType) {
-            this.customerId = customerId;
-            this.customerName = customerName;
-            this.consultationType = consultationType;
-            this.requestTime = new Date();
-        }
-
-        public Long getCustomerId() { return customerId; }
-        public String getCustomerName() { return customerName; }
-        public String getConsultationType() { return consultationType; }
-        public Date getRequestTime() { return requestTime; }
+    private final ConsultantMatchingEngine matchingEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    // 매칭 결과의 DB 반영은 단일 쓰기 스레드에서 순서대로 처리 (매칭 경로에서 DB 쓰기 제거)
+    private final ExecutorService persistenceExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "consultation-persist-1");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ConsultationMatchingService(ConsultantRepository consultantRepository,
+                                       VideoCallRoomRepository videoCallRoomRepository,
+                                       ConsultantMatchingEngine matchingEngine,
+                                       TransactionTemplate transactionTemplate) {
+        this.consultantRepository = consultantRepository;
+        this.videoCallRoomRepository = videoCallRoomRepository;
+        this.matchingEngine = matchingEngine;
+        this.transactionTemplate = transactionTemplate;
     }
 
     public static class MatchingResult {
@@ -64,55 +65,97 @@ public class ConsultationMatchingService {
         public String getRoomId() { return roomId; }
     }
 
-    public MatchingResult requestConsultation(Long customerId, String customerName, String consultationType) {
-        if (matchingCustomers.contains(customerId)) {
-            return new MatchingResult(false, null, "이미 상담 대기 중입니다.", null);
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAvailableConsultants() {
+        List<Consultant> availableConsultants = consultantRepository.findAvailableConsultants();
+        for (Consultant consultant : availableConsultants) {
+            persistWaitingMatches(matchingEngine.makeAvailable(consultant, parseSpecialties(consultant)));
         }
+        log.info("Loaded {} available consultants into matching engine", availableConsultants.size());
+    }
 
+    public MatchingResult requestConsultation(Long customerId, String customerName, String consultationType) {
         Optional<VideoCallRoom> existingCall = videoCallRoomRepository.findActiveCallByUserId(customerId);
         if (existingCall.isPresent()) {
             return new MatchingResult(false, null, "이미 진행 중인 상담이 있습니다.", null);
         }
 
-        List<Consultant> availableConsultants = consultantRepository.findAvailableConsultants();
+        ConsultantMatchingEngine.MatchOutcome outcome =
+                matchingEngine.request(customerId, customerName, consultationType);
+        persistWaitingMatches(outcome.otherAssignments());
+
+        switch (outcome.status()) {
+            case DUPLICATE:
+                return new MatchingResult(false, null, "이미 상담 대기 중입니다.", null);
+            case CANCELLED:
+                return new MatchingResult(false, null, "상담 요청이 취소되었습니다.", null);
+            case QUEUED:
+                log.info("No available consultant. Customer {} added to queue. Queue position: {}",
+                        customerId, outcome.queuePosition());
+
+                return new MatchingResult(false, null,
+                        "현재 대기 가능한 상담원이 없습니다. 대기열에 추가되었습니다. (대기 순번: " + outcome.queuePosition() + ")",
+                        null);
+            default:
+                ConsultantMatchingEngine.Assignment assignment = outcome.assignment();
+                persistMatch(assignment);
+
+                log.info("Customer {} matched with consultant {}. Room ID: {}",
+                        customerId, assignment.consultantId(), assignment.roomId());
+
+                return new MatchingResult(true, assignment.consultant(), "상담원과 연결되었습니다.", assignment.roomId());
+        }
+    }
 
-        if (availableConsultants.isEmpty()) {
-            CustomerRequest request = new CustomerRequest(customerId, customerName, consultationType);
-            customerQueue.offer(request);
-            matchingCustomers.add(customerId);
+    public void onConsultationEnd(String roomId) {
+        ConsultantMatchingEngine.Assignment assignment = matchingEngine.endRoom(roomId);
+        Long consultantId = assignment != null ? assignment.consultantId() : findConsultantInRoom(roomId);
 
-            log.info("No available consultant. Customer {} added to queue. Queue size: {}", 
-                    customerId, customerQueue.size());
+        if (consultantId == null) {
+            log.warn("No consultant found for room: {}", roomId);
+            return;
+        }
 
-            return new MatchingResult(false, null, 
-                    "현재 대기 가능한 상담원이 없습니다. 대기열에 추가되었습니다. (대기 순번: " + customerQueue.size() + ")", 
-                    null);
+        Optional<Consultant> consultantOpt = consultantRepository.findById(consultantId);
+        if (consultantOpt.isEmpty()) {
+            return;
         }
 
-        Consultant selectedConsultant = availableConsultants.get(0);
+        Consultant consultant = consultantOpt.get();
 
-        String roomId = UUID.randomUUID().toString();
-        VideoCallRoom callRoom = VideoCallRoom.builder()
-                .roomId(roomId)
-                .callerId(customerId)
-                .calleeId(selectedConsultant.getConsultantId())
-                .status(VideoCallRoom.CallStatus.WAITING)
-                .build();
+        persist(() -> consultantRepository.findById(consultantId).ifPresent(saved -> {
+            saved.updateConsultationStatus(Consultant.ConsultationStatus.AVAILABLE);
+            saved.incrementConsultationCount();
+            consultantRepository.save(saved);
+        }));
 
-        videoCallRoomRepository.save(callRoom);
+        log.info("Consultant {} is now available after ending call in room {}", consultantId, roomId);
 
-        selectedConsultant.updateConsultationStatus(Consultant.ConsultationStatus.BUSY);
-        consultantRepository.save(selectedConsultant);
+        persistWaitingMatches(matchingEngine.makeAvailable(consultant, parseSpecialties(consultant)));
+    }
 
-        matchingCustomers.add(customerId);
+    public Map<String, Object> getQueueInfo() {
+        Map<String, Object> info = new HashMap<>();
+        info.put("queueSize", matchingEngine.waitingCount());
+        info.put("queueByType", matchingEngine.waitingCountByType());
+        info.put("availableConsultants", matchingEngine.availableConsultantCount());
+        info.put("matchingCustomers", matchingEngine.activeCustomerCount());
+        return info;
+    }
+
+    public boolean cancelRequest(Long customerId) {
+        boolean removed = matchingEngine.cancel(customerId);
 
-        log.info("Customer {} matched with consultant {}. Room ID: {}", 
-                customerId, selectedConsultant.getConsultantId(), roomId);
+        if (removed) {
+            log.info("Customer {} request cancelled and removed from queue", customerId);
+        } else {
+            matchingEngine.releaseCustomer(customerId);
+        }
 
-        return new MatchingResult(true, selectedConsultant, "상담원과 연결되었습니다.", roomId);
+        return removed;
     }
 
-    public void matchWaitingCustomers(Long consultantId) {
+    public void updateConsultantStatus(Long consultantId, Consultant.ConsultationStatus status) {
         Optional<Consultant> consultantOpt = consultantRepository.findById(consultantId);
 
         if (consultantOpt.isEmpty()) {
@@ -122,118 +165,128 @@ public class ConsultationMatchingService {
 
         Consultant consultant = consultantOpt.get();
 
-        if (!consultant.isAvailableForConsultation()) {
-            log.debug("Consultant {} is not available for consultation", consultantId);
-            return;
-        }
+        persist(() -> consultantRepository.findById(consultantId).ifPresent(saved -> {
+            saved.updateConsultationStatus(status);
+            consultantRepository.save(saved);
+        }));
 
-        CustomerRequest request = customerQueue.poll();
-        if (request == null) {
-            log.debug("No waiting customers in queue");
-            return;
+        log.info("Consultant {} status updated to {}", consultantId, status);
+
+        switch (status) {
+            case AVAILABLE -> {
+                if (consultant.getWorkStatus() == Consultant.WorkStatus.ACTIVE) {
+                    persistWaitingMatches(matchingEngine.makeAvailable(consultant, parseSpecialties(consultant)));
+                }
+            }
+            case BUSY -> matchingEngine.markBusy(consultantId);
+            case OFFLINE -> matchingEngine.markOffline(consultantId);
         }
+    }
 
+    @PreDestroy
+    public void shutdown() {
+        persistenceExecutor.shutdown();
         try {
-            String roomId = UUID.randomUUID().toString();
+            if (!persistenceExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Consultation persistence queue did not drain before shutdown");
+                persistenceExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            persistenceExecutor.shutdownNow();
+        }
+    }
+
+    private void persistWaitingMatches(List<ConsultantMatchingEngine.Assignment> assignments) {
+        for (ConsultantMatchingEngine.Assignment assignment : assignments) {
+            persistMatch(assignment);
+
+            log.info("Waiting customer {} matched with consultant {}. Room ID: {}",
+                    assignment.customerId(), assignment.consultantId(), assignment.roomId());
+        }
+    }
+
+    private void persistMatch(ConsultantMatchingEngine.Assignment assignment) {
+        persist(() -> {
             VideoCallRoom callRoom = VideoCallRoom.builder()
-                    .roomId(roomId)
-                    .callerId(request.getCustomerId())
-                    .calleeId(consultant.getConsultantId())
+                    .roomId(assignment.roomId())
+                    .callerId(assignment.customerId())
+                    .calleeId(assignment.consultantId())
                     .status(VideoCallRoom.CallStatus.WAITING)
                     .build();
-
             videoCallRoomRepository.save(callRoom);
 
-            consultant.updateConsultationStatus(Consultant.ConsultationStatus.BUSY);
-            consultantRepository.save(consultant);
+            consultantRepository.findById(assignment.consultantId()).ifPresent(consultant -> {
+                consultant.updateConsultationStatus(Consultant.ConsultationStatus.BUSY);
+                consultantRepository.save(consultant);
+            });
+        }, () -> rollbackMatch(assignment));
+    }
+
+    // 상담방 저장에 실패하면 엔진의 매칭도 되돌린다 (방을 닫고 고객을 풀어 주며, 상담원은 다시 상담 가능 풀로)
+    private void rollbackMatch(ConsultantMatchingEngine.Assignment assignment) {
+        matchingEngine.endRoom(assignment.roomId());
+        matchingEngine.releaseCustomer(assignment.customerId());
 
-            log.info("Waiting customer {} matched with consultant {}. Room ID: {}", 
-                    request.getCustomerId(), consultant.getConsultantId(), roomId);
+        log.warn("Match rolled back after persistence failure. Customer: {}, consultant: {}, room ID: {}",
+                assignment.customerId(), assignment.consultantId(), assignment.roomId());
 
-        } catch (Exception e) {
-            log.error("Error matching waiting customer", e);
-            customerQueue.offer(request);
+        if (assignment.consultant() != null) {
+            persistWaitingMatches(matchingEngine.makeAvailable(assignment.consultant(), parseSpecialties(assignment.consultant())));
         }
     }
 
-    public void onConsultationEnd(String roomId) {
-        Optional<VideoCallRoom> callRoomOpt = videoCallRoomRepository.findByRoomId(roomId);
+    private void persist(Runnable write) {
+        persist(write, () -> { });
+    }
+
+    private void persist(Runnable write, Runnable onFailure) {
+        persistenceExecutor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> write.run());
+            } catch (Exception e) {
+                log.error("Failed to persist consultation state", e);
+                onFailure.run();
+            }
+        });
+    }
 
+    private Long findConsultantInRoom(String roomId) {
+        Optional<VideoCallRoom> callRoomOpt = videoCallRoomRepository.findByRoomId(roomId);
         if (callRoomOpt.isEmpty()) {
             log.warn("Call room not found: {}", roomId);
-            return;
+            return null;
         }
 
         VideoCallRoom callRoom = callRoomOpt.get();
-        Long consultantId = null;
-
-        Optional<Consultant> callerConsultant = consultantRepository.findById(callRoom.getCallerId());
-        Optional<Consultant> calleeConsultant = consultantRepository.findById(callRoom.getCalleeId());
+        matchingEngine.releaseCustomer(callRoom.getCallerId());
+        matchingEngine.releaseCustomer(callRoom.getCalleeId());
 
-        if (callerConsultant.isPresent()) {
-            consultantId = callerConsultant.get().getConsultantId();
-        } else if (calleeConsultant.isPresent()) {
-            consultantId = calleeConsultant.get().getConsultantId();
+        if (matchingEngine.isConsultant(callRoom.getCallerId()) || consultantRepository.existsById(callRoom.getCallerId())) {
+            return callRoom.getCallerId();
         }
-
-        if (consultantId == null) {
-            log.warn("No consultant found for room: {}", roomId);
-            matchingCustomers.remove(callRoom.getCallerId());
-            matchingCustomers.remove(callRoom.getCalleeId());
-            return;
-        }
-
-        Optional<Consultant> consultantOpt = consultantRepository.findById(consultantId);
-        if (consultantOpt.isPresent()) {
-            Consultant consultant = consultantOpt.get();
-            consultant.updateConsultationStatus(Consultant.ConsultationStatus.AVAILABLE);
-            consultant.incrementConsultationCount();
-            consultantRepository.save(consultant);
-
-            log.info("Consultant {} is now available after ending call in room {}", consultantId, roomId);
-
-            matchWaitingCustomers(consultantId);
-        }
-
-        matchingCustomers.remove(callRoom.getCallerId());
-        matchingCustomers.remove(callRoom.getCalleeId());
-    }
-
-    public Map<String, Object> getQueueInfo() {
-        Map<String, Object> info = new HashMap<>();
-        info.put("queueSize", customerQueue.size());
-        info.put("availableConsultants", consultantRepository.countAvailableConsultants());
-        info.put("matchingCustomers", matchingCustomers.size());
-        return info;
-    }
-
-    public boolean cancelRequest(Long customerId) {
-        boolean removed = customerQueue.removeIf(req -> req.getCustomerId().equals(customerId));
-        matchingCustomers.remove(customerId);
-
-        if (removed) {
-            log.info("Customer {} request cancelled and removed from queue", customerId);
+        if (matchingEngine.isConsultant(callRoom.getCalleeId()) || consultantRepository.existsById(callRoom.getCalleeId())) {
+            return callRoom.getCalleeId();
         }
-
-        return removed;
+        return null;
     }
 
-    public void updateConsultantStatus(Long consultantId, Consultant.ConsultationStatus status) {
-        Optional<Consultant> consultantOpt = consultantRepository.findById(consultantId);
-
-        if (consultantOpt.isEmpty()) {
-            log.warn("Consultant not found: {}", consultantId);
-            return;
+    private static Set<String> parseSpecialties(Consultant consultant) {
+        if (consultant.getSpecialization() == null) {
+            return Set.of();
         }
 
-        Consultant consultant = consultantOpt.get();
-        consultant.updateConsultationStatus(status);
-        consultantRepository.save(consultant);
-
-        log.info("Consultant {} status updated to {}", consultantId, status);
-
-        if (status == Consultant.ConsultationStatus.AVAILABLE) {
-            matchWaitingCustomers(consultantId);
+        Set<String> specialties = new HashSet<>();
+        Matcher matcher = SPECIALIZATION_TOKEN.matcher(consultant.getSpecialization());
+        while (matcher.find()) {
+            try {
+                Consultant.SpecializationType type = Consultant.SpecializationType.valueOf(matcher.group());
+                specialties.add(type.name());
+                specialties.add(type.getDescription());
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 전문 분야는 일반 풀로만 배정
+            }
         }
+        return specialties;
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import com.hanainplan.domain.consult.repository.ConsultRepository;
 import com.hanainplan.domain.user.entity.Consultant;
 import com.hanainplan.domain.user.repository.ConsultantRepository;
 import com.hanainplan.domain.webrtc.entity.VideoCallRoom;
+import com.hanainplan.domain.webrtc.presence.PresenceRegistry;
 import com.hanainplan.domain.webrtc.repository.VideoCallRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +16,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +28,7 @@ public class WebRTCService {
     private final ConsultationMatchingService consultationMatchingService;
     private final ConsultRepository consultRepository;
 
-    private final Map<Long, Boolean> onlineUsers = new ConcurrentHashMap<>();
-
-    private final Map<String, Long> sessionUserMap = new ConcurrentHashMap<>();
+    private final PresenceRegistry presenceRegistry;
 
     public String createCallRequest(Long callerId, Long calleeId) {
         if (!isUserOnline(calleeId)) {
@@ -105,15 +103,12 @@ public class WebRTCService {
     }
 
     public boolean isUserOnline(Long userId) {
-        return onlineUsers.getOrDefault(userId, false);
+        return presenceRegistry.isOnline(userId);
     }
 
     public void setUserOnline(Long userId, String sessionId, boolean online) {
         if (online) {
-            onlineUsers.put(userId, true);
-            if (sessionId != null) {
-                sessionUserMap.put(sessionId, userId);
-            }
+            presenceRegistry.markOnline(userId, sessionId);
 
             Optional<Consultant> consultantOpt = consultantRepository.findById(userId);
             if (consultantOpt.isPresent()) {
@@ -121,9 +116,10 @@ public class WebRTCService {
                 log.info("Consultant {} is now AVAILABLE and ready for consultation", userId);
             }
         } else {
-            onlineUsers.remove(userId);
             if (sessionId != null) {
-                sessionUserMap.remove(sessionId);
+                presenceRegistry.removeSession(sessionId);
+            } else {
+                presenceRegistry.markOffline(userId);
             }
 
             Optional<Consultant> consultantOpt = consultantRepository.findById(userId);
@@ -140,11 +136,8 @@ public class WebRTCService {
     }
 
     public void setUserOfflineBySession(String sessionId) {
-        Long userId = sessionUserMap.remove(sessionId);
-        if (userId != null) {
-            onlineUsers.remove(userId);
-            log.debug("User {} set offline by sessionId: {}", userId, sessionId);
-        }
+        presenceRegistry.removeSession(sessionId)
+                .ifPresent(userId -> log.debug("User {} set offline by sessionId: {}", userId, sessionId));
     }
 
     public Optional<VideoCallRoom> getCallRoom(String roomId) {
@@ -152,10 +145,12 @@ public class WebRTCService {
     }
 
     public Map<Long, Boolean> getOnlineUsers() {
-        return new HashMap<>(onlineUsers);
+        Map<Long, Boolean> onlineUsers = new HashMap<>();
+        presenceRegistry.getOnlineUserIds().forEach(userId -> onlineUsers.put(userId, true));
+        return onlineUsers;
     }
 
     public int getSessionCount() {
-        return sessionUserMap.size();
+        return presenceRegistry.getSessionCount();
     }
 } 
\ No newline at end of file
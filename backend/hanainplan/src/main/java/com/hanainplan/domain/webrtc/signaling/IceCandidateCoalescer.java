@@ -0,0 +1,142 @@
+package com.hanainplan.domain.webrtc.signaling;
+
+import com.hanainplan.domain.webrtc.dto.IceCandidateBatchMessage;
+import com.hanainplan.domain.webrtc.dto.IceCandidateMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trickle ICE 후보를 송신자-수신자 쌍별로 짧은 구간 동안 모아 하나의 STOMP 프레임으로 전달한다.
+ * 첫 후보가 들어온 뒤 coalesce-window가 지나거나 max-batch-size에 도달하면 즉시 전송한다.
+ */
+@Component
+@Slf4j
+public class IceCandidateCoalescer {
+
+    public static final String BATCH_DESTINATION = "/queue/webrtc-ice-batch";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final Map<PeerKey, PendingBatch> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ice-coalesce-1");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public IceCandidateCoalescer(SimpMessagingTemplate messagingTemplate,
+                                 @Value("${websocket.ice.coalesce-window-ms:40}") long windowMillis,
+                                 @Value("${websocket.ice.max-batch-size:16}") int maxBatchSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.windowMillis = Math.max(0, windowMillis);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    public void enqueue(IceCandidateMessage ice) {
+        PeerKey key = new PeerKey(ice.getRoomId(), ice.getSenderId(), ice.getReceiverId());
+
+        if (windowMillis == 0) {
+            send(key, List.of(ice));
+            return;
+        }
+
+        while (true) {
+            PendingBatch batch = pending.computeIfAbsent(key, k -> new PendingBatch());
+            List<IceCandidateMessage> full = null;
+
+            synchronized (batch) {
+                if (batch.closed) {
+                    continue;
+                }
+
+                batch.candidates.add(ice);
+                if (batch.candidates.size() >= maxBatchSize) {
+                    full = close(key, batch);
+                } else if (batch.candidates.size() == 1) {
+                    flusher.schedule(() -> flush(key, batch), windowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            if (full != null) {
+                send(key, full);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 새 SDP를 전달하기 전에 같은 방향으로 모아 둔 후보를 먼저 보낸다 (재협상 시 순서 보장).
+     */
+    public void flushPeer(String roomId, Long senderId, Long receiverId) {
+        PeerKey key = new PeerKey(roomId, senderId, receiverId);
+        PendingBatch batch = pending.get(key);
+        if (batch != null) {
+            flush(key, batch);
+        }
+    }
+
+    public int getPendingPeerCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pending.forEach(this::flush);
+        flusher.shutdownNow();
+    }
+
+    private void flush(PeerKey key, PendingBatch batch) {
+        List<IceCandidateMessage> candidates;
+        synchronized (batch) {
+            if (batch.closed) {
+                return;
+            }
+            candidates = close(key, batch);
+        }
+        send(key, candidates);
+    }
+
+    private List<IceCandidateMessage> close(PeerKey key, PendingBatch batch) {
+        batch.closed = true;
+        pending.remove(key, batch);
+        return batch.candidates;
+    }
+
+    private void send(PeerKey key, List<IceCandidateMessage> candidates) {
+        try {
+            IceCandidateBatchMessage message = IceCandidateBatchMessage.builder()
+                    .roomId(key.roomId())
+                    .senderId(key.senderId())
+                    .receiverId(key.receiverId())
+                    .candidates(candidates)
+                    .build();
+            messagingTemplate.convertAndSendToUser(String.valueOf(key.receiverId()), BATCH_DESTINATION, message);
+            log.debug("ICE batch of {} from {} to {}, room {}",
+                    candidates.size(), key.senderId(), key.receiverId(), key.roomId());
+        } catch (Exception e) {
+            log.error("Failed to relay ICE batch from {} to {}, room {}",
+                    key.senderId(), key.receiverId(), key.roomId(), e);
+        }
+    }
+
+    private record PeerKey(String roomId, Long senderId, Long receiverId) {}
+
+    private static final class PendingBatch {
+        private final List<IceCandidateMessage> candidates = new ArrayList<>();
+        private boolean closed;
+    }
+}
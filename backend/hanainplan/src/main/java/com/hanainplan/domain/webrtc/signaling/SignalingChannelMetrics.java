@@ -0,0 +1,173 @@
+package com.hanainplan.domain.webrtc.signaling;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 세션별 채널 대기열 깊이 측정.
+ * 인바운드/아웃바운드 채널 스레드 풀에 들어갔지만 아직 처리되지 않은 메시지 수와 풀 포화로 거절된 메시지 수를 센다.
+ */
+@Component
+public class SignalingChannelMetrics {
+
+    private final Map<String, SessionCounters> sessions = new ConcurrentHashMap<>();
+
+    private final ChannelCounter inbound = new ChannelCounter(true);
+    private final ChannelCounter outbound = new ChannelCounter(false);
+
+    public ExecutorChannelInterceptor inboundInterceptor() {
+        return inbound;
+    }
+
+    public ExecutorChannelInterceptor outboundInterceptor() {
+        return outbound;
+    }
+
+    @EventListener
+    public void onSessionConnect(SessionConnectEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            Principal user = event.getUser();
+            sessions.putIfAbsent(sessionId, new SessionCounters(sessionId, user != null ? user.getName() : null));
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    public List<SessionQueueDepth> getSessionQueueDepths(int limit) {
+        return sessions.values().stream()
+                .map(SessionCounters::snapshot)
+                .sorted(Comparator.comparingInt(SessionQueueDepth::outboundQueued).reversed()
+                        .thenComparing(Comparator.comparingInt(SessionQueueDepth::inboundQueued).reversed()))
+                .limit(Math.max(1, limit))
+                .toList();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getTotalInboundQueued() {
+        return Math.max(0, inbound.queued.get());
+    }
+
+    public int getTotalOutboundQueued() {
+        return Math.max(0, outbound.queued.get());
+    }
+
+    public long getTotalRejected() {
+        return inbound.rejected.get() + outbound.rejected.get();
+    }
+
+    public record SessionQueueDepth(String sessionId, String userId, int inboundQueued, int outboundQueued,
+                                    long outboundSent, long rejected) {}
+
+    private static final class SessionCounters {
+        private final String sessionId;
+        private final String userId;
+        private final AtomicInteger inboundQueued = new AtomicInteger();
+        private final AtomicInteger outboundQueued = new AtomicInteger();
+        private final AtomicLong outboundSent = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private SessionCounters(String sessionId, String userId) {
+            this.sessionId = sessionId;
+            this.userId = userId;
+        }
+
+        private SessionQueueDepth snapshot() {
+            return new SessionQueueDepth(sessionId, userId, Math.max(0, inboundQueued.get()), Math.max(0, outboundQueued.get()),
+                    outboundSent.get(), rejected.get());
+        }
+    }
+
+    /**
+     * preSend(호출 스레드, 대기열 진입) → beforeHandle(채널 스레드, 대기열 이탈) 사이가 대기 중인 메시지.
+     * 풀 포화로 전달이 거절되면 afterSendCompletion에 예외가 전달된다.
+     */
+    private final class ChannelCounter implements ExecutorChannelInterceptor {
+
+        private final boolean inboundChannel;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private ChannelCounter(boolean inboundChannel) {
+            this.inboundChannel = inboundChannel;
+        }
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            // 구독 핸들러마다 별도 작업으로 실행되므로 핸들러 수만큼 대기열에 들어간다
+            int tasks = subscriberCount(channel);
+            queued.addAndGet(tasks);
+            SessionCounters session = session(message);
+            if (session != null) {
+                queue(session).addAndGet(tasks);
+            }
+            return message;
+        }
+
+        @Override
+        public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, @Nullable Exception ex) {
+            if (ex == null && sent) {
+                return;
+            }
+            int tasks = subscriberCount(channel);
+            queued.addAndGet(-tasks);
+            rejected.incrementAndGet();
+            SessionCounters session = session(message);
+            if (session != null) {
+                queue(session).addAndGet(-tasks);
+                session.rejected.incrementAndGet();
+            }
+        }
+
+        @Override
+        public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+            queued.decrementAndGet();
+            SessionCounters session = session(message);
+            if (session != null) {
+                queue(session).decrementAndGet();
+                if (!inboundChannel) {
+                    session.outboundSent.incrementAndGet();
+                }
+            }
+            return message;
+        }
+
+        private int subscriberCount(MessageChannel channel) {
+            return channel instanceof AbstractSubscribableChannel subscribable
+                    ? Math.max(1, subscribable.getSubscribers().size()) : 1;
+        }
+
+        private AtomicInteger queue(SessionCounters session) {
+            return inboundChannel ? session.inboundQueued : session.outboundQueued;
+        }
+
+        @Nullable
+        private SessionCounters session(Message<?> message) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            return sessionId != null ? sessions.get(sessionId) : null;
+        }
+    }
+}
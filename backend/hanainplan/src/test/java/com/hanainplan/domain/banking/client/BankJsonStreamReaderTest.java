@@ -0,0 +1,156 @@
+package com.hanainplan.domain.banking.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BankJsonStreamReaderTest {
+
+    private static final int ROWS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final BankJsonStreamReader reader = new BankJsonStreamReader(objectMapper);
+
+    @Test
+    void typedStreamDecodesSameRowsAsMapReparse() throws IOException {
+        byte[] payload = transactionsPayload(ROWS, Set.of());
+
+        // 기존 경로: List<Map>으로 받은 뒤 toString()으로 다시 파싱
+        List<Map<String, Object>> maps = objectMapper.readValue(payload, new TypeReference<>() {});
+        List<Row> legacy = new ArrayList<>(maps.size());
+        for (Map<String, Object> map : maps) {
+            legacy.add(new Row(
+                    ((Number) map.get("transactionId")).longValue(),
+                    ((Number) map.get("subscriptionId")).longValue(),
+                    (String) map.get("childFundCd"),
+                    (String) map.get("transactionType"),
+                    LocalDate.parse(map.get("transactionDate").toString()),
+                    map.get("settlementDate") != null ? LocalDate.parse(map.get("settlementDate").toString()) : null,
+                    new BigDecimal(map.get("nav").toString()),
+                    new BigDecimal(map.get("units").toString()),
+                    new BigDecimal(map.get("amount").toString()),
+                    new BigDecimal(map.get("fee").toString()),
+                    (String) map.get("note")));
+        }
+
+        List<Row> streamed = new ArrayList<>(ROWS);
+        int count = reader.forEach(response(payload), HanaFundTransactionDto.class, dto -> streamed.add(new Row(
+                dto.getTransactionId(), dto.getSubscriptionId(), dto.getChildFundCd(), dto.getTransactionType(),
+                dto.getTransactionDate(), dto.getSettlementDate(),
+                dto.getNav(), dto.getUnits(), dto.getAmount(), dto.getFee(), dto.getNote())));
+
+        assertEquals(ROWS, count);
+        assertEquals(legacy, streamed);
+    }
+
+    @Test
+    void skipsElementsThatCannotBeBoundAndKeepsReading() throws IOException {
+        byte[] payload = transactionsPayload(ROWS, Set.of(0, 4_999, ROWS - 1));
+
+        List<Long> ids = new ArrayList<>();
+        int count = reader.forEach(response(payload), HanaFundTransactionDto.class, dto -> ids.add(dto.getTransactionId()));
+
+        assertEquals(ROWS - 3, count);
+        assertEquals(ROWS - 3, ids.size());
+        assertEquals(2L, ids.get(0));
+        assertEquals(4_999L, ids.get(4_997));
+        assertEquals(5_001L, ids.get(4_998));
+        assertEquals((long) ROWS - 1, ids.get(ids.size() - 1));
+    }
+
+    @Test
+    void failsOnMalformedJson() {
+        byte[] payload = transactionsPayload(10, Set.of());
+        byte[] truncated = Arrays.copyOf(payload, payload.length / 2);
+
+        assertThrows(IOException.class,
+                () -> reader.forEach(response(truncated), HanaFundTransactionDto.class, dto -> { }));
+    }
+
+    @Test
+    void failsOnErrorStatus() {
+        Response response = Response.builder()
+                .status(503)
+                .reason("Service Unavailable")
+                .headers(Map.of())
+                .request(request())
+                .body("{}", StandardCharsets.UTF_8)
+                .build();
+
+        assertThrows(FeignException.class,
+                () -> reader.forEach(response, HanaFundTransactionDto.class, dto -> { }));
+    }
+
+    private byte[] transactionsPayload(int rows, Set<Integer> broken) {
+        List<Map<String, Object>> transactions = new ArrayList<>(rows);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> transaction = new LinkedHashMap<>();
+            transaction.put("transactionId", i + 1L);
+            transaction.put("subscriptionId", 1_000L + i % 50);
+            transaction.put("childFundCd", "5110" + (i % 300));
+            transaction.put("transactionType", i % 3 == 0 ? "REDEMPTION" : "PURCHASE");
+            transaction.put("transactionDate", broken.contains(i) ? "2024-13-45" : start.plusDays(i % 1_500).toString());
+            transaction.put("settlementDate", i % 4 == 0 ? null : start.plusDays(i % 1_500 + 2).toString());
+            transaction.put("nav", new BigDecimal("1000.00").add(BigDecimal.valueOf(i % 997, 2)));
+            transaction.put("units", BigDecimal.valueOf(10_000 + i, 3));
+            transaction.put("amount", BigDecimal.valueOf(1_000_000L + i * 37L));
+            transaction.put("fee", BigDecimal.valueOf(i % 500, 1));
+            transaction.put("irpAccountNumber", "IRP-" + (i % 50));
+            transaction.put("note", "정기 매수 " + i);
+            transactions.add(transaction);
+        }
+
+        try {
+            return objectMapper.writeValueAsBytes(transactions);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Response response(byte[] body) {
+        return Response.builder()
+                .status(200)
+                .reason("OK")
+                .headers(Map.of())
+                .request(request())
+                .body(body)
+                .build();
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://localhost:8081/api/fund-transactions",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    // 소수 자릿수(scale) 차이는 비교하지 않는다
+    private record Row(Long transactionId, Long subscriptionId, String childFundCd, String transactionType,
+                       LocalDate transactionDate, LocalDate settlementDate,
+                       BigDecimal nav, BigDecimal units, BigDecimal amount, BigDecimal fee, String note) {
+        private Row {
+            nav = nav.stripTrailingZeros();
+            units = units.stripTrailingZeros();
+            amount = amount.stripTrailingZeros();
+            fee = fee.stripTrailingZeros();
+        }
+    }
+}
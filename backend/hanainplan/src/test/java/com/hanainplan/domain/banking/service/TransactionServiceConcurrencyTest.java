@@ -0,0 +1,252 @@
+package com.hanainplan.domain.banking.service;
+
+import com.hanainplan.domain.banking.dto.TransactionResponseDto;
+import com.hanainplan.domain.banking.dto.TransferBatchResponseDto;
+import com.hanainplan.domain.banking.dto.TransferRequestDto;
+import com.hanainplan.domain.banking.entity.BankingAccount;
+import com.hanainplan.domain.banking.entity.Transaction;
+import com.hanainplan.domain.banking.repository.AccountRepository;
+import com.hanainplan.domain.banking.repository.TransactionBulkRepository;
+import com.hanainplan.domain.banking.repository.TransactionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 소수의 계좌에 반대 방향 이체를 동시에 몰아넣고, 잔액 합계가 보존되며 교착 없이 끝나는지 확인한다.
+ * 계좌 테이블은 메모리로 흉내 내되, 조건부 UPDATE가 잡은 행 잠금은 커밋/롤백 때까지 유지한다.
+ */
+class TransactionServiceConcurrencyTest {
+
+    private static final int ACCOUNTS = 4;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 400;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000");
+
+    @Test
+    void opposingTransfersOverHotAccountsConserveTotalBalance() throws Exception {
+        AccountTable table = new AccountTable(ACCOUNTS, INITIAL_BALANCE);
+        TransactionService service = transactionalService(table);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                long seed = t;
+                results.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    int[] counts = new int[2];
+                    start.await();
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        // 짝수 스레드는 낮은 ID → 높은 ID, 홀수 스레드는 반대 방향으로 이체
+                        long from = 1 + random.nextInt(ACCOUNTS);
+                        long to = 1 + (from + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                        if ((seed % 2 == 0) != (from < to)) {
+                            long swap = from;
+                            from = to;
+                            to = swap;
+                        }
+                        BigDecimal amount = BigDecimal.valueOf(1 + random.nextInt(50_000));
+
+                        boolean success;
+                        if (i % 10 == 0) {
+                            TransferBatchResponseDto response = service.transferBatch(List.of(
+                                    transfer(from, to, amount),
+                                    transfer(to, from, amount.divide(BigDecimal.valueOf(2)))));
+                            success = response.isSuccess();
+                        } else {
+                            TransactionResponseDto response = service.transfer(transfer(from, to, amount));
+                            success = response.isSuccess();
+                        }
+                        counts[success ? 0 : 1]++;
+                    }
+                    return counts;
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int rejected = 0;
+            for (Future<int[]> result : results) {
+                int[] counts = result.get(60, TimeUnit.SECONDS);
+                succeeded += counts[0];
+                rejected += counts[1];
+            }
+
+            assertThat(succeeded + rejected).isEqualTo(THREADS * TRANSFERS_PER_THREAD);
+            assertThat(succeeded).isPositive();
+            assertThat(table.lockTimeouts.get()).as("행 잠금 대기 초과 (교착)").isZero();
+            assertThat(table.total()).isEqualByComparingTo(INITIAL_BALANCE.multiply(BigDecimal.valueOf(ACCOUNTS)));
+            assertThat(table.balances.values()).allSatisfy(balance -> assertThat(balance.signum()).isNotNegative());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TransferRequestDto transfer(long from, long to, BigDecimal amount) {
+        return TransferRequestDto.builder()
+                .fromAccountId(from)
+                .toAccountId(to)
+                .amount(amount)
+                .description("동시 이체 테스트")
+                .build();
+    }
+
+    /**
+     * markRollbackOnly()가 현재 트랜잭션 상태를 찾을 수 있도록 @Transactional 프록시로 감싼다.
+     */
+    private static TransactionService transactionalService(AccountTable table) {
+        TransactionRepository transactionRepository = mock(TransactionRepository.class);
+        when(transactionRepository.save(any(Transaction.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionBulkRepository transactionBulkRepository = mock(TransactionBulkRepository.class);
+        when(transactionBulkRepository.insertAll(anyList(), anyInt()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        when(accountRepository.findById(anyLong())).thenAnswer(invocation ->
+                table.find(invocation.getArgument(0)));
+        when(accountRepository.findAllById(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .map(table::find)
+                        .flatMap(Optional::stream)
+                        .toList());
+        when(accountRepository.debitIfSufficient(anyLong(), any(BigDecimal.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> table.update(invocation.getArgument(0),
+                        invocation.<BigDecimal>getArgument(1).negate()));
+        when(accountRepository.credit(anyLong(), any(BigDecimal.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> table.update(invocation.getArgument(0), invocation.getArgument(1)));
+        when(accountRepository.findBalancesByAccountIds(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .map(accountId -> new Object[]{accountId, table.balances.get(accountId)})
+                        .toList());
+
+        TransactionService target = new TransactionService(transactionRepository, transactionBulkRepository,
+                accountRepository, mock(AccountService.class), mock(BankWithdrawalService.class));
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        TransactionInterceptor transactionInterceptor = new TransactionInterceptor();
+        transactionInterceptor.setTransactionManager(table);
+        transactionInterceptor.setTransactionAttributeSource(new AnnotationTransactionAttributeSource());
+        proxyFactory.addAdvice(transactionInterceptor);
+        return (TransactionService) proxyFactory.getProxy();
+    }
+
+    /**
+     * 계좌 잔액 테이블과 트랜잭션 관리자를 함께 흉내 낸다.
+     * 조건부 UPDATE는 행 잠금을 잡고(InnoDB처럼 조건 불일치여도 잡는다), 커밋/롤백 때 되돌리거나 풀어 준다.
+     */
+    private static final class AccountTable implements PlatformTransactionManager {
+
+        private final Map<Long, BigDecimal> balances = new ConcurrentHashMap<>();
+        private final Map<Long, ReentrantLock> rowLocks = new ConcurrentHashMap<>();
+        private final ThreadLocal<Map<Long, BigDecimal>> undoLog = ThreadLocal.withInitial(LinkedHashMap::new);
+        private final AtomicInteger lockTimeouts = new AtomicInteger();
+
+        private AccountTable(int accounts, BigDecimal initialBalance) {
+            for (long accountId = 1; accountId <= accounts; accountId++) {
+                balances.put(accountId, initialBalance);
+                rowLocks.put(accountId, new ReentrantLock());
+            }
+        }
+
+        Optional<BankingAccount> find(Long accountId) {
+            BigDecimal balance = balances.get(accountId);
+            if (balance == null) {
+                return Optional.empty();
+            }
+            return Optional.of(BankingAccount.builder()
+                    .accountId(accountId)
+                    .accountNumber("110-000-" + accountId)
+                    .accountStatus(BankingAccount.AccountStatus.ACTIVE)
+                    .balance(balance)
+                    .build());
+        }
+
+        int update(Long accountId, BigDecimal delta) throws InterruptedException {
+            ReentrantLock lock = rowLocks.get(accountId);
+            if (!lock.isHeldByCurrentThread()) {
+                if (!lock.tryLock(5, TimeUnit.SECONDS)) {
+                    lockTimeouts.incrementAndGet();
+                    throw new IllegalStateException("Lock wait timeout exceeded - 계좌 ID: " + accountId);
+                }
+                undoLog.get().put(accountId, balances.get(accountId));
+            }
+
+            BigDecimal updated = balances.get(accountId).add(delta);
+            if (updated.signum() < 0) {
+                return 0;
+            }
+            balances.put(accountId, updated);
+            return 1;
+        }
+
+        BigDecimal total() {
+            return balances.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            if (status.isRollbackOnly()) {
+                rollback(status);
+                return;
+            }
+            release(false);
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            release(true);
+        }
+
+        private void release(boolean restore) {
+            Map<Long, BigDecimal> locked = undoLog.get();
+            for (Map.Entry<Long, BigDecimal> entry : locked.entrySet()) {
+                if (restore) {
+                    balances.put(entry.getKey(), entry.getValue());
+                }
+                rowLocks.get(entry.getKey()).unlock();
+            }
+            locked.clear();
+        }
+    }
+}
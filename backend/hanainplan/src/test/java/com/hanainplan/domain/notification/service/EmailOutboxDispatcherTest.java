@@ -0,0 +1,199 @@
+package com.hanainplan.domain.notification.service;
+
+import com.hanainplan.domain.notification.entity.EmailOutbox;
+import com.hanainplan.domain.notification.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxDispatcherTest {
+
+    private FakeSmtpServer smtpServer;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtpServer = new FakeSmtpServer();
+        smtpServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        smtpServer.close();
+    }
+
+    @Test
+    void sendsBatchOverOneConnectionAndRetriesRejectedRecipient() {
+        EmailOutbox first = outbox(1L, "first@test.local");
+        EmailOutbox rejected = outbox(2L, "reject@test.local");
+        EmailOutbox second = outbox(3L, "second@test.local");
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        EmailOutboxRepository repository = mock(EmailOutboxRepository.class);
+        when(repository.lockDispatchableIds(any(), any(), anyInt())).thenReturn(ids).thenReturn(List.of());
+        when(repository.findAllById(ids)).thenReturn(List.of(first, rejected, second));
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.getPort());
+
+        dispatcher = new EmailOutboxDispatcher(repository, mailSender,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                "noreply@test.local", 20, 1, 100, 6, 30, 1800, 10);
+        dispatcher.start();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> sentIds = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, timeout(5000)).markSent(sentIds.capture(), anyString(), any(LocalDateTime.class));
+        assertThat(sentIds.getValue()).containsExactlyInAnyOrder(1L, 3L);
+
+        // 거절된 수신자는 첫 시도이므로 재시도 대기(PENDING)로 돌아간다
+        verify(repository, timeout(5000)).markFailedAttempt(eq(2L), anyString(), eq(EmailOutbox.Status.PENDING),
+                any(LocalDateTime.class), anyString());
+        verify(repository, never()).markFailedAttempt(eq(1L), anyString(), any(), any(), any());
+        verify(repository, never()).markFailedAttempt(eq(3L), anyString(), any(), any(), any());
+        verify(repository).claim(anyCollection(), anyString(), any(LocalDateTime.class));
+
+        assertThat(smtpServer.deliveredRecipients).containsExactlyInAnyOrder("first@test.local", "second@test.local");
+        assertThat(smtpServer.connections).hasSize(1);
+    }
+
+    private static EmailOutbox outbox(Long id, String recipient) {
+        LocalDateTime now = LocalDateTime.now();
+        return EmailOutbox.builder()
+                .outboxId(id)
+                .recipient(recipient)
+                .subject("테스트 " + id)
+                .body("본문 " + id)
+                .html(false)
+                .attemptCount(1)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 최소한의 SMTP 서버. 주소에 "reject"가 들어간 수신자는 550으로 거절한다.
+     */
+    private static final class FakeSmtpServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final List<String> deliveredRecipients = new CopyOnWriteArrayList<>();
+        private final List<Socket> connections = new CopyOnWriteArrayList<>();
+
+        private FakeSmtpServer() throws IOException {
+            this.serverSocket = new ServerSocket(0);
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        void start() {
+            Thread acceptor = new Thread(() -> {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        Socket socket = serverSocket.accept();
+                        connections.add(socket);
+                        Thread session = new Thread(() -> handle(socket), "fake-smtp-session");
+                        session.setDaemon(true);
+                        session.start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            }, "fake-smtp");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private void handle(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), false, StandardCharsets.UTF_8)) {
+                reply(out, "220 localhost fake smtp");
+                List<String> recipients = new CopyOnWriteArrayList<>();
+
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase();
+                    if (command.startsWith("EHLO")) {
+                        reply(out, "250-localhost\r\n250 8BITMIME");
+                    } else if (command.startsWith("HELO") || command.startsWith("NOOP")) {
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("MAIL FROM")) {
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("RCPT TO")) {
+                        String address = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+                        if (address.contains("reject")) {
+                            reply(out, "550 mailbox unavailable");
+                        } else {
+                            recipients.add(address);
+                            reply(out, "250 OK");
+                        }
+                    } else if (command.startsWith("DATA")) {
+                        reply(out, "354 end with <CRLF>.<CRLF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // 본문은 검증하지 않는다
+                        }
+                        deliveredRecipients.addAll(recipients);
+                        recipients.clear();
+                        reply(out, "250 queued");
+                    } else if (command.startsWith("RSET")) {
+                        recipients.clear();
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("QUIT")) {
+                        reply(out, "221 bye");
+                        return;
+                    } else {
+                        reply(out, "502 not implemented");
+                    }
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 연결을 끊은 경우
+            }
+        }
+
+        private static void reply(PrintWriter out, String message) {
+            out.print(message + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
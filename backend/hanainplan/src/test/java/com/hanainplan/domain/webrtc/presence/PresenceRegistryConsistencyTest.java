@@ -0,0 +1,145 @@
+package com.hanainplan.domain.webrtc.presence;
+
+import com.hanainplan.domain.webrtc.entity.UserPresence;
+import com.hanainplan.domain.webrtc.repository.UserPresenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * local/jdbc 접속 상태 저장소가 같은 온라인 → 연결 종료 순서에서 같은 결과를 내는지 확인한다.
+ */
+class PresenceRegistryConsistencyTest {
+
+    private static final String NODE_ID = "node-1";
+
+    @Test
+    void webSocketDisconnectTakesUserOfflineEvenAfterRestOnline() {
+        for (Registry registry : registries()) {
+            // REST 온라인 등록 후 WebSocket 연결
+            registry.presence.markOnline(7L, null);
+            registry.presence.markOnline(7L, "ws-1");
+            registry.presence.markOnline(8L, "ws-2");
+            assertTrue(registry.presence.isOnline(7L), registry.name);
+
+            assertEquals(Optional.of(7L), registry.presence.removeSession("ws-1"), registry.name);
+            registry.heartbeat();
+
+            assertFalse(registry.presence.isOnline(7L), registry.name + ": 연결이 끊긴 사용자가 온라인으로 남음");
+            assertTrue(registry.presence.isOnline(8L), registry.name);
+            assertEquals(Set.of(8L), registry.presence.getOnlineUserIds(), registry.name);
+            assertEquals(1, registry.presence.getSessionCount(), registry.name);
+        }
+    }
+
+    @Test
+    void restOfflineRemovesEverySessionOfUser() {
+        for (Registry registry : registries()) {
+            registry.presence.markOnline(7L, null);
+            registry.presence.markOnline(7L, "ws-1");
+
+            registry.presence.markOffline(7L);
+            registry.heartbeat();
+
+            assertFalse(registry.presence.isOnline(7L), registry.name);
+            assertEquals(Set.of(), registry.presence.getOnlineUserIds(), registry.name);
+            assertEquals(Optional.empty(), registry.presence.removeSession("ws-1"), registry.name);
+            assertEquals(0, registry.presence.getSessionCount(), registry.name);
+        }
+    }
+
+    @Test
+    void unknownSessionIsIgnored() {
+        for (Registry registry : registries()) {
+            registry.presence.markOnline(7L, "ws-1");
+
+            assertEquals(Optional.empty(), registry.presence.removeSession("ws-unknown"), registry.name);
+            assertTrue(registry.presence.isOnline(7L), registry.name);
+        }
+    }
+
+    private static List<Registry> registries() {
+        JdbcPresenceRegistry jdbc = new JdbcPresenceRegistry(inMemoryRepository(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 90, NODE_ID);
+        return List.of(
+                new Registry("local", new LocalPresenceRegistry(), () -> { }),
+                new Registry("jdbc", jdbc, jdbc::heartbeat));
+    }
+
+    /**
+     * 저장소가 사용하는 쿼리만 메모리 맵으로 흉내 낸다.
+     */
+    private static UserPresenceRepository inMemoryRepository() {
+        Map<String, UserPresence> rows = new ConcurrentHashMap<>();
+        UserPresenceRepository repository = mock(UserPresenceRepository.class);
+
+        when(repository.save(any(UserPresence.class))).thenAnswer(invocation -> {
+            UserPresence presence = invocation.getArgument(0);
+            rows.put(presence.getSessionId(), presence);
+            return presence;
+        });
+        when(repository.findById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(rows.get(invocation.<String>getArgument(0))));
+        when(repository.existsByUserIdAndLastSeenAtAfter(anyLong(), any())).thenAnswer(invocation ->
+                rows.values().stream().anyMatch(p -> p.getUserId().equals(invocation.getArgument(0))
+                        && p.getLastSeenAt().isAfter(invocation.getArgument(1))));
+        when(repository.findOnlineUserIds(any())).thenAnswer(invocation ->
+                rows.values().stream()
+                        .filter(p -> p.getLastSeenAt().isAfter(invocation.getArgument(0)))
+                        .map(UserPresence::getUserId)
+                        .distinct()
+                        .toList());
+        when(repository.countByLastSeenAtAfter(any())).thenAnswer(invocation ->
+                rows.values().stream().filter(p -> p.getLastSeenAt().isAfter(invocation.getArgument(0))).count());
+        when(repository.deleteByUserId(anyLong())).thenAnswer(invocation ->
+                removeIf(rows, p -> p.getUserId().equals(invocation.getArgument(0))));
+        when(repository.deleteByUserIdAndNodeId(anyLong(), anyString())).thenAnswer(invocation ->
+                removeIf(rows, p -> p.getUserId().equals(invocation.getArgument(0))
+                        && p.getNodeId().equals(invocation.getArgument(1))));
+        when(repository.deleteStale(any())).thenAnswer(invocation ->
+                removeIf(rows, p -> p.getLastSeenAt().isBefore(invocation.getArgument(0))));
+        when(repository.touchNode(anyString(), any())).thenAnswer(invocation -> {
+            String nodeId = invocation.getArgument(0);
+            LocalDateTime now = invocation.getArgument(1);
+            int touched = 0;
+            for (UserPresence p : List.copyOf(rows.values())) {
+                if (p.getNodeId().equals(nodeId)) {
+                    rows.put(p.getSessionId(), new UserPresence(p.getSessionId(), p.getUserId(), p.getNodeId(),
+                            p.getConnectedAt(), now));
+                    touched++;
+                }
+            }
+            return touched;
+        });
+        return repository;
+    }
+
+    private static int removeIf(Map<String, UserPresence> rows, Predicate<UserPresence> condition) {
+        int before = rows.size();
+        rows.values().removeIf(condition);
+        return before - rows.size();
+    }
+
+    private record Registry(String name, PresenceRegistry presence, Runnable heartbeatAction) {
+        void heartbeat() {
+            heartbeatAction.run();
+        }
+    }
+}
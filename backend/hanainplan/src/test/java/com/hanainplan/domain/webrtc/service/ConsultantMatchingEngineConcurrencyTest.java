@@ -0,0 +1,188 @@
+package com.hanainplan.domain.webrtc.service;
+
+import com.hanainplan.domain.user.entity.Consultant;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsultantMatchingEngineConcurrencyTest {
+
+    private static final int CONSULTANTS = 6;
+    private static final int CUSTOMER_THREADS = 16;
+    private static final int CANCEL_THREADS = 4;
+    private static final int REQUESTS_PER_THREAD = 2000;
+
+    @Test
+    void consultantNeverHoldsTwoRoomsWhileCustomersRequestAndCancel() throws Exception {
+        ConsultantMatchingEngine engine = new ConsultantMatchingEngine();
+        RoomTracker tracker = new RoomTracker();
+        AtomicBoolean customersDone = new AtomicBoolean(false);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONSULTANTS + CUSTOMER_THREADS + CANCEL_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> consultants = new ArrayList<>();
+        for (long consultantId = 1; consultantId <= CONSULTANTS; consultantId++) {
+            long id = consultantId;
+            consultants.add(executor.submit(() -> {
+                start.await();
+                tracker.deliver(engine.makeAvailable(consultant(id), specialties(id)));
+
+                // 배정된 방을 바로 끝내고 다시 상담 가능 상태로 돌아가기를 반복
+                while (!customersDone.get()) {
+                    ConsultantMatchingEngine.Assignment room = tracker.rooms(id).poll(5, TimeUnit.MILLISECONDS);
+                    if (room != null) {
+                        endAndRejoin(engine, tracker, room);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        AtomicInteger customerIds = new AtomicInteger();
+        List<Future<?>> customers = new ArrayList<>();
+        for (int t = 0; t < CUSTOMER_THREADS; t++) {
+            customers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long customerId = 10_000L + customerIds.incrementAndGet();
+                    String type = random.nextBoolean() ? ConsultantMatchingEngine.GENERAL_TYPE : "연금상담";
+
+                    ConsultantMatchingEngine.MatchOutcome outcome = engine.request(customerId, "고객" + customerId, type);
+                    tracker.deliver(outcome.otherAssignments());
+                    if (outcome.assignment() != null) {
+                        tracker.deliver(List.of(outcome.assignment()));
+                    }
+
+                    if (random.nextInt(3) == 0 && engine.cancel(customerId)) {
+                        tracker.cancelled.add(customerId);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // 방금 요청을 시작한 고객을 다른 스레드에서 취소해 요청/취소 경합을 만든다
+        AtomicBoolean requestsDone = new AtomicBoolean(false);
+        List<Future<?>> cancellers = new ArrayList<>();
+        for (int t = 0; t < CANCEL_THREADS; t++) {
+            cancellers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (!requestsDone.get()) {
+                    long target = 10_000L + customerIds.get() - random.nextInt(CUSTOMER_THREADS);
+                    if (engine.cancel(target)) {
+                        tracker.cancelled.add(target);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> customer : customers) {
+            customer.get(60, TimeUnit.SECONDS);
+        }
+        requestsDone.set(true);
+        for (Future<?> canceller : cancellers) {
+            canceller.get(60, TimeUnit.SECONDS);
+        }
+
+        // 남은 대기 고객은 모두 취소해 상담원 루프가 끝나도록 한다
+        for (long customerId = 10_001L; customerId <= 10_000L + customerIds.get(); customerId++) {
+            if (engine.cancel(customerId)) {
+                tracker.cancelled.add(customerId);
+            }
+        }
+        customersDone.set(true);
+        for (Future<?> consultant : consultants) {
+            consultant.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+
+        // 상담원 스레드 종료 직전에 배정된 방 정리
+        for (long consultantId = 1; consultantId <= CONSULTANTS; consultantId++) {
+            ConsultantMatchingEngine.Assignment room;
+            while ((room = tracker.rooms(consultantId).poll()) != null) {
+                endAndRejoin(engine, tracker, room);
+            }
+        }
+
+        assertTrue(tracker.violations.isEmpty(), "상담원 한 명에게 동시에 두 개 이상의 방이 배정됨: " + tracker.violations);
+        assertTrue(tracker.matched.get() > 0, "매칭이 한 건도 일어나지 않음");
+        for (Long customerId : tracker.assignedCustomers.keySet()) {
+            assertFalse(tracker.cancelled.contains(customerId), "취소에 성공한 고객에게 상담원이 배정됨: " + customerId);
+        }
+        assertEquals(0, engine.waitingCount());
+        assertEquals(CONSULTANTS, engine.availableConsultantCount(), "상담원이 풀로 돌아오지 못함");
+    }
+
+    private static void endAndRejoin(ConsultantMatchingEngine engine, RoomTracker tracker,
+                                     ConsultantMatchingEngine.Assignment room) {
+        tracker.end(room, engine.endRoom(room.roomId()));
+        engine.releaseCustomer(room.customerId());
+        tracker.deliver(engine.makeAvailable(consultant(room.consultantId()), specialties(room.consultantId())));
+    }
+
+    private static Consultant consultant(long consultantId) {
+        return Consultant.builder().consultantId(consultantId).build();
+    }
+
+    private static Set<String> specialties(long consultantId) {
+        return consultantId % 2 == 0 ? Set.of("연금상담") : Set.of();
+    }
+
+    private static final class RoomTracker {
+        private final Map<Long, AtomicInteger> activeRooms = new ConcurrentHashMap<>();
+        private final Map<Long, BlockingQueue<ConsultantMatchingEngine.Assignment>> roomsByConsultant = new ConcurrentHashMap<>();
+        private final Map<Long, String> assignedCustomers = new ConcurrentHashMap<>();
+        private final Set<Long> cancelled = ConcurrentHashMap.newKeySet();
+        private final List<String> violations = new CopyOnWriteArrayList<>();
+        private final AtomicInteger matched = new AtomicInteger();
+
+        void deliver(List<ConsultantMatchingEngine.Assignment> assignments) {
+            for (ConsultantMatchingEngine.Assignment assignment : assignments) {
+                matched.incrementAndGet();
+                int active = activeRooms.computeIfAbsent(assignment.consultantId(), id -> new AtomicInteger()).incrementAndGet();
+                if (active > 1) {
+                    violations.add("consultant " + assignment.consultantId() + " rooms=" + active);
+                }
+                if (assignedCustomers.putIfAbsent(assignment.customerId(), assignment.roomId()) != null) {
+                    violations.add("customer " + assignment.customerId() + " matched twice");
+                }
+                rooms(assignment.consultantId()).add(assignment);
+            }
+        }
+
+        void end(ConsultantMatchingEngine.Assignment room, ConsultantMatchingEngine.Assignment ended) {
+            if (ended == null) {
+                violations.add("room " + room.roomId() + " was not active");
+            }
+            activeRooms.get(room.consultantId()).decrementAndGet();
+        }
+
+        BlockingQueue<ConsultantMatchingEngine.Assignment> rooms(long consultantId) {
+            return roomsByConsultant.computeIfAbsent(consultantId, id -> new LinkedBlockingQueue<>());
+        }
+    }
+}
@@ -979,124 +979,127 @@ async def verify_documents(
         "message": "문서 검증 완료"
     })
 
+CANDIDATE_CUSTOMERS_QUERY = """
+SELECT 
+    c.customer_id,
+    YEAR(u.birth_date) as birth_year,
+    c.industry_code,
+    c.asset_level,
+    COALESCE(c.risk_profile_score, 2.5) as risk_profile_score,
+    CASE 
+        WHEN c.major_disease = 1 OR c.recent_medical_advice = 1 
+        OR c.recent_hospitalization = 1 OR c.long_term_medication = 1 
+        OR c.disability_registered = 1 THEN 1 
+        ELSE 0 
+    END as has_disease
+FROM tb_customer c
+JOIN tb_user u ON c.customer_id = u.user_id
+WHERE c.has_irp_account = 1 
+AND c.risk_profile_score IS NOT NULL
+"""
+
+def load_candidate_customers() -> List[Dict]:
+    """비교 대상 고객 목록 조회 (IRP 계좌 보유 고객만)"""
+    conn = get_db_connection()
+    try:
+        cursor = conn.cursor()
+        cursor.execute(CANDIDATE_CUSTOMERS_QUERY)
+        rows = cursor.fetchall()
+        cursor.close()
+    finally:
+        conn.close()
+
+    return [{
+        'customer_id': row['customer_id'],
+        'birth_year': row['birth_year'],
+        'industry_code': row['industry_code'],
+        'asset_level': row['asset_level'],
+        'risk_profile_score': float(row['risk_profile_score']),
+        'has_disease': bool(row['has_disease'])
+    } for row in rows]
+
+def recommend_similar_user_portfolio(request: SimilarUserRequest, candidates: List[Dict],
+                                     portfolio_cache: Optional[Dict[int, Dict[str, float]]] = None) -> SimilarUserResponse:
+    """유사 사용자 상위 10명과 유사도 가중 평균 포트폴리오 계산"""
+    target_user = {
+        'customer_id': request.customer_id,
+        'birth_year': request.birth_year,
+        'industry_code': request.industry_code,
+        'asset_level': request.asset_level,
+        'risk_profile_score': request.risk_profile_score,
+        'has_disease': request.has_disease
+    }
+
+    # 유사도 계산 (본인 제외)
+    similar_users = []
+    for customer in candidates:
+        if customer['customer_id'] == request.customer_id:
+            continue
+
+        similarity = calculate_overall_similarity(target_user, customer)
+
+        if similarity >= 0.3:  # 최소 유사도 임계값
+            similar_users.append({
+                'customer_id': customer['customer_id'],
+                'similarity': similarity
+            })
+
+    # 유사도 순으로 정렬하고 상위 10명 선택
+    similar_users.sort(key=lambda x: x['similarity'], reverse=True)
+    top_similar_users = similar_users[:10]
+
+    # 유사 사용자가 없거나 가중치 합이 0이면 기본값
+    avg_cash_weight = 5.0
+    avg_deposit_weight = 40.0
+    avg_fund_weight = 55.0
+
+    if top_similar_users:
+        total_weight = 0.0
+        weighted_cash = 0.0
+        weighted_deposit = 0.0
+        weighted_fund = 0.0
+
+        for similar_user in top_similar_users:
+            customer_id = similar_user['customer_id']
+            if portfolio_cache is not None:
+                if customer_id not in portfolio_cache:
+                    portfolio_cache[customer_id] = get_customer_portfolio_weights(customer_id)
+                portfolio = portfolio_cache[customer_id]
+            else:
+                portfolio = get_customer_portfolio_weights(customer_id)
+            weight = float(similar_user['similarity'])
+
+            total_weight += weight
+            weighted_cash += float(portfolio['cash_weight']) * weight
+            weighted_deposit += float(portfolio['deposit_weight']) * weight
+            weighted_fund += float(portfolio['fund_weight']) * weight
+
+        if total_weight > 0:
+            avg_cash_weight = weighted_cash / total_weight
+            avg_deposit_weight = weighted_deposit / total_weight
+            avg_fund_weight = weighted_fund / total_weight
+
+    return SimilarUserResponse(
+        similar_users=[SimilarUser(**user) for user in top_similar_users],
+        avg_portfolio=AveragePortfolio(
+            cash_weight=round(avg_cash_weight, 2),
+            deposit_weight=round(avg_deposit_weight, 2),
+            fund_weight=round(avg_fund_weight, 2)
+        )
+    )
+
 @app.post("/api/recommendation/similar-users")
 async def get_similar_users(request: SimilarUserRequest):
     """
     유사 사용자 기반 포트폴리오 추천
     """
     try:
-        conn = get_db_connection()
-        cursor = conn.cursor()
-        
-        # 전체 고객 정보 조회 (IRP 계좌 보유 고객만)
-        query = """
-        SELECT 
-            c.customer_id,
-            YEAR(u.birth_date) as birth_year,
-            c.industry_code,
-            c.asset_level,
-            COALESCE(c.risk_profile_score, 2.5) as risk_profile_score,
-            CASE 
-                WHEN c.major_disease = 1 OR c.recent_medical_advice = 1 
-                OR c.recent_hospitalization = 1 OR c.long_term_medication = 1 
-                OR c.disability_registered = 1 THEN 1 
-                ELSE 0 
-            END as has_disease
-        FROM tb_customer c
-        JOIN tb_user u ON c.customer_id = u.user_id
-        WHERE c.has_irp_account = 1 
-        AND c.customer_id != %s
-        AND c.risk_profile_score IS NOT NULL
-        """
-        
-        cursor.execute(query, (request.customer_id,))
-        all_customers = cursor.fetchall()
-        
-        # 요청한 고객 정보
-        target_user = {
-            'customer_id': request.customer_id,
-            'birth_year': request.birth_year,
-            'industry_code': request.industry_code,
-            'asset_level': request.asset_level,
-            'risk_profile_score': request.risk_profile_score,
-            'has_disease': request.has_disease
-        }
-        
-        # 유사도 계산
-        similar_users = []
-        for customer in all_customers:
-            customer_dict = {
-                'customer_id': customer['customer_id'],
-                'birth_year': customer['birth_year'],
-                'industry_code': customer['industry_code'],
-                'asset_level': customer['asset_level'],
-                'risk_profile_score': float(customer['risk_profile_score']),
-                'has_disease': bool(customer['has_disease'])
-            }
-            
-            similarity = calculate_overall_similarity(target_user, customer_dict)
-            
-            if similarity >= 0.3:  # 최소 유사도 임계값
-                similar_users.append({
-                    'customer_id': customer['customer_id'],
-                    'similarity': similarity
-                })
-        
-        # 유사도 순으로 정렬하고 상위 10명 선택
-        similar_users.sort(key=lambda x: x['similarity'], reverse=True)
-        top_similar_users = similar_users[:10]
-        
-        # 상위 유사 사용자들의 평균 포트폴리오 계산
-        avg_cash_weight = 0.0
-        avg_deposit_weight = 0.0
-        avg_fund_weight = 0.0
-        
-        if top_similar_users:
-            total_weight = 0.0
-            weighted_cash = 0.0
-            weighted_deposit = 0.0
-            weighted_fund = 0.0
-            
-            for similar_user in top_similar_users:
-                portfolio = get_customer_portfolio_weights(similar_user['customer_id'])
-                weight = float(similar_user['similarity'])
-                
-                total_weight += weight
-                weighted_cash += float(portfolio['cash_weight']) * weight
-                weighted_deposit += float(portfolio['deposit_weight']) * weight
-                weighted_fund += float(portfolio['fund_weight']) * weight
-            
-            if total_weight > 0:
-                avg_cash_weight = weighted_cash / total_weight
-                avg_deposit_weight = weighted_deposit / total_weight
-                avg_fund_weight = weighted_fund / total_weight
-            else:
-                # 기본값 설정
-                avg_cash_weight = 5.0
-                avg_deposit_weight = 40.0
-                avg_fund_weight = 55.0
-        else:
-            # 유사 사용자가 없으면 기본값
-            avg_cash_weight = 5.0
-            avg_deposit_weight = 40.0
-            avg_fund_weight = 55.0
-        
-        cursor.close()
-        conn.close()
-        
-        response = SimilarUserResponse(
-            similar_users=[SimilarUser(**user) for user in top_similar_users],
-            avg_portfolio=AveragePortfolio(
-                cash_weight=round(avg_cash_weight, 2),
-                deposit_weight=round(avg_deposit_weight, 2),
-                fund_weight=round(avg_fund_weight, 2)
-            )
-        )
-        
+        response = recommend_similar_user_portfolio(request, load_candidate_customers())
+
         return JSONResponse({
             "success": True,
             "data": response.model_dump(),
-            "message": f"유사 사용자 {len(top_similar_users)}명 발견"
+            "message": f"유사 사용자 {len(response.similar_users)}명 발견"
         })
         
     except Exception as e:
@@ -1106,6 +1109,38 @@ async def get_similar_users(request: SimilarUserRequest):
             "message": f"유사 사용자 추천 중 오류가 발생했습니다: {str(e)}"
         }, status_code=500)
 
+class SimilarUserBatchRequest(BaseModel):
+    requests: List[SimilarUserRequest]
+
+@app.post("/api/recommendation/similar-users/batch")
+async def get_similar_users_batch(request: SimilarUserBatchRequest):
+    """
+    유사 사용자 기반 포트폴리오 일괄 추천 (리밸런싱 배치용)
+    비교 대상 고객은 한 번만 조회하고, 유사 사용자 포트폴리오 비중은 요청 안에서 재사용한다.
+    응답 data는 요청 순서대로 customer_id와 단건 응답과 같은 필드를 담는다.
+    """
+    try:
+        candidates = load_candidate_customers()
+        portfolio_cache: Dict[int, Dict[str, float]] = {}
+
+        data = []
+        for item in request.requests:
+            response = recommend_similar_user_portfolio(item, candidates, portfolio_cache)
+            data.append({"customer_id": item.customer_id, **response.model_dump()})
+
+        return JSONResponse({
+            "success": True,
+            "data": data,
+            "message": f"{len(data)}건 추천 완료"
+        })
+
+    except Exception as e:
+        print(f"유사 사용자 일괄 추천 오류: {e}")
+        return JSONResponse({
+            "success": False,
+            "message": f"유사 사용자 일괄 추천 중 오류가 발생했습니다: {str(e)}"
+        }, status_code=500)
+
 if __name__ == "__main__":
     import uvicorn
     uvicorn.run(app, host="0.0.0.0", port=8090)
\ No newline at end of file
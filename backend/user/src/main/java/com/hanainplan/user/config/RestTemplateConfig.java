@@ -1,14 +1,53 @@
 package com.hanainplan.user.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * 은행 서버 호출용 RestTemplate. JDK HttpClient 하나를 공유해 은행별 keep-alive 연결을 재사용한다.
+     * 읽기 타임아웃은 은행별 응답 기한 이후에도 남는 호출이 워커를 오래 붙잡지 않도록 제한한다.
+     */
+    @Bean
+    public RestTemplate restTemplate(@Value("${mydata.http.connect-timeout-ms:1000}") long connectTimeoutMillis,
+                                     @Value("${mydata.http.read-timeout-ms:5000}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * 마이데이터 은행 병렬 조회용 워커 풀. 대기열이 가득 차면 해당 은행 조회를 거절하고 응답 없음으로 처리한다.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public ExecutorService myDataExecutor(@Value("${mydata.executor.pool-size:32}") int poolSize,
+                                          @Value("${mydata.executor.queue-capacity:256}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "mydata-fanout-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
-}
\ No newline at end of file
+}
@@ -82,6 +82,16 @@ public class CiController {
         }
     }
 
+    @PostMapping("/convert/bulk")
+    @Operation(
+        summary = "CI 일괄 변환",
+        description = "여러 건의 개인정보를 한 번에 CI로 변환합니다. 백필용이며 요청당 최대 10000건까지 처리하고, 잘못된 항목은 건별 오류로 반환합니다.",
+        operationId = "convertToCiBulk"
+    )
+    public ResponseEntity<CiBulkConversionResponseDto> convertToCiBulk(@Valid @RequestBody CiBulkConversionRequestDto request) {
+        return ResponseEntity.ok(ciConversionService.convertToCi(request.getIdentities()));
+    }
+
     @PostMapping("/verify")
     @Operation(
         summary = "CI 검증",
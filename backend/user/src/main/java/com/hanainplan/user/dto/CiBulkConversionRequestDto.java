@@ -0,0 +1,17 @@
+package com.hanainplan.user.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CiBulkConversionRequestDto {
+
+    @NotEmpty(message = "변환할 대상이 없습니다.")
+    @Size(max = 10000, message = "한 번에 최대 10000건까지 변환할 수 있습니다.")
+    private List<CiConversionRequestDto> identities;
+}
@@ -0,0 +1,42 @@
+package com.hanainplan.user.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class CiBulkConversionResponseDto {
+    private boolean success;
+    private String message;
+    private int convertedCount;
+    private int failedCount;
+    private List<Item> results;
+    private String timestamp = java.time.LocalDateTime.now().toString();
+
+    /**
+     * 요청 목록과 같은 순서의 변환 결과. 실패한 항목은 ci 대신 error가 채워진다.
+     */
+    @Getter
+    @Setter
+    public static class Item {
+        private int index;
+        private String ci;
+        private String error;
+
+        public static Item converted(int index, String ci) {
+            Item item = new Item();
+            item.setIndex(index);
+            item.setCi(ci);
+            return item;
+        }
+
+        public static Item failed(int index, String error) {
+            Item item = new Item();
+            item.setIndex(index);
+            item.setError(error);
+            return item;
+        }
+    }
+}
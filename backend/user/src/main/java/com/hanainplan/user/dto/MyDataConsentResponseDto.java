@@ -12,4 +12,5 @@ public class MyDataConsentResponseDto {
     private List<CustomerAccountInfoDto> bankAccountInfo;
     private int totalBanks;
     private int totalAccounts;
+    private List<String> unavailableBanks;
 }
\ No newline at end of file
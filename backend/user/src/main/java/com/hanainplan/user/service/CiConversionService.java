@@ -1,15 +1,18 @@
 package com.hanainplan.user.service;
 
+import com.hanainplan.user.dto.CiBulkConversionResponseDto;
+import com.hanainplan.user.dto.CiConversionRequestDto;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 
 @Service
 public class CiConversionService {
@@ -18,6 +21,12 @@ public class CiConversionService {
     private static final String ALGORITHM = "HmacSHA256";
     private static final int CI_LENGTH = 32;
 
+    private static final SecretKeySpec SECRET_KEY_SPEC =
+            new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    private static final Base64.Encoder STANDARD_ENCODER = Base64.getEncoder();
+    private static final Base64.Encoder URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final ThreadLocal<CiEncoder> CI_ENCODER = ThreadLocal.withInitial(CiEncoder::new);
+
     public String convertToCi(String residentNumber) {
         try {
             String birthDate = extractBirthDateFromResidentNumber(residentNumber);
@@ -30,13 +39,7 @@ public class CiConversionService {
 
             String combinedData = combineData(normalizedName, normalizedBirthDate, normalizedGender, normalizedResidentNumber);
 
-            String hashedData = generateHmac(combinedData, SECRET_KEY);
-
-            String encodedData = Base64.getUrlEncoder().withoutPadding().encodeToString(hashedData.getBytes(StandardCharsets.UTF_8));
-
-            String ci = encodedData.substring(0, Math.min(CI_LENGTH, encodedData.length()));
-
-            return ci;
+            return CI_ENCODER.get().encode(combinedData);
 
         } catch (Exception e) {
             throw new RuntimeException("CI 변환 중 오류가 발생했습니다: " + e.getMessage(), e);
@@ -52,19 +55,47 @@ public class CiConversionService {
 
             String combinedData = combineData(normalizedName, normalizedBirthDate, normalizedGender, normalizedResidentNumber);
 
-            String hashedData = generateHmac(combinedData, SECRET_KEY);
-
-            String encodedData = Base64.getUrlEncoder().withoutPadding().encodeToString(hashedData.getBytes(StandardCharsets.UTF_8));
-
-            String ci = encodedData.substring(0, Math.min(CI_LENGTH, encodedData.length()));
-
-            return ci;
+            return CI_ENCODER.get().encode(combinedData);
 
         } catch (Exception e) {
             throw new RuntimeException("CI 변환 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 백필용 일괄 변환. 항목별로 변환하며 잘못된 항목은 오류로 기록하고 나머지는 계속 변환한다.
+     */
+    public CiBulkConversionResponseDto convertToCi(List<CiConversionRequestDto> identities) {
+        List<CiBulkConversionResponseDto.Item> results = new ArrayList<>(identities.size());
+        int failedCount = 0;
+
+        for (int i = 0; i < identities.size(); i++) {
+            CiConversionRequestDto identity = identities.get(i);
+            if (identity == null) {
+                results.add(CiBulkConversionResponseDto.Item.failed(i, "입력 데이터가 없습니다."));
+                failedCount++;
+                continue;
+            }
+
+            try {
+                String ci = convertToCi(identity.getName(), identity.getBirthDate(), identity.getGender(), identity.getResidentNumber());
+                results.add(CiBulkConversionResponseDto.Item.converted(i, ci));
+            } catch (RuntimeException e) {
+                Throwable cause = e.getCause() instanceof IllegalArgumentException ? e.getCause() : e;
+                results.add(CiBulkConversionResponseDto.Item.failed(i, cause.getMessage()));
+                failedCount++;
+            }
+        }
+
+        CiBulkConversionResponseDto response = new CiBulkConversionResponseDto();
+        response.setSuccess(failedCount == 0);
+        response.setConvertedCount(identities.size() - failedCount);
+        response.setFailedCount(failedCount);
+        response.setMessage("CI 일괄 변환 완료 - 성공 " + response.getConvertedCount() + "건 / 실패 " + failedCount + "건");
+        response.setResults(results);
+        return response;
+    }
+
     public boolean verifyCi(String name, String birthDate, String gender, String residentNumber) {
         try {
             String ci = convertToCi(name, birthDate, gender, residentNumber);
@@ -252,12 +283,44 @@ public class CiConversionService {
         return String.join("|", name, birthDate, gender, residentNumber);
     }
 
-    private String generateHmac(String data, String key) throws NoSuchAlgorithmException, InvalidKeyException {
-        Mac mac = Mac.getInstance(ALGORITHM);
-        SecretKeySpec secretKeySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
-        mac.init(secretKeySpec);
+    /**
+     * 스레드별로 초기화된 Mac과 버퍼를 재사용하는 CI 인코더.
+     * CI는 url-safe Base64(표준 Base64(HMAC))의 앞 32자이다. Base64는 3바이트 단위로 4자를 만들므로
+     * 앞 32자는 표준 Base64 문자열의 앞 24바이트, 즉 HMAC의 앞 18바이트로만 결정된다.
+     * 따라서 전체 문자열을 만들고 자르지 않아도 같은 CI가 나온다.
+     */
+    private static final class CiEncoder {
+        private static final int ENCODED_HMAC_BYTES = CI_LENGTH / 4 * 3;
+        private static final int HMAC_PREFIX_BYTES = ENCODED_HMAC_BYTES / 4 * 3;
+
+        private final Mac mac;
+        private final byte[] hmac;
+        private final byte[] hmacPrefix = new byte[HMAC_PREFIX_BYTES];
+        private final byte[] encodedHmac = new byte[ENCODED_HMAC_BYTES];
+        private final byte[] ci = new byte[CI_LENGTH];
+
+        private CiEncoder() {
+            try {
+                mac = Mac.getInstance(ALGORITHM);
+                mac.init(SECRET_KEY_SPEC);
+            } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+                throw new IllegalStateException("CI 변환용 " + ALGORITHM + " 초기화에 실패했습니다.", e);
+            }
+            hmac = new byte[mac.getMacLength()];
+        }
+
+        private String encode(String data) {
+            try {
+                mac.update(data.getBytes(StandardCharsets.UTF_8));
+                mac.doFinal(hmac, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException(e);
+            }
 
-        byte[] hmacData = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(hmacData);
+            System.arraycopy(hmac, 0, hmacPrefix, 0, HMAC_PREFIX_BYTES);
+            STANDARD_ENCODER.encode(hmacPrefix, encodedHmac);
+            URL_ENCODER.encode(encodedHmac, ci);
+            return new String(ci, StandardCharsets.US_ASCII);
+        }
     }
-}
\ No newline at end of file
+}
@@ -16,12 +16,18 @@ import org.springframework.http.MediaType;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 마이데이터 수집 동의 처리.
+ * CI로 은행별 고객 계좌를 병렬 조회하며, 은행마다 응답 기한을 두어 늦거나 실패한 은행은 제외하고 나머지 결과로 응답한다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -29,6 +35,7 @@ public class MyDataConsentService {
 
     private final RestTemplate restTemplate;
     private final CiConversionService ciConversionService;
+    private final ExecutorService myDataExecutor;
 
     @Value("${bank.hana.url:http://localhost:8081}")
     private String hanaBankUrl;
@@ -39,65 +46,47 @@ public class MyDataConsentService {
     @Value("${bank.kookmin.url:http://localhost:8083}")
     private String kookminBankUrl;
 
+    @Value("${bank.hana.timeout-ms:${mydata.bank.timeout-ms:3000}}")
+    private long hanaBankTimeoutMillis;
+
+    @Value("${bank.shinhan.timeout-ms:${mydata.bank.timeout-ms:3000}}")
+    private long shinhanBankTimeoutMillis;
+
+    @Value("${bank.kookmin.timeout-ms:${mydata.bank.timeout-ms:3000}}")
+    private long kookminBankTimeoutMillis;
+
     @Value("${hanainplan.url:http://localhost:8080}")
     private String hanainplanUrl;
 
-    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
-
     public MyDataConsentResponseDto processMyDataConsent(MyDataConsentRequestDto request) {
         if (!request.isConsentToMyDataCollection()) {
             return new MyDataConsentResponseDto();
         }
 
         String ci = ciConversionService.convertToCi(request.getName(), request.getBirthDate(), request.getGender(), request.getSocialNumber());
-        System.out.println("=== CI 변환 결과 ===");
-        System.out.println("이름: " + request.getName());
-        System.out.println("생년월일: " + request.getBirthDate());
-        System.out.println("성별: " + request.getGender());
-        System.out.println("주민번호: " + request.getSocialNumber());
-        System.out.println("변환된 CI: " + ci);
-        System.out.println("==================");
 
         if (ci == null || ci.isEmpty()) {
+            log.warn("마이데이터 CI 변환 실패");
             MyDataConsentResponseDto errorResponse = new MyDataConsentResponseDto();
             errorResponse.setMessage("CI 변환에 실패했습니다.");
             return errorResponse;
         }
 
-        List<CustomerAccountInfoDto> bankAccountInfo = new ArrayList<>();
-
-        CompletableFuture<CustomerAccountInfoDto> hanaFuture = CompletableFuture.supplyAsync(() -> 
-            getCustomerAccountInfoFromBank(hanaBankUrl, "하나은행", "001", ci), executorService);
-
-        CompletableFuture<CustomerAccountInfoDto> shinhanFuture = CompletableFuture.supplyAsync(() -> 
-            getCustomerAccountInfoFromBank(shinhanBankUrl, "신한은행", "002", ci), executorService);
-
-        CompletableFuture<CustomerAccountInfoDto> kookminFuture = CompletableFuture.supplyAsync(() -> 
-            getCustomerAccountInfoFromBank(kookminBankUrl, "국민은행", "003", ci), executorService);
+        long startedNanos = System.nanoTime();
+        List<CompletableFuture<BankLookup>> lookups = bankEndpoints().stream()
+                .map(bank -> lookup(bank, ci))
+                .toList();
 
-        try {
-            CustomerAccountInfoDto hanaInfo = hanaFuture.get();
-            CustomerAccountInfoDto shinhanInfo = shinhanFuture.get();
-            CustomerAccountInfoDto kookminInfo = kookminFuture.get();
-
-            System.out.println("=== 은행사별 고객 조회 결과 ===");
-            System.out.println("하나은행 고객 여부: " + hanaInfo.isCustomer() + ", 계좌 수: " + (hanaInfo.getAccounts() != null ? hanaInfo.getAccounts().size() : 0));
-            System.out.println("신한은행 고객 여부: " + shinhanInfo.isCustomer() + ", 계좌 수: " + (shinhanInfo.getAccounts() != null ? shinhanInfo.getAccounts().size() : 0));
-            System.out.println("국민은행 고객 여부: " + kookminInfo.isCustomer() + ", 계좌 수: " + (kookminInfo.getAccounts() != null ? kookminInfo.getAccounts().size() : 0));
-            System.out.println("================================");
-
-            if (hanaInfo.isCustomer()) {
-                bankAccountInfo.add(hanaInfo);
-            }
-            if (shinhanInfo.isCustomer()) {
-                bankAccountInfo.add(shinhanInfo);
-            }
-            if (kookminInfo.isCustomer()) {
-                bankAccountInfo.add(kookminInfo);
+        // 각 조회는 은행별 기한 안에 완료되므로 전체 대기 시간은 가장 긴 기한으로 제한된다
+        List<CustomerAccountInfoDto> bankAccountInfo = new ArrayList<>();
+        List<String> unavailableBanks = new ArrayList<>();
+        for (CompletableFuture<BankLookup> lookup : lookups) {
+            BankLookup result = lookup.join();
+            if (result.info() == null) {
+                unavailableBanks.add(result.bank().name());
+            } else if (result.info().isCustomer()) {
+                bankAccountInfo.add(result.info());
             }
-
-        } catch (Exception e) {
-            e.printStackTrace();
         }
 
         MyDataConsentResponseDto response = new MyDataConsentResponseDto();
@@ -106,52 +95,73 @@ public class MyDataConsentService {
             .mapToInt(bank -> bank.getAccounts() != null ? bank.getAccounts().size() : 0)
             .sum();
 
+        log.info("마이데이터 계좌 조회 완료 - CI: {}, 고객 은행 {}개, 계좌 {}개, 응답 없음: {}, 소요 시간: {}ms",
+                maskCi(ci), bankAccountInfo.size(), totalAccounts, unavailableBanks,
+                Duration.ofNanos(System.nanoTime() - startedNanos).toMillis());
+
         if (bankAccountInfo.isEmpty()) {
             response.setMessage("등록된 계좌 정보가 없습니다. 해당 CI로 등록된 고객이 없거나 계좌가 없습니다.");
         } else {
             response.setMessage("마이데이터 수집 동의가 완료되었습니다. " + bankAccountInfo.size() + "개 은행에서 " + totalAccounts + "개의 계좌를 발견했습니다.");
         }
+        if (!unavailableBanks.isEmpty()) {
+            response.setMessage(response.getMessage() + " (" + String.join(", ", unavailableBanks) + " 응답 지연으로 제외되었습니다.)");
+        }
 
         response.setBankAccountInfo(bankAccountInfo);
         response.setTotalBanks(bankAccountInfo.size());
         response.setTotalAccounts(totalAccounts);
+        response.setUnavailableBanks(unavailableBanks);
 
         return response;
     }
 
-    private CustomerAccountInfoDto getCustomerAccountInfoFromBank(String bankUrl, String bankName, String bankCode, String ci) {
+    private List<BankEndpoint> bankEndpoints() {
+        return List.of(
+                new BankEndpoint("하나은행", "001", hanaBankUrl, Duration.ofMillis(hanaBankTimeoutMillis)),
+                new BankEndpoint("신한은행", "002", shinhanBankUrl, Duration.ofMillis(shinhanBankTimeoutMillis)),
+                new BankEndpoint("국민은행", "003", kookminBankUrl, Duration.ofMillis(kookminBankTimeoutMillis)));
+    }
+
+    private CompletableFuture<BankLookup> lookup(BankEndpoint bank, String ci) {
+        CompletableFuture<BankLookup> future;
         try {
-            String bankPath = getBankPath(bankCode);
-            String url = bankUrl + "/api/" + bankPath + "/customer-accounts/ci/" + ci;
+            future = CompletableFuture.supplyAsync(
+                    () -> new BankLookup(bank, getCustomerAccountInfoFromBank(bank, ci)), myDataExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("마이데이터 조회 대기열 초과 - 은행: {}", bank.name());
+            return CompletableFuture.completedFuture(new BankLookup(bank, null));
+        }
 
-            System.out.println("=== 은행사 요청 정보 ===");
-            System.out.println("은행: " + bankName);
-            System.out.println("요청 URL: " + url);
-            System.out.println("CI: " + ci);
-            System.out.println("======================");
+        return future
+                .exceptionally(e -> {
+                    log.warn("마이데이터 은행 조회 실패 - 은행: {}, 오류: {}", bank.name(), e.getMessage());
+                    return new BankLookup(bank, null);
+                })
+                .completeOnTimeout(new BankLookup(bank, null), bank.timeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, e) -> {
+                    if (!future.isDone()) {
+                        log.warn("마이데이터 은행 응답 기한 초과 - 은행: {}, 기한: {}ms", bank.name(), bank.timeout().toMillis());
+                    }
+                });
+    }
 
-            ResponseEntity<Object> response = restTemplate.getForEntity(url, Object.class);
+    private CustomerAccountInfoDto getCustomerAccountInfoFromBank(BankEndpoint bank, String ci) {
+        String url = bank.url() + "/api/" + getBankPath(bank.code()) + "/customer-accounts/ci/" + ci;
+        long startedNanos = System.nanoTime();
 
-            System.out.println("=== 은행사 응답 정보 ===");
-            System.out.println("은행: " + bankName);
-            System.out.println("응답 상태: " + response.getStatusCode());
-            System.out.println("응답 본문: " + response.getBody());
-            System.out.println("======================");
+        ResponseEntity<Object> response = restTemplate.getForEntity(url, Object.class);
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return convertToCustomerAccountInfoDto(response.getBody(), bankName, bankCode);
-            }
-        } catch (Exception e) {
-            System.out.println("=== 은행사 요청 오류 ===");
-            System.out.println("은행: " + bankName);
-            System.out.println("오류: " + e.getMessage());
-            System.out.println("======================");
-            e.printStackTrace();
+        log.debug("마이데이터 은행 응답 - 은행: {}, 상태: {}, 소요 시간: {}ms", bank.name(), response.getStatusCode(),
+                Duration.ofNanos(System.nanoTime() - startedNanos).toMillis());
+
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            return convertToCustomerAccountInfoDto(response.getBody(), bank.name(), bank.code());
         }
 
         CustomerAccountInfoDto emptyInfo = new CustomerAccountInfoDto();
-        emptyInfo.setBankName(bankName);
-        emptyInfo.setBankCode(bankCode);
+        emptyInfo.setBankName(bank.name());
+        emptyInfo.setBankCode(bank.code());
         emptyInfo.setCustomerCi(ci);
         emptyInfo.setCustomer(false);
         emptyInfo.setAccounts(new ArrayList<>());
@@ -244,13 +254,7 @@ public class MyDataConsentService {
                 }
                 info.setAccounts(accounts);
 
-                System.out.println("=== 응답 변환 결과 ===");
-                System.out.println("은행: " + bankName);
-                System.out.println("고객 여부: " + info.isCustomer());
-                System.out.println("고객명: " + info.getCustomerName());
-                System.out.println("고객 CI: " + info.getCustomerCi());
-                System.out.println("계좌 수: " + accounts.size());
-                System.out.println("==================");
+                log.debug("마이데이터 응답 변환 - 은행: {}, 고객 여부: {}, 계좌 수: {}", bankName, info.isCustomer(), accounts.size());
 
             } else {
                 info.setCustomer(false);
@@ -260,8 +264,7 @@ public class MyDataConsentService {
             }
 
         } catch (Exception e) {
-            System.out.println("응답 변환 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("마이데이터 응답 변환 오류 - 은행: {}, 오류: {}", bankName, e.getMessage());
             info.setCustomer(false);
             info.setCustomerName("");
             info.setCustomerCi("");
@@ -322,35 +325,30 @@ public class MyDataConsentService {
 
                 HttpEntity<List<MyDataAccountInfo>> requestEntity = new HttpEntity<>(allAccounts, headers);
 
-                System.out.println("=== hanainplan 서버 계좌 저장 요청 ===");
-                System.out.println("URL: " + url);
-                System.out.println("사용자 ID: " + userId);
-                System.out.println("CI: " + ci);
-                System.out.println("계좌 수: " + allAccounts.size());
-                System.out.println("=====================================");
+                log.info("hanainplan 서버 계좌 저장 요청 - 사용자 ID: {}, 계좌 수: {}", userId, allAccounts.size());
 
                 ResponseEntity<Object> response = restTemplate.postForEntity(url, requestEntity, Object.class, params);
 
-                System.out.println("=== hanainplan 서버 응답 ===");
-                System.out.println("응답 상태: " + response.getStatusCode());
-                System.out.println("응답 본문: " + response.getBody());
-                System.out.println("==========================");
-
                 if (response.getStatusCode().is2xxSuccessful()) {
-                    System.out.println("계좌 정보가 hanainplan 서버에 성공적으로 저장되었습니다.");
+                    log.info("hanainplan 서버 계좌 저장 완료 - 사용자 ID: {}", userId);
                 } else {
-                    System.out.println("계좌 정보 저장 실패: " + response.getStatusCode());
+                    log.warn("hanainplan 서버 계좌 저장 실패 - 사용자 ID: {}, 상태: {}", userId, response.getStatusCode());
                 }
             }
 
         } catch (Exception e) {
-            System.out.println("=== hanainplan 서버 계좌 저장 오류 ===");
-            System.out.println("오류: " + e.getMessage());
-            System.out.println("=====================================");
-            e.printStackTrace();
+            log.error("hanainplan 서버 계좌 저장 오류 - 사용자 ID: {}", userId, e);
         }
     }
 
+    private static String maskCi(String ci) {
+        return ci.length() <= 8 ? "****" : ci.substring(0, 8) + "****";
+    }
+
+    private record BankEndpoint(String name, String code, String url, Duration timeout) {}
+
+    private record BankLookup(BankEndpoint bank, CustomerAccountInfoDto info) {}
+
     public static class MyDataAccountInfo {
         private String accountNumber;
         private Integer accountType;
@@ -0,0 +1,172 @@
+package com.hanainplan.user.service;
+
+import com.hanainplan.user.dto.CiBulkConversionResponseDto;
+import com.hanainplan.user.dto.CiConversionRequestDto;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드별 Mac/버퍼를 재사용하는 CI 인코더가 기존 구현(매번 Mac 생성 후 Base64 문자열을 만들고 앞 32자를 자름)과
+ * 같은 CI를 만드는지 확인한다.
+ */
+class CiConversionServiceTest {
+
+    private static final String SECRET_KEY = "HANAINPLAN_SECRET_KEY_2024";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int CI_LENGTH = 32;
+
+    private static final char[] NAME_CHARS = "김이박최정강조윤장임한오서신권황안송홍하나인플랜ABCXYZabcxyz ".toCharArray();
+
+    private final CiConversionService service = new CiConversionService();
+
+    @Test
+    void matchesLegacyCiForFixedIdentities() {
+        List<CiConversionRequestDto> identities = List.of(
+                new CiConversionRequestDto("홍길동", "19900101", "M", "9001011234567"),
+                new CiConversionRequestDto("김하나", "20010315", "F", "0103154234567"),
+                new CiConversionRequestDto("  lee min  ", "850704", "남성", "850704-1234567"),
+                new CiConversionRequestDto("A", "1999.12.31", "female", "9912312000000"));
+
+        for (CiConversionRequestDto identity : identities) {
+            assertThat(convert(identity)).isEqualTo(legacyCi(identity));
+        }
+        assertThat(service.convertToCi("9001011234567")).isEqualTo(legacyCi("", "19900101", "M", "9001011234567"));
+        assertThat(service.convertToCi("0103154234567")).isEqualTo(legacyCi("", "20010315", "F", "0103154234567"));
+    }
+
+    @Test
+    void matchesLegacyCiForRandomIdentities() {
+        Random random = new Random(20241017L);
+
+        for (int i = 0; i < 20_000; i++) {
+            CiConversionRequestDto identity = randomIdentity(random);
+            assertThat(convert(identity)).as("identity #%d", i).isEqualTo(legacyCi(identity));
+        }
+    }
+
+    @Test
+    void matchesLegacyCiWhenEncodersAreUsedFromManyThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> mismatches = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                long seed = t;
+                mismatches.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    List<String> failed = new ArrayList<>();
+                    for (int i = 0; i < 5_000; i++) {
+                        CiConversionRequestDto identity = randomIdentity(random);
+                        if (!convert(identity).equals(legacyCi(identity))) {
+                            failed.add(identity.getResidentNumber());
+                        }
+                    }
+                    return failed;
+                }));
+            }
+
+            for (Future<List<String>> result : mismatches) {
+                assertThat(result.get(60, TimeUnit.SECONDS)).isEmpty();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void bulkConversionKeepsOrderAndIsolatesInvalidItems() {
+        Random random = new Random(7L);
+        List<CiConversionRequestDto> identities = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            identities.add(randomIdentity(random));
+        }
+        identities.set(10, null);
+        identities.set(20, new CiConversionRequestDto("홍길동", "19900101", "M", "9013011234567"));
+        identities.set(30, new CiConversionRequestDto("", "19900101", "M", "9001011234567"));
+
+        CiBulkConversionResponseDto response = service.convertToCi(identities);
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getConvertedCount()).isEqualTo(identities.size() - 3);
+        assertThat(response.getResults()).hasSize(identities.size());
+
+        for (int i = 0; i < identities.size(); i++) {
+            CiBulkConversionResponseDto.Item item = response.getResults().get(i);
+            assertThat(item.getIndex()).isEqualTo(i);
+
+            if (i == 10 || i == 20 || i == 30) {
+                assertThat(item.getCi()).isNull();
+                assertThat(item.getError()).isNotBlank();
+            } else {
+                assertThat(item.getError()).isNull();
+                assertThat(item.getCi()).isEqualTo(legacyCi(identities.get(i)));
+            }
+        }
+        assertThat(response.getResults().get(20).getError()).isEqualTo("유효하지 않은 주민번호입니다.");
+        assertThat(response.getResults().get(30).getError()).isEqualTo("이름은 필수입니다.");
+    }
+
+    private String convert(CiConversionRequestDto identity) {
+        return service.convertToCi(identity.getName(), identity.getBirthDate(), identity.getGender(), identity.getResidentNumber());
+    }
+
+    private static CiConversionRequestDto randomIdentity(Random random) {
+        boolean millennial = random.nextBoolean();
+        boolean male = random.nextBoolean();
+        int year = millennial ? 2000 + random.nextInt(25) : 1900 + random.nextInt(100);
+        String birthDate = String.format("%04d%02d%02d", year, 1 + random.nextInt(12), 1 + random.nextInt(28));
+        int genderCode = (millennial ? 3 : 1) + (male ? 0 : 1);
+        String residentNumber = birthDate.substring(2) + genderCode + String.format("%06d", random.nextInt(1_000_000));
+
+        char[] name = new char[2 + random.nextInt(8)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = NAME_CHARS[random.nextInt(NAME_CHARS.length)];
+        }
+        name[0] = '김';
+
+        return new CiConversionRequestDto(new String(name), birthDate, male ? "M" : "F", residentNumber);
+    }
+
+    private static String legacyCi(CiConversionRequestDto identity) {
+        String gender = identity.getGender().trim().toUpperCase();
+        String birthDate = identity.getBirthDate().replaceAll("[^0-9]", "");
+        if (birthDate.length() == 6) {
+            birthDate = (Integer.parseInt(birthDate.substring(0, 2)) <= 30 ? "20" : "19") + birthDate;
+        }
+
+        return legacyCi(identity.getName().trim().toUpperCase(),
+                birthDate,
+                gender.startsWith("M") || gender.startsWith("남") ? "M" : "F",
+                identity.getResidentNumber().replaceAll("[^0-9]", ""));
+    }
+
+    // 변경 전 CiConversionService의 변환 경로를 그대로 옮긴 것
+    private static String legacyCi(String name, String birthDate, String gender, String residentNumber) {
+        try {
+            String combinedData = String.join("|", name, birthDate, gender, residentNumber);
+
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            String hashedData = Base64.getEncoder().encodeToString(mac.doFinal(combinedData.getBytes(StandardCharsets.UTF_8)));
+
+            String encodedData = Base64.getUrlEncoder().withoutPadding().encodeToString(hashedData.getBytes(StandardCharsets.UTF_8));
+            return encodedData.substring(0, Math.min(CI_LENGTH, encodedData.length()));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
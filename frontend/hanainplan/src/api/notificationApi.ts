@@ -21,16 +21,23 @@ export interface Notification {
   readAt?: string;
 }
 
+export interface NotificationCursorPage {
+  content: Notification[];
+  size: number;
+  nextCursor: number | null;
+  hasNext: boolean;
+}
+
 export interface NotificationSummary {
   totalCount: number;
   unreadCount: number;
 }
 
-export const fetchNotifications = async (page: number = 0, size: number = 20): Promise<{ content: Notification[]; totalElements: number; totalPages: number }> => {
+export const fetchNotifications = async (cursor?: number, size: number = 20): Promise<NotificationCursorPage> => {
   try {
     const userId = getCurrentUserId();
 
-    const params: any = { page, size };
+    const params: any = { cursor, size };
     if (userId) params.userId = userId;
 
     const response = await axiosInstance.get(`/notifications`, {
@@ -42,9 +49,9 @@ export const fetchNotifications = async (page: number = 0, size: number = 20): P
   }
 };
 
-export const fetchUnreadNotifications = async (page: number = 0, size: number = 20, userId?: number): Promise<{ content: Notification[]; totalElements: number; totalPages: number }> => {
+export const fetchUnreadNotifications = async (cursor?: number, size: number = 20, userId?: number): Promise<NotificationCursorPage> => {
   try {
-    const params: any = { page, size };
+    const params: any = { cursor, size };
     if (userId) params.userId = userId;
 
     const response = await axiosInstance.get(`/notifications/unread`, {
@@ -67,11 +74,11 @@ export const fetchNotificationSummary = async (userId?: number): Promise<Notific
   }
 };
 
-export const fetchNotificationsByType = async (type: NotificationType, page: number = 0, size: number = 20): Promise<{ content: Notification[]; totalElements: number; totalPages: number }> => {
+export const fetchNotificationsByType = async (type: NotificationType, cursor?: number, size: number = 20): Promise<NotificationCursorPage> => {
   try {
     const userId = getCurrentUserId();
 
-    const params: any = { page, size };
+    const params: any = { cursor, size };
     if (userId) params.userId = userId;
 
     const response = await axiosInstance.get(`/notifications/type/${type}`, {
@@ -86,13 +93,13 @@ export const fetchNotificationsByType = async (type: NotificationType, page: num
 export const fetchNotificationsByPeriod = async (
   startDate: string,
   endDate: string,
-  page: number = 0,
+  cursor?: number,
   size: number = 20
-): Promise<{ content: Notification[]; totalElements: number; totalPages: number }> => {
+): Promise<NotificationCursorPage> => {
   try {
     const userId = getCurrentUserId();
 
-    const params: any = { startDate, endDate, page, size };
+    const params: any = { startDate, endDate, cursor, size };
     if (userId) params.userId = userId;
 
     const response = await axiosInstance.get(`/notifications/period`, {
@@ -54,7 +54,7 @@ function NotificationDropdown({
         throw new Error('로그인이 필요합니다.');
       }
 
-      const result = await fetchUnreadNotifications(0, 10, userId);
+      const result = await fetchUnreadNotifications(undefined, 10, userId);
       return result;
     },
     refetchInterval: 30000,
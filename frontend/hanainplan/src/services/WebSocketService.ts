@@ -48,6 +48,23 @@ export interface ICECandidateMessage {
   receiverId: number;
 }
 
+export interface ICECandidateBatchMessage {
+  roomId: string;
+  senderId: number;
+  receiverId: number;
+  candidates: ICECandidateMessage[];
+}
+
+export interface NotificationPushMessage {
+  id: number;
+  userId: number;
+  title: string;
+  content: string;
+  type: string;
+  isRead: boolean;
+  createdAt: string;
+}
+
 export interface CallRequestMessage {
   roomId: string;
   callerId: number;
@@ -73,6 +90,7 @@ class WebSocketService {
   private onStepSyncCallback?: (message: WebRTCMessage) => void;
   private onConsultationStepSyncCallback?: (message: WebRTCMessage) => void;
   private onConsultationNoteSyncCallback?: (message: WebRTCMessage) => void;
+  private onNotificationCallback?: (message: NotificationPushMessage) => void;
   private onConnectionStateChangeCallback?: (connected: boolean) => void;
 
   constructor() {
@@ -180,6 +198,11 @@ class WebSocketService {
       this.onIceCandidateCallback?.(iceCandidate);
     });
 
+    this.client.subscribe('/user/queue/webrtc-ice-batch', (message: Message) => {
+      const batch: ICECandidateBatchMessage = JSON.parse(message.body);
+      batch.candidates.forEach((iceCandidate) => this.onIceCandidateCallback?.(iceCandidate));
+    });
+
     this.client.subscribe('/user/queue/step-sync', (message: Message) => {
       const syncMessage: WebRTCMessage = JSON.parse(message.body);
       this.onStepSyncCallback?.(syncMessage);
@@ -194,6 +217,11 @@ class WebSocketService {
       const syncMessage: WebRTCMessage = JSON.parse(message.body);
       this.onConsultationNoteSyncCallback?.(syncMessage);
     });
+
+    this.client.subscribe('/user/queue/notifications', (message: Message) => {
+      const notification: NotificationPushMessage = JSON.parse(message.body);
+      this.onNotificationCallback?.(notification);
+    });
   }
 
   sendCallRequest(callRequest: CallRequestMessage): void {
@@ -347,6 +375,10 @@ class WebSocketService {
     this.onConsultationNoteSyncCallback = callback;
   }
 
+  onNotification(callback: (message: NotificationPushMessage) => void): void {
+    this.onNotificationCallback = callback;
+  }
+
   getConnectionStatus(): boolean {
     return this.isConnected;
   }